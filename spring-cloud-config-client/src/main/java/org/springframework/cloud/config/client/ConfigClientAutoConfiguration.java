@@ -16,6 +16,12 @@
 
 package org.springframework.cloud.config.client;
 
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
 import org.springframework.beans.factory.BeanFactoryUtils;
 import org.springframework.boot.actuate.autoconfigure.health.ConditionalOnEnabledHealthIndicator;
 import org.springframework.boot.actuate.health.HealthIndicator;
@@ -72,6 +78,36 @@ public class ConfigClientAutoConfiguration {
 
 	}
 
+	@Configuration(proxyBeanMethods = false)
+	@ConditionalOnClass(MeterBinder.class)
+	@ConditionalOnProperty("spring.cloud.config.snapshot.enabled")
+	protected static class ConfigClientSnapshotMetricsConfiguration {
+
+		@Bean
+		public MeterBinder configClientSnapshotMeterBinder() {
+			return registry -> {
+				FunctionCounter
+					.builder("spring.cloud.config.client.snapshot.loads", EnvironmentSnapshots.class,
+							snapshots -> EnvironmentSnapshots.getStartupLoadCount())
+					.description("Startups from a config snapshot, without waiting for the server")
+					.tag("reason", "startup")
+					.register(registry);
+				FunctionCounter
+					.builder("spring.cloud.config.client.snapshot.loads", EnvironmentSnapshots.class,
+							snapshots -> EnvironmentSnapshots.getFallbackLoadCount())
+					.description("Loads of a config snapshot because the server could not be reached")
+					.tag("reason", "fallback")
+					.register(registry);
+				TimeGauge
+					.builder("spring.cloud.config.client.snapshot.saved.time", EnvironmentSnapshots.class,
+							TimeUnit.NANOSECONDS, snapshots -> EnvironmentSnapshots.getSavedTime())
+					.description("Time the application did not wait for the server when starting from a snapshot")
+					.register(registry);
+			};
+		}
+
+	}
+
 	@Configuration(proxyBeanMethods = false)
 	@ConditionalOnClass(ContextRefresher.class)
 	@ConditionalOnBean(ContextRefresher.class)
@@ -85,4 +121,17 @@ public class ConfigClientAutoConfiguration {
 
 	}
 
+	@Configuration(proxyBeanMethods = false)
+	@ConditionalOnClass(ContextRefresher.class)
+	@ConditionalOnBean(ContextRefresher.class)
+	@ConditionalOnProperty("spring.cloud.config.notifications.enabled")
+	protected static class ConfigClientNotificationsConfiguration {
+
+		@Bean
+		public ConfigClientChangeSubscriber configClientChangeSubscriber(ContextRefresher contextRefresher) {
+			return new ConfigClientChangeSubscriber(contextRefresher);
+		}
+
+	}
+
 }
@@ -0,0 +1,317 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.config.client;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.cloud.config.environment.Environment;
+import org.springframework.cloud.context.refresh.ContextRefresher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.util.StringUtils;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Subscribes to the change notifications of the config servers the application loaded
+ * its environment from, and refreshes the application when its environment changes. The
+ * server tells the client about a change, so that the client neither polls nor needs a
+ * bus. A stream that fails is subscribed again, with the id of the last event received,
+ * so that a change made while the client was not connected is not missed. Requires a
+ * server with {@code spring.cloud.config.server.notifications.enabled} set to true.
+ */
+public class ConfigClientChangeSubscriber implements SmartLifecycle {
+
+	static final String LAST_EVENT_ID = "Last-Event-ID";
+
+	private static final Log log = LogFactory.getLog(ConfigClientChangeSubscriber.class);
+
+	private static final ObjectMapper MAPPER = new ObjectMapper();
+
+	/**
+	 * The environments loaded with notifications enabled, by server and environment.
+	 */
+	private static final Map<String, Subscription> SUBSCRIPTIONS = new ConcurrentHashMap<>();
+
+	private final ContextRefresher refresher;
+
+	private final List<Stream> streams = new CopyOnWriteArrayList<>();
+
+	private volatile boolean running;
+
+	public ConfigClientChangeSubscriber(ContextRefresher refresher) {
+		this.refresher = refresher;
+	}
+
+	/**
+	 * Record an environment loaded from a config server, so that the application
+	 * subscribes to its changes once started.
+	 * @param properties the properties the environment was loaded with
+	 * @param profiles the profiles of the environment
+	 * @param environment the environment
+	 */
+	static void register(ConfigClientProperties properties, String profiles, Environment environment) {
+		String label = environment.getLabel();
+		if (!StringUtils.hasText(label) && StringUtils.hasText(properties.getLabel())) {
+			label = StringUtils.commaDelimitedListToStringArray(properties.getLabel())[0].trim();
+		}
+		Subscription subscription = new Subscription(properties, properties.getName(), profiles, label,
+				environment.getVersion());
+		SUBSCRIPTIONS.put(subscription.key(), subscription);
+	}
+
+	@Override
+	public void start() {
+		if (this.running) {
+			return;
+		}
+		this.running = true;
+		SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("config-client-changes-");
+		executor.setDaemon(true);
+		for (String key : SUBSCRIPTIONS.keySet()) {
+			Stream stream = new Stream(key);
+			this.streams.add(stream);
+			executor.execute(stream::run);
+		}
+	}
+
+	@Override
+	public void stop() {
+		this.running = false;
+		this.streams.forEach(Stream::close);
+		this.streams.clear();
+	}
+
+	@Override
+	public boolean isRunning() {
+		return this.running;
+	}
+
+	/**
+	 * The stream of the changes of an environment, subscribed to again when it fails or
+	 * is closed by the server.
+	 */
+	class Stream {
+
+		private final String key;
+
+		private volatile Thread thread;
+
+		private volatile ClientHttpResponse response;
+
+		/**
+		 * The id of the last event received, null until one is.
+		 */
+		private volatile String lastEventId;
+
+		Stream(String key) {
+			this.key = key;
+		}
+
+		void run() {
+			this.thread = Thread.currentThread();
+			Subscription subscription = SUBSCRIPTIONS.get(this.key);
+			ConfigClientProperties.Notifications notifications = subscription.properties().getNotifications();
+			ConfigClientRequestTemplateFactory factory = new ConfigClientRequestTemplateFactory(log,
+					subscription.properties());
+			RestTemplate restTemplate = factory.create();
+			Duration delay = notifications.getReconnectDelay();
+			int index = 0;
+			while (ConfigClientChangeSubscriber.this.running) {
+				try {
+					subscribe(SUBSCRIPTIONS.get(this.key), factory, restTemplate, index);
+					// the server closed the stream, e.g. it timed out
+					delay = notifications.getReconnectDelay();
+				}
+				catch (Exception e) {
+					if (!ConfigClientChangeSubscriber.this.running) {
+						return;
+					}
+					log.warn("Could not subscribe to config changes at "
+							+ subscription.properties().getCredentials(index).getUri() + ", retrying in " + delay
+							+ ". Error : " + e.getMessage());
+					index = (index + 1) % subscription.properties().getUri().length;
+					try {
+						Thread.sleep(delay.toMillis());
+					}
+					catch (InterruptedException ex) {
+						Thread.currentThread().interrupt();
+						return;
+					}
+					delay = delay.multipliedBy(2);
+					if (delay.compareTo(notifications.getMaxReconnectDelay()) > 0) {
+						delay = notifications.getMaxReconnectDelay();
+					}
+				}
+			}
+		}
+
+		private void subscribe(Subscription subscription, ConfigClientRequestTemplateFactory factory,
+				RestTemplate restTemplate, int index) {
+			ConfigClientProperties properties = subscription.properties();
+			ConfigClientProperties.Credentials credentials = properties.getCredentials(index);
+			String path = "/changes/{name}/{profile}";
+			Object[] args = new String[] { subscription.name(), subscription.profiles() };
+			if (StringUtils.hasText(subscription.label())) {
+				// workaround for Spring MVC matching / in paths
+				path = path + "/{label}";
+				args = new String[] { subscription.name(), subscription.profiles(),
+						Environment.denormalize(subscription.label()) };
+			}
+			if (log.isDebugEnabled()) {
+				log.debug("Subscribing to config changes at " + credentials.getUri());
+			}
+			restTemplate.execute(credentials.getUri() + path, HttpMethod.GET, request -> {
+				HttpHeaders headers = request.getHeaders();
+				headers.setAccept(List.of(MediaType.TEXT_EVENT_STREAM));
+				factory.addAuthorizationToken(headers, credentials.getUsername(), credentials.getPassword());
+				if (StringUtils.hasText(properties.getToken())) {
+					headers.add(ConfigClientProperties.TOKEN_HEADER, properties.getToken());
+				}
+				if (this.lastEventId != null) {
+					headers.set(LAST_EVENT_ID, this.lastEventId);
+				}
+			}, response -> {
+				this.response = response;
+				try {
+					read(new BufferedReader(new InputStreamReader(response.getBody(), StandardCharsets.UTF_8)));
+				}
+				finally {
+					this.response = null;
+				}
+				return null;
+			}, args);
+		}
+
+		/**
+		 * Read the events of a stream until it ends.
+		 */
+		void read(BufferedReader reader) throws IOException {
+			String id = null;
+			StringBuilder data = new StringBuilder();
+			String line;
+			while ((line = reader.readLine()) != null) {
+				if (line.isEmpty()) {
+					if (id != null) {
+						onEvent(id, data.toString());
+					}
+					id = null;
+					data.setLength(0);
+				}
+				else if (line.startsWith("id:")) {
+					id = field(line, 3);
+				}
+				else if (line.startsWith("data:")) {
+					if (!data.isEmpty()) {
+						data.append('\n');
+					}
+					data.append(field(line, 5));
+				}
+				// comments keep the connection open, the event name is always "change"
+			}
+		}
+
+		private String field(String line, int start) {
+			return line.startsWith(" ", start) ? line.substring(start + 1) : line.substring(start);
+		}
+
+		/**
+		 * Refresh the application if the environment changed. The first event received
+		 * describes the current environment, it is compared with the version of the
+		 * environment that was loaded, if the server has versions, to catch a change
+		 * made before the client subscribed.
+		 */
+		void onEvent(String id, String data) {
+			String previous = this.lastEventId;
+			this.lastEventId = id;
+			boolean changed;
+			if (previous != null) {
+				changed = !previous.equals(id);
+			}
+			else {
+				String version = version(data);
+				Subscription subscription = SUBSCRIPTIONS.get(this.key);
+				changed = version != null && subscription.version() != null
+						&& !version.equals(subscription.version());
+			}
+			if (changed) {
+				log.info("Config changed on the server, refreshing");
+				ConfigClientChangeSubscriber.this.refresher.refresh();
+			}
+		}
+
+		private String version(String data) {
+			try {
+				Object version = MAPPER.readValue(data, Map.class).get("version");
+				return (version != null) ? version.toString() : null;
+			}
+			catch (IOException | RuntimeException e) {
+				return null;
+			}
+		}
+
+		void close() {
+			ClientHttpResponse response = this.response;
+			if (response != null) {
+				// unblocks the thread reading the stream
+				response.close();
+			}
+			Thread thread = this.thread;
+			if (thread != null) {
+				thread.interrupt();
+			}
+		}
+
+	}
+
+	/**
+	 * An environment loaded from a config server.
+	 *
+	 * @param properties the properties the environment was loaded with
+	 * @param name the name of the application
+	 * @param profiles the profiles
+	 * @param label the label, null for the default one
+	 * @param version the version of the environment, may be null
+	 */
+	record Subscription(ConfigClientProperties properties, String name, String profiles, String label,
+			String version) {
+
+		String key() {
+			return Arrays.toString(this.properties.getUri()) + "/" + this.name + "/" + this.profiles + "/"
+					+ Objects.toString(this.label, "");
+		}
+
+	}
+
+}
@@ -16,11 +16,13 @@
 
 package org.springframework.cloud.config.client;
 
+import java.io.File;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.net.URLDecoder;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
@@ -138,6 +140,13 @@ public class ConfigClientProperties {
 	 */
 	private MultipleUriStrategy multipleUriStrategy = MultipleUriStrategy.ALWAYS;
 
+	/**
+	 * When there are multiple URLs on the uri property, how long to wait for an answer
+	 * before also sending the request to the next URL. The first server to answer wins.
+	 * Not set by default: the next URL is only tried after a failure.
+	 */
+	private Duration hedgeDelay;
+
 	/**
 	 * The Accept header media type to send to config server.
 	 */
@@ -179,11 +188,23 @@ public class ConfigClientProperties {
 	 */
 	private int requestConnectTimeout = MILLISECONDS_IN_ONE_SECOND * CONNECT_TIMEOUT_SECONDS;
 
+	/**
+	 * Connection pool properties.
+	 */
+	private ConnectionPool connectionPool = new ConnectionPool();
+
 	/**
 	 * Flag to indicate whether to send state. Default true.
 	 */
 	private boolean sendState = true;
 
+	/**
+	 * Flag to indicate whether to send the ETag of the previously fetched environment,
+	 * so that the server can answer 304 Not Modified and the previous environment is
+	 * reused. Default true.
+	 */
+	private boolean sendEtag = true;
+
 	/**
 	 * Additional headers used to create the client request.
 	 */
@@ -196,6 +217,23 @@ public class ConfigClientProperties {
 	 */
 	private boolean sendAllLabels = false;
 
+	/**
+	 * If set to true the client fetches all the labels of a comma-separated label at the
+	 * same time instead of one after another, and uses the first label of the list that
+	 * is found (default false).
+	 */
+	private boolean fetchLabelsConcurrently = false;
+
+	/**
+	 * Snapshot properties.
+	 */
+	private Snapshot snapshot = new Snapshot();
+
+	/**
+	 * Change notification properties.
+	 */
+	private Notifications notifications = new Notifications();
+
 	ConfigClientProperties() {
 	}
 
@@ -275,6 +313,14 @@ public class ConfigClientProperties {
 		return extractCredentials(index);
 	}
 
+	public Duration getHedgeDelay() {
+		return this.hedgeDelay;
+	}
+
+	public void setHedgeDelay(Duration hedgeDelay) {
+		this.hedgeDelay = hedgeDelay;
+	}
+
 	public String getMediaType() {
 		return this.mediaType;
 	}
@@ -339,6 +385,14 @@ public class ConfigClientProperties {
 		this.requestConnectTimeout = requestConnectTimeout;
 	}
 
+	public ConnectionPool getConnectionPool() {
+		return this.connectionPool;
+	}
+
+	public void setConnectionPool(ConnectionPool connectionPool) {
+		this.connectionPool = connectionPool;
+	}
+
 	public boolean isSendState() {
 		return this.sendState;
 	}
@@ -347,6 +401,14 @@ public class ConfigClientProperties {
 		this.sendState = sendState;
 	}
 
+	public boolean isSendEtag() {
+		return this.sendEtag;
+	}
+
+	public void setSendEtag(boolean sendEtag) {
+		this.sendEtag = sendEtag;
+	}
+
 	public Map<String, String> getHeaders() {
 		return this.headers;
 	}
@@ -363,6 +425,30 @@ public class ConfigClientProperties {
 		this.sendAllLabels = sendAllLabels;
 	}
 
+	public boolean isFetchLabelsConcurrently() {
+		return this.fetchLabelsConcurrently;
+	}
+
+	public void setFetchLabelsConcurrently(boolean fetchLabelsConcurrently) {
+		this.fetchLabelsConcurrently = fetchLabelsConcurrently;
+	}
+
+	public Snapshot getSnapshot() {
+		return this.snapshot;
+	}
+
+	public void setSnapshot(Snapshot snapshot) {
+		this.snapshot = snapshot;
+	}
+
+	public Notifications getNotifications() {
+		return this.notifications;
+	}
+
+	public void setNotifications(Notifications notifications) {
+		this.notifications = notifications;
+	}
+
 	private Credentials extractCredentials(int index) {
 		Credentials result = new Credentials();
 		int noOfUrl = this.uri.length;
@@ -451,8 +537,12 @@ public class ConfigClientProperties {
 				+ ", label=" + this.label + ", username=" + this.username + ", password=" + this.password + ", uri="
 				+ Arrays.toString(this.uri) + ", mediaType=" + this.mediaType + ", discovery=" + this.discovery
 				+ ", failFast=" + this.failFast + ", token=" + this.token + ", requestConnectTimeout="
-				+ this.requestConnectTimeout + ", requestReadTimeout=" + this.requestReadTimeout + ", sendState="
-				+ this.sendState + ", headers=" + this.headers + ", sendAllLabels=" + this.sendAllLabels + "]";
+				+ this.requestConnectTimeout + ", requestReadTimeout=" + this.requestReadTimeout + ", connectionPool="
+				+ this.connectionPool + ", sendState="
+				+ this.sendState + ", sendEtag=" + this.sendEtag + ", headers=" + this.headers + ", sendAllLabels="
+				+ this.sendAllLabels + ", hedgeDelay=" + this.hedgeDelay + ", fetchLabelsConcurrently="
+				+ this.fetchLabelsConcurrently + ", snapshot=" + this.snapshot + ", notifications=" + this.notifications
+				+ "]";
 	}
 
 	/**
@@ -519,6 +609,206 @@ public class ConfigClientProperties {
 
 	}
 
+	/**
+	 * Connection pool properties.
+	 */
+	public static class ConnectionPool {
+
+		/**
+		 * Flag to say that connections to the server are pooled and kept alive between
+		 * requests, refreshes included (default true). Without a pool every request opens
+		 * a new connection. Ignored when TLS is enabled, which always uses a pool.
+		 */
+		private boolean enabled = true;
+
+		/**
+		 * Maximum number of pooled connections (default 10).
+		 */
+		private int maxConnections = 10;
+
+		/**
+		 * How long an idle connection is kept open (default 30 seconds).
+		 */
+		private Duration idleTimeout = Duration.ofSeconds(30);
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public int getMaxConnections() {
+			return this.maxConnections;
+		}
+
+		public void setMaxConnections(int maxConnections) {
+			this.maxConnections = maxConnections;
+		}
+
+		public Duration getIdleTimeout() {
+			return this.idleTimeout;
+		}
+
+		public void setIdleTimeout(Duration idleTimeout) {
+			this.idleTimeout = idleTimeout;
+		}
+
+		@Override
+		public String toString() {
+			return "ConnectionPool [enabled=" + this.enabled + ", maxConnections=" + this.maxConnections
+					+ ", idleTimeout=" + this.idleTimeout + "]";
+		}
+
+	}
+
+	/**
+	 * Snapshot properties.
+	 */
+	public static class Snapshot {
+
+		/**
+		 * Flag to say that the last environment fetched from the server is saved to a local
+		 * file and used when the server cannot be reached (default false).
+		 */
+		private boolean enabled;
+
+		/**
+		 * Directory of the snapshot files. The files hold the property values as sent by
+		 * the server, decrypted values included, so the directory is created readable by
+		 * its owner only and is not used if it is owned by another user or writable by
+		 * others. Default is a directory named .spring-cloud-config-client in the home
+		 * directory of the user.
+		 */
+		private String directory = new File(System.getProperty("user.home"), ".spring-cloud-config-client").getPath();
+
+		/**
+		 * Maximum age of a snapshot that is still used (default 7 days).
+		 */
+		private Duration maxAge = Duration.ofDays(7);
+
+		/**
+		 * When the snapshot is used (default {@link Mode#FALLBACK}).
+		 */
+		private Mode mode = Mode.FALLBACK;
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public String getDirectory() {
+			return this.directory;
+		}
+
+		public void setDirectory(String directory) {
+			this.directory = directory;
+		}
+
+		public Duration getMaxAge() {
+			return this.maxAge;
+		}
+
+		public void setMaxAge(Duration maxAge) {
+			this.maxAge = maxAge;
+		}
+
+		public Mode getMode() {
+			return this.mode;
+		}
+
+		public void setMode(Mode mode) {
+			this.mode = mode;
+		}
+
+		@Override
+		public String toString() {
+			return "Snapshot [enabled=" + this.enabled + ", directory=" + this.directory + ", maxAge=" + this.maxAge
+					+ ", mode=" + this.mode + "]";
+		}
+
+		/**
+		 * Enumerates when a snapshot is used.
+		 */
+		public enum Mode {
+
+			/**
+			 * Use the snapshot only when the server cannot be reached.
+			 */
+			FALLBACK,
+
+			/**
+			 * Start the application from the snapshot without waiting for the server, and
+			 * fetch the environment from the server in the background to update the
+			 * snapshot. Refreshes fetch the environment from the server.
+			 */
+			STARTUP
+
+		}
+
+	}
+
+	/**
+	 * Change notification properties.
+	 */
+	public static class Notifications {
+
+		/**
+		 * Flag to say that the client subscribes to the change notifications of the
+		 * server, and refreshes the application when its environment changes (default
+		 * false). Requires a server with spring.cloud.config.server.notifications.enabled
+		 * set to true.
+		 */
+		private boolean enabled;
+
+		/**
+		 * Time to wait before subscribing again after a failure (default 1 second). The
+		 * time doubles after every failure in a row, up to the maximum reconnect delay.
+		 */
+		private Duration reconnectDelay = Duration.ofSeconds(1);
+
+		/**
+		 * Maximum time to wait before subscribing again after a failure (default 1
+		 * minute).
+		 */
+		private Duration maxReconnectDelay = Duration.ofMinutes(1);
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public Duration getReconnectDelay() {
+			return this.reconnectDelay;
+		}
+
+		public void setReconnectDelay(Duration reconnectDelay) {
+			this.reconnectDelay = reconnectDelay;
+		}
+
+		public Duration getMaxReconnectDelay() {
+			return this.maxReconnectDelay;
+		}
+
+		public void setMaxReconnectDelay(Duration maxReconnectDelay) {
+			this.maxReconnectDelay = maxReconnectDelay;
+		}
+
+		@Override
+		public String toString() {
+			return "Notifications [enabled=" + this.enabled + ", reconnectDelay=" + this.reconnectDelay
+					+ ", maxReconnectDelay=" + this.maxReconnectDelay + "]";
+		}
+
+	}
+
 	/**
 	 * Enumerates possible strategies to use when multiple URLs are provided and an error
 	 * occurs.
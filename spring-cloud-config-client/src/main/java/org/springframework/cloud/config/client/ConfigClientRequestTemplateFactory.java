@@ -18,10 +18,12 @@ package org.springframework.cloud.config.client;
 
 import java.io.IOException;
 import java.security.GeneralSecurityException;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Base64;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 import javax.net.ssl.SSLContext;
@@ -33,6 +35,7 @@ import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
 import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
 import org.apache.hc.client5.http.ssl.SSLConnectionSocketFactoryBuilder;
 import org.apache.hc.core5.http.io.SocketConfig;
+import org.apache.hc.core5.util.TimeValue;
 import org.apache.hc.core5.util.Timeout;
 
 import org.springframework.cloud.configuration.SSLContextFactory;
@@ -50,6 +53,12 @@ import static org.springframework.cloud.config.client.ConfigClientProperties.AUT
 
 public class ConfigClientRequestTemplateFactory {
 
+	/**
+	 * Pooled HTTP clients shared by every factory, so that connections are kept alive
+	 * across refreshes, which create a new factory each time.
+	 */
+	private static final Map<PoolKey, HttpClient> POOLED_HTTP_CLIENTS = new ConcurrentHashMap<>();
+
 	private final Log log;
 
 	private final ConfigClientProperties properties;
@@ -103,12 +112,46 @@ public class ConfigClientRequestTemplateFactory {
 			}
 		}
 
+		if (client.getConnectionPool().isEnabled()) {
+			HttpComponentsClientHttpRequestFactory result = new HttpComponentsClientHttpRequestFactory(
+					getPooledHttpClient(client));
+			result.setConnectTimeout(client.getRequestConnectTimeout());
+			return result;
+		}
+
 		SimpleClientHttpRequestFactory result = new SimpleClientHttpRequestFactory();
 		result.setReadTimeout(client.getRequestReadTimeout());
 		result.setConnectTimeout(client.getRequestConnectTimeout());
 		return result;
 	}
 
+	/**
+	 * @param client the client properties
+	 * @return an HTTP client that keeps connections alive, decompresses gzip and deflate
+	 * responses and goes through the proxy of the {@code http.proxyHost} and
+	 * {@code https.proxyHost} system properties, shared by the factories with the same
+	 * settings
+	 */
+	protected HttpClient getPooledHttpClient(ConfigClientProperties client) {
+		ConfigClientProperties.ConnectionPool pool = client.getConnectionPool();
+		PoolKey key = new PoolKey(client.getRequestReadTimeout(), pool.getMaxConnections(), pool.getIdleTimeout());
+		return POOLED_HTTP_CLIENTS.computeIfAbsent(key, settings -> {
+			PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+				.setDefaultSocketConfig(SocketConfig.custom()
+					.setSoTimeout(Timeout.of(settings.readTimeout(), TimeUnit.MILLISECONDS))
+					.build())
+				.setMaxConnTotal(settings.maxConnections())
+				.setMaxConnPerRoute(settings.maxConnections())
+				.build();
+			return HttpClients.custom()
+				.setConnectionManager(connectionManager)
+				.evictExpiredConnections()
+				.evictIdleConnections(TimeValue.ofMilliseconds(settings.idleTimeout().toMillis()))
+				.useSystemProperties()
+				.build();
+		});
+	}
+
 	protected PoolingHttpClientConnectionManager createConnectionManagerForTls(ConfigClientProperties client)
 			throws GeneralSecurityException, IOException {
 		SSLContextFactory factory = new SSLContextFactory(client.getTls());
@@ -120,6 +163,8 @@ public class ConfigClientRequestTemplateFactory {
 		PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
 			.setDefaultSocketConfig(socketBuilder.build())
 			.setSSLSocketFactory(sslConnectionSocketFactoryBuilder.build())
+			.setMaxConnTotal(client.getConnectionPool().getMaxConnections())
+			.setMaxConnPerRoute(client.getConnectionPool().getMaxConnections())
 			.build();
 		return connectionManager;
 	}
@@ -147,6 +192,9 @@ public class ConfigClientRequestTemplateFactory {
 
 	}
 
+	private record PoolKey(int readTimeout, int maxConnections, Duration idleTimeout) {
+	}
+
 	/**
 	 * Adds the provided headers to the request.
 	 */
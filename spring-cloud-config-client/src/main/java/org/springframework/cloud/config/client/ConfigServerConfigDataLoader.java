@@ -17,6 +17,7 @@
 package org.springframework.cloud.config.client;
 
 import java.nio.charset.Charset;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -25,6 +26,12 @@ import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
 
 import org.apache.commons.logging.Log;
 
@@ -38,12 +45,14 @@ import org.springframework.boot.logging.DeferredLogFactory;
 import org.springframework.boot.origin.Origin;
 import org.springframework.boot.origin.OriginTrackedValue;
 import org.springframework.cloud.config.client.ConfigClientProperties.MultipleUriStrategy;
+import org.springframework.cloud.config.client.ConfigClientProperties.Snapshot.Mode;
 import org.springframework.cloud.config.client.ConfigServerBootstrapper.LoadContext;
 import org.springframework.cloud.config.client.ConfigServerBootstrapper.LoaderInterceptor;
 import org.springframework.cloud.config.environment.Environment;
 import org.springframework.core.Ordered;
 import org.springframework.core.env.MapPropertySource;
 import org.springframework.core.env.PropertySource;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
@@ -53,6 +62,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.util.StringUtils;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.HttpStatusCodeException;
 import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestTemplate;
 
@@ -108,30 +118,149 @@ public class ConfigServerConfigDataLoader implements ConfigDataLoader<ConfigServ
 
 	public ConfigData doLoad(ConfigDataLoaderContext context, ConfigServerConfigDataResource resource) {
 		ConfigClientProperties properties = resource.getProperties();
-		List<PropertySource<?>> propertySources = new ArrayList<>();
+		EnvironmentSnapshots snapshots = properties.getSnapshot().isEnabled()
+				? new EnvironmentSnapshots(properties.getSnapshot(), logger) : null;
+		String snapshotKey = snapshotKey(properties, resource);
+		if (snapshots != null && properties.getSnapshot().getMode() == Mode.STARTUP
+				&& EnvironmentSnapshots.isStartup(snapshotKey)) {
+			EnvironmentSnapshots.Snapshot snapshot = snapshots.read(snapshotKey);
+			if (snapshot != null) {
+				logger.info("Using config snapshot saved at " + snapshot.saved()
+						+ ", fetching config from server in the background");
+				log(snapshot.environment());
+				EnvironmentSnapshots.recordStartupLoad();
+				refreshSnapshot(context, resource, snapshots, snapshotKey);
+				return createConfigData(snapshot.environment(), resource);
+			}
+		}
 
 		try {
 			String[] labels = labels(properties);
-			String state = ConfigClientStateHolder.getState();
-			for (String label : labels) {
-				Environment result = getRemoteEnvironment(context, resource, label.trim(), state);
-				if (result != null) {
-					log(result);
-					propertySources(result, propertySources);
-					ConfigData configData = createConfigDataManyOptions(propertySources, resource);
-					if (configData != null) {
-						return configData;
-					}
+			long start = System.nanoTime();
+			Environment result = fetchEnvironment(context, resource, labels, ConfigClientStateHolder.getState());
+			if (result != null) {
+				log(result);
+				if (snapshots != null) {
+					snapshots.write(snapshotKey, result, Duration.ofNanos(System.nanoTime() - start));
 				}
+				return createConfigData(result, resource);
 			}
 			throw new ConfigClientFailFastException("None of labels " + Arrays.toString(labels) + " found", null);
 		}
 		catch (Exception e) {
+			// a server that answered without any of the labels is not a reason to start
+			// from old config
+			if (snapshots != null && !(e instanceof ConfigClientFailFastException)) {
+				EnvironmentSnapshots.Snapshot snapshot = snapshots.read(snapshotKey);
+				if (snapshot != null) {
+					logger.warn("Could not fetch config from server, using the snapshot saved at " + snapshot.saved()
+							+ ". Error : " + e.getMessage());
+					log(snapshot.environment());
+					EnvironmentSnapshots.recordFallbackLoad();
+					return createConfigData(snapshot.environment(), resource);
+				}
+			}
 			caseFailure(e, properties, resource);
 			return null;
 		}
 	}
 
+	private Environment fetchEnvironment(ConfigDataLoaderContext context, ConfigServerConfigDataResource resource,
+			String[] labels, String state) {
+		if (labels.length > 1 && resource.getProperties().isFetchLabelsConcurrently()) {
+			return fetchEnvironmentConcurrently(context, resource, labels, state);
+		}
+		for (String label : labels) {
+			Environment result = getRemoteEnvironment(context, resource, label.trim(), state);
+			if (result != null) {
+				return result;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Fetch every label at the same time, the first label of the list that is found wins.
+	 */
+	private Environment fetchEnvironmentConcurrently(ConfigDataLoaderContext context,
+			ConfigServerConfigDataResource resource, String[] labels, String state) {
+		SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("config-client-label-");
+		executor.setDaemon(true);
+		List<Future<Environment>> futures = new ArrayList<>(labels.length);
+		try {
+			for (String label : labels) {
+				futures.add(executor.submit(() -> getRemoteEnvironment(context, resource, label.trim(), state)));
+			}
+			for (int i = 0; i < labels.length; i++) {
+				try {
+					Environment result = futures.get(i).get();
+					if (result != null) {
+						return result;
+					}
+				}
+				catch (ExecutionException e) {
+					if (e.getCause() instanceof RuntimeException cause) {
+						throw cause;
+					}
+					throw new IllegalStateException("Cannot fetch config of label " + labels[i], e.getCause());
+				}
+			}
+			return null;
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while fetching config from server", e);
+		}
+		finally {
+			futures.forEach(future -> future.cancel(true));
+		}
+	}
+
+	private ConfigData createConfigData(Environment result, ConfigServerConfigDataResource resource) {
+		if (resource.getProperties().getNotifications().isEnabled()) {
+			ConfigClientChangeSubscriber.register(resource.getProperties(), resource.getProfiles(), result);
+		}
+		List<PropertySource<?>> propertySources = new ArrayList<>();
+		propertySources(result, propertySources);
+		return createConfigDataManyOptions(propertySources, resource);
+	}
+
+	private String snapshotKey(ConfigClientProperties properties, ConfigServerConfigDataResource resource) {
+		return properties.getName() + "/" + resource.getProfiles() + "/"
+				+ (StringUtils.hasText(properties.getLabel()) ? properties.getLabel() : "");
+	}
+
+	/**
+	 * Fetch the environment the application started from the snapshot of, without
+	 * blocking the startup, and save it for the next startup.
+	 */
+	private void refreshSnapshot(ConfigDataLoaderContext context, ConfigServerConfigDataResource resource,
+			EnvironmentSnapshots snapshots, String snapshotKey) {
+		String[] labels = labels(resource.getProperties());
+		String state = ConfigClientStateHolder.getState();
+		SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("config-client-snapshot-");
+		executor.setDaemon(true);
+		executor.execute(() -> {
+			long start = System.nanoTime();
+			try {
+				Environment result = fetchEnvironment(context, resource, labels, state);
+				if (result == null) {
+					logger.warn("None of labels " + Arrays.toString(labels) + " found, keeping the config snapshot");
+				}
+				else if (snapshots.write(snapshotKey, result, Duration.ofNanos(System.nanoTime() - start))) {
+					logger.info("Config from server changed since the snapshot was saved, refresh to apply it");
+				}
+			}
+			catch (Exception e) {
+				logger.warn("Could not fetch config from server, keeping the config snapshot. Error : "
+						+ e.getMessage());
+			}
+			finally {
+				EnvironmentSnapshots.recordSavedTime(Duration.ofNanos(System.nanoTime() - start));
+			}
+		});
+	}
+
 	private String[] labels(ConfigClientProperties properties) {
 		String labelProperty = properties.getLabel();
 		if (!properties.isSendAllLabels() && StringUtils.hasText(labelProperty)) {
@@ -308,14 +437,18 @@ public class ConfigServerConfigDataLoader implements ConfigDataLoader<ConfigServ
 			args = new String[] { name, profile, label };
 			path = path + "/{label}";
 		}
-		ResponseEntity<Environment> response = null;
 		List<MediaType> acceptHeader = Collections.singletonList(MediaType.parseMediaType(properties.getMediaType()));
 		List<Charset> acceptCharsetHeader = Collections.singletonList(properties.getCharset());
 
 		ConfigClientRequestTemplateFactory requestTemplateFactory = context.getBootstrapContext()
 			.get(ConfigClientRequestTemplateFactory.class);
+		RemoteEnvironmentCache remoteEnvironments = RemoteEnvironmentCache.get();
 
-		for (int i = 0; i < noOfUrls; i++) {
+		String requestPath = path;
+		Object[] requestArgs = args;
+		// the uris without credentials
+		IntFunction<String> requestUris = i -> discoveryEnabled ? uris[i] : properties.getCredentials(i).getUri();
+		IntFunction<Environment> fetch = i -> {
 			String username;
 			String password;
 			String uri = uris[i];
@@ -332,24 +465,58 @@ public class ConfigServerConfigDataLoader implements ConfigDataLoader<ConfigServ
 
 			logger.info("Fetching config from server at : " + uri);
 
-			try {
-				HttpHeaders headers = new HttpHeaders();
-				headers.setAccept(acceptHeader);
-				headers.setAcceptCharset(acceptCharsetHeader);
-				requestTemplateFactory.addAuthorizationToken(headers, username, password);
-				if (StringUtils.hasText(token)) {
-					headers.add(TOKEN_HEADER, token);
+			String cacheKey = uri + requestPath + Arrays.toString(requestArgs) + acceptHeader;
+			RemoteEnvironmentCache.Entry previous = properties.isSendEtag() ? remoteEnvironments.get(cacheKey) : null;
+			HttpHeaders headers = new HttpHeaders();
+			headers.setAccept(acceptHeader);
+			headers.setAcceptCharset(acceptCharsetHeader);
+			requestTemplateFactory.addAuthorizationToken(headers, username, password);
+			if (StringUtils.hasText(token)) {
+				headers.add(TOKEN_HEADER, token);
+			}
+			if (StringUtils.hasText(state) && properties.isSendState()) {
+				headers.add(STATE_HEADER, state);
+			}
+			if (previous != null) {
+				headers.setIfNoneMatch(previous.etag());
+			}
+
+			final HttpEntity<Void> entity = new HttpEntity<>((Void) null, headers);
+			ResponseEntity<Environment> response = restTemplate.exchange(uri + requestPath, HttpMethod.GET, entity,
+					Environment.class, requestArgs);
+
+			if (response != null && response.getStatusCode() == HttpStatus.NOT_MODIFIED && previous != null) {
+				logger.info("Config from server at : " + uri + " has not changed, reusing the previous environment");
+				return previous.environment();
+			}
+
+			if (response == null || response.getStatusCode() != HttpStatus.OK) {
+				return null;
+			}
+
+			Environment result = response.getBody();
+			if (properties.isSendEtag()) {
+				String etag = response.getHeaders().getETag();
+				if (etag != null && result != null) {
+					remoteEnvironments.put(cacheKey, etag, result);
 				}
-				if (StringUtils.hasText(state) && properties.isSendState()) {
-					headers.add(STATE_HEADER, state);
+				else {
+					remoteEnvironments.remove(cacheKey);
 				}
+			}
+			return result;
+		};
 
-				final HttpEntity<Void> entity = new HttpEntity<>((Void) null, headers);
-				response = restTemplate.exchange(uri + path, HttpMethod.GET, entity, Environment.class, args);
+		if (noOfUrls > 1 && properties.getHedgeDelay() != null) {
+			return fetchHedged(fetch, requestUris, noOfUrls, properties);
+		}
+		for (int i = 0; i < noOfUrls; i++) {
+			try {
+				return fetch.apply(i);
 			}
 			catch (HttpClientErrorException | HttpServerErrorException e) {
 				if (i < noOfUrls - 1 && properties.getMultipleUriStrategy() == MultipleUriStrategy.ALWAYS) {
-					logger.info("Failed to fetch configs from server at  : " + uri
+					logger.info("Failed to fetch configs from server at  : " + requestUris.apply(i)
 							+ ". Will try the next url if available. Error : " + e.getMessage());
 					continue;
 				}
@@ -357,26 +524,107 @@ public class ConfigServerConfigDataLoader implements ConfigDataLoader<ConfigServ
 				if (e.getStatusCode() != HttpStatus.NOT_FOUND) {
 					throw e;
 				}
+				return null;
 			}
 			catch (ResourceAccessException e) {
-				logger.info("Exception on Url - " + uri + ":" + e + ". Will be trying the next url if available");
+				logger.info("Exception on Url - " + requestUris.apply(i) + ":" + e
+						+ ". Will be trying the next url if available");
 				if (i == noOfUrls - 1) {
 					throw e;
 				}
-				else {
-					continue;
-				}
 			}
+		}
 
-			if (response == null || response.getStatusCode() != HttpStatus.OK) {
-				return null;
-			}
+		return null;
+	}
 
-			Environment result = response.getBody();
-			return result;
+	/**
+	 * Send the request to the first server and, every time the hedge delay passes
+	 * without an answer or a server fails, to the next one. The first server to answer
+	 * wins, and failures are handled like the ones of servers tried one after another,
+	 * except that the requests already sent are still waited for: a failure is only
+	 * propagated once none of them can answer any more.
+	 */
+	private Environment fetchHedged(IntFunction<Environment> fetch, IntFunction<String> uris, int noOfUrls,
+			ConfigClientProperties properties) {
+		SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("config-client-hedge-");
+		executor.setDaemon(true);
+		CompletionService<Environment> completionService = new ExecutorCompletionService<>(executor);
+		Map<Future<Environment>, Integer> futures = new HashMap<>();
+		long hedgeDelay = properties.getHedgeDelay().toNanos();
+		// the failure of a server the next one would not have been tried after
+		RuntimeException finalFailure = null;
+		RuntimeException failure = null;
+		try {
+			futures.put(completionService.submit(() -> fetch.apply(0)), 0);
+			int next = 1;
+			int inFlight = 1;
+			while (inFlight > 0) {
+				boolean hedge = next < noOfUrls && finalFailure == null;
+				Future<Environment> done = hedge ? completionService.poll(hedgeDelay, TimeUnit.NANOSECONDS)
+						: completionService.take();
+				if (done == null) {
+					int index = next++;
+					futures.put(completionService.submit(() -> fetch.apply(index)), index);
+					inFlight++;
+					continue;
+				}
+				inFlight--;
+				int index = futures.get(done);
+				try {
+					return done.get();
+				}
+				catch (ExecutionException e) {
+					RuntimeException cause = (e.getCause() instanceof RuntimeException runtimeException)
+							? runtimeException : new IllegalStateException(
+									"Cannot fetch config from server at " + uris.apply(index), e.getCause());
+					if (!isTriedOnNextServer(cause, properties)) {
+						if (finalFailure == null) {
+							finalFailure = cause;
+						}
+						if (inFlight > 0) {
+							logger.info("Failed to fetch configs from server at  : " + uris.apply(index)
+									+ ". Waiting for the other servers. Error : " + cause.getMessage());
+						}
+						continue;
+					}
+					logger.info("Failed to fetch configs from server at  : " + uris.apply(index)
+							+ ". Will try the next url if available. Error : " + cause.getMessage());
+					failure = cause;
+					if (next < noOfUrls && finalFailure == null) {
+						int nextIndex = next++;
+						futures.put(completionService.submit(() -> fetch.apply(nextIndex)), nextIndex);
+						inFlight++;
+					}
+				}
+			}
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while fetching config from server", e);
+		}
+		finally {
+			futures.keySet().forEach(future -> future.cancel(true));
+		}
+		if (finalFailure != null) {
+			failure = finalFailure;
+		}
+		if (failure instanceof HttpStatusCodeException statusException
+				&& statusException.getStatusCode() == HttpStatus.NOT_FOUND) {
+			return null;
 		}
+		throw failure;
+	}
 
-		return null;
+	/**
+	 * Whether the next server is tried after a server failed this way, as
+	 * {@link #getRemoteEnvironment} does when it tries them one after another.
+	 */
+	private static boolean isTriedOnNextServer(RuntimeException failure, ConfigClientProperties properties) {
+		if (failure instanceof HttpClientErrorException || failure instanceof HttpServerErrorException) {
+			return properties.getMultipleUriStrategy() == MultipleUriStrategy.ALWAYS;
+		}
+		return failure instanceof ResourceAccessException;
 	}
 
 	@Deprecated
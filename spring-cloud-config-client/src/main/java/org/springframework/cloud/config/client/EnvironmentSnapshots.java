@@ -0,0 +1,316 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.config.client;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.nio.file.attribute.UserPrincipal;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.commons.logging.Log;
+
+import org.springframework.cloud.config.environment.Environment;
+
+/**
+ * Environments fetched from a config server, saved to local files so that the client can
+ * start from them when the server is slow or cannot be reached. Every file holds the
+ * environment with the SHA-256 hash of its JSON, and a file whose hash does not match or
+ * that is older than the maximum age is ignored. The hash only detects corrupted files,
+ * anyone who can write to the directory can also write a matching hash, so the directory
+ * is created private to its owner and neither the directory nor a file is used unless
+ * it is owned by the user running the application and cannot be written by others.
+ */
+final class EnvironmentSnapshots {
+
+	private static final ObjectMapper MAPPER = new ObjectMapper()
+		.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+	/**
+	 * The environment last written or read for a file, so that an unchanged environment
+	 * is not written again on every refresh.
+	 */
+	private static final Map<Path, Saved> SAVED = new ConcurrentHashMap<>();
+
+	/**
+	 * Keys an application already started from, later loads are refreshes.
+	 */
+	private static final Set<String> STARTED = ConcurrentHashMap.newKeySet();
+
+	private static volatile UserPrincipal currentUser;
+
+	private static final AtomicLong STARTUP_LOADS = new AtomicLong();
+
+	private static final AtomicLong FALLBACK_LOADS = new AtomicLong();
+
+	private static final AtomicLong SAVED_NANOS = new AtomicLong();
+
+	private final Path directory;
+
+	private final Duration maxAge;
+
+	private final Log logger;
+
+	EnvironmentSnapshots(ConfigClientProperties.Snapshot properties, Log logger) {
+		this.directory = Paths.get(properties.getDirectory());
+		this.maxAge = properties.getMaxAge();
+		this.logger = logger;
+	}
+
+	/**
+	 * @param key the environment, e.g. its name, profiles and labels
+	 * @return the snapshot of the environment or null if there is no valid one
+	 */
+	Snapshot read(String key) {
+		Path file = file(key);
+		try {
+			if (!Files.isRegularFile(file, LinkOption.NOFOLLOW_LINKS) || !isTrusted(this.directory)
+					|| !isTrusted(file)) {
+				return null;
+			}
+			SnapshotFile content = MAPPER.readValue(file.toFile(), SnapshotFile.class);
+			if (!key.equals(content.key()) || !hash(content.environment()).equals(content.sha256())) {
+				this.logger.warn("Ignoring corrupted config snapshot " + file);
+				return null;
+			}
+			Instant saved = Instant.ofEpochMilli(content.saved());
+			if (this.maxAge != null && !saved.plus(this.maxAge).isAfter(Instant.now())) {
+				if (this.logger.isDebugEnabled()) {
+					this.logger.debug("Ignoring config snapshot " + file + " saved at " + saved);
+				}
+				return null;
+			}
+			SAVED.put(file, new Saved(content.sha256(), content.saved()));
+			return new Snapshot(MAPPER.readValue(content.environment(), Environment.class), saved,
+					Duration.ofMillis(content.fetchTime()));
+		}
+		catch (IOException | RuntimeException e) {
+			this.logger.warn("Could not read config snapshot " + file + ": " + e.getMessage());
+			return null;
+		}
+	}
+
+	/**
+	 * Save an environment, replacing its previous snapshot. Failures are logged and
+	 * otherwise ignored.
+	 * @param key the environment, e.g. its name, profiles and labels
+	 * @param environment the environment fetched from the server
+	 * @param fetchTime how long the server took to answer
+	 * @return whether the environment changed since it was last saved or read
+	 */
+	boolean write(String key, Environment environment, Duration fetchTime) {
+		Path file = file(key);
+		try {
+			String json = MAPPER.writeValueAsString(environment);
+			String sha256 = hash(json);
+			Saved previous = SAVED.get(file);
+			if (previous != null && previous.sha256().equals(sha256)) {
+				// save it again before it gets too old
+				if (this.maxAge == null
+						|| System.currentTimeMillis() - previous.saved() < this.maxAge.toMillis() / 2) {
+					return false;
+				}
+			}
+			if (!createDirectory()) {
+				return false;
+			}
+			long saved = System.currentTimeMillis();
+			// the temporary file is only readable by its owner
+			Path temp = Files.createTempFile(this.directory, ".snapshot", ".tmp");
+			try {
+				MAPPER.writeValue(temp.toFile(), new SnapshotFile(key, saved, fetchTime.toMillis(), sha256, json));
+				try {
+					Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+				}
+				catch (AtomicMoveNotSupportedException e) {
+					Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+				}
+			}
+			finally {
+				Files.deleteIfExists(temp);
+			}
+			SAVED.put(file, new Saved(sha256, saved));
+			if (this.logger.isDebugEnabled()) {
+				this.logger.debug("Saved config snapshot " + file);
+			}
+			return previous == null || !previous.sha256().equals(sha256);
+		}
+		catch (IOException | RuntimeException e) {
+			this.logger.warn("Could not save config snapshot " + file + ": " + e.getMessage());
+			return false;
+		}
+	}
+
+	private boolean createDirectory() throws IOException {
+		if (!Files.exists(this.directory, LinkOption.NOFOLLOW_LINKS)) {
+			if (isPosix()) {
+				Files.createDirectories(this.directory, PosixFilePermissions.asFileAttribute(
+						EnumSet.of(PosixFilePermission.OWNER_READ, PosixFilePermission.OWNER_WRITE,
+								PosixFilePermission.OWNER_EXECUTE)));
+			}
+			else {
+				Files.createDirectories(this.directory);
+			}
+		}
+		return isTrusted(this.directory);
+	}
+
+	/**
+	 * Whether a snapshot file or directory is owned by the user running the application
+	 * and cannot be written by anyone else.
+	 */
+	private boolean isTrusted(Path path) throws IOException {
+		if (Files.isSymbolicLink(path) || !Files.getOwner(path, LinkOption.NOFOLLOW_LINKS).equals(currentUser())) {
+			this.logger.warn("Not using config snapshot " + path + ", it is not owned by the current user");
+			return false;
+		}
+		if (isPosix()) {
+			Set<PosixFilePermission> permissions = Files.getPosixFilePermissions(path, LinkOption.NOFOLLOW_LINKS);
+			if (permissions.contains(PosixFilePermission.GROUP_WRITE)
+					|| permissions.contains(PosixFilePermission.OTHERS_WRITE)) {
+				this.logger.warn("Not using config snapshot " + path + ", it can be written by other users");
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean isPosix() {
+		return FileSystems.getDefault().supportedFileAttributeViews().contains("posix");
+	}
+
+	/**
+	 * The owner of a file this process creates, which unlike the user.name system
+	 * property is also known when the user has no name.
+	 */
+	private static UserPrincipal currentUser() throws IOException {
+		UserPrincipal user = currentUser;
+		if (user == null) {
+			Path probe = Files.createTempFile("config-snapshot", ".tmp");
+			try {
+				user = Files.getOwner(probe);
+			}
+			finally {
+				Files.deleteIfExists(probe);
+			}
+			currentUser = user;
+		}
+		return user;
+	}
+
+	/**
+	 * @param key the environment, e.g. its name, profiles and labels
+	 * @return true the first time the environment is loaded by this JVM
+	 */
+	static boolean isStartup(String key) {
+		return STARTED.add(key);
+	}
+
+	static void recordStartupLoad() {
+		STARTUP_LOADS.incrementAndGet();
+	}
+
+	/**
+	 * @param saved how long the background fetch of an environment the application
+	 * started from took
+	 */
+	static void recordSavedTime(Duration saved) {
+		SAVED_NANOS.addAndGet(saved.toNanos());
+	}
+
+	static void recordFallbackLoad() {
+		FALLBACK_LOADS.incrementAndGet();
+	}
+
+	/**
+	 * @return how many times the application started from a snapshot without waiting
+	 * for the server
+	 */
+	static long getStartupLoadCount() {
+		return STARTUP_LOADS.get();
+	}
+
+	/**
+	 * @return how many times a snapshot was used because the server could not be reached
+	 */
+	static long getFallbackLoadCount() {
+		return FALLBACK_LOADS.get();
+	}
+
+	/**
+	 * @return the time, in nanoseconds, the application did not wait for the server when
+	 * starting from a snapshot
+	 */
+	static long getSavedTime() {
+		return SAVED_NANOS.get();
+	}
+
+	private Path file(String key) {
+		String name = key.substring(0, Math.max(0, key.indexOf('/'))).replaceAll("[^A-Za-z0-9._-]", "_");
+		return this.directory.resolve(name + "-" + hash(key).substring(0, 16) + ".json");
+	}
+
+	private static String hash(String value) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+		}
+		catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 is not available", e);
+		}
+	}
+
+	/**
+	 * A saved environment.
+	 *
+	 * @param environment the environment
+	 * @param saved when the environment was fetched
+	 * @param fetchTime how long the server took to answer then
+	 */
+	record Snapshot(Environment environment, Instant saved, Duration fetchTime) {
+	}
+
+	/**
+	 * The content of a snapshot file. The environment is kept as a JSON string so that
+	 * its hash can be checked on the bytes that were hashed.
+	 */
+	record SnapshotFile(String key, long saved, long fetchTime, String sha256, String environment) {
+	}
+
+	private record Saved(String sha256, long saved) {
+	}
+
+}
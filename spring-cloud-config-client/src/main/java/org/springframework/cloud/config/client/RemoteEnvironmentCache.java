@@ -0,0 +1,73 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.config.client;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.cloud.config.environment.Environment;
+
+/**
+ * Environments fetched from a config server together with the ETag the server sent for
+ * them, so that the next request for the same environment can ask the server to answer
+ * 304 Not Modified if nothing changed. Shared by every {@link ConfigServerConfigDataLoader}
+ * since a new loader is created each time the configuration is reloaded.
+ */
+final class RemoteEnvironmentCache {
+
+	private static final int MAX_SIZE = 64;
+
+	private static final RemoteEnvironmentCache INSTANCE = new RemoteEnvironmentCache();
+
+	private final Map<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+			return size() > MAX_SIZE;
+		}
+	};
+
+	private RemoteEnvironmentCache() {
+	}
+
+	static RemoteEnvironmentCache get() {
+		return INSTANCE;
+	}
+
+	/**
+	 * @param key the request, e.g. its URL and accepted media type
+	 * @return the environment last fetched for the request or null
+	 */
+	synchronized Entry get(String key) {
+		return this.entries.get(key);
+	}
+
+	synchronized void put(String key, String etag, Environment environment) {
+		this.entries.put(key, new Entry(etag, environment));
+	}
+
+	synchronized void remove(String key) {
+		this.entries.remove(key);
+	}
+
+	synchronized void clear() {
+		this.entries.clear();
+	}
+
+	record Entry(String etag, Environment environment) {
+	}
+
+}
@@ -55,6 +55,9 @@ class ConfigClientHints implements RuntimeHintsRegistrar {
 			.registerType(TypeReference.of(PropertySource.class),
 					hint -> hint.withMembers(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
 							MemberCategory.INTROSPECT_DECLARED_METHODS, MemberCategory.DECLARED_FIELDS))
+			.registerType(TypeReference.of("org.springframework.cloud.config.client.EnvironmentSnapshots$SnapshotFile"),
+					hint -> hint.withMembers(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+							MemberCategory.INVOKE_DECLARED_METHODS, MemberCategory.DECLARED_FIELDS))
 			.registerType(TypeReference.of(RetryTemplateFactory.class),
 					hint -> hint.withMembers(MemberCategory.INTROSPECT_DECLARED_CONSTRUCTORS,
 							MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.DECLARED_FIELDS,
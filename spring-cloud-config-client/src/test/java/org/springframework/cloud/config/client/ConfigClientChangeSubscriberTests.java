@@ -0,0 +1,91 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.config.client;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.cloud.config.environment.Environment;
+import org.springframework.cloud.context.refresh.ContextRefresher;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class ConfigClientChangeSubscriberTests {
+
+	private final ContextRefresher refresher = mock(ContextRefresher.class);
+
+	private final ConfigClientChangeSubscriber subscriber = new ConfigClientChangeSubscriber(this.refresher);
+
+	@Test
+	public void refreshesWhenEventIdChanges() throws Exception {
+		ConfigClientChangeSubscriber.Stream stream = stream("changes", "v1");
+
+		stream.read(reader(event("a", "v1") + ":\n\n" + event("a", "v1") + event("b", "v2")));
+
+		verify(this.refresher, times(1)).refresh();
+	}
+
+	@Test
+	public void firstEventRefreshesWhenVersionDiffersFromLoadedOne() throws Exception {
+		ConfigClientChangeSubscriber.Stream stream = stream("missed", "v1");
+
+		stream.read(reader(event("a", "v2")));
+
+		verify(this.refresher, times(1)).refresh();
+	}
+
+	@Test
+	public void firstEventWithoutVersionDoesNotRefresh() throws Exception {
+		ConfigClientChangeSubscriber.Stream stream = stream("unversioned", null);
+
+		stream.read(reader(event("a", null)));
+
+		verify(this.refresher, never()).refresh();
+
+		// resumed after a reconnect
+		stream.read(reader(event("b", null)));
+
+		verify(this.refresher, times(1)).refresh();
+	}
+
+	private ConfigClientChangeSubscriber.Stream stream(String name, String version) {
+		ConfigClientProperties properties = new ConfigClientProperties();
+		properties.setName(name);
+		properties.getNotifications().setEnabled(true);
+		Environment environment = new Environment(name, new String[] { "default" }, "main", version, null);
+		ConfigClientChangeSubscriber.register(properties, "default", environment);
+		ConfigClientChangeSubscriber.Subscription subscription = new ConfigClientChangeSubscriber.Subscription(
+				properties, name, "default", "main", version);
+		return this.subscriber.new Stream(subscription.key());
+	}
+
+	private static String event(String id, String version) {
+		String data = "{\"name\":\"app\",\"profiles\":\"default\",\"label\":\"main\",\"version\":"
+				+ ((version != null) ? "\"" + version + "\"" : "null") + "}";
+		return "id:" + id + "\nevent:change\ndata:" + data + "\n\n";
+	}
+
+	private static BufferedReader reader(String content) {
+		return new BufferedReader(new StringReader(content));
+	}
+
+}
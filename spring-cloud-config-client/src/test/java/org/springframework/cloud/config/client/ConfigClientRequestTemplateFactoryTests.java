@@ -0,0 +1,130 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.config.client;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.logging.LogFactory;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ConfigClientRequestTemplateFactory}.
+ */
+class ConfigClientRequestTemplateFactoryTests {
+
+	@Test
+	void pooledHttpClientIsSharedByFactories() {
+		ConfigClientProperties properties = new ConfigClientProperties(new StandardEnvironment());
+
+		ClientHttpRequestFactory first = createRequestFactory(properties);
+		ClientHttpRequestFactory second = createRequestFactory(properties);
+
+		assertThat(first).isInstanceOf(HttpComponentsClientHttpRequestFactory.class);
+		assertThat(((HttpComponentsClientHttpRequestFactory) first).getHttpClient())
+			.isSameAs(((HttpComponentsClientHttpRequestFactory) second).getHttpClient());
+	}
+
+	@Test
+	void pooledHttpClientDependsOnSettings() {
+		ConfigClientProperties properties = new ConfigClientProperties(new StandardEnvironment());
+		ClientHttpRequestFactory first = createRequestFactory(properties);
+
+		properties.getConnectionPool().setMaxConnections(1);
+		ClientHttpRequestFactory second = createRequestFactory(properties);
+
+		assertThat(((HttpComponentsClientHttpRequestFactory) first).getHttpClient())
+			.isNotSameAs(((HttpComponentsClientHttpRequestFactory) second).getHttpClient());
+	}
+
+	@Test
+	void simpleRequestFactoryWhenPoolIsDisabled() {
+		ConfigClientProperties properties = new ConfigClientProperties(new StandardEnvironment());
+		properties.getConnectionPool().setEnabled(false);
+
+		assertThat(createRequestFactory(properties)).isInstanceOf(SimpleClientHttpRequestFactory.class);
+	}
+
+	@Test
+	void pooledHttpClientUsesSystemProxy() throws Exception {
+		ConfigClientProperties properties = new ConfigClientProperties(new StandardEnvironment());
+		RestTemplate restTemplate = new RestTemplate(createRequestFactory(properties));
+		String proxyHost = System.getProperty("http.proxyHost");
+		String proxyPort = System.getProperty("http.proxyPort");
+		try (ServerSocket proxy = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+			System.setProperty("http.proxyHost", "127.0.0.1");
+			System.setProperty("http.proxyPort", String.valueOf(proxy.getLocalPort()));
+			CompletableFuture<String> requestLine = CompletableFuture.supplyAsync(() -> {
+				try (Socket socket = proxy.accept()) {
+					BufferedReader reader = new BufferedReader(
+							new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+					String line = reader.readLine();
+					while (!reader.readLine().isEmpty()) {
+						// skip the headers
+					}
+					OutputStream output = socket.getOutputStream();
+					output.write("HTTP/1.1 200 OK\r\nContent-Type: text/plain\r\nContent-Length: 2\r\n\r\nok"
+						.getBytes(StandardCharsets.US_ASCII));
+					output.flush();
+					return line;
+				}
+				catch (Exception e) {
+					throw new IllegalStateException(e);
+				}
+			});
+
+			String body = restTemplate.getForObject("http://config.invalid/app/default", String.class);
+
+			assertThat(body).isEqualTo("ok");
+			assertThat(requestLine.get(10, TimeUnit.SECONDS)).startsWith("GET http://config.invalid/app/default");
+		}
+		finally {
+			restore("http.proxyHost", proxyHost);
+			restore("http.proxyPort", proxyPort);
+		}
+	}
+
+	private static void restore(String name, String value) {
+		if (value != null) {
+			System.setProperty(name, value);
+		}
+		else {
+			System.clearProperty(name);
+		}
+	}
+
+	private ClientHttpRequestFactory createRequestFactory(ConfigClientProperties properties) {
+		return new ConfigClientRequestTemplateFactory(LogFactory.getLog(getClass()), properties).create()
+			.getRequestFactory();
+	}
+
+}
@@ -19,6 +19,11 @@ package org.springframework.cloud.config.client;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.net.URI;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
@@ -31,6 +36,7 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.ArgumentCaptor;
 import org.mockito.ArgumentMatchers;
 import org.mockito.Captor;
@@ -65,6 +71,8 @@ import org.springframework.web.client.RestTemplate;
 
 import static java.lang.String.format;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
@@ -135,6 +143,7 @@ public class ConfigServerConfigDataLoaderTests {
 		when(resource.getProperties()).thenReturn(properties);
 
 		when(resource.getProfiles()).thenReturn(PROFILES);
+		RemoteEnvironmentCache.get().clear();
 	}
 
 	@SuppressWarnings("unchecked")
@@ -191,6 +200,148 @@ public class ConfigServerConfigDataLoaderTests {
 		assertThat(this.loader.load(context, resource)).isNotNull();
 	}
 
+	@SuppressWarnings("unchecked")
+	@Test
+	public void notModifiedReusesPreviousEnvironment() {
+		Environment body = new Environment("app", "master");
+		body.add(new PropertySource("p1", Collections.singletonMap("a", "b")));
+		HttpHeaders headers = new HttpHeaders();
+		headers.setETag("\"v1\"");
+		mockRequestResponseWithLabel(new ResponseEntity<>(body, headers, HttpStatus.OK), LABEL);
+		assertThat(this.loader.load(context, resource)).isNotNull();
+
+		mockRequestResponseWithLabel(new ResponseEntity<>(HttpStatus.NOT_MODIFIED), LABEL);
+		ConfigData configData = this.loader.load(context, resource);
+
+		Mockito.verify(this.restTemplate, Mockito.times(2))
+			.exchange(anyString(), any(HttpMethod.class), httpEntityArgumentCaptor.capture(), any(Class.class),
+					anyString(), anyString(), anyString());
+		List<HttpEntity<Void>> requests = httpEntityArgumentCaptor.getAllValues();
+		assertThat(requests.get(0).getHeaders().getIfNoneMatch()).isEmpty();
+		assertThat(requests.get(1).getHeaders().getIfNoneMatch()).containsExactly("\"v1\"");
+		assertThat(configData.getPropertySources()).extracting(org.springframework.core.env.PropertySource::getName)
+			.contains("configserver:p1");
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void etagNotSentWhenDisabled() {
+		Environment body = new Environment("app", "master");
+		HttpHeaders headers = new HttpHeaders();
+		headers.setETag("\"v1\"");
+		mockRequestResponseWithLabel(new ResponseEntity<>(body, headers, HttpStatus.OK), LABEL);
+		properties.setSendEtag(false);
+		this.loader.load(context, resource);
+		this.loader.load(context, resource);
+
+		Mockito.verify(this.restTemplate, Mockito.times(2))
+			.exchange(anyString(), any(HttpMethod.class), httpEntityArgumentCaptor.capture(), any(Class.class),
+					anyString(), anyString(), anyString());
+		assertThat(httpEntityArgumentCaptor.getAllValues())
+			.allSatisfy(request -> assertThat(request.getHeaders().getIfNoneMatch()).isEmpty());
+	}
+
+	@Test
+	public void snapshotUsedWhenServerCannotBeReached(@TempDir Path directory) {
+		properties.setName("snapshot-fallback");
+		properties.getSnapshot().setEnabled(true);
+		properties.getSnapshot().setDirectory(directory.toString());
+		Environment body = new Environment("app", "master");
+		body.add(new PropertySource("p1", Collections.singletonMap("a", "b")));
+		mockRequestResponseWithLabel(new ResponseEntity<>(body, HttpStatus.OK), LABEL);
+		this.loader.load(context, resource);
+
+		long fallbackLoads = EnvironmentSnapshots.getFallbackLoadCount();
+		mockRequestTimedOut();
+		ConfigData configData = this.loader.load(context, resource);
+
+		assertThat(configData.getPropertySources())
+			.anySatisfy(source -> assertThat(source.getProperty("a")).isEqualTo("b"));
+		assertThat(EnvironmentSnapshots.getFallbackLoadCount()).isEqualTo(fallbackLoads + 1);
+	}
+
+	@Test
+	public void corruptedSnapshotIsIgnored(@TempDir Path directory) throws IOException {
+		properties.setName("snapshot-corrupted");
+		properties.getSnapshot().setEnabled(true);
+		properties.getSnapshot().setDirectory(directory.toString());
+		Environment body = new Environment("app", "master");
+		body.add(new PropertySource("p1", Collections.singletonMap("a", "b")));
+		mockRequestResponseWithLabel(new ResponseEntity<>(body, HttpStatus.OK), LABEL);
+		this.loader.load(context, resource);
+		try (var files = Files.list(directory)) {
+			Path file = files.findFirst().orElseThrow();
+			Files.writeString(file, Files.readString(file).replace("\\\"b\\\"", "\\\"c\\\""));
+		}
+
+		mockRequestTimedOut();
+		assertThatExceptionOfType(ConfigClientFailFastException.class)
+			.isThrownBy(() -> this.loader.load(context, resource));
+	}
+
+	@Test
+	public void snapshotDirectoryWritableByOthersIsNotUsed(@TempDir Path directory) throws IOException {
+		assumeTrue(FileSystems.getDefault().supportedFileAttributeViews().contains("posix"));
+		Path shared = Files.createDirectory(directory.resolve("shared"));
+		Files.setPosixFilePermissions(shared, PosixFilePermissions.fromString("rwxrwxrwx"));
+		properties.setName("snapshot-shared");
+		properties.getSnapshot().setEnabled(true);
+		properties.getSnapshot().setDirectory(shared.toString());
+		Environment body = new Environment("app", "master");
+		body.add(new PropertySource("p1", Collections.singletonMap("a", "b")));
+		mockRequestResponseWithLabel(new ResponseEntity<>(body, HttpStatus.OK), LABEL);
+		this.loader.load(context, resource);
+
+		try (var files = Files.list(shared)) {
+			assertThat(files).isEmpty();
+		}
+	}
+
+	@Test
+	public void expiredSnapshotIsIgnored(@TempDir Path directory) {
+		properties.setName("snapshot-expired");
+		properties.getSnapshot().setEnabled(true);
+		properties.getSnapshot().setDirectory(directory.toString());
+		mockRequestResponseWithLabel(new ResponseEntity<>(new Environment("app", "master"), HttpStatus.OK), LABEL);
+		this.loader.load(context, resource);
+
+		properties.getSnapshot().setMaxAge(Duration.ZERO);
+		mockRequestTimedOut();
+		assertThatExceptionOfType(ConfigClientFailFastException.class)
+			.isThrownBy(() -> this.loader.load(context, resource));
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void startupFromSnapshotFetchesInBackground(@TempDir Path directory) {
+		properties.setName("snapshot-startup");
+		properties.getSnapshot().setEnabled(true);
+		properties.getSnapshot().setDirectory(directory.toString());
+		Environment body = new Environment("app", "master");
+		body.add(new PropertySource("p1", Collections.singletonMap("a", "b")));
+		mockRequestResponseWithLabel(new ResponseEntity<>(body, HttpStatus.OK), LABEL);
+		this.loader.load(context, resource);
+
+		properties.getSnapshot().setMode(ConfigClientProperties.Snapshot.Mode.STARTUP);
+		long startupLoads = EnvironmentSnapshots.getStartupLoadCount();
+		Environment changed = new Environment("app", "master");
+		changed.add(new PropertySource("p1", Collections.singletonMap("a", "c")));
+		mockRequestResponseWithLabel(new ResponseEntity<>(changed, HttpStatus.OK), LABEL);
+		ConfigData startup = this.loader.load(context, resource);
+
+		assertThat(startup.getPropertySources())
+			.anySatisfy(source -> assertThat(source.getProperty("a")).isEqualTo("b"));
+		assertThat(EnvironmentSnapshots.getStartupLoadCount()).isEqualTo(startupLoads + 1);
+		Mockito.verify(this.restTemplate, Mockito.timeout(5000).times(2))
+			.exchange(anyString(), any(HttpMethod.class), any(HttpEntity.class), any(Class.class), anyString(),
+					anyString(), anyString());
+
+		// a refresh fetches from the server
+		ConfigData refresh = this.loader.load(context, resource);
+		assertThat(refresh.getPropertySources())
+			.anySatisfy(source -> assertThat(source.getProperty("a")).isEqualTo("c"));
+	}
+
 	@Test
 	public void failFast() throws Exception {
 		ClientHttpRequestFactory requestFactory = mock(ClientHttpRequestFactory.class);
@@ -399,6 +550,98 @@ public class ConfigServerConfigDataLoaderTests {
 		assertThat(this.loader.load(context, resource)).isNotNull();
 	}
 
+	@SuppressWarnings("unchecked")
+	@Test
+	public void hedgedRequestUsesFirstAnswer() {
+		String slowURI = "http://slow:8888";
+		String fastURI = "http://fast:8888";
+		properties.setUri(new String[] { slowURI, fastURI });
+		properties.setHedgeDelay(Duration.ofMillis(100));
+		Environment body = new Environment("app", "master");
+		body.add(new PropertySource("p1", Collections.singletonMap("a", "b")));
+		when(this.restTemplate.exchange(eq(slowURI + "/{name}/{profile}/{label}"), any(HttpMethod.class),
+				any(HttpEntity.class), any(Class.class), anyString(), anyString(), anyString()))
+			.thenAnswer(invocation -> {
+				Thread.sleep(10000);
+				return new ResponseEntity<>(new Environment("app", "master"), HttpStatus.OK);
+			});
+		when(this.restTemplate.exchange(eq(fastURI + "/{name}/{profile}/{label}"), any(HttpMethod.class),
+				any(HttpEntity.class), any(Class.class), anyString(), anyString(), anyString()))
+			.thenReturn(new ResponseEntity<>(body, HttpStatus.OK));
+
+		long start = System.nanoTime();
+		ConfigData configData = this.loader.load(context, resource);
+
+		assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(5));
+		assertThat(configData.getPropertySources())
+			.anySatisfy(source -> assertThat(source.getProperty("a")).isEqualTo("b"));
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void hedgedRequestTriesNextUriOnFailure() {
+		String badURI = "http://bad:8888";
+		String goodURI = "http://good:8888";
+		properties.setUri(new String[] { badURI, goodURI });
+		properties.setHedgeDelay(Duration.ofSeconds(10));
+		when(this.restTemplate.exchange(eq(badURI + "/{name}/{profile}/{label}"), any(HttpMethod.class),
+				any(HttpEntity.class), any(Class.class), anyString(), anyString(), anyString()))
+			.thenThrow(ResourceAccessException.class);
+		when(this.restTemplate.exchange(eq(goodURI + "/{name}/{profile}/{label}"), any(HttpMethod.class),
+				any(HttpEntity.class), any(Class.class), anyString(), anyString(), anyString()))
+			.thenReturn(new ResponseEntity<>(new Environment("app", "master"), HttpStatus.OK));
+
+		long start = System.nanoTime();
+		assertThat(this.loader.load(context, resource)).isNotNull();
+		assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(5));
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void hedgedRequestWaitsForSlowServerWhenNextOneFails() {
+		String slowURI = "http://slow:8888";
+		String failingURI = "http://failing:8888";
+		properties.setUri(new String[] { slowURI, failingURI });
+		properties.setHedgeDelay(Duration.ofMillis(100));
+		Environment body = new Environment("app", "master");
+		body.add(new PropertySource("p1", Collections.singletonMap("a", "b")));
+		when(this.restTemplate.exchange(eq(slowURI + "/{name}/{profile}/{label}"), any(HttpMethod.class),
+				any(HttpEntity.class), any(Class.class), anyString(), anyString(), anyString()))
+			.thenAnswer(invocation -> {
+				Thread.sleep(500);
+				return new ResponseEntity<>(body, HttpStatus.OK);
+			});
+		when(this.restTemplate.exchange(eq(failingURI + "/{name}/{profile}/{label}"), any(HttpMethod.class),
+				any(HttpEntity.class), any(Class.class), anyString(), anyString(), anyString()))
+			.thenThrow(new HttpServerErrorException(HttpStatus.INTERNAL_SERVER_ERROR));
+
+		ConfigData configData = this.loader.load(context, resource);
+
+		assertThat(configData.getPropertySources())
+			.anySatisfy(source -> assertThat(source.getProperty("a")).isEqualTo("b"));
+	}
+
+	@Test
+	public void labelsFetchedConcurrentlyUseFirstLabelFound() {
+		properties.setLabel("first,second,third");
+		properties.setFetchLabelsConcurrently(true);
+		Environment second = new Environment("app", "master");
+		second.add(new PropertySource("p1", Collections.singletonMap("a", "second")));
+		mockRequestResponseWithLabel(new ResponseEntity<>(HttpStatus.NOT_FOUND), "first");
+		Environment third = new Environment("app", "master");
+		third.add(new PropertySource("p1", Collections.singletonMap("a", "third")));
+		mockRequestResponseWithLabel(new ResponseEntity<>(second, HttpStatus.OK), "second");
+		mockRequestResponseWithLabel(new ResponseEntity<>(third, HttpStatus.OK), "third");
+
+		ConfigData configData = this.loader.load(context, resource);
+
+		assertThat(configData.getPropertySources())
+			.anySatisfy(source -> assertThat(source.getProperty("a")).isEqualTo("second"));
+		Mockito.verify(this.restTemplate, Mockito.times(3))
+			.exchange(anyString(), any(HttpMethod.class), any(HttpEntity.class),
+					ArgumentMatchers.<Class<Environment>>any(), anyString(), anyString(), anyString());
+	}
+
 	@Test
 	void nonProfileSpecific() {
 		PropertySource p1 = new PropertySource("p1", new HashMap<>());
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.config.monitor;
+
+import java.util.Map;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.util.MultiValueMap;
+
+/**
+ * Extracts the changed context from an Amazon EventBridge "Parameter Store Change" event,
+ * e.g. forwarded to the monitor endpoint by an API destination. A parameter named
+ * {@code /config/foo-dev/bar} with the prefix {@code /config} is reported as the path
+ * {@code foo-dev}.
+ */
+@Order(Ordered.LOWEST_PRECEDENCE - 50)
+public class AwsParameterStorePropertyPathNotificationExtractor implements PropertyPathNotificationExtractor {
+
+	private static final String SOURCE = "aws.ssm";
+
+	private static final String DETAIL_TYPE = "Parameter Store Change";
+
+	private static final String SEPARATOR = "/";
+
+	private final String prefix;
+
+	/**
+	 * @param prefix the prefix of the parameters read by the config server
+	 */
+	public AwsParameterStorePropertyPathNotificationExtractor(String prefix) {
+		this.prefix = prefix + SEPARATOR;
+	}
+
+	@Override
+	public PropertyPathNotification extract(MultiValueMap<String, String> headers, Map<String, Object> payload) {
+		if (!SOURCE.equals(payload.get("source")) || !DETAIL_TYPE.equals(payload.get("detail-type"))
+				|| !(payload.get("detail") instanceof Map<?, ?> detail)
+				|| !(detail.get("name") instanceof String name) || !name.startsWith(this.prefix)) {
+			return null;
+		}
+		String context = name.substring(this.prefix.length());
+		int separator = context.indexOf(SEPARATOR);
+		if (separator >= 0) {
+			context = context.substring(0, separator);
+		}
+		return context.isEmpty() ? null : new PropertyPathNotification(context);
+	}
+
+}
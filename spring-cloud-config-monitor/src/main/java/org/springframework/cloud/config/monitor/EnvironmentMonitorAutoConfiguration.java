@@ -18,6 +18,7 @@ package org.springframework.cloud.config.monitor;
 
 import java.util.List;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
@@ -27,6 +28,7 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingClas
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.cloud.bus.BusProperties;
+import org.springframework.cloud.config.server.environment.EnvironmentCache;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
@@ -50,17 +52,24 @@ public class EnvironmentMonitorAutoConfiguration {
 
 		@Bean
 		@ConditionalOnBean(BusProperties.class)
-		public PropertyPathEndpoint propertyPathEndpoint(BusProperties busProperties) {
-			return new PropertyPathEndpoint(new CompositePropertyPathNotificationExtractor(this.extractors),
-					busProperties.getId());
+		public PropertyPathEndpoint propertyPathEndpoint(BusProperties busProperties,
+				ObjectProvider<EnvironmentCache> environmentCache) {
+			PropertyPathEndpoint endpoint = new PropertyPathEndpoint(
+					new CompositePropertyPathNotificationExtractor(this.extractors), busProperties.getId());
+			endpoint.setEnvironmentCache(environmentCache.getIfAvailable());
+			return endpoint;
 		}
 
 		// TODO: With the current implementation bus can't be disabled
 		@Bean
 		@ConditionalOnMissingBean(BusProperties.class)
 		public PropertyPathEndpoint noBusBeanPropertyPathEndpoint(
-				@Value("${spring.cloud.bus.id:application}") String id) {
-			return new PropertyPathEndpoint(new CompositePropertyPathNotificationExtractor(this.extractors), id);
+				@Value("${spring.cloud.bus.id:application}") String id,
+				ObjectProvider<EnvironmentCache> environmentCache) {
+			PropertyPathEndpoint endpoint = new PropertyPathEndpoint(
+					new CompositePropertyPathNotificationExtractor(this.extractors), id);
+			endpoint.setEnvironmentCache(environmentCache.getIfAvailable());
+			return endpoint;
 		}
 
 	}
@@ -71,8 +80,12 @@ public class EnvironmentMonitorAutoConfiguration {
 
 		@Bean
 		public PropertyPathEndpoint noBusPropertyPathEndpoint(@Value("${spring.cloud.bus.id:application}") String id,
-				@Autowired(required = false) List<PropertyPathNotificationExtractor> extractors) {
-			return new PropertyPathEndpoint(new CompositePropertyPathNotificationExtractor(extractors), id);
+				@Autowired(required = false) List<PropertyPathNotificationExtractor> extractors,
+				ObjectProvider<EnvironmentCache> environmentCache) {
+			PropertyPathEndpoint endpoint = new PropertyPathEndpoint(
+					new CompositePropertyPathNotificationExtractor(extractors), id);
+			endpoint.setEnvironmentCache(environmentCache.getIfAvailable());
+			return endpoint;
 		}
 
 	}
@@ -122,6 +135,14 @@ public class EnvironmentMonitorAutoConfiguration {
 			return new GogsPropertyPathNotificationExtractor();
 		}
 
+		@Bean
+		@ConditionalOnProperty(value = "spring.cloud.config.server.monitor.awsparamstore.enabled",
+				havingValue = "true", matchIfMissing = true)
+		public AwsParameterStorePropertyPathNotificationExtractor awsParameterStorePropertyPathNotificationExtractor(
+				@Value("${spring.cloud.config.server.awsparamstore.prefix:/config}") String prefix) {
+			return new AwsParameterStorePropertyPathNotificationExtractor(prefix);
+		}
+
 	}
 
 }
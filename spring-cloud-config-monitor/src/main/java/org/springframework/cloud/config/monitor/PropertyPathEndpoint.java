@@ -16,6 +16,7 @@
 
 package org.springframework.cloud.config.monitor;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashSet;
@@ -27,6 +28,8 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
 import org.springframework.cloud.bus.event.RefreshRemoteApplicationEvent;
+import org.springframework.cloud.config.server.environment.EnvironmentCache;
+import org.springframework.cloud.config.server.environment.PropertyPathChangeEvent;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.ApplicationEventPublisherAware;
 import org.springframework.http.HttpHeaders;
@@ -57,6 +60,8 @@ public class PropertyPathEndpoint implements ApplicationEventPublisherAware {
 
 	private String busId;
 
+	private EnvironmentCache environmentCache;
+
 	public PropertyPathEndpoint(PropertyPathNotificationExtractor extractor, String busId) {
 		this.extractor = extractor;
 		this.busId = busId;
@@ -66,6 +71,14 @@ public class PropertyPathEndpoint implements ApplicationEventPublisherAware {
 		return this.busId;
 	}
 
+	/**
+	 * @param environmentCache cache of environment responses to evict from when a
+	 * notification arrives
+	 */
+	public void setEnvironmentCache(EnvironmentCache environmentCache) {
+		this.environmentCache = environmentCache;
+	}
+
 	@Override
 	public void setApplicationEventPublisher(ApplicationEventPublisher applicationEventPublisher) {
 		this.applicationEventPublisher = applicationEventPublisher;
@@ -81,7 +94,14 @@ public class PropertyPathEndpoint implements ApplicationEventPublisherAware {
 			for (String path : notification.getPaths()) {
 				services.addAll(guessServiceName(path));
 			}
+			if (this.environmentCache != null) {
+				for (String service : services) {
+					this.environmentCache.evict(service);
+				}
+			}
 			if (this.applicationEventPublisher != null) {
+				this.applicationEventPublisher.publishEvent(
+						new PropertyPathChangeEvent(this, new LinkedHashSet<>(Arrays.asList(notification.getPaths()))));
 				for (String service : services) {
 					log.info("Refresh for: " + service);
 					this.applicationEventPublisher
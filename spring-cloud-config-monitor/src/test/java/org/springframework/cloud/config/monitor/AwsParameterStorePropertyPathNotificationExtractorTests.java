@@ -0,0 +1,64 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.config.monitor;
+
+import java.util.Map;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.HttpHeaders;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AwsParameterStorePropertyPathNotificationExtractorTests {
+
+	private HttpHeaders headers = new HttpHeaders();
+
+	@Test
+	public void parameterStoreChangeSample() throws Exception {
+		PropertyPathNotification extracted = new AwsParameterStorePropertyPathNotificationExtractor("/config")
+			.extract(this.headers, sample());
+		assertThat(extracted).isNotNull();
+		assertThat(extracted.getPaths()).containsExactly("foo-dev");
+	}
+
+	@Test
+	public void parameterOutsideOfPrefixNotDetected() throws Exception {
+		PropertyPathNotification extracted = new AwsParameterStorePropertyPathNotificationExtractor("/other")
+			.extract(this.headers, sample());
+		assertThat(extracted).isNull();
+	}
+
+	@Test
+	public void otherEventNotDetected() throws Exception {
+		Map<String, Object> value = sample();
+		value.put("detail-type", "Parameter Store Policy Action");
+		PropertyPathNotification extracted = new AwsParameterStorePropertyPathNotificationExtractor("/config")
+			.extract(this.headers, value);
+		assertThat(extracted).isNull();
+	}
+
+	private Map<String, Object> sample() throws Exception {
+		return new ObjectMapper().readValue(new ClassPathResource("pathsamples/awsparamstore.json").getInputStream(),
+				new TypeReference<Map<String, Object>>() {
+				});
+	}
+
+}
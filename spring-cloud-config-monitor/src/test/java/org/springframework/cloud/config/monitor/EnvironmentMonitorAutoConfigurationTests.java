@@ -48,7 +48,7 @@ public class EnvironmentMonitorAutoConfigurationTests {
 		PropertyPathEndpoint endpoint = context.getBean(PropertyPathEndpoint.class);
 		assertThat(((Collection<?>) ReflectionTestUtils.getField(ReflectionTestUtils.getField(endpoint, "extractor"),
 				"extractors")))
-			.hasSize(7);
+			.hasSize(8);
 		context.close();
 	}
 
@@ -63,7 +63,7 @@ public class EnvironmentMonitorAutoConfigurationTests {
 		PropertyPathEndpoint endpoint = context.getBean(PropertyPathEndpoint.class);
 		assertThat(((Collection<?>) ReflectionTestUtils.getField(ReflectionTestUtils.getField(endpoint, "extractor"),
 				"extractors")))
-			.hasSize(8);
+			.hasSize(9);
 		context.close();
 	}
 
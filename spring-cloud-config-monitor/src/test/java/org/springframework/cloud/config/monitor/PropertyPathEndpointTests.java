@@ -19,10 +19,12 @@ package org.springframework.cloud.config.monitor;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import org.springframework.cloud.config.server.environment.PropertyPathChangeEvent;
 import org.springframework.context.support.StaticApplicationContext;
 import org.springframework.http.HttpHeaders;
 
@@ -103,4 +105,21 @@ public class PropertyPathEndpointTests {
 			.toString()).isEqualTo("[foo-local-dev, foo-local, foo]");
 	}
 
+	@Test
+	public void testNotifyPublishesChangedPaths() {
+		List<PropertyPathChangeEvent> events = new ArrayList<>();
+		StaticApplicationContext publisher = new StaticApplicationContext();
+		publisher.addApplicationListener(event -> {
+			if (event instanceof PropertyPathChangeEvent change) {
+				events.add(change);
+			}
+		});
+		publisher.refresh();
+		this.endpoint.setApplicationEventPublisher(publisher);
+		this.endpoint.notifyByPath(new HttpHeaders(), Collections.singletonMap("path", "foo-local.yml"));
+		assertThat(events).singleElement()
+			.extracting(PropertyPathChangeEvent::getPaths)
+			.isEqualTo(Set.of("foo-local.yml"));
+	}
+
 }
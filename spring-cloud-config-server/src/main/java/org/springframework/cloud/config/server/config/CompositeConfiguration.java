@@ -47,9 +47,9 @@ public class CompositeConfiguration {
 			@Autowired(required = false) List<EnvironmentRepository> environmentRepos,
 			ConfigServerProperties properties, ObjectProvider<ObservationRegistry> observationRegistry) {
 		environmentRepos = environmentRepos != null ? environmentRepos : new ArrayList<>();
-		return new SearchPathCompositeEnvironmentRepository(environmentRepos,
+		return configure(new SearchPathCompositeEnvironmentRepository(environmentRepos,
 				observationRegistry.getIfAvailable(() -> ObservationRegistry.NOOP),
-				properties.isFailOnCompositeError());
+				properties.isFailOnCompositeError()), properties);
 	}
 
 	@Bean
@@ -59,9 +59,26 @@ public class CompositeConfiguration {
 			@Autowired(required = false) List<EnvironmentRepository> environmentRepos,
 			ConfigServerProperties properties, ObjectProvider<ObservationRegistry> observationRegistry) {
 		environmentRepos = environmentRepos != null ? environmentRepos : new ArrayList<>();
-		return new CompositeEnvironmentRepository(environmentRepos,
+		return configure(new CompositeEnvironmentRepository(environmentRepos,
 				observationRegistry.getIfAvailable(() -> ObservationRegistry.NOOP),
-				properties.isFailOnCompositeError());
+				properties.isFailOnCompositeError()), properties);
+	}
+
+	/**
+	 * Apply the {@link ConfigServerProperties.ParallelComposite} properties to a
+	 * composite.
+	 * @param repository the composite
+	 * @param properties the config server properties
+	 * @param <T> the type of the composite
+	 * @return the composite
+	 */
+	static <T extends CompositeEnvironmentRepository> T configure(T repository, ConfigServerProperties properties) {
+		ConfigServerProperties.ParallelComposite parallel = properties.getParallelComposite();
+		if (parallel.isEnabled()) {
+			repository.setMaxConcurrency(parallel.getMaxConcurrency());
+			repository.setTimeout(parallel.getTimeout());
+		}
+		return repository;
 	}
 
 }
@@ -26,12 +26,21 @@ import io.micrometer.observation.ObservationRegistry;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.cloud.config.server.encryption.EnvironmentEncryptor;
 import org.springframework.cloud.config.server.encryption.ResourceEncryptor;
+import org.springframework.cloud.config.server.environment.CachingEnvironmentRepository;
+import org.springframework.cloud.config.server.environment.ConfigTokenProvider;
+import org.springframework.cloud.config.server.environment.EnvironmentCache;
+import org.springframework.cloud.config.server.environment.EnvironmentChangeController;
+import org.springframework.cloud.config.server.environment.EnvironmentChangeNotifier;
+import org.springframework.cloud.config.server.environment.EnvironmentCompressionFilter;
 import org.springframework.cloud.config.server.environment.EnvironmentController;
+import org.springframework.cloud.config.server.environment.EnvironmentControllerAdvice;
 import org.springframework.cloud.config.server.environment.EnvironmentEncryptorEnvironmentRepository;
 import org.springframework.cloud.config.server.environment.EnvironmentRepository;
+import org.springframework.cloud.config.server.environment.SearchPathLocator;
 import org.springframework.cloud.config.server.resource.ResourceController;
 import org.springframework.cloud.config.server.resource.ResourceControllerAdvice;
 import org.springframework.cloud.config.server.resource.ResourceRepository;
@@ -58,6 +67,13 @@ public class ConfigServerMvcConfiguration implements WebMvcConfigurer {
 		configurer.mediaType("yaml", MediaType.valueOf("text/yaml"));
 	}
 
+	@Bean
+	@ConditionalOnProperty(ConfigServerProperties.PREFIX + ".compression.enabled")
+	public EnvironmentCompressionFilter environmentCompressionFilter(ConfigServerProperties server) {
+		return new EnvironmentCompressionFilter(server.getCompression().getMinResponseSize().toBytes(),
+				server.getCompression().getMaxSize());
+	}
+
 	@Configuration(proxyBeanMethods = false)
 	@ConditionalOnMissingBean(org.springframework.cloud.context.scope.refresh.RefreshScope.class)
 	static class EnvironmentControllerConfiguration {
@@ -74,6 +90,12 @@ public class ConfigServerMvcConfiguration implements WebMvcConfigurer {
 		@Autowired(required = false)
 		private ObservationRegistry observationRegistry = ObservationRegistry.NOOP;
 
+		@Autowired(required = false)
+		private EnvironmentCache environmentCache;
+
+		@Autowired(required = false)
+		private ConfigTokenProvider configTokenProvider;
+
 		@Bean
 		public EnvironmentController environmentController(EnvironmentRepository envRepository,
 				ConfigServerProperties server) {
@@ -82,13 +104,33 @@ public class ConfigServerMvcConfiguration implements WebMvcConfigurer {
 
 		protected EnvironmentController delegateController(EnvironmentRepository envRepository,
 				ConfigServerProperties server) {
-			EnvironmentController controller = new EnvironmentController(encrypted(envRepository, server),
+			EnvironmentController controller = new EnvironmentController(cached(envRepository, server),
 					this.objectMapper);
 			controller.setStripDocumentFromYaml(server.isStripDocumentFromYaml());
 			controller.setAcceptEmpty(server.isAcceptEmpty());
 			return controller;
 		}
 
+		@Bean
+		@ConditionalOnProperty(value = ConfigServerProperties.PREFIX + ".etag.enabled", matchIfMissing = true)
+		public EnvironmentControllerAdvice environmentControllerAdvice() {
+			return new EnvironmentControllerAdvice();
+		}
+
+		@Bean
+		@ConditionalOnProperty(ConfigServerProperties.PREFIX + ".notifications.enabled")
+		public EnvironmentChangeNotifier environmentChangeNotifier(EnvironmentRepository envRepository,
+				ConfigServerProperties server) {
+			return new EnvironmentChangeNotifier(cached(envRepository, server),
+					server.getNotifications().getCheckInterval(), server.getNotifications().getTimeout());
+		}
+
+		@Bean
+		@ConditionalOnProperty(ConfigServerProperties.PREFIX + ".notifications.enabled")
+		public EnvironmentChangeController environmentChangeController(EnvironmentChangeNotifier notifier) {
+			return new EnvironmentChangeController(notifier);
+		}
+
 		@Bean
 		@ConditionalOnBean(ResourceRepository.class)
 		public ResourceController resourceController(ResourceRepository repository, EnvironmentRepository envRepository,
@@ -106,6 +148,19 @@ public class ConfigServerMvcConfiguration implements WebMvcConfigurer {
 			return new ResourceControllerAdvice();
 		}
 
+		private EnvironmentRepository cached(EnvironmentRepository envRepository, ConfigServerProperties server) {
+			EnvironmentRepository encrypted = encrypted(envRepository, server);
+			if (this.environmentCache == null) {
+				return encrypted;
+			}
+			CachingEnvironmentRepository cached = new CachingEnvironmentRepository(encrypted, this.environmentCache);
+			if (envRepository instanceof SearchPathLocator versionLocator) {
+				cached.setVersionLocator(versionLocator);
+			}
+			cached.setTokenProvider(this.configTokenProvider);
+			return cached;
+		}
+
 		private EnvironmentRepository encrypted(EnvironmentRepository envRepository, ConfigServerProperties server) {
 			EnvironmentEncryptorEnvironmentRepository encrypted = new EnvironmentEncryptorEnvironmentRepository(
 					envRepository, this.environmentEncryptors, this.observationRegistry);
@@ -16,11 +16,13 @@
 
 package org.springframework.cloud.config.server.config;
 
+import java.time.Duration;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.core.style.ToStringCreator;
+import org.springframework.util.unit.DataSize;
 
 /**
  * @author Dave Syer
@@ -109,6 +111,36 @@ public class ConfigServerProperties {
 	 */
 	private Encrypt encrypt = new Encrypt();
 
+	/**
+	 * Caching of environment responses served by the config server.
+	 */
+	private Cache cache = new Cache();
+
+	/**
+	 * Caching of parsed configuration files.
+	 */
+	private DocumentCache documentCache = new DocumentCache();
+
+	/**
+	 * Conditional requests on the environment endpoints.
+	 */
+	private Etag etag = new Etag();
+
+	/**
+	 * Compression of the environment responses.
+	 */
+	private Compression compression = new Compression();
+
+	/**
+	 * Streams of environment change notifications.
+	 */
+	private Notifications notifications = new Notifications();
+
+	/**
+	 * Concurrent querying of the repositories of a composite.
+	 */
+	private ParallelComposite parallelComposite = new ParallelComposite();
+
 	public boolean isEnabled() {
 		return this.enabled;
 	}
@@ -121,6 +153,30 @@ public class ConfigServerProperties {
 		return this.encrypt;
 	}
 
+	public Cache getCache() {
+		return this.cache;
+	}
+
+	public DocumentCache getDocumentCache() {
+		return this.documentCache;
+	}
+
+	public Etag getEtag() {
+		return this.etag;
+	}
+
+	public Compression getCompression() {
+		return this.compression;
+	}
+
+	public Notifications getNotifications() {
+		return this.notifications;
+	}
+
+	public ParallelComposite getParallelComposite() {
+		return this.parallelComposite;
+	}
+
 	public String getDefaultLabel() {
 		return this.defaultLabel;
 	}
@@ -215,6 +271,12 @@ public class ConfigServerProperties {
 			.append("failOnCompositeError", failOnCompositeError)
 			.append("encrypt", encrypt)
 			.append("reverseLocationOrder", reverseLocationOrder)
+			.append("cache", cache)
+			.append("documentCache", documentCache)
+			.append("etag", etag)
+			.append("compression", compression)
+			.append("notifications", notifications)
+			.append("parallelComposite", parallelComposite)
 			.toString();
 
 	}
@@ -261,4 +323,300 @@ public class ConfigServerProperties {
 
 	}
 
+	/**
+	 * Environment cache properties.
+	 */
+	public static class Cache {
+
+		/**
+		 * Enable caching of environment responses. Entries are keyed by application,
+		 * profiles, label, includeOrigin, config token and the version resolved by the
+		 * backend.
+		 */
+		private boolean enabled = false;
+
+		/**
+		 * Maximum number of cached environments.
+		 */
+		private int maxSize = 1000;
+
+		/**
+		 * Maximum time an entry is served before the backend is asked again, even if the
+		 * version has not changed. A zero or negative value means no time limit.
+		 */
+		private Duration timeToLive = Duration.ofMinutes(5);
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public int getMaxSize() {
+			return this.maxSize;
+		}
+
+		public void setMaxSize(int maxSize) {
+			this.maxSize = maxSize;
+		}
+
+		public Duration getTimeToLive() {
+			return this.timeToLive;
+		}
+
+		public void setTimeToLive(Duration timeToLive) {
+			this.timeToLive = timeToLive;
+		}
+
+		@Override
+		public String toString() {
+			return new ToStringCreator(this).append("enabled", enabled)
+				.append("maxSize", maxSize)
+				.append("timeToLive", timeToLive)
+				.toString();
+
+		}
+
+	}
+
+	/**
+	 * Parsed configuration file cache properties.
+	 */
+	public static class DocumentCache {
+
+		/**
+		 * Enable caching of parsed configuration files. Entries are keyed by the git blob
+		 * id of a file, or by its modification time and size for files on disk, so only
+		 * files that changed are parsed again.
+		 */
+		private boolean enabled = false;
+
+		/**
+		 * Maximum number of cached files.
+		 */
+		private int maxSize = 1000;
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public int getMaxSize() {
+			return this.maxSize;
+		}
+
+		public void setMaxSize(int maxSize) {
+			this.maxSize = maxSize;
+		}
+
+		@Override
+		public String toString() {
+			return new ToStringCreator(this).append("enabled", enabled).append("maxSize", maxSize).toString();
+
+		}
+
+	}
+
+	/**
+	 * Environment ETag properties.
+	 */
+	public static class Etag {
+
+		/**
+		 * Send an ETag with every environment and answer requests carrying a matching
+		 * If-None-Match header with 304 Not Modified instead of the environment.
+		 */
+		private boolean enabled = true;
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		@Override
+		public String toString() {
+			return new ToStringCreator(this).append("enabled", enabled).toString();
+
+		}
+
+	}
+
+	/**
+	 * Environment response compression properties.
+	 */
+	public static class Compression {
+
+		/**
+		 * Compress the environment responses with gzip for the clients that accept it.
+		 * The compressed bodies are cached, so an unchanged environment is only
+		 * compressed once.
+		 */
+		private boolean enabled = false;
+
+		/**
+		 * Minimum size of a response body to compress it.
+		 */
+		private DataSize minResponseSize = DataSize.ofKilobytes(2);
+
+		/**
+		 * Maximum number of cached compressed bodies.
+		 */
+		private int maxSize = 100;
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public DataSize getMinResponseSize() {
+			return this.minResponseSize;
+		}
+
+		public void setMinResponseSize(DataSize minResponseSize) {
+			this.minResponseSize = minResponseSize;
+		}
+
+		public int getMaxSize() {
+			return this.maxSize;
+		}
+
+		public void setMaxSize(int maxSize) {
+			this.maxSize = maxSize;
+		}
+
+		@Override
+		public String toString() {
+			return new ToStringCreator(this).append("enabled", enabled)
+				.append("minResponseSize", minResponseSize)
+				.append("maxSize", maxSize)
+				.toString();
+		}
+
+	}
+
+	/**
+	 * Environment change notification properties.
+	 */
+	public static class Notifications {
+
+		/**
+		 * Serve streams of Server-Sent Events notifying clients when the environment of an
+		 * application, profiles and label changes.
+		 */
+		private boolean enabled = false;
+
+		/**
+		 * Time between two checks of the environments clients are subscribed to. Each
+		 * environment is checked once per interval whatever the number of subscribers.
+		 */
+		private Duration checkInterval = Duration.ofSeconds(30);
+
+		/**
+		 * Time after which a stream is closed, clients then subscribe again.
+		 */
+		private Duration timeout = Duration.ofMinutes(30);
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public Duration getCheckInterval() {
+			return this.checkInterval;
+		}
+
+		public void setCheckInterval(Duration checkInterval) {
+			this.checkInterval = checkInterval;
+		}
+
+		public Duration getTimeout() {
+			return this.timeout;
+		}
+
+		public void setTimeout(Duration timeout) {
+			this.timeout = timeout;
+		}
+
+		@Override
+		public String toString() {
+			return new ToStringCreator(this).append("enabled", enabled)
+				.append("checkInterval", checkInterval)
+				.append("timeout", timeout)
+				.toString();
+		}
+
+	}
+
+	/**
+	 * Composite repository concurrency properties.
+	 */
+	public static class ParallelComposite {
+
+		/**
+		 * Query the repositories of a composite concurrently instead of one after the
+		 * other. Property sources are still merged in the order of the repositories.
+		 */
+		private boolean enabled = false;
+
+		/**
+		 * Maximum number of repository queries running at the same time, across all
+		 * requests.
+		 */
+		private int maxConcurrency = 64;
+
+		/**
+		 * How long to wait for each repository. A repository that does not answer in
+		 * time is treated like one that failed. Zero waits as long as it takes.
+		 */
+		private Duration timeout = Duration.ZERO;
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public int getMaxConcurrency() {
+			return this.maxConcurrency;
+		}
+
+		public void setMaxConcurrency(int maxConcurrency) {
+			this.maxConcurrency = maxConcurrency;
+		}
+
+		public Duration getTimeout() {
+			return this.timeout;
+		}
+
+		public void setTimeout(Duration timeout) {
+			this.timeout = timeout;
+		}
+
+		@Override
+		public String toString() {
+			return new ToStringCreator(this).append("enabled", enabled)
+				.append("maxConcurrency", maxConcurrency)
+				.append("timeout", timeout)
+				.toString();
+
+		}
+
+	}
+
 }
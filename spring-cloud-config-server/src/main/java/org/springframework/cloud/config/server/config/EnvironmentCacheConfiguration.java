@@ -0,0 +1,74 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.config.server.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cloud.config.server.environment.EnvironmentCache;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration of the {@link EnvironmentCache} used by the environment endpoints.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(value = ConfigServerProperties.PREFIX + ".cache.enabled", havingValue = "true")
+public class EnvironmentCacheConfiguration {
+
+	/**
+	 * Prefix of the metrics published for the environment cache.
+	 */
+	public static final String METRIC_PREFIX = "spring.cloud.config.environment.cache";
+
+	@Bean
+	@ConditionalOnMissingBean
+	public EnvironmentCache environmentCache(ConfigServerProperties server) {
+		return new EnvironmentCache(server.getCache().getMaxSize(), server.getCache().getTimeToLive());
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	@ConditionalOnClass(MeterBinder.class)
+	static class EnvironmentCacheMetricsConfiguration {
+
+		@Bean
+		public MeterBinder environmentCacheMeterBinder(EnvironmentCache cache) {
+			return registry -> {
+				FunctionCounter.builder(METRIC_PREFIX + ".gets", cache, EnvironmentCache::getHitCount)
+					.tag("result", "hit")
+					.description("Number of environment requests served from the cache")
+					.register(registry);
+				FunctionCounter.builder(METRIC_PREFIX + ".gets", cache, EnvironmentCache::getMissCount)
+					.tag("result", "miss")
+					.description("Number of environment requests that had to call the backend")
+					.register(registry);
+				FunctionCounter.builder(METRIC_PREFIX + ".evictions", cache, EnvironmentCache::getEvictionCount)
+					.description("Number of cached environments dropped")
+					.register(registry);
+				Gauge.builder(METRIC_PREFIX + ".size", cache, EnvironmentCache::size)
+					.description("Number of cached environments")
+					.register(registry);
+			};
+		}
+
+	}
+
+}
@@ -16,10 +16,16 @@
 
 package org.springframework.cloud.config.server.config;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 import com.google.cloud.secretmanager.v1.SecretManagerServiceClient;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import io.micrometer.observation.ObservationRegistry;
 import jakarta.servlet.http.HttpServletRequest;
 import org.apache.http.client.HttpClient;
@@ -29,6 +35,7 @@ import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.secretsmanager.SecretsManagerClient;
 import software.amazon.awssdk.services.ssm.SsmClient;
 
+import org.springframework.beans.factory.ListableBeanFactory;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.actuate.health.AbstractHealthIndicator;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
@@ -41,6 +48,7 @@ import org.springframework.boot.context.properties.EnableConfigurationProperties
 import org.springframework.cloud.config.server.composite.CompositeEnvironmentBeanFactoryPostProcessor;
 import org.springframework.cloud.config.server.composite.ConditionalOnMissingSearchPathLocator;
 import org.springframework.cloud.config.server.composite.ConditionalOnSearchPathLocator;
+import org.springframework.cloud.config.server.environment.AbstractVaultEnvironmentRepository;
 import org.springframework.cloud.config.server.environment.AwsParameterStoreEnvironmentProperties;
 import org.springframework.cloud.config.server.environment.AwsParameterStoreEnvironmentRepository;
 import org.springframework.cloud.config.server.environment.AwsParameterStoreEnvironmentRepositoryFactory;
@@ -66,6 +74,7 @@ import org.springframework.cloud.config.server.environment.HttpClient4BuilderCus
 import org.springframework.cloud.config.server.environment.HttpClientConfigurableHttpConnectionFactory;
 import org.springframework.cloud.config.server.environment.HttpClientVaultRestTemplateFactory;
 import org.springframework.cloud.config.server.environment.HttpRequestConfigTokenProvider;
+import org.springframework.cloud.config.server.environment.JGitEnvironmentRepository;
 import org.springframework.cloud.config.server.environment.JdbcEnvironmentProperties;
 import org.springframework.cloud.config.server.environment.JdbcEnvironmentRepository;
 import org.springframework.cloud.config.server.environment.JdbcEnvironmentRepositoryFactory;
@@ -128,12 +137,12 @@ import org.springframework.vault.core.VaultTemplate;
 		AwsSecretsManagerEnvironmentProperties.class, AwsParameterStoreEnvironmentProperties.class,
 		GoogleSecretManagerEnvironmentProperties.class, MongoDbEnvironmentProperties.class })
 @Import({ CompositeRepositoryConfiguration.class, JdbcRepositoryConfiguration.class, VaultConfiguration.class,
-		VaultRepositoryConfiguration.class, SpringVaultRepositoryConfiguration.class, CredhubConfiguration.class,
-		CredhubRepositoryConfiguration.class, SvnRepositoryConfiguration.class, NativeRepositoryConfiguration.class,
-		GitRepositoryConfiguration.class, RedisRepositoryConfiguration.class, GoogleCloudSourceConfiguration.class,
-		AwsS3RepositoryConfiguration.class, AwsSecretsManagerRepositoryConfiguration.class,
-		AwsParameterStoreRepositoryConfiguration.class, GoogleSecretManagerRepositoryConfiguration.class,
-		MongoRepositoryConfiguration.class,
+		VaultRepositoryConfiguration.class, SpringVaultRepositoryConfiguration.class, VaultMetricsConfiguration.class,
+		GitMetricsConfiguration.class, CredhubConfiguration.class, CredhubRepositoryConfiguration.class,
+		SvnRepositoryConfiguration.class, NativeRepositoryConfiguration.class, GitRepositoryConfiguration.class,
+		RedisRepositoryConfiguration.class, GoogleCloudSourceConfiguration.class, AwsS3RepositoryConfiguration.class,
+		AwsSecretsManagerRepositoryConfiguration.class, AwsParameterStoreRepositoryConfiguration.class,
+		GoogleSecretManagerRepositoryConfiguration.class, MongoRepositoryConfiguration.class,
 		// DefaultRepositoryConfiguration must be last
 		DefaultRepositoryConfiguration.class })
 public class EnvironmentRepositoryConfiguration {
@@ -520,6 +529,71 @@ class SpringVaultRepositoryConfiguration {
 
 }
 
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnClass(MeterBinder.class)
+@Profile("vault")
+class VaultMetricsConfiguration {
+
+	/**
+	 * Prefix of the metrics published for the Vault environment repository.
+	 */
+	static final String METRIC_PREFIX = "spring.cloud.config.vault";
+
+	@Bean
+	public MeterBinder vaultEnvironmentRepositoryMeterBinder(ListableBeanFactory beanFactory) {
+		// a composite can hold several Vault repositories, each is tagged with its name
+		return registry -> beanFactory.getBeansOfType(AbstractVaultEnvironmentRepository.class)
+			.forEach((name, vault) -> {
+				FunctionCounter
+					.builder(METRIC_PREFIX + ".cache.gets", vault,
+							AbstractVaultEnvironmentRepository::getCacheHitCount)
+					.tag("repository", name)
+					.tag("result", "hit")
+					.description("Number of Vault keys served from the cache")
+					.register(registry);
+				FunctionCounter
+					.builder(METRIC_PREFIX + ".cache.gets", vault,
+							AbstractVaultEnvironmentRepository::getCacheMissCount)
+					.tag("repository", name)
+					.tag("result", "miss")
+					.description("Number of Vault keys that were not cached")
+					.register(registry);
+				FunctionTimer
+					.builder(METRIC_PREFIX + ".reads", vault, AbstractVaultEnvironmentRepository::getReadCount,
+							AbstractVaultEnvironmentRepository::getReadTime, TimeUnit.NANOSECONDS)
+					.tag("repository", name)
+					.description("Keys read from Vault")
+					.register(registry);
+			});
+	}
+
+}
+
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnClass(MeterBinder.class)
+class GitMetricsConfiguration {
+
+	/**
+	 * Prefix of the metrics published for the Git environment repository.
+	 */
+	static final String METRIC_PREFIX = "spring.cloud.config.git";
+
+	@Bean
+	public MeterBinder gitEnvironmentRepositoryMeterBinder(ObjectProvider<JGitEnvironmentRepository> repository) {
+		return registry -> repository.ifUnique(git -> Gauge
+			.builder(METRIC_PREFIX + ".staleness", git, GitMetricsConfiguration::staleness)
+			.baseUnit("seconds")
+			.description("Time since the Git repository was last fetched")
+			.register(registry));
+	}
+
+	private static double staleness(JGitEnvironmentRepository repository) {
+		Duration staleness = repository.getStaleness();
+		return staleness != null ? staleness.toMillis() / 1000.0 : Double.NaN;
+	}
+
+}
+
 @Configuration(proxyBeanMethods = false)
 @Profile("credhub")
 class CredhubRepositoryConfiguration {
@@ -577,9 +651,9 @@ class CompositeRepositoryConfiguration {
 	public SearchPathCompositeEnvironmentRepository searchPathCompositeEnvironmentRepository(
 			List<EnvironmentRepository> environmentRepositories, ConfigServerProperties properties,
 			ObjectProvider<ObservationRegistry> observationRegistry) {
-		return new SearchPathCompositeEnvironmentRepository(environmentRepositories,
+		return CompositeConfiguration.configure(new SearchPathCompositeEnvironmentRepository(environmentRepositories,
 				observationRegistry.getIfAvailable(() -> ObservationRegistry.NOOP),
-				properties.isFailOnCompositeError());
+				properties.isFailOnCompositeError()), properties);
 	}
 
 	@Primary
@@ -588,9 +662,9 @@ class CompositeRepositoryConfiguration {
 	public CompositeEnvironmentRepository compositeEnvironmentRepository(
 			List<EnvironmentRepository> environmentRepositories, ConfigServerProperties properties,
 			ObjectProvider<ObservationRegistry> observationRegistry) {
-		return new CompositeEnvironmentRepository(environmentRepositories,
+		return CompositeConfiguration.configure(new CompositeEnvironmentRepository(environmentRepositories,
 				observationRegistry.getIfAvailable(() -> ObservationRegistry.NOOP),
-				properties.isFailOnCompositeError());
+				properties.isFailOnCompositeError()), properties);
 	}
 
 }
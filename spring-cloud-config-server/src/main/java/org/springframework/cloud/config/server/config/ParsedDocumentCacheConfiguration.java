@@ -0,0 +1,96 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.config.server.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cloud.config.server.environment.AbstractScmEnvironmentRepository;
+import org.springframework.cloud.config.server.environment.NativeEnvironmentRepository;
+import org.springframework.cloud.config.server.environment.ParsedDocumentCache;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration of the {@link ParsedDocumentCache} shared by the file based environment
+ * repositories.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(value = ConfigServerProperties.PREFIX + ".document-cache.enabled", havingValue = "true")
+public class ParsedDocumentCacheConfiguration {
+
+	/**
+	 * Prefix of the metrics published for the parsed document cache.
+	 */
+	public static final String METRIC_PREFIX = "spring.cloud.config.document.cache";
+
+	@Bean
+	@ConditionalOnMissingBean
+	public ParsedDocumentCache parsedDocumentCache(ConfigServerProperties server) {
+		return new ParsedDocumentCache(server.getDocumentCache().getMaxSize());
+	}
+
+	@Bean
+	public static BeanPostProcessor parsedDocumentCacheBeanPostProcessor(ObjectProvider<ParsedDocumentCache> cache) {
+		return new BeanPostProcessor() {
+			@Override
+			public Object postProcessBeforeInitialization(Object bean, String beanName) {
+				if (bean instanceof NativeEnvironmentRepository repository) {
+					repository.setParsedDocumentCache(cache.getObject());
+				}
+				else if (bean instanceof AbstractScmEnvironmentRepository repository) {
+					repository.setParsedDocumentCache(cache.getObject());
+				}
+				return bean;
+			}
+		};
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	@ConditionalOnClass(MeterBinder.class)
+	static class ParsedDocumentCacheMetricsConfiguration {
+
+		@Bean
+		public MeterBinder parsedDocumentCacheMeterBinder(ParsedDocumentCache cache) {
+			return registry -> {
+				FunctionCounter.builder(METRIC_PREFIX + ".gets", cache, ParsedDocumentCache::getHitCount)
+					.tag("result", "hit")
+					.description("Number of configuration files served from the cache")
+					.register(registry);
+				FunctionCounter.builder(METRIC_PREFIX + ".gets", cache, ParsedDocumentCache::getMissCount)
+					.tag("result", "miss")
+					.description("Number of configuration files that had to be parsed")
+					.register(registry);
+				FunctionCounter.builder(METRIC_PREFIX + ".parse.saved", cache, ParsedDocumentCache::getSavedParseTime)
+					.baseUnit("seconds")
+					.description("Time that would have been spent parsing the files served from the cache")
+					.register(registry);
+				Gauge.builder(METRIC_PREFIX + ".size", cache, ParsedDocumentCache::size)
+					.description("Number of cached configuration files")
+					.register(registry);
+			};
+		}
+
+	}
+
+}
@@ -19,6 +19,10 @@ package org.springframework.cloud.config.server.environment;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import io.micrometer.observation.ObservationRegistry;
@@ -43,6 +47,16 @@ public abstract class AbstractScmEnvironmentRepository extends AbstractScmAccess
 
 	private final ObservationRegistry observationRegistry;
 
+	/**
+	 * Guards the working copy. Reading an already prepared working copy only needs the
+	 * read lock, updating it (fetch, checkout, merge) needs the write lock.
+	 */
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+	private ParsedDocumentCache parsedDocumentCache;
+
+	private boolean lightweightLoader;
+
 	public AbstractScmEnvironmentRepository(ConfigurableEnvironment environment,
 			ObservationRegistry observationRegistry) {
 		super(environment);
@@ -53,16 +67,17 @@ public abstract class AbstractScmEnvironmentRepository extends AbstractScmAccess
 			AbstractScmAccessorProperties properties, ObservationRegistry observationRegistry) {
 		super(environment, properties);
 		this.order = properties.getOrder();
+		this.lightweightLoader = properties.isLightweightLoader();
 		this.observationRegistry = observationRegistry;
 	}
 
 	@Override
-	public synchronized Environment findOne(String application, String profile, String label) {
+	public Environment findOne(String application, String profile, String label) {
 		return findOne(application, profile, label, false);
 	}
 
 	@Override
-	public synchronized Environment findOne(String application, String profile, String label, boolean includeOrigin) {
+	public Environment findOne(String application, String profile, String label, boolean includeOrigin) {
 		var environment = new Environment(application, StringUtils.commaDelimitedListToStringArray(profile), label, "",
 				"");
 
@@ -76,15 +91,117 @@ public abstract class AbstractScmEnvironmentRepository extends AbstractScmAccess
 	}
 
 	private Environment findOneInternal(String application, String profile, String label, boolean includeOrigin) {
+		return readLocations(application, profile, label,
+				locations -> load(application, profile, locations, includeOrigin));
+	}
+
+	/**
+	 * Reads the working copy with the read lock held, so that no other request updates
+	 * it in the meantime.
+	 */
+	@Override
+	public <T> T readLocations(String application, String profile, String label, Function<Locations, T> reader) {
+		Lock readLock = this.lock.readLock();
+		readLock.lock();
+		try {
+			var locations = getCurrentLocations(application, profile, label);
+			if (locations != null) {
+				return reader.apply(locations);
+			}
+		}
+		finally {
+			readLock.unlock();
+		}
+		Lock writeLock = this.lock.writeLock();
+		writeLock.lock();
+		Locations locations;
+		try {
+			locations = getLocations(application, profile, label);
+			// downgrade so that the working copy stays put while it is being read
+			readLock.lock();
+		}
+		finally {
+			writeLock.unlock();
+		}
+		try {
+			return reader.apply(locations);
+		}
+		finally {
+			readLock.unlock();
+		}
+	}
+
+	private Environment load(String application, String profile, Locations locations, boolean includeOrigin) {
 		var delegate = new NativeEnvironmentRepository(getEnvironment(), new NativeEnvironmentProperties(),
 				this.observationRegistry);
-		var locations = getLocations(application, profile, label);
 		delegate.setSearchLocations(locations.getLocations());
+		delegate.setResourceLoader(locations.getResourceLoader());
+		delegate.setParsedDocumentCache(this.parsedDocumentCache);
+		delegate.setLightweightLoader(this.lightweightLoader);
 		var environment = delegate.findOne(application, profile, "", includeOrigin);
 		environment.setVersion(locations.getVersion());
 		return environment;
 	}
 
+	@Override
+	public String getCurrentVersion(String application, String profile, String label) {
+		Lock readLock = this.lock.readLock();
+		readLock.lock();
+		try {
+			var locations = getCurrentLocations(application, profile, label);
+			return (locations != null) ? locations.getVersion() : null;
+		}
+		finally {
+			readLock.unlock();
+		}
+	}
+
+	/**
+	 * Return the locations of the request if the working copy already holds the
+	 * requested label and does not need to be updated, so that it can be read while
+	 * other requests do the same. Called with the read lock held. The default returns
+	 * null, which means {@link #getLocations(String, String, String)} is called with the
+	 * write lock held.
+	 * @param application the application name
+	 * @param profile the profiles
+	 * @param label the label
+	 * @return the locations or null if the working copy has to be updated first
+	 */
+	protected Locations getCurrentLocations(String application, String profile, String label) {
+		return null;
+	}
+
+	public ParsedDocumentCache getParsedDocumentCache() {
+		return this.parsedDocumentCache;
+	}
+
+	/**
+	 * @param parsedDocumentCache cache of parsed configuration files shared by every
+	 * request
+	 */
+	public void setParsedDocumentCache(ParsedDocumentCache parsedDocumentCache) {
+		this.parsedDocumentCache = parsedDocumentCache;
+	}
+
+	public boolean isLightweightLoader() {
+		return this.lightweightLoader;
+	}
+
+	/**
+	 * @param lightweightLoader flag to load the configuration files of the working copy
+	 * without the full Spring Boot config data processing where possible
+	 */
+	public void setLightweightLoader(boolean lightweightLoader) {
+		this.lightweightLoader = lightweightLoader;
+	}
+
+	/**
+	 * @return the lock guarding the working copy
+	 */
+	protected ReadWriteLock getLock() {
+		return this.lock;
+	}
+
 	private List<String> splitAndReorder(String label) {
 		var labels = Arrays.stream(StringUtils.commaDelimitedListToStringArray(label))
 			.filter(StringUtils::hasText)
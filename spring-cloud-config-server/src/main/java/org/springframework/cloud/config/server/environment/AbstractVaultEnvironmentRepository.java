@@ -16,28 +16,41 @@
 
 package org.springframework.cloud.config.server.environment;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.constraints.NotEmpty;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
 import org.springframework.beans.factory.ObjectProvider;
-import org.springframework.beans.factory.config.YamlPropertiesFactoryBean;
 import org.springframework.cloud.config.environment.Environment;
 import org.springframework.cloud.config.environment.PropertySource;
+import org.springframework.core.CollectionFactory;
 import org.springframework.core.Ordered;
-import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.util.ObjectUtils;
 import org.springframework.util.StringUtils;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
 import static org.springframework.cloud.config.client.ConfigClientProperties.STATE_HEADER;
+import static org.springframework.cloud.config.client.ConfigClientProperties.TOKEN_HEADER;
 
 /**
  * @author Spencer Gibb
@@ -52,6 +65,13 @@ public abstract class AbstractVaultEnvironmentRepository implements EnvironmentR
 
 	private static final Log log = LogFactory.getLog(AbstractVaultEnvironmentRepository.class);
 
+	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+	/**
+	 * Number of cached keys above which the expired ones are dropped.
+	 */
+	private static final int CACHE_PURGE_SIZE = 1024;
+
 	// TODO: move to watchState:String on findOne?
 	protected final ObjectProvider<HttpServletRequest> request;
 
@@ -75,6 +95,20 @@ public abstract class AbstractVaultEnvironmentRepository implements EnvironmentR
 
 	protected int order;
 
+	private final Map<CacheKey, CacheEntry> cache = new ConcurrentHashMap<>();
+
+	private final AtomicLong cacheHits = new AtomicLong();
+
+	private final AtomicLong cacheMisses = new AtomicLong();
+
+	private final AtomicLong reads = new AtomicLong();
+
+	private final AtomicLong readNanos = new AtomicLong();
+
+	private volatile Duration cacheTimeToLive;
+
+	private AsyncTaskExecutor executor;
+
 	public AbstractVaultEnvironmentRepository(ObjectProvider<HttpServletRequest> request, EnvironmentWatch watch,
 			VaultEnvironmentProperties properties) {
 		this.defaultKey = properties.getDefaultKey();
@@ -84,6 +118,12 @@ public abstract class AbstractVaultEnvironmentRepository implements EnvironmentR
 		this.order = properties.getOrder();
 		this.request = request;
 		this.watch = watch;
+		if (properties.getCache().isEnabled()) {
+			this.cacheTimeToLive = properties.getCache().getTimeToLive();
+		}
+		if (properties.getFetchConcurrency() > 1) {
+			this.executor = FetchExecutors.create("config-vault-", properties.getFetchConcurrency());
+		}
 	}
 
 	@Override
@@ -100,21 +140,18 @@ public abstract class AbstractVaultEnvironmentRepository implements EnvironmentR
 		var profiles = normalize(profile, DEFAULT_PROFILE);
 		var applications = normalize(application, this.defaultKey);
 
+		var keys = new ArrayList<String>();
 		for (String prof : profiles) {
 			for (String app : applications) {
-				var key = vaultKey(app, prof, label);
-				// read raw 'data' key from vault
-				String data = read(key);
-				if (data != null) {
-					// data is in json format of which, yaml is a superset, so parse
-					var yaml = new YamlPropertiesFactoryBean();
-					yaml.setResources(new ByteArrayResource(data.getBytes()));
-					var properties = yaml.getObject();
-
-					if (properties != null && !properties.isEmpty()) {
-						environment.add(new PropertySource("vault:" + key, properties));
-					}
-				}
+				keys.add(vaultKey(app, prof, label));
+			}
+		}
+
+		var sources = readProperties(keys, getToken());
+		for (int i = 0; i < keys.size(); i++) {
+			var properties = sources.get(i);
+			if (!properties.isEmpty()) {
+				environment.add(new PropertySource("vault:" + keys.get(i), properties));
 			}
 		}
 
@@ -123,6 +160,133 @@ public abstract class AbstractVaultEnvironmentRepository implements EnvironmentR
 
 	protected abstract String read(String key);
 
+	/**
+	 * Read the 'data' key from vault as a JSON tree. Parses {@link #read(String)} by
+	 * default, override to skip writing the data to a string or to provide the lease of
+	 * the secret.
+	 * @param key the key within the secret backend
+	 * @return the secret or null if the key was not found
+	 */
+	protected VaultSecret readSecret(String key) {
+		String data = read(key);
+		if (data == null) {
+			return null;
+		}
+		try {
+			return new VaultSecret(OBJECT_MAPPER.readTree(data), null);
+		}
+		catch (JsonProcessingException e) {
+			throw new IllegalStateException("Vault data of key " + key + " is not in json format", e);
+		}
+	}
+
+	/**
+	 * Keep the properties read from each key, per config token, for the given time or
+	 * until the lease of the secret expires, whichever comes first.
+	 * @param timeToLive how long the properties of a key are used, null to read the keys
+	 * on every request
+	 */
+	public void setCacheTimeToLive(Duration timeToLive) {
+		this.cacheTimeToLive = timeToLive;
+		this.cache.clear();
+	}
+
+	/**
+	 * Read the keys of a request concurrently on the given executor instead of one after
+	 * the other.
+	 * @param executor the executor, null to read the keys one at a time
+	 */
+	public void setExecutor(AsyncTaskExecutor executor) {
+		this.executor = executor;
+	}
+
+	public long getCacheHitCount() {
+		return this.cacheHits.get();
+	}
+
+	public long getCacheMissCount() {
+		return this.cacheMisses.get();
+	}
+
+	public long getReadCount() {
+		return this.reads.get();
+	}
+
+	/**
+	 * @return the total time spent reading keys from Vault, in nanoseconds
+	 */
+	public long getReadTime() {
+		return this.readNanos.get();
+	}
+
+	private List<Properties> readProperties(List<String> keys, String token) {
+		// token providers look up the request on the reading threads
+		RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+		var tasks = new ArrayList<Callable<Properties>>(keys.size());
+		for (String key : keys) {
+			tasks.add(() -> {
+				RequestAttributes previous = RequestContextHolder.getRequestAttributes();
+				RequestContextHolder.setRequestAttributes(attributes);
+				try {
+					return readProperties(key, token);
+				}
+				finally {
+					RequestContextHolder.setRequestAttributes(previous);
+				}
+			});
+		}
+		return FetchExecutors.fetchAll(this.executor, tasks, "reading from Vault");
+	}
+
+	private Properties readProperties(String key, String token) {
+		Duration timeToLive = this.cacheTimeToLive;
+		if (timeToLive == null) {
+			return readProperties(key).properties();
+		}
+		CacheKey cacheKey = new CacheKey(token, key);
+		CacheEntry cached = this.cache.get(cacheKey);
+		if (cached != null && cached.expires() - System.nanoTime() > 0) {
+			this.cacheHits.incrementAndGet();
+			return copy(cached.properties());
+		}
+		this.cacheMisses.incrementAndGet();
+		Secret secret = readProperties(key);
+		if (secret.lease() != null && secret.lease().compareTo(timeToLive) < 0) {
+			timeToLive = secret.lease();
+		}
+		if (this.cache.size() >= CACHE_PURGE_SIZE) {
+			long now = System.nanoTime();
+			this.cache.values().removeIf(entry -> entry.expires() - now <= 0);
+		}
+		this.cache.put(cacheKey, new CacheEntry(secret.properties(), System.nanoTime() + timeToLive.toNanos()));
+		return copy(secret.properties());
+	}
+
+	private Secret readProperties(String key) {
+		long start = System.nanoTime();
+		VaultSecret secret;
+		try {
+			secret = readSecret(key);
+		}
+		finally {
+			this.reads.incrementAndGet();
+			this.readNanos.addAndGet(System.nanoTime() - start);
+		}
+		if (secret == null) {
+			return new Secret(JsonPropertiesFlattener.flatten(null), null);
+		}
+		Duration lease = secret.leaseDuration();
+		// flatten the json tree the same way yaml properties are, without parsing it again
+		return new Secret(JsonPropertiesFlattener.flatten(secret.data()),
+				(lease != null && lease.isPositive()) ? lease : null);
+	}
+
+	private static Properties copy(Properties properties) {
+		Properties copy = CollectionFactory.createStringAdaptingProperties();
+		copy.putAll(properties);
+		return copy;
+	}
+
 	private String vaultKey(String application, String profile, String label) {
 		var key = application;
 		if (this.enableLabel) {
@@ -139,6 +303,25 @@ public abstract class AbstractVaultEnvironmentRepository implements EnvironmentR
 		return key;
 	}
 
+	/**
+	 * @return the config token of the request, that the cached keys are kept per
+	 */
+	private String getToken() {
+		if (this.cacheTimeToLive == null) {
+			return null;
+		}
+		HttpServletRequest servletRequest = this.request.getIfAvailable();
+		if (servletRequest != null) {
+			try {
+				return servletRequest.getHeader(TOKEN_HEADER);
+			}
+			catch (IllegalStateException e) {
+				log.debug("Could not get token.", e);
+			}
+		}
+		return null;
+	}
+
 	private String getWatchState() {
 		HttpServletRequest servletRequest = this.request.getIfAvailable();
 		if (servletRequest != null) {
@@ -189,4 +372,26 @@ public abstract class AbstractVaultEnvironmentRepository implements EnvironmentR
 		this.order = order;
 	}
 
+	/**
+	 * The data of a Vault key.
+	 *
+	 * @param data the data as a JSON tree
+	 * @param leaseDuration how long the secret is valid, null or zero if it does not
+	 * expire
+	 */
+	public record VaultSecret(JsonNode data, Duration leaseDuration) {
+	}
+
+	private record Secret(Properties properties, Duration lease) {
+	}
+
+	private record CacheKey(String token, String key) {
+	}
+
+	/**
+	 * @param expires when the entry expires, as returned by {@link System#nanoTime()}
+	 */
+	private record CacheEntry(Properties properties, long expires) {
+	}
+
 }
@@ -16,6 +16,8 @@
 
 package org.springframework.cloud.config.server.environment;
 
+import java.time.Duration;
+
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
@@ -84,6 +86,17 @@ public class AwsParameterStoreEnvironmentProperties extends EnvironmentPropertie
 	@Max(10)
 	private int maxResults = 10;
 
+	/**
+	 * Maximum number of parameter paths fetched at the same time, across all requests.
+	 * With 1 the paths of a request are fetched one after the other. With more the AWS
+	 * SSM client uses the adaptive retry mode, which slows down its requests when they
+	 * are throttled.
+	 */
+	@Min(1)
+	private int fetchConcurrency = 1;
+
+	private CacheProperties cache = new CacheProperties();
+
 	public String getPrefix() {
 		return prefix;
 	}
@@ -116,4 +129,52 @@ public class AwsParameterStoreEnvironmentProperties extends EnvironmentPropertie
 		this.maxResults = maxResults;
 	}
 
+	public int getFetchConcurrency() {
+		return fetchConcurrency;
+	}
+
+	public void setFetchConcurrency(int fetchConcurrency) {
+		this.fetchConcurrency = fetchConcurrency;
+	}
+
+	public CacheProperties getCache() {
+		return cache;
+	}
+
+	public void setCache(CacheProperties cache) {
+		this.cache = cache;
+	}
+
+	public static class CacheProperties {
+
+		/**
+		 * Flag to keep the parameters of each path in memory. The parameters of a path
+		 * are fetched again when the time to live is elapsed or when a change of the path
+		 * is notified to the monitor endpoint.
+		 */
+		private boolean enabled = false;
+
+		/**
+		 * How long the parameters of a path are used before fetching them again.
+		 */
+		private Duration timeToLive = Duration.ofMinutes(1);
+
+		public boolean isEnabled() {
+			return enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public Duration getTimeToLive() {
+			return timeToLive;
+		}
+
+		public void setTimeToLive(Duration timeToLive) {
+			this.timeToLive = timeToLive;
+		}
+
+	}
+
 }
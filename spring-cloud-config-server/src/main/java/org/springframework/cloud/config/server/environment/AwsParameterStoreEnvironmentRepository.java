@@ -16,6 +16,7 @@
 
 package org.springframework.cloud.config.server.environment;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -24,6 +25,9 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -35,7 +39,9 @@ import software.amazon.awssdk.services.ssm.model.Parameter;
 import org.springframework.cloud.config.environment.Environment;
 import org.springframework.cloud.config.environment.PropertySource;
 import org.springframework.cloud.config.server.config.ConfigServerProperties;
+import org.springframework.context.ApplicationListener;
 import org.springframework.core.Ordered;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.util.StringUtils;
 
 import static org.springframework.cloud.config.server.environment.AwsParameterStoreEnvironmentProperties.DEFAULT_PATH_SEPARATOR;
@@ -43,7 +49,8 @@ import static org.springframework.cloud.config.server.environment.AwsParameterSt
 /**
  * @author Iulian Antohe
  */
-public class AwsParameterStoreEnvironmentRepository implements EnvironmentRepository, Ordered {
+public class AwsParameterStoreEnvironmentRepository
+		implements EnvironmentRepository, Ordered, ApplicationListener<PropertyPathChangeEvent> {
 
 	private final SsmClient awsSsmClient;
 
@@ -53,6 +60,18 @@ public class AwsParameterStoreEnvironmentRepository implements EnvironmentReposi
 
 	private final int order;
 
+	private final Map<String, Snapshot> snapshots = new ConcurrentHashMap<>();
+
+	/**
+	 * Incremented on every eviction, so that parameters read before a change are not
+	 * cached after the notification of the change.
+	 */
+	private final AtomicLong evictions = new AtomicLong();
+
+	private Duration cacheTimeToLive;
+
+	private AsyncTaskExecutor executor;
+
 	public AwsParameterStoreEnvironmentRepository(SsmClient awsSsmClient, ConfigServerProperties configServerProperties,
 			AwsParameterStoreEnvironmentProperties environmentProperties) {
 		this.awsSsmClient = awsSsmClient;
@@ -61,6 +80,43 @@ public class AwsParameterStoreEnvironmentRepository implements EnvironmentReposi
 		this.order = environmentProperties.getOrder();
 	}
 
+	/**
+	 * Keep the parameters of each path and fetch them again once the given time is
+	 * elapsed or a change of the path is notified.
+	 * @param timeToLive how long the parameters of a path are used, null to fetch them on
+	 * every request
+	 */
+	public void setCacheTimeToLive(Duration timeToLive) {
+		this.cacheTimeToLive = timeToLive;
+		this.snapshots.clear();
+	}
+
+	/**
+	 * Fetch the paths of a request concurrently on the given executor instead of one
+	 * after the other.
+	 * @param executor the executor, null to fetch the paths one at a time
+	 */
+	public void setExecutor(AsyncTaskExecutor executor) {
+		this.executor = executor;
+	}
+
+	/**
+	 * Drop the cached parameters a change applies to.
+	 * @param name the name of a changed parameter, or the context it belongs to (the
+	 * application and profile, e.g. {@code foo-dev}, or {@code application})
+	 */
+	public void evict(String name) {
+		String parameter = name.startsWith(DEFAULT_PATH_SEPARATOR) ? name
+				: environmentProperties.getPrefix() + DEFAULT_PATH_SEPARATOR + name + DEFAULT_PATH_SEPARATOR;
+		this.evictions.incrementAndGet();
+		this.snapshots.keySet().removeIf(parameter::startsWith);
+	}
+
+	@Override
+	public void onApplicationEvent(PropertyPathChangeEvent event) {
+		event.getPaths().forEach(this::evict);
+	}
+
 	@Override
 	public Environment findOne(String application, String profile, String label) {
 		if (!StringUtils.hasLength(application)) {
@@ -124,9 +180,12 @@ public class AwsParameterStoreEnvironmentRepository implements EnvironmentReposi
 	private List<PropertySource> getPropertySources(Set<String> parameterPaths) {
 		List<PropertySource> result = new ArrayList<>();
 
-		for (String path : parameterPaths) {
-			String name = environmentProperties.getOrigin() + path;
-			Map<String, String> source = getPropertiesByParameterPath(path);
+		List<String> paths = new ArrayList<>(parameterPaths);
+		List<Map<String, String>> sources = getProperties(paths);
+
+		for (int i = 0; i < paths.size(); i++) {
+			String name = environmentProperties.getOrigin() + paths.get(i);
+			Map<String, String> source = sources.get(i);
 
 			if (!source.isEmpty()) {
 				result.add(new PropertySource(name, source));
@@ -142,6 +201,33 @@ public class AwsParameterStoreEnvironmentRepository implements EnvironmentReposi
 		return result;
 	}
 
+	private List<Map<String, String>> getProperties(List<String> paths) {
+		List<Callable<Map<String, String>>> tasks = new ArrayList<>(paths.size());
+		for (String path : paths) {
+			tasks.add(() -> getProperties(path));
+		}
+		return FetchExecutors.fetchAll(this.executor, tasks, "fetching parameters");
+	}
+
+	private Map<String, String> getProperties(String path) {
+		if (this.cacheTimeToLive == null) {
+			return getPropertiesByParameterPath(path);
+		}
+		Snapshot snapshot = this.snapshots.get(path);
+		if (snapshot == null || snapshot.expires() - System.nanoTime() <= 0) {
+			long evictions = this.evictions.get();
+			snapshot = new Snapshot(Collections.unmodifiableMap(getPropertiesByParameterPath(path)),
+					System.nanoTime() + this.cacheTimeToLive.toNanos());
+			this.snapshots.put(path, snapshot);
+			if (this.evictions.get() != evictions) {
+				// the path might have changed while it was fetched
+				this.snapshots.remove(path);
+			}
+		}
+		// the property sources of a response can be changed by the caller
+		return new HashMap<>(snapshot.properties());
+	}
+
 	private Map<String, String> getPropertiesByParameterPath(String path) {
 		Map<String, String> result = new HashMap<>();
 
@@ -181,4 +267,7 @@ public class AwsParameterStoreEnvironmentRepository implements EnvironmentReposi
 		return order;
 	}
 
+	private record Snapshot(Map<String, String> properties, long expires) {
+	}
+
 }
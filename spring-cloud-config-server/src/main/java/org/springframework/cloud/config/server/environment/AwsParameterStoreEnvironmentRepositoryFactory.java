@@ -16,6 +16,7 @@
 
 package org.springframework.cloud.config.server.environment;
 
+import software.amazon.awssdk.core.retry.RetryMode;
 import software.amazon.awssdk.services.ssm.SsmClient;
 import software.amazon.awssdk.services.ssm.SsmClientBuilder;
 
@@ -41,9 +42,22 @@ public class AwsParameterStoreEnvironmentRepositoryFactory implements
 
 		configureClientBuilder(clientBuilder, environmentProperties.getRegion(), environmentProperties.getEndpoint());
 
+		if (environmentProperties.getFetchConcurrency() > 1) {
+			// concurrent requests are more likely to be throttled, back off adaptively
+			clientBuilder.overrideConfiguration(c -> c.retryStrategy(RetryMode.ADAPTIVE_V2));
+		}
+
 		SsmClient client = clientBuilder.build();
 
-		return new AwsParameterStoreEnvironmentRepository(client, configServerProperties, environmentProperties);
+		AwsParameterStoreEnvironmentRepository repository = new AwsParameterStoreEnvironmentRepository(client,
+				configServerProperties, environmentProperties);
+		if (environmentProperties.getCache().isEnabled()) {
+			repository.setCacheTimeToLive(environmentProperties.getCache().getTimeToLive());
+		}
+		if (environmentProperties.getFetchConcurrency() > 1) {
+			repository.setExecutor(FetchExecutors.create("config-ssm-", environmentProperties.getFetchConcurrency()));
+		}
+		return repository;
 	}
 
 }
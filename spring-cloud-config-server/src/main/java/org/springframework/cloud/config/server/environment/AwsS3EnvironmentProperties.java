@@ -16,6 +16,8 @@
 
 package org.springframework.cloud.config.server.environment;
 
+import java.time.Duration;
+
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -35,6 +37,25 @@ public class AwsS3EnvironmentProperties extends EnvironmentProperties {
 	 */
 	private boolean useDirectoryLayout;
 
+	/**
+	 * How long the list of the objects of the bucket is used before listing the bucket
+	 * again. When set, only the config files that are in the list are downloaded, and
+	 * only when their ETag changed. When not set, every extension is tried and the files
+	 * are downloaded on every request.
+	 */
+	private Duration indexRefreshInterval;
+
+	/**
+	 * Maximum number of config files downloaded at the same time, across all requests.
+	 * With 1 the files of a request are downloaded one after the other.
+	 */
+	private int fetchConcurrency = 1;
+
+	/**
+	 * Caching of the config files downloaded from the bucket.
+	 */
+	private CacheProperties cache = new CacheProperties();
+
 	public String getBucket() {
 		return bucket;
 	}
@@ -51,4 +72,60 @@ public class AwsS3EnvironmentProperties extends EnvironmentProperties {
 		this.useDirectoryLayout = useDirectoryLayout;
 	}
 
+	public Duration getIndexRefreshInterval() {
+		return indexRefreshInterval;
+	}
+
+	public void setIndexRefreshInterval(Duration indexRefreshInterval) {
+		this.indexRefreshInterval = indexRefreshInterval;
+	}
+
+	public int getFetchConcurrency() {
+		return fetchConcurrency;
+	}
+
+	public void setFetchConcurrency(int fetchConcurrency) {
+		this.fetchConcurrency = fetchConcurrency;
+	}
+
+	public CacheProperties getCache() {
+		return cache;
+	}
+
+	public void setCache(CacheProperties cache) {
+		this.cache = cache;
+	}
+
+	public static class CacheProperties {
+
+		/**
+		 * Flag to keep the parsed config files in memory and download a file again only
+		 * when its ETag changed, checked with a conditional request.
+		 */
+		private boolean enabled = false;
+
+		/**
+		 * How long a config file is used without checking whether it changed. With zero
+		 * the check is done on every request.
+		 */
+		private Duration timeToLive = Duration.ZERO;
+
+		public boolean isEnabled() {
+			return enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public Duration getTimeToLive() {
+			return timeToLive;
+		}
+
+		public void setTimeToLive(Duration timeToLive) {
+			this.timeToLive = timeToLive;
+		}
+
+	}
+
 }
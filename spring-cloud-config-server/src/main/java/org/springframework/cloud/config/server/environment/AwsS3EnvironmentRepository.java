@@ -18,11 +18,13 @@ package org.springframework.cloud.config.server.environment;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Properties;
+import java.util.concurrent.Callable;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -30,6 +32,7 @@ import software.amazon.awssdk.core.ResponseInputStream;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
 
 import org.springframework.beans.factory.config.YamlPropertiesFactoryBean;
 import org.springframework.cloud.config.environment.Environment;
@@ -37,6 +40,8 @@ import org.springframework.cloud.config.environment.PropertySource;
 import org.springframework.cloud.config.server.config.ConfigServerProperties;
 import org.springframework.core.Ordered;
 import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.http.HttpStatus;
 import org.springframework.util.ObjectUtils;
 import org.springframework.util.StringUtils;
 
@@ -53,6 +58,13 @@ public class AwsS3EnvironmentRepository implements EnvironmentRepository, Ordere
 
 	private static final String PATH_SEPARATOR = "/";
 
+	/**
+	 * Extensions of the config files, in the order they are looked for.
+	 */
+	private static final String[] EXTENSIONS = { ".properties", ".yml", ".yaml", ".json" };
+
+	private static final int CACHE_SIZE = 1024;
+
 	private final S3Client s3Client;
 
 	private final String bucketName;
@@ -63,6 +75,14 @@ public class AwsS3EnvironmentRepository implements EnvironmentRepository, Ordere
 
 	protected int order = Ordered.LOWEST_PRECEDENCE;
 
+	private S3ObjectIndex index;
+
+	private final S3ConfigFileCache cache = new S3ConfigFileCache(CACHE_SIZE);
+
+	private AsyncTaskExecutor executor;
+
+	private Duration cacheTimeToLive;
+
 	public AwsS3EnvironmentRepository(S3Client s3Client, String bucketName, ConfigServerProperties server) {
 		this(s3Client, bucketName, false, server);
 	}
@@ -84,6 +104,37 @@ public class AwsS3EnvironmentRepository implements EnvironmentRepository, Ordere
 		this.order = order;
 	}
 
+	/**
+	 * List the objects of the bucket to know which config files exist, instead of trying
+	 * every extension, and to download a file again only when it changed.
+	 * @param refreshInterval how long the list is used before listing the bucket again,
+	 * null to try every extension
+	 */
+	public void setIndexRefreshInterval(Duration refreshInterval) {
+		this.index = (refreshInterval != null) ? new S3ObjectIndex(this.s3Client, this.bucketName, refreshInterval)
+				: null;
+	}
+
+	/**
+	 * Keep the parsed config files and download them again only when their ETag changed,
+	 * checked with a conditional request once the given time is elapsed. Not used when
+	 * the objects are indexed, the index has the ETags.
+	 * @param timeToLive how long a file is used without checking whether it changed,
+	 * null to download the files on every request
+	 */
+	public void setCacheTimeToLive(Duration timeToLive) {
+		this.cacheTimeToLive = timeToLive;
+	}
+
+	/**
+	 * Download the config files of a request concurrently on the given executor instead
+	 * of one after the other.
+	 * @param executor the executor, null to download the files one at a time
+	 */
+	public void setExecutor(AsyncTaskExecutor executor) {
+		this.executor = executor;
+	}
+
 	@Override
 	public Environment findOne(String specifiedApplication, String specifiedProfiles, String specifiedLabel) {
 		final String application = ObjectUtils.isEmpty(specifiedApplication)
@@ -112,10 +163,11 @@ public class AwsS3EnvironmentRepository implements EnvironmentRepository, Ordere
 			labels = Collections.singletonList(label);
 		}
 
+		List<String> objectKeyPrefixes = new ArrayList<>();
 		for (String l : labels) {
 			for (String profile : profileArray) {
 				for (String app : apps) {
-					addPropertySource(environment, app, profile, l);
+					objectKeyPrefixes.add(buildObjectKeyPrefix(app, profile, l));
 				}
 			}
 		}
@@ -123,10 +175,15 @@ public class AwsS3EnvironmentRepository implements EnvironmentRepository, Ordere
 		// Add propertysources without profiles as well
 		for (String l : labels) {
 			for (String app : apps) {
-				addPropertySource(environment, app, null, l);
+				objectKeyPrefixes.add(buildObjectKeyPrefix(app, null, l));
 			}
 		}
 
+		List<S3ConfigFileCache.Entry> configFiles = load(objectKeyPrefixes);
+		for (int i = 0; i < objectKeyPrefixes.size(); i++) {
+			addPropertySource(environment, objectKeyPrefixes.get(i), configFiles.get(i));
+		}
+
 		if (LOG.isDebugEnabled()) {
 			LOG.debug("Returning Environment: " + environment);
 		}
@@ -134,13 +191,35 @@ public class AwsS3EnvironmentRepository implements EnvironmentRepository, Ordere
 		return environment;
 	}
 
-	private void addPropertySource(Environment environment, String app, String profile, String label) {
-		String objectKeyPrefix = buildObjectKeyPrefix(app, profile, label);
+	private List<S3ConfigFileCache.Entry> load(List<String> objectKeyPrefixes) {
+		List<Callable<S3ConfigFileCache.Entry>> tasks = new ArrayList<>(objectKeyPrefixes.size());
+		for (String objectKeyPrefix : objectKeyPrefixes) {
+			tasks.add(() -> load(objectKeyPrefix));
+		}
+		return FetchExecutors.fetchAll(this.executor, tasks, "loading environment");
+	}
+
+	private S3ConfigFileCache.Entry load(String objectKeyPrefix) {
+		if (this.index != null) {
+			return getIndexedS3ConfigFile(objectKeyPrefix);
+		}
+		if (this.cacheTimeToLive != null) {
+			return getCachedS3ConfigFile(objectKeyPrefix);
+		}
 		S3ConfigFile s3ConfigFile = getS3ConfigFile(objectKeyPrefix);
-		if (s3ConfigFile != null) {
-			environment.setVersion(s3ConfigFile.getVersion());
+		if (s3ConfigFile == null) {
+			return null;
+		}
+		return new S3ConfigFileCache.Entry(null, s3ConfigFile.getVersion(), s3ConfigFile.read(), System.nanoTime());
+	}
+
+	private void addPropertySource(Environment environment, String objectKeyPrefix,
+			S3ConfigFileCache.Entry configFile) {
+		if (configFile != null) {
+			environment.setVersion(configFile.version());
 
-			final Properties config = s3ConfigFile.read();
+			final Properties config = new Properties();
+			config.putAll(configFile.properties());
 			config.putAll(serverProperties.getOverrides());
 			PropertySource propertySource = new PropertySource("s3:" + objectKeyPrefix, config);
 			if (LOG.isDebugEnabled()) {
@@ -214,6 +293,99 @@ public class AwsS3EnvironmentRepository implements EnvironmentRepository, Ordere
 		}
 	}
 
+	/**
+	 * Look the config file up in the index and download it only if it is not cached or
+	 * its ETag changed.
+	 */
+	private S3ConfigFileCache.Entry getIndexedS3ConfigFile(String keyPrefix) {
+		for (String extension : EXTENSIONS) {
+			String key = keyPrefix + extension;
+			String etag = this.index.getETag(key);
+			if (etag == null) {
+				continue;
+			}
+			S3ConfigFileCache.Entry cached = this.cache.get(key);
+			if (cached != null && etag.equals(cached.etag())) {
+				return cached;
+			}
+			ResponseInputStream<GetObjectResponse> responseInputStream;
+			try {
+				responseInputStream = getObject(key);
+			}
+			catch (Exception e) {
+				// deleted since the bucket was listed
+				if (LOG.isDebugEnabled()) {
+					LOG.debug("Did not find " + key, e);
+				}
+				this.cache.remove(key);
+				continue;
+			}
+			GetObjectResponse response = responseInputStream.response();
+			S3ConfigFileCache.Entry configFile = new S3ConfigFileCache.Entry(response.eTag(), response.versionId(),
+					createS3ConfigFile(extension, response.versionId(), responseInputStream).read(), System.nanoTime());
+			this.cache.put(key, configFile);
+			return configFile;
+		}
+		return null;
+	}
+
+	/**
+	 * Serve the config file from the cache while it is fresh, and revalidate it with a
+	 * conditional request when it is not.
+	 */
+	private S3ConfigFileCache.Entry getCachedS3ConfigFile(String keyPrefix) {
+		for (String extension : EXTENSIONS) {
+			String key = keyPrefix + extension;
+			S3ConfigFileCache.Entry cached = this.cache.get(key);
+			if (cached != null && System.nanoTime() - cached.validated() < this.cacheTimeToLive.toNanos()) {
+				if (cached.properties() != null) {
+					return cached;
+				}
+				continue;
+			}
+			String etag = (cached != null && cached.properties() != null) ? cached.etag() : null;
+			ResponseInputStream<GetObjectResponse> responseInputStream;
+			try {
+				responseInputStream = this.s3Client
+					.getObject(GetObjectRequest.builder().bucket(bucketName).key(key).ifNoneMatch(etag).build());
+			}
+			catch (S3Exception e) {
+				if (etag != null && e.statusCode() == HttpStatus.NOT_MODIFIED.value()) {
+					S3ConfigFileCache.Entry configFile = cached.validatedNow();
+					this.cache.put(key, configFile);
+					return configFile;
+				}
+				if (LOG.isDebugEnabled()) {
+					LOG.debug("Did not find " + key, e);
+				}
+				if (e.statusCode() == HttpStatus.NOT_FOUND.value()) {
+					this.cache.put(key, new S3ConfigFileCache.Entry(null, null, null, System.nanoTime()));
+				}
+				continue;
+			}
+			catch (Exception e) {
+				if (LOG.isDebugEnabled()) {
+					LOG.debug("Did not find " + key, e);
+				}
+				continue;
+			}
+			GetObjectResponse response = responseInputStream.response();
+			S3ConfigFileCache.Entry configFile = new S3ConfigFileCache.Entry(response.eTag(), response.versionId(),
+					createS3ConfigFile(extension, response.versionId(), responseInputStream).read(), System.nanoTime());
+			this.cache.put(key, configFile);
+			return configFile;
+		}
+		return null;
+	}
+
+	private S3ConfigFile createS3ConfigFile(String extension, String version, InputStream inputStream) {
+		return switch (extension) {
+			case ".properties" -> new PropertyS3ConfigFile(version, inputStream);
+			case ".json" -> new JsonS3ConfigFile(version, inputStream);
+			default -> new YamlS3ConfigFile(version, inputStream);
+		};
+	}
+
 	private ResponseInputStream<GetObjectResponse> getObject(String key) throws Exception {
 		if (LOG.isDebugEnabled()) {
 			LOG.debug("Getting object with key " + key);
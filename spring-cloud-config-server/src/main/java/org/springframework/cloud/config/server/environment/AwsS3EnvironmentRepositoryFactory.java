@@ -41,6 +41,13 @@ public class AwsS3EnvironmentRepositoryFactory
 		AwsS3EnvironmentRepository repository = new AwsS3EnvironmentRepository(client,
 				environmentProperties.getBucket(), environmentProperties.isUseDirectoryLayout(), server);
 		repository.setOrder(environmentProperties.getOrder());
+		repository.setIndexRefreshInterval(environmentProperties.getIndexRefreshInterval());
+		if (environmentProperties.getCache().isEnabled()) {
+			repository.setCacheTimeToLive(environmentProperties.getCache().getTimeToLive());
+		}
+		if (environmentProperties.getFetchConcurrency() > 1) {
+			repository.setExecutor(FetchExecutors.create("config-s3-", environmentProperties.getFetchConcurrency()));
+		}
 		return repository;
 	}
 
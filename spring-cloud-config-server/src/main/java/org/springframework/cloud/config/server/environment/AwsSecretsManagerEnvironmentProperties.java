@@ -68,6 +68,14 @@ public class AwsSecretsManagerEnvironmentProperties extends EnvironmentPropertie
 	@NotNull
 	private String origin = DEFAULT_ORIGIN;
 
+	/**
+	 * Flag to fetch the current version of the secrets of a request with
+	 * BatchGetSecretValue calls, up to 20 secrets per call, instead of one
+	 * GetSecretValue call per secret. Not used for requests with a label other than
+	 * AWSCURRENT.
+	 */
+	private boolean batch;
+
 	public String getDefaultLabel() {
 		return defaultLabel;
 	}
@@ -76,6 +84,14 @@ public class AwsSecretsManagerEnvironmentProperties extends EnvironmentPropertie
 		this.defaultLabel = defaultLabel;
 	}
 
+	public boolean isBatch() {
+		return this.batch;
+	}
+
+	public void setBatch(boolean batch) {
+		this.batch = batch;
+	}
+
 	public boolean isIgnoreLabel() {
 		return this.ignoreLabel;
 	}
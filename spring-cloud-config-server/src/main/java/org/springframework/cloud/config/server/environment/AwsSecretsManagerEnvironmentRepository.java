@@ -21,6 +21,8 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 
@@ -29,10 +31,14 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import software.amazon.awssdk.services.secretsmanager.SecretsManagerClient;
+import software.amazon.awssdk.services.secretsmanager.model.APIErrorType;
+import software.amazon.awssdk.services.secretsmanager.model.BatchGetSecretValueRequest;
+import software.amazon.awssdk.services.secretsmanager.model.BatchGetSecretValueResponse;
 import software.amazon.awssdk.services.secretsmanager.model.GetSecretValueRequest;
 import software.amazon.awssdk.services.secretsmanager.model.GetSecretValueResponse;
 import software.amazon.awssdk.services.secretsmanager.model.InvalidRequestException;
 import software.amazon.awssdk.services.secretsmanager.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.secretsmanager.model.SecretValueEntry;
 
 import org.springframework.cloud.config.environment.Environment;
 import org.springframework.cloud.config.environment.PropertySource;
@@ -51,6 +57,18 @@ public class AwsSecretsManagerEnvironmentRepository implements EnvironmentReposi
 
 	private static final Log log = LogFactory.getLog(AwsSecretsManagerEnvironmentRepository.class);
 
+	private static final String CURRENT_LABEL = "AWSCURRENT";
+
+	/**
+	 * Maximum number of secret ids of a BatchGetSecretValue call.
+	 */
+	private static final int BATCH_SIZE = 20;
+
+	private static final int DECODED_CACHE_SIZE = 256;
+
+	private static final TypeReference<Map<String, Object>> SECRET_MAP = new TypeReference<>() {
+	};
+
 	private final ObjectMapper objectMapper;
 
 	private final SecretsManagerClient awsSmClient;
@@ -61,6 +79,17 @@ public class AwsSecretsManagerEnvironmentRepository implements EnvironmentReposi
 
 	private final int order;
 
+	/**
+	 * Decoded secret strings by version id. A version of a secret never changes, only
+	 * the version a label points to.
+	 */
+	private final Map<String, Map<String, Object>> decoded = new LinkedHashMap<>(16, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, Map<String, Object>> eldest) {
+			return size() > DECODED_CACHE_SIZE;
+		}
+	};
+
 	public AwsSecretsManagerEnvironmentRepository(SecretsManagerClient awsSmClient,
 			ConfigServerProperties configServerProperties,
 			AwsSecretsManagerEnvironmentProperties environmentProperties) {
@@ -124,28 +153,28 @@ public class AwsSecretsManagerEnvironmentRepository implements EnvironmentReposi
 		}
 
 		for (String l : labels) {
+			List<String> paths = new ArrayList<>();
 			for (String profile : reversedProfiles) {
 				for (String app : applications) {
-					addPropertySource(environment, app, profile, l);
+					paths.add(buildPath(app, profile));
 				}
 			}
 			for (String app : applications) {
-				addPropertySource(environment, app, null, l);
+				paths.add(buildPath(app, null));
+			}
+
+			Map<String, Map<Object, Object>> secrets = findProperties(paths, l);
+			for (String path : paths) {
+				Map<Object, Object> properties = secrets.get(path);
+				if (!properties.isEmpty()) {
+					environment.add(new PropertySource(environmentProperties.getOrigin() + path, properties));
+				}
 			}
 		}
 
 		return environment;
 	}
 
-	private void addPropertySource(Environment environment, String application, String profile, String label) {
-		String path = buildPath(application, profile);
-
-		Map<Object, Object> properties = findProperties(path, label);
-		if (!properties.isEmpty()) {
-			environment.add(new PropertySource(environmentProperties.getOrigin() + path, properties));
-		}
-	}
-
 	private String buildPath(String application, String profile) {
 		String prefix = environmentProperties.getPrefix();
 		String profileSeparator = environmentProperties.getProfileSeparator();
@@ -158,6 +187,51 @@ public class AwsSecretsManagerEnvironmentRepository implements EnvironmentReposi
 		}
 	}
 
+	private Map<String, Map<Object, Object>> findProperties(List<String> paths, String label) {
+		Map<String, Map<Object, Object>> result = new HashMap<>();
+		if (environmentProperties.isBatch() && (!StringUtils.hasLength(label) || CURRENT_LABEL.equals(label))) {
+			// BatchGetSecretValue only returns the current version of the secrets
+			List<String> secretIds = new ArrayList<>(new LinkedHashSet<>(paths));
+			for (int i = 0; i < secretIds.size(); i += BATCH_SIZE) {
+				findProperties(secretIds.subList(i, Math.min(i + BATCH_SIZE, secretIds.size())), result);
+			}
+		}
+		for (String path : paths) {
+			result.computeIfAbsent(path, p -> findProperties(p, label));
+		}
+		return result;
+	}
+
+	/**
+	 * Fetch the current version of the given secrets in one call. Secrets that do not
+	 * exist are added without properties, secrets that could not be fetched or decoded
+	 * are left out of the result.
+	 */
+	private void findProperties(List<String> secretIds, Map<String, Map<Object, Object>> result) {
+		BatchGetSecretValueRequest request = BatchGetSecretValueRequest.builder().secretIdList(secretIds).build();
+		BatchGetSecretValueResponse response = awsSmClient.batchGetSecretValue(request);
+
+		while (response != null) {
+			for (SecretValueEntry secret : response.secretValues()) {
+				try {
+					result.put(secret.name(), decode(secret.versionId(), secret.secretString()));
+				}
+				catch (IOException e) {
+					// left out, fetched again and reported one by one
+				}
+			}
+			for (APIErrorType error : response.errors()) {
+				if ("ResourceNotFoundException".equals(error.errorCode())) {
+					result.put(error.secretId(), new HashMap<>());
+				}
+			}
+			if (!StringUtils.hasLength(response.nextToken())) {
+				break;
+			}
+			response = awsSmClient.batchGetSecretValue(request.toBuilder().nextToken(response.nextToken()).build());
+		}
+	}
+
 	private Map<Object, Object> findProperties(String path, String label) {
 		Map<Object, Object> properties = new HashMap<>();
 
@@ -166,13 +240,7 @@ public class AwsSecretsManagerEnvironmentRepository implements EnvironmentReposi
 			GetSecretValueResponse response = awsSmClient.getSecretValue(request);
 
 			if (response != null) {
-				Map<String, Object> secretMap = objectMapper.readValue(response.secretString(),
-						new TypeReference<Map<String, Object>>() {
-						});
-
-				for (Map.Entry<String, Object> secretEntry : secretMap.entrySet()) {
-					properties.put(secretEntry.getKey(), secretEntry.getValue());
-				}
+				properties = decode(response.versionId(), response.secretString());
 			}
 		}
 		catch (InvalidRequestException | ResourceNotFoundException | IOException e) {
@@ -184,6 +252,24 @@ public class AwsSecretsManagerEnvironmentRepository implements EnvironmentReposi
 		return properties;
 	}
 
+	private Map<Object, Object> decode(String versionId, String secretString) throws IOException {
+		Map<String, Object> secretMap = null;
+		if (versionId != null) {
+			synchronized (this.decoded) {
+				secretMap = this.decoded.get(versionId);
+			}
+		}
+		if (secretMap == null) {
+			secretMap = objectMapper.readValue(secretString, SECRET_MAP);
+			if (versionId != null) {
+				synchronized (this.decoded) {
+					this.decoded.put(versionId, secretMap);
+				}
+			}
+		}
+		return new HashMap<>(secretMap);
+	}
+
 	@Override
 	public int getOrder() {
 		return order;
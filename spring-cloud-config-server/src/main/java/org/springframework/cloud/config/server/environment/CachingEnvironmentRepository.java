@@ -0,0 +1,127 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.config.server.environment;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.cloud.config.environment.Environment;
+
+/**
+ * A delegating {@link EnvironmentRepository} that serves repeated requests from an
+ * {@link EnvironmentCache}. If a {@link SearchPathLocator} is provided it is asked for
+ * the version the backend currently resolves for the request (e.g. the git commit id) and
+ * that version becomes part of the cache key, so a cached entry is only reused while the
+ * backend still points at the same version. The version is looked up without updating
+ * the backend, so a cache hit never waits for a fetch; requests no version is known for
+ * (e.g. because a refresh is due) are passed to the delegate, which resolves the
+ * locations once and updates the backend as usual, without being cached.
+ */
+public class CachingEnvironmentRepository implements EnvironmentRepository {
+
+	private static final Log log = LogFactory.getLog(CachingEnvironmentRepository.class);
+
+	private final EnvironmentRepository delegate;
+
+	private final EnvironmentCache cache;
+
+	private SearchPathLocator versionLocator;
+
+	private ConfigTokenProvider tokenProvider;
+
+	public CachingEnvironmentRepository(EnvironmentRepository delegate, EnvironmentCache cache) {
+		this.delegate = delegate;
+		this.cache = cache;
+	}
+
+	/**
+	 * @param versionLocator locator used to resolve the current backend version of a
+	 * request before consulting the cache
+	 */
+	public void setVersionLocator(SearchPathLocator versionLocator) {
+		this.versionLocator = versionLocator;
+	}
+
+	/**
+	 * @param tokenProvider provider of the config token of the current request, so that
+	 * callers presenting different tokens never share entries
+	 */
+	public void setTokenProvider(ConfigTokenProvider tokenProvider) {
+		this.tokenProvider = tokenProvider;
+	}
+
+	public EnvironmentRepository getDelegate() {
+		return this.delegate;
+	}
+
+	@Override
+	public Environment findOne(String application, String profile, String label) {
+		return findOne(application, profile, label, false);
+	}
+
+	@Override
+	public Environment findOne(String application, String profile, String label, boolean includeOrigin) {
+		String version;
+		try {
+			version = resolveVersion(application, profile, label);
+		}
+		catch (Exception e) {
+			if (log.isDebugEnabled()) {
+				log.debug("Could not resolve version for " + application + "/" + profile + "/" + label
+						+ ", bypassing the environment cache", e);
+			}
+			return this.delegate.findOne(application, profile, label, includeOrigin);
+		}
+		if (version == null) {
+			// a change could not be told from the cached entry, which would be served stale
+			// (or the backend has to be updated first, which the delegate takes care of)
+			return this.delegate.findOne(application, profile, label, includeOrigin);
+		}
+		EnvironmentCache.Key key = new EnvironmentCache.Key(application, profile, label, includeOrigin, getToken(),
+				version);
+		Environment environment = this.cache.get(key);
+		if (environment != null) {
+			return environment;
+		}
+		environment = this.delegate.findOne(application, profile, label, includeOrigin);
+		if (environment != null) {
+			this.cache.put(key, environment);
+		}
+		return environment;
+	}
+
+	private String resolveVersion(String application, String profile, String label) {
+		if (this.versionLocator == null) {
+			return null;
+		}
+		return this.versionLocator.getCurrentVersion(application, profile, label);
+	}
+
+	private String getToken() {
+		if (this.tokenProvider == null) {
+			return null;
+		}
+		try {
+			return this.tokenProvider.getToken();
+		}
+		catch (IllegalArgumentException | IllegalStateException e) {
+			// no token on this request
+			return null;
+		}
+	}
+
+}
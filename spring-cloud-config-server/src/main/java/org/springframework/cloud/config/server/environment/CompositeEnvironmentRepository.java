@@ -16,16 +16,27 @@
 
 package org.springframework.cloud.config.server.environment;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 
+import io.micrometer.observation.Observation;
 import io.micrometer.observation.ObservationRegistry;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
 import org.springframework.cloud.config.environment.Environment;
 import org.springframework.core.OrderComparator;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
 /**
  * An {@link EnvironmentRepository} composed of multiple ordered
@@ -41,6 +52,12 @@ public class CompositeEnvironmentRepository implements EnvironmentRepository {
 
 	protected boolean failOnError;
 
+	private final ObservationRegistry observationRegistry;
+
+	private AsyncTaskExecutor executor;
+
+	private Duration timeout;
+
 	/**
 	 * Creates a new {@link CompositeEnvironmentRepository}.
 	 * @param environmentRepositories The list of {@link EnvironmentRepository}s to create
@@ -56,6 +73,7 @@ public class CompositeEnvironmentRepository implements EnvironmentRepository {
 				: environmentRepositories.stream()
 					.map(e -> ObservationEnvironmentRepositoryWrapper.wrap(observationRegistry, e))
 					.collect(Collectors.toList());
+		this.observationRegistry = observationRegistry;
 		this.failOnError = failOnError;
 	}
 
@@ -85,6 +103,9 @@ public class CompositeEnvironmentRepository implements EnvironmentRepository {
 			env.setVersion(envRepo.getVersion());
 			env.setState(envRepo.getState());
 		}
+		else if (this.executor != null) {
+			findAll(env, application, profile, label, includeOrigin);
+		}
 		else {
 			for (EnvironmentRepository repo : environmentRepositories) {
 				try {
@@ -103,4 +124,131 @@ public class CompositeEnvironmentRepository implements EnvironmentRepository {
 		return env;
 	}
 
+	/**
+	 * Query every repository at the same time and merge the results in the order of
+	 * the repositories.
+	 */
+	private void findAll(Environment env, String application, String profile, String label,
+			boolean includeOrigin) {
+		// the workers may outlive the request, they only get a copy of its headers
+		RequestAttributes attributes = HeaderOnlyHttpServletRequest.copyOfCurrentRequest();
+		Observation parent = this.observationRegistry.getCurrentObservation();
+		List<Query> queries = new ArrayList<>(this.environmentRepositories.size());
+		for (EnvironmentRepository repo : this.environmentRepositories) {
+			Query query = new Query();
+			query.result = this.executor.submit(() -> {
+				query.started = System.nanoTime();
+				RequestContextHolder.setRequestAttributes(attributes);
+				try (Observation.Scope scope = (parent != null) ? parent.openScope() : null) {
+					return repo.findOne(application, profile, label, includeOrigin);
+				}
+				finally {
+					RequestContextHolder.resetRequestAttributes();
+				}
+			});
+			queries.add(query);
+		}
+		try {
+			for (int i = 0; i < queries.size(); i++) {
+				EnvironmentRepository repo = this.environmentRepositories.get(i);
+				try {
+					env.addAll(get(queries.get(i)).getPropertySources());
+				}
+				catch (ExecutionException | TimeoutException | CancellationException e) {
+					// interrupt a repository that is still busy
+					queries.get(i).result.cancel(true);
+					if (failOnError) {
+						throw failure(repo, e);
+					}
+					else {
+						log.info("Error adding environment for " + repo);
+					}
+				}
+			}
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new EnvironmentException("Interrupted while loading environment for " + application, e);
+		}
+		finally {
+			queries.forEach(query -> query.result.cancel(true));
+		}
+	}
+
+	/**
+	 * Wait for a repository until the timeout elapsed since it started, a repository
+	 * waiting for a thread of the executor does not run out of time.
+	 */
+	private Environment get(Query query) throws InterruptedException, ExecutionException, TimeoutException {
+		if (this.timeout == null) {
+			return query.result.get();
+		}
+		while (true) {
+			Long started = query.started;
+			long deadline = ((started != null) ? started : System.nanoTime()) + this.timeout.toNanos();
+			try {
+				return query.result.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+			}
+			catch (TimeoutException e) {
+				if (started != null) {
+					throw e;
+				}
+				// not started yet, its own timeout runs from when it starts
+			}
+		}
+	}
+
+	private RuntimeException failure(EnvironmentRepository repo, Exception e) {
+		if (e instanceof ExecutionException) {
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException runtimeException) {
+				return runtimeException;
+			}
+			if (cause instanceof Error error) {
+				throw error;
+			}
+			return new EnvironmentException("Error loading environment from " + repo, cause);
+		}
+		if (e instanceof TimeoutException) {
+			return new EnvironmentException("Timed out after " + this.timeout + " loading environment from " + repo,
+					e);
+		}
+		return new EnvironmentException("Cancelled loading environment from " + repo, e);
+	}
+
+	/**
+	 * Query the repositories concurrently on the given executor instead of one after the
+	 * other. The property sources are still merged in the order of the repositories.
+	 * @param executor the executor, null to query the repositories one at a time
+	 */
+	public void setExecutor(AsyncTaskExecutor executor) {
+		this.executor = executor;
+	}
+
+	/**
+	 * Query the repositories concurrently, each one on a new thread, at most the given
+	 * number of them at the same time.
+	 * @param maxConcurrency the maximum number of repositories queried at the same time
+	 */
+	public void setMaxConcurrency(int maxConcurrency) {
+		setExecutor(FetchExecutors.create("config-composite-", maxConcurrency));
+	}
+
+	/**
+	 * @param timeout how long to wait for each repository when they are queried
+	 * concurrently, counted from the start of its query, null or zero to wait as long as
+	 * it takes
+	 */
+	public void setTimeout(Duration timeout) {
+		this.timeout = (timeout != null && !timeout.isZero() && !timeout.isNegative()) ? timeout : null;
+	}
+
+	private static final class Query {
+
+		private Future<Environment> result;
+
+		private volatile Long started;
+
+	}
+
 }
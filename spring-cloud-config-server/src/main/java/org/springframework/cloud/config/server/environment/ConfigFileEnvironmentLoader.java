@@ -0,0 +1,340 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.config.server.environment;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.boot.env.PropertySourceLoader;
+import org.springframework.boot.origin.OriginTrackedResource;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.EnumerablePropertySource;
+import org.springframework.core.env.Profiles;
+import org.springframework.core.env.PropertySource;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.FileUrlResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.core.io.support.SpringFactoriesLoader;
+import org.springframework.util.ResourceUtils;
+import org.springframework.util.StringUtils;
+
+/**
+ * Builds the environment of a request straight from the configuration files, instead of
+ * running the {@code ConfigDataEnvironmentPostProcessor} on a fresh environment. The
+ * search locations are resolved once, every file is parsed by the same
+ * {@link PropertySourceLoader PropertySourceLoaders} Spring Boot uses and the profile
+ * ordering is applied directly, so the property sources and their names are the same as
+ * the ones Spring Boot would produce.
+ * <p>
+ * Only plain directory locations, profile specific files, multi-document files and
+ * {@code spring.config.activate.on-profile} are handled. {@link #load} returns null as
+ * soon as a request needs anything else (imports, profile groups or includes, wildcard
+ * locations, placeholders), in which case the caller falls back to Spring Boot.
+ */
+class ConfigFileEnvironmentLoader {
+
+	private static final String OPTIONAL_PREFIX = "optional:";
+
+	private static final String RESOURCE_PREFIX = "resource:";
+
+	private static final String ON_PROFILE = "spring.config.activate.on-profile";
+
+	private static final String DEFAULT_PROFILE = "default";
+
+	private static final Pattern VALID_PROFILE = Pattern.compile("[A-Za-z0-9](?:[A-Za-z0-9._-]*[A-Za-z0-9.])?");
+
+	/**
+	 * Properties of the system environment that the search locations, names and active
+	 * profiles of a request take precedence over.
+	 */
+	private static final Set<String> OVERRIDDEN_PROPERTIES = Set.of("spring.profiles.active", "spring.config.name",
+			"spring.config.location", "spring.config.on-not-found", "SPRING_PROFILES_ACTIVE", "SPRING_CONFIG_NAME",
+			"SPRING_CONFIG_LOCATION", "SPRING_CONFIG_ONNOTFOUND", "SPRING_CONFIG_ON_NOT_FOUND");
+
+	private static final ConfigFileEnvironmentLoader INSTANCE = new ConfigFileEnvironmentLoader(
+			ConfigFileEnvironmentLoader.class.getClassLoader());
+
+	/**
+	 * Loader of each file extension, lowest precedence first.
+	 */
+	private final Map<String, PropertySourceLoader> extensions;
+
+	/**
+	 * Cache of the parsed files, every file is parsed if null.
+	 */
+	private final ParsedDocumentCache parsedDocumentCache;
+
+	/**
+	 * Whether config data properties are set as system properties or environment
+	 * variables, looked up once as they are not expected to change while the server runs.
+	 */
+	private final boolean systemEnvironmentOverrides;
+
+	ConfigFileEnvironmentLoader(ClassLoader classLoader) {
+		List<PropertySourceLoader> loaders = SpringFactoriesLoader.forDefaultResourceLocation(classLoader)
+			.load(PropertySourceLoader.class);
+		// same order as Spring Boot: the first loader of an extension wins, and the
+		// extensions of later loaders take precedence
+		Deque<String> order = new ArrayDeque<>();
+		Map<String, PropertySourceLoader> byExtension = new LinkedHashMap<>();
+		for (PropertySourceLoader loader : loaders) {
+			for (String extension : loader.getFileExtensions()) {
+				if (byExtension.putIfAbsent(extension, loader) == null) {
+					order.addFirst(extension);
+				}
+			}
+		}
+		this.extensions = new LinkedHashMap<>();
+		order.forEach(extension -> this.extensions.put(extension, byExtension.get(extension)));
+		this.parsedDocumentCache = null;
+		this.systemEnvironmentOverrides = systemEnvironmentOverrides();
+	}
+
+	private ConfigFileEnvironmentLoader(ConfigFileEnvironmentLoader loader, ParsedDocumentCache parsedDocumentCache) {
+		this.extensions = loader.extensions;
+		this.parsedDocumentCache = parsedDocumentCache;
+		this.systemEnvironmentOverrides = loader.systemEnvironmentOverrides;
+	}
+
+	static ConfigFileEnvironmentLoader get() {
+		return INSTANCE;
+	}
+
+	/**
+	 * @param parsedDocumentCache the cache of parsed files, may be null
+	 * @return a loader reading the files through the given cache
+	 */
+	ConfigFileEnvironmentLoader withParsedDocumentCache(ParsedDocumentCache parsedDocumentCache) {
+		if (parsedDocumentCache == this.parsedDocumentCache) {
+			return this;
+		}
+		return new ConfigFileEnvironmentLoader(this, parsedDocumentCache);
+	}
+
+	/**
+	 * Load the configuration files of a request.
+	 * @param resourceLoader the resource loader for the locations
+	 * @param locations the search locations, directories ending with a slash
+	 * @param names the config file names, lowest precedence first
+	 * @param profile the comma separated active profiles, may be null
+	 * @return an environment holding the property sources of the files, or null if the
+	 * request needs the full Spring Boot config data support
+	 * @throws IOException if a file cannot be read
+	 */
+	ConfigurableEnvironment load(ResourceLoader resourceLoader, String[] locations, String[] names, String profile)
+			throws IOException {
+		if (this.systemEnvironmentOverrides || !isSupported(locations, names, profile)) {
+			return null;
+		}
+		Set<String> active = StringUtils.commaDelimitedListToSet(profile);
+		List<String> accepted = active.isEmpty() ? List.of(DEFAULT_PROFILE) : new ArrayList<>(active);
+
+		Set<Resource> loaded = new HashSet<>();
+		List<PropertySource<?>> propertySources = new ArrayList<>();
+		// profile specific files take precedence over the others
+		if (!load(resourceLoader, references(locations, names, accepted), true, loaded, active, propertySources)) {
+			return null;
+		}
+		if (!load(resourceLoader, references(locations, names, Collections.singletonList(null)), false, loaded,
+				active, propertySources)) {
+			return null;
+		}
+
+		ConfigurableEnvironment environment = new StandardEnvironment();
+		propertySources.forEach(environment.getPropertySources()::addLast);
+		if (!active.isEmpty()) {
+			environment.setActiveProfiles(StringUtils.toStringArray(active));
+		}
+		return environment;
+	}
+
+	/**
+	 * Candidate files, lowest precedence first: later locations and later names win,
+	 * and so do later profiles.
+	 */
+	private Collection<Reference> references(String[] locations, String[] names, List<String> profiles) {
+		Map<String, Reference> references = new LinkedHashMap<>();
+		for (String profile : profiles) {
+			for (String location : locations) {
+				String directory = directory(location);
+				for (String name : names) {
+					for (Map.Entry<String, PropertySourceLoader> extension : this.extensions.entrySet()) {
+						String path = directory + name + ((profile != null) ? "-" + profile : "") + "."
+								+ extension.getKey();
+						references.putIfAbsent(path, new Reference(location, path, extension.getValue()));
+					}
+				}
+			}
+		}
+		return references.values();
+	}
+
+	private boolean load(ResourceLoader resourceLoader, Collection<Reference> references, boolean profileSpecific,
+			Set<Resource> loaded, Set<String> active, List<PropertySource<?>> output) throws IOException {
+		List<Reference> highestFirst = new ArrayList<>(references);
+		Collections.reverse(highestFirst);
+		for (Reference reference : highestFirst) {
+			Resource resource = resourceLoader.getResource(reference.path());
+			if (!resource.exists() || !loaded.add(resource)) {
+				continue;
+			}
+			String name = String.format("Config resource '%s' via location '%s'", describe(resource),
+					reference.location());
+			List<PropertySource<?>> documents = parse(name, resource, reference.loader());
+			// later documents of a file take precedence
+			for (int i = documents.size() - 1; i >= 0; i--) {
+				PropertySource<?> document = documents.get(i);
+				if (!isSupported(document) || (profileSpecific && document.containsProperty(ON_PROFILE))) {
+					// Spring Boot rejects on-profile in profile specific files
+					return false;
+				}
+				if (isActive(document, active)) {
+					output.add(document);
+				}
+			}
+		}
+		return true;
+	}
+
+	private List<PropertySource<?>> parse(String name, Resource resource, PropertySourceLoader loader)
+			throws IOException {
+		Resource tracked = OriginTrackedResource.of(resource, null);
+		if (this.parsedDocumentCache == null) {
+			return loader.load(name, tracked);
+		}
+		return this.parsedDocumentCache.load(name, resource, () -> loader.load(name, tracked));
+	}
+
+	private boolean isActive(PropertySource<?> document, Set<String> active) {
+		String[] onProfile = new Binder(ConfigurationPropertySources.from(document))
+			.bind(ON_PROFILE, Bindable.of(String[].class))
+			.orElse(null);
+		if (onProfile == null) {
+			return true;
+		}
+		Set<String> accepted = active.isEmpty() ? Set.of(DEFAULT_PROFILE) : active;
+		return Profiles.of(onProfile).matches(accepted::contains);
+	}
+
+	private static boolean isSupported(String[] locations, String[] names, String profile) {
+		for (String location : locations) {
+			if (!location.endsWith("/") || location.contains("*") || location.contains("${")) {
+				return false;
+			}
+		}
+		for (String name : names) {
+			if (!StringUtils.hasText(name) || !name.equals(name.trim()) || name.contains("*")) {
+				return false;
+			}
+		}
+		for (String active : StringUtils.commaDelimitedListToStringArray(profile)) {
+			if (!VALID_PROFILE.matcher(active).matches()) {
+				// let Spring Boot report or tidy up unusual profile names
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Documents setting anything but {@code spring.config.activate.on-profile} below
+	 * {@code spring.config} or {@code spring.profiles} change how the other files are
+	 * located.
+	 */
+	private static boolean isSupported(PropertySource<?> document) {
+		if (!(document instanceof EnumerablePropertySource<?> enumerable)) {
+			return false;
+		}
+		for (String key : enumerable.getPropertyNames()) {
+			String normalized = key.toLowerCase().replace("-", "");
+			if (normalized.startsWith("spring.profiles") || (normalized.startsWith("spring.config.")
+					&& !normalized.startsWith("spring.config.activate.onprofile"))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Spring Boot also reads its config data properties from system properties and
+	 * environment variables.
+	 */
+	private static boolean systemEnvironmentOverrides() {
+		for (String key : System.getProperties().stringPropertyNames()) {
+			if ((key.startsWith("spring.config.") || key.startsWith("spring.profiles."))
+					&& !OVERRIDDEN_PROPERTIES.contains(key)) {
+				return true;
+			}
+		}
+		for (String key : System.getenv().keySet()) {
+			if ((key.startsWith("SPRING_CONFIG_") || key.startsWith("SPRING_PROFILES_"))
+					&& !OVERRIDDEN_PROPERTIES.contains(key)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static String directory(String location) {
+		String directory = location;
+		if (directory.startsWith(OPTIONAL_PREFIX)) {
+			directory = directory.substring(OPTIONAL_PREFIX.length());
+		}
+		if (directory.startsWith(RESOURCE_PREFIX)) {
+			directory = directory.substring(RESOURCE_PREFIX.length());
+		}
+		directory = StringUtils.cleanPath(directory);
+		if (!ResourceUtils.isUrl(directory)) {
+			directory = ResourceUtils.FILE_URL_PREFIX + directory;
+		}
+		return directory.endsWith("/") ? directory : directory + "/";
+	}
+
+	/**
+	 * The description Spring Boot uses for a config file.
+	 */
+	private static String describe(Resource resource) {
+		if (resource instanceof FileSystemResource || resource instanceof FileUrlResource) {
+			try {
+				return "file [" + resource.getFile() + "]";
+			}
+			catch (IOException ex) {
+				// fall through
+			}
+		}
+		return resource.toString();
+	}
+
+	private record Reference(String location, String path, PropertySourceLoader loader) {
+	}
+
+}
@@ -16,6 +16,10 @@
 
 package org.springframework.cloud.config.server.environment;
 
+import java.time.Duration;
+
+import jakarta.validation.constraints.Min;
+
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -30,6 +34,15 @@ public class CredhubEnvironmentProperties extends EnvironmentProperties {
 	/** The default label to be used when is not provided by client applications. */
 	private String defaultLabel = "master";
 
+	/**
+	 * Maximum number of credential paths looked up at the same time, across all requests.
+	 * With 1 the paths of a request are looked up one after the other.
+	 */
+	@Min(1)
+	private int fetchConcurrency = 1;
+
+	private CacheProperties cache = new CacheProperties();
+
 	public String getPath() {
 		return this.path;
 	}
@@ -46,4 +59,51 @@ public class CredhubEnvironmentProperties extends EnvironmentProperties {
 		this.defaultLabel = defaultLabel;
 	}
 
+	public int getFetchConcurrency() {
+		return fetchConcurrency;
+	}
+
+	public void setFetchConcurrency(int fetchConcurrency) {
+		this.fetchConcurrency = fetchConcurrency;
+	}
+
+	public CacheProperties getCache() {
+		return cache;
+	}
+
+	public void setCache(CacheProperties cache) {
+		this.cache = cache;
+	}
+
+	public static class CacheProperties {
+
+		/**
+		 * Flag to keep the credentials of each path in memory. When the time to live of
+		 * a path is elapsed, only the credentials with a new version are read again.
+		 */
+		private boolean enabled = false;
+
+		/**
+		 * How long the credentials of a path are used before looking up the path again.
+		 */
+		private Duration timeToLive = Duration.ofSeconds(30);
+
+		public boolean isEnabled() {
+			return enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public Duration getTimeToLive() {
+			return timeToLive;
+		}
+
+		public void setTimeToLive(Duration timeToLive) {
+			this.timeToLive = timeToLive;
+		}
+
+	}
+
 }
@@ -17,24 +17,30 @@
 package org.springframework.cloud.config.server.environment;
 
 import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import org.springframework.cloud.config.environment.Environment;
 import org.springframework.cloud.config.environment.PropertySource;
 import org.springframework.core.Ordered;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.credhub.core.CredHubOperations;
-import org.springframework.credhub.support.CredentialDetails;
+import org.springframework.credhub.support.CredentialSummary;
 import org.springframework.credhub.support.SimpleCredentialName;
 import org.springframework.credhub.support.json.JsonCredential;
 import org.springframework.util.ObjectUtils;
 import org.springframework.util.StringUtils;
 
-import static java.util.stream.Collectors.toMap;
-
 /**
  * @author Alberto C. Ríos
  * @author KNV Srinivas
@@ -45,6 +51,11 @@ public class CredhubEnvironmentRepository implements EnvironmentRepository, Orde
 
 	private static final String DEFAULT_APPLICATION = "application";
 
+	/**
+	 * Maximum number of credential versions kept to look up changed paths.
+	 */
+	private static final int MAX_CACHED_CREDENTIALS = 512;
+
 	private final String path;
 
 	private final String defaultLabel;
@@ -53,6 +64,19 @@ public class CredhubEnvironmentRepository implements EnvironmentRepository, Orde
 
 	private final CredHubOperations credHubOperations;
 
+	private final Map<String, Snapshot> snapshots = new ConcurrentHashMap<>();
+
+	private final Map<CredentialVersion, Map<String, Object>> credentials = new LinkedHashMap<>(16, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<CredentialVersion, Map<String, Object>> eldest) {
+			return size() > MAX_CACHED_CREDENTIALS;
+		}
+	};
+
+	private volatile Duration cacheTimeToLive;
+
+	private AsyncTaskExecutor executor;
+
 	public CredhubEnvironmentRepository(CredHubOperations credHubOperations) {
 		this(credHubOperations, new CredhubEnvironmentProperties());
 	}
@@ -78,18 +102,49 @@ public class CredhubEnvironmentRepository implements EnvironmentRepository, Orde
 		List<String> profiles = normalize(profile, DEFAULT_PROFILE);
 		List<String> labels = normalize(label);
 
-		Environment environment = new Environment(application, split(profile), label, null, null);
+		List<Source> sources = new ArrayList<>();
 		for (String l : labels) {
 			for (String prof : profiles) {
 				for (String app : applications) {
-					addPropertySource(environment, app, prof, l);
+					sources.add(new Source(app, prof, l));
 				}
 			}
 		}
 
+		List<Map<Object, Object>> properties = findProperties(sources);
+		Environment environment = new Environment(application, split(profile), label, null, null);
+		for (int i = 0; i < sources.size(); i++) {
+			Source source = sources.get(i);
+			addPropertySource(environment, source.application(), source.profile(), source.label(),
+					properties.get(i));
+		}
+
 		return environment;
 	}
 
+	/**
+	 * Keep the credentials of each path for the given time. Once it is elapsed the path
+	 * is looked up again, but only the credentials with a new version are read.
+	 * @param timeToLive how long the credentials of a path are used, null to look up the
+	 * paths on every request
+	 */
+	public void setCacheTimeToLive(Duration timeToLive) {
+		this.cacheTimeToLive = timeToLive;
+		this.snapshots.clear();
+		synchronized (this.credentials) {
+			this.credentials.clear();
+		}
+	}
+
+	/**
+	 * Look up the paths of a request concurrently on the given executor instead of one
+	 * after the other.
+	 * @param executor the executor, null to look up the paths one at a time
+	 */
+	public void setExecutor(AsyncTaskExecutor executor) {
+		this.executor = executor;
+	}
+
 	/**
 	 * Splits the comma-delimited items and returns the reversed distinct items with given
 	 * default item at the end.
@@ -111,8 +166,8 @@ public class CredhubEnvironmentRepository implements EnvironmentRepository, Orde
 		return items;
 	}
 
-	private void addPropertySource(Environment environment, String application, String profile, String label) {
-		Map<Object, Object> properties = findProperties(application, profile, label);
+	private void addPropertySource(Environment environment, String application, String profile, String label,
+			Map<Object, Object> properties) {
 		// The main PropertySource (the first one) should be always there, even if it is
 		// empty.
 		if (!properties.isEmpty() || environment.getPropertySources().isEmpty()) {
@@ -122,18 +177,63 @@ public class CredhubEnvironmentRepository implements EnvironmentRepository, Orde
 		}
 	}
 
-	private Map<Object, Object> findProperties(String application, String profile, String label) {
-		var path = Path.of("/", this.path, application, profile, label).toString();
+	private List<Map<Object, Object>> findProperties(List<Source> sources) {
+		List<Callable<Map<Object, Object>>> tasks = new ArrayList<>(sources.size());
+		for (Source source : sources) {
+			tasks.add(() -> findProperties(source));
+		}
+		return FetchExecutors.fetchAll(this.executor, tasks, "looking up CredHub credentials");
+	}
 
-		return this.credHubOperations.credentials()
-			.findByPath(path)
-			.stream()
-			.map(credentialSummary -> credentialSummary.getName().getName())
-			.map(name -> this.credHubOperations.credentials()
-				.getByName(new SimpleCredentialName(name), JsonCredential.class))
-			.map(CredentialDetails::getValue)
-			.flatMap(jsonCredential -> jsonCredential.entrySet().stream())
-			.collect(toMap(Map.Entry::getKey, Map.Entry::getValue, (a, b) -> b));
+	private Map<Object, Object> findProperties(Source source) {
+		var path = Path.of("/", this.path, source.application(), source.profile(), source.label()).toString();
+
+		Duration timeToLive = this.cacheTimeToLive;
+		if (timeToLive == null) {
+			return findProperties(path);
+		}
+		Snapshot snapshot = this.snapshots.get(path);
+		if (snapshot != null && snapshot.expires() - System.nanoTime() > 0) {
+			return new HashMap<>(snapshot.properties());
+		}
+		Map<Object, Object> properties = findProperties(path);
+		this.snapshots.put(path, new Snapshot(properties, System.nanoTime() + timeToLive.toNanos()));
+		return new HashMap<>(properties);
+	}
+
+	private Map<Object, Object> findProperties(String path) {
+		Map<Object, Object> properties = new HashMap<>();
+		for (CredentialSummary credential : this.credHubOperations.credentials().findByPath(path)) {
+			properties.putAll(getCredential(credential));
+		}
+		return properties;
+	}
+
+	/**
+	 * @return the value of the credential, read again only when its version changed
+	 */
+	private Map<String, Object> getCredential(CredentialSummary credential) {
+		String name = credential.getName().getName();
+		Instant version = credential.getVersionCreatedAt();
+		CredentialVersion key = (this.cacheTimeToLive != null && version != null) ? new CredentialVersion(name, version)
+				: null;
+		if (key != null) {
+			synchronized (this.credentials) {
+				Map<String, Object> value = this.credentials.get(key);
+				if (value != null) {
+					return value;
+				}
+			}
+		}
+		Map<String, Object> value = this.credHubOperations.credentials()
+			.getByName(new SimpleCredentialName(name), JsonCredential.class)
+			.getValue();
+		if (key != null) {
+			synchronized (this.credentials) {
+				this.credentials.put(key, value);
+			}
+		}
+		return value;
 	}
 
 	private String[] split(String str) {
@@ -149,4 +249,16 @@ public class CredhubEnvironmentRepository implements EnvironmentRepository, Orde
 		this.order = order;
 	}
 
+	private record Source(String application, String profile, String label) {
+	}
+
+	/**
+	 * @param expires when the snapshot expires, as returned by {@link System#nanoTime()}
+	 */
+	private record Snapshot(Map<Object, Object> properties, long expires) {
+	}
+
+	private record CredentialVersion(String name, Instant createdAt) {
+	}
+
 }
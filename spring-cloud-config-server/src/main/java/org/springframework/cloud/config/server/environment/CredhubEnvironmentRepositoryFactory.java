@@ -33,7 +33,16 @@ public class CredhubEnvironmentRepositoryFactory
 
 	@Override
 	public CredhubEnvironmentRepository build(CredhubEnvironmentProperties environmentProperties) {
-		return new CredhubEnvironmentRepository(this.credhubOperations, environmentProperties);
+		CredhubEnvironmentRepository repository = new CredhubEnvironmentRepository(this.credhubOperations,
+				environmentProperties);
+		if (environmentProperties.getCache().isEnabled()) {
+			repository.setCacheTimeToLive(environmentProperties.getCache().getTimeToLive());
+		}
+		if (environmentProperties.getFetchConcurrency() > 1) {
+			repository.setExecutor(
+					FetchExecutors.create("config-credhub-", environmentProperties.getFetchConcurrency()));
+		}
+		return repository;
 	}
 
 }
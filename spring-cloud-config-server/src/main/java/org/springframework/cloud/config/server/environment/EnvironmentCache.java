@@ -0,0 +1,262 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.config.server.environment;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.cloud.config.environment.Environment;
+import org.springframework.cloud.config.environment.PropertySource;
+import org.springframework.cloud.config.environment.PropertyValueDescriptor;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * Bounded, time-limited store of {@link Environment} responses shared by every
+ * {@link CachingEnvironmentRepository}. Entries are keyed by the request coordinates
+ * (application, profiles, label, includeOrigin), the config token of the caller and the
+ * version the backend resolved for the request, so that an entry is never served once the
+ * backend has moved on to a different commit or revision.
+ */
+public class EnvironmentCache {
+
+	private static final Log log = LogFactory.getLog(EnvironmentCache.class);
+
+	private final Map<Key, Entry> entries;
+
+	private final Duration timeToLive;
+
+	private final Clock clock;
+
+	private final AtomicLong hits = new AtomicLong();
+
+	private final AtomicLong misses = new AtomicLong();
+
+	private final AtomicLong evictions = new AtomicLong();
+
+	public EnvironmentCache(int maxSize, Duration timeToLive) {
+		this(maxSize, timeToLive, Clock.systemUTC());
+	}
+
+	EnvironmentCache(int maxSize, Duration timeToLive, Clock clock) {
+		Assert.isTrue(maxSize > 0, "maxSize must be greater than 0");
+		this.timeToLive = timeToLive;
+		this.clock = clock;
+		this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+				if (size() > maxSize) {
+					evictions.incrementAndGet();
+					return true;
+				}
+				return false;
+			}
+		};
+	}
+
+	/**
+	 * Look up a cached environment.
+	 * @param key the cache key
+	 * @return a copy of the cached environment or null if there is no live entry
+	 */
+	public Environment get(Key key) {
+		Entry entry;
+		synchronized (this.entries) {
+			entry = this.entries.get(key);
+			if (entry != null && isExpired(entry)) {
+				this.entries.remove(key);
+				this.evictions.incrementAndGet();
+				entry = null;
+			}
+		}
+		if (entry == null) {
+			this.misses.incrementAndGet();
+			return null;
+		}
+		this.hits.incrementAndGet();
+		return copy(entry.environment);
+	}
+
+	/**
+	 * Store an environment. Any entry for the same request coordinates that was resolved
+	 * against a different version is dropped.
+	 * @param key the cache key
+	 * @param environment the environment to store
+	 */
+	public void put(Key key, Environment environment) {
+		synchronized (this.entries) {
+			if (this.entries.keySet().removeIf(existing -> existing.isSameRequest(key) && !existing.equals(key))) {
+				this.evictions.incrementAndGet();
+			}
+			this.entries.put(key, new Entry(copy(environment), this.clock.millis()));
+		}
+	}
+
+	/**
+	 * Drop every entry for the given application. The wildcard "*" and the shared
+	 * "application" name clear the whole cache since they contribute to every
+	 * application.
+	 * @param application the application name
+	 */
+	public void evict(String application) {
+		if (application == null || "*".equals(application) || "application".equals(application)) {
+			clear();
+			return;
+		}
+		synchronized (this.entries) {
+			int size = this.entries.size();
+			this.entries.keySet().removeIf(key -> key.appliesTo(application));
+			this.evictions.addAndGet(size - this.entries.size());
+		}
+		if (log.isDebugEnabled()) {
+			log.debug("Evicted cached environments for " + application);
+		}
+	}
+
+	/**
+	 * Drop every entry.
+	 */
+	public void clear() {
+		synchronized (this.entries) {
+			this.evictions.addAndGet(this.entries.size());
+			this.entries.clear();
+		}
+		if (log.isDebugEnabled()) {
+			log.debug("Cleared all cached environments");
+		}
+	}
+
+	public int size() {
+		synchronized (this.entries) {
+			return this.entries.size();
+		}
+	}
+
+	public long getHitCount() {
+		return this.hits.get();
+	}
+
+	public long getMissCount() {
+		return this.misses.get();
+	}
+
+	public long getEvictionCount() {
+		return this.evictions.get();
+	}
+
+	private boolean isExpired(Entry entry) {
+		if (this.timeToLive == null || this.timeToLive.isZero() || this.timeToLive.isNegative()) {
+			return false;
+		}
+		return this.clock.millis() - entry.created > this.timeToLive.toMillis();
+	}
+
+	/**
+	 * Copy an environment down to its property values, so that neither the caller that
+	 * stored it nor the callers it is served to can change what the cache holds.
+	 */
+	private static Environment copy(Environment source) {
+		Environment copy = new Environment(source);
+		for (PropertySource propertySource : source.getPropertySources()) {
+			copy.add(new PropertySource(propertySource.getName(), copy(propertySource.getSource()),
+					propertySource.getOriginalPropertySource()));
+		}
+		return copy;
+	}
+
+	private static Map<Object, Object> copy(Map<?, ?> source) {
+		Map<Object, Object> copy = new LinkedHashMap<>();
+		source.forEach((key, value) -> copy.put(key, (value instanceof PropertyValueDescriptor descriptor)
+				? new PropertyValueDescriptor(descriptor.getValue(), descriptor.getOrigin()) : value));
+		return copy;
+	}
+
+	private record Entry(Environment environment, long created) {
+	}
+
+	/**
+	 * Identifies a cached environment.
+	 */
+	public static final class Key {
+
+		private final String application;
+
+		private final String profiles;
+
+		private final String label;
+
+		private final boolean includeOrigin;
+
+		private final String token;
+
+		private final String version;
+
+		public Key(String application, String profiles, String label, boolean includeOrigin, String token,
+				String version) {
+			this.application = application;
+			this.profiles = profiles;
+			this.label = label;
+			this.includeOrigin = includeOrigin;
+			this.token = token;
+			this.version = version;
+		}
+
+		boolean appliesTo(String name) {
+			return this.application != null
+					&& StringUtils.commaDelimitedListToSet(this.application).contains(name);
+		}
+
+		boolean isSameRequest(Key other) {
+			return Objects.equals(this.application, other.application) && Objects.equals(this.profiles, other.profiles)
+					&& Objects.equals(this.label, other.label) && this.includeOrigin == other.includeOrigin
+					&& Objects.equals(this.token, other.token);
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (o == null || getClass() != o.getClass()) {
+				return false;
+			}
+			Key other = (Key) o;
+			return isSameRequest(other) && Objects.equals(this.version, other.version);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(this.application, this.profiles, this.label, this.includeOrigin, this.token,
+					this.version);
+		}
+
+		@Override
+		public String toString() {
+			return "Key [application=" + this.application + ", profiles=" + this.profiles + ", label=" + this.label
+					+ ", includeOrigin=" + this.includeOrigin + ", version=" + this.version + "]";
+		}
+
+	}
+
+}
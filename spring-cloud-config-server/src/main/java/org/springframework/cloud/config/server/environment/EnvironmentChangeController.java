@@ -0,0 +1,72 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.config.server.environment;
+
+import org.springframework.cloud.config.environment.Environment;
+import org.springframework.cloud.config.server.support.PathUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Serves the streams of the {@link EnvironmentChangeNotifier}, so that clients are told
+ * when their environment changes instead of polling for it.
+ */
+@RestController
+@RequestMapping(method = RequestMethod.GET, path = "${spring.cloud.config.server.prefix:}")
+public class EnvironmentChangeController {
+
+	/**
+	 * The header a client sends the id of the last event it received in when it
+	 * subscribes again.
+	 */
+	public static final String LAST_EVENT_ID = "Last-Event-ID";
+
+	private final EnvironmentChangeNotifier notifier;
+
+	public EnvironmentChangeController(EnvironmentChangeNotifier notifier) {
+		this.notifier = notifier;
+	}
+
+	@GetMapping(path = "/changes/{name}/{profiles}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	public SseEmitter defaultLabel(@PathVariable String name, @PathVariable String profiles,
+			@RequestHeader(name = LAST_EVENT_ID, required = false) String lastEventId,
+			@RequestHeader HttpHeaders headers) {
+		return labelled(name, profiles, null, lastEventId, headers);
+	}
+
+	@GetMapping(path = "/changes/{name}/{profiles}/{label}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	public SseEmitter labelled(@PathVariable String name, @PathVariable String profiles, @PathVariable String label,
+			@RequestHeader(name = LAST_EVENT_ID, required = false) String lastEventId,
+			@RequestHeader HttpHeaders headers) {
+		return this.notifier.subscribe(normalize(name), profiles, normalize(label), lastEventId, headers);
+	}
+
+	private String normalize(String part) {
+		if (PathUtils.isInvalidEncodedLocation(part)) {
+			throw new InvalidEnvironmentRequestException("Invalid request");
+		}
+		return Environment.normalize(part);
+	}
+
+}
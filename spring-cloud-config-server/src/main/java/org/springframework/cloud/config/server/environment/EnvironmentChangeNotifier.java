@@ -0,0 +1,330 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.config.server.environment;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.cloud.config.client.ConfigClientProperties;
+import org.springframework.cloud.config.environment.Environment;
+import org.springframework.cloud.config.server.environment.secretmanager.HttpHeaderGoogleConfigProvider;
+import org.springframework.context.ApplicationListener;
+import org.springframework.http.HttpHeaders;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Streams of Server-Sent Events notifying clients when the environment of an
+ * application, profiles and label changes. The environments clients are subscribed to
+ * are checked once per interval, whatever the number of subscribers, and right away when
+ * the monitor endpoint publishes a {@link PropertyPathChangeEvent}. Every event has a
+ * digest of the environment read from the repository as its id (not the ETag of the
+ * environment endpoint, which is computed on the response it sends) and the version of
+ * the environment in the backend in its data. A client that subscribes again with the id of the last event it received
+ * in a {@code Last-Event-ID} header is only sent an event if the environment changed
+ * meanwhile.
+ * <p>
+ * Backends such as Vault or Google Secret Manager read the config token and a few other
+ * headers of the request. The subscriptions are kept per value of these headers, and the
+ * environments are checked in a request context holding them, so that clients with
+ * different tokens never share a subscription.
+ */
+public class EnvironmentChangeNotifier
+		implements ApplicationListener<PropertyPathChangeEvent>, InitializingBean, DisposableBean {
+
+	/**
+	 * The name of the events sent when an environment changed.
+	 */
+	public static final String EVENT_NAME = "change";
+
+	/**
+	 * The request headers the backends read, a subscription is kept per value of them.
+	 */
+	static final List<String> BACKEND_HEADERS = List.of(ConfigClientProperties.TOKEN_HEADER,
+			ConfigClientProperties.STATE_HEADER, HttpHeaderGoogleConfigProvider.PROJECT_ID_HEADER,
+			HttpHeaderGoogleConfigProvider.PREFIX_HEADER);
+
+	private static final Log LOG = LogFactory.getLog(EnvironmentChangeNotifier.class);
+
+	private final EnvironmentRepository repository;
+
+	private final Duration checkInterval;
+
+	private final Duration timeout;
+
+	private final Map<Subscription, Subscribers> subscriptions = new ConcurrentHashMap<>();
+
+	private volatile ScheduledExecutorService scheduler;
+
+	/**
+	 * @param repository the repository the environments are read from
+	 * @param checkInterval time between two checks of the environments
+	 * @param timeout time after which a stream is closed
+	 */
+	public EnvironmentChangeNotifier(EnvironmentRepository repository, Duration checkInterval, Duration timeout) {
+		this.repository = repository;
+		this.checkInterval = checkInterval;
+		this.timeout = timeout;
+	}
+
+	@Override
+	public void afterPropertiesSet() {
+		if (this.scheduler == null) {
+			ScheduledExecutorService scheduler = Executors
+				.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("config-notifications-"));
+			long interval = this.checkInterval.toMillis();
+			scheduler.scheduleWithFixedDelay(this::check, interval, interval, TimeUnit.MILLISECONDS);
+			this.scheduler = scheduler;
+		}
+	}
+
+	@Override
+	public void destroy() {
+		ScheduledExecutorService scheduler = this.scheduler;
+		if (scheduler != null) {
+			this.scheduler = null;
+			scheduler.shutdownNow();
+		}
+		// let the clients subscribe to another instance
+		for (Subscribers subscribers : this.subscriptions.values()) {
+			subscribers.emitters.forEach(SseEmitter::complete);
+		}
+		this.subscriptions.clear();
+	}
+
+	/**
+	 * Check the environments right away when the monitor endpoint is notified of a
+	 * change.
+	 */
+	@Override
+	public void onApplicationEvent(PropertyPathChangeEvent event) {
+		ScheduledExecutorService scheduler = this.scheduler;
+		if (scheduler != null) {
+			try {
+				scheduler.execute(this::check);
+			}
+			catch (RuntimeException e) {
+				LOG.debug("Could not schedule a check of the environments", e);
+			}
+		}
+	}
+
+	/**
+	 * Subscribe to the changes of an environment.
+	 * @param application the application name
+	 * @param profiles the profiles
+	 * @param label the label, null for the default one
+	 * @param lastEventId the id of the last event the client received, null if it did
+	 * not receive any
+	 * @param headers the headers of the request, the ones the backends read are kept to
+	 * check the environment
+	 * @return the stream of events, starting with an event for the current environment
+	 * unless its id is the last event id
+	 */
+	public SseEmitter subscribe(String application, String profiles, String label, String lastEventId,
+			HttpHeaders headers) {
+		Map<String, String> backendHeaders = new LinkedHashMap<>();
+		for (String name : BACKEND_HEADERS) {
+			String value = headers.getFirst(name);
+			if (value != null) {
+				backendHeaders.put(name, value);
+			}
+		}
+		Subscription subscription = new Subscription(application, profiles, label, backendHeaders);
+		SseEmitter emitter = new SseEmitter(this.timeout.toMillis());
+		Subscribers subscribers = this.subscriptions.compute(subscription, (key, existing) -> {
+			Subscribers result = (existing != null) ? existing : new Subscribers();
+			result.emitters.add(emitter);
+			return result;
+		});
+		emitter.onTimeout(emitter::complete);
+		emitter.onCompletion(() -> unsubscribe(subscription, emitter));
+		try {
+			Checked checked = subscribers.checked;
+			if (checked == null || (lastEventId != null && !lastEventId.equals(checked.digest()))) {
+				if (check(subscription, subscribers)) {
+					// every subscriber, this one included, was notified
+					return emitter;
+				}
+				checked = subscribers.checked;
+			}
+			if (!checked.digest().equals(lastEventId)) {
+				send(subscription, emitter, checked);
+			}
+			return emitter;
+		}
+		catch (RuntimeException e) {
+			unsubscribe(subscription, emitter);
+			throw e;
+		}
+	}
+
+	/**
+	 * @return the number of open streams
+	 */
+	public int getSubscriberCount() {
+		return this.subscriptions.values().stream().mapToInt(subscribers -> subscribers.emitters.size()).sum();
+	}
+
+	/**
+	 * Check every environment clients are subscribed to, and notify them of the ones that
+	 * changed. The other streams are sent a comment, so that connections that were closed
+	 * are found out and idle connections are kept open.
+	 */
+	void check() {
+		this.subscriptions.forEach((subscription, subscribers) -> {
+			try {
+				if (check(subscription, subscribers)) {
+					return;
+				}
+			}
+			catch (RuntimeException e) {
+				LOG.warn("Could not check the environment of " + subscription + ": " + e.getMessage());
+				if (LOG.isDebugEnabled()) {
+					LOG.debug("Could not check the environment of " + subscription, e);
+				}
+			}
+			for (SseEmitter emitter : subscribers.emitters) {
+				send(subscription, emitter, SseEmitter.event().comment(""));
+			}
+		});
+	}
+
+	/**
+	 * @return true if the environment changed since it was last checked and the
+	 * subscribers were notified
+	 */
+	private boolean check(Subscription subscription, Subscribers subscribers) {
+		synchronized (subscribers) {
+			Environment environment = findOne(subscription);
+			Checked checked = new Checked(EnvironmentControllerAdvice.digest(environment, null),
+					environment.getVersion());
+			Checked previous = subscribers.checked;
+			subscribers.checked = checked;
+			if (previous == null || previous.digest().equals(checked.digest())) {
+				return false;
+			}
+			if (LOG.isDebugEnabled()) {
+				LOG.debug("Environment of " + subscription + " changed, notifying " + subscribers.emitters.size()
+						+ " subscribers");
+			}
+			for (SseEmitter emitter : subscribers.emitters) {
+				send(subscription, emitter, checked);
+			}
+			return true;
+		}
+	}
+
+	/**
+	 * Read the environment in a request context holding the headers of the subscribers,
+	 * whether it is checked by the request of a subscriber or in the background.
+	 */
+	private Environment findOne(Subscription subscription) {
+		RequestAttributes previous = RequestContextHolder.getRequestAttributes();
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(
+				new HeaderOnlyHttpServletRequest(subscription.headers())));
+		try {
+			return this.repository.findOne(subscription.application(), subscription.profiles(), subscription.label(),
+					false);
+		}
+		finally {
+			RequestContextHolder.setRequestAttributes(previous);
+		}
+	}
+
+	private void send(Subscription subscription, SseEmitter emitter, Checked checked) {
+		Map<String, String> data = new LinkedHashMap<>();
+		data.put("name", subscription.application());
+		data.put("profiles", subscription.profiles());
+		data.put("label", subscription.label());
+		data.put("version", checked.version());
+		send(subscription, emitter, SseEmitter.event().id(checked.digest()).name(EVENT_NAME).data(data));
+	}
+
+	private void send(Subscription subscription, SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+		try {
+			emitter.send(event);
+		}
+		catch (IOException | IllegalStateException e) {
+			// the client went away or the stream timed out
+			unsubscribe(subscription, emitter);
+		}
+	}
+
+	private void unsubscribe(Subscription subscription, SseEmitter emitter) {
+		this.subscriptions.computeIfPresent(subscription, (key, subscribers) -> {
+			subscribers.emitters.remove(emitter);
+			return subscribers.emitters.isEmpty() ? null : subscribers;
+		});
+	}
+
+	/**
+	 * The environment subscribers are notified of the changes of.
+	 *
+	 * @param application the application name
+	 * @param profiles the profiles
+	 * @param label the label, null for the default one
+	 * @param headers the request headers the backends read
+	 */
+	private record Subscription(String application, String profiles, String label, Map<String, String> headers) {
+
+		@Override
+		public String toString() {
+			// the headers hold credentials
+			return "application=" + this.application + ", profiles=" + this.profiles + ", label=" + this.label;
+		}
+
+	}
+
+	private static final class Subscribers {
+
+		private final Set<SseEmitter> emitters = new CopyOnWriteArraySet<>();
+
+		/**
+		 * The environment when it was last checked, null until it is.
+		 */
+		private volatile Checked checked;
+
+	}
+
+	/**
+	 * A checked environment.
+	 *
+	 * @param digest the digest of the environment, the id of the events
+	 * @param version the version of the environment in the backend, may be null
+	 */
+	private record Checked(String digest, String version) {
+	}
+
+}
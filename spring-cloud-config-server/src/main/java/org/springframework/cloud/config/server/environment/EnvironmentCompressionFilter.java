@@ -0,0 +1,408 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.config.server.environment;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Compresses the responses of the {@link EnvironmentController} with gzip for the clients
+ * that accept it. The compressed bodies are kept in a bounded cache keyed by a digest of
+ * the uncompressed body and its content type, so that an environment that did not change
+ * is compressed once and then served from memory. Other responses are written through
+ * untouched, and responses that already have a {@code Content-Encoding} or are smaller
+ * than the minimum size are not compressed.
+ * <p>
+ * Every environment response varies on {@code Accept-Encoding}, and the ETag of a
+ * compressed one is suffixed with {@code -gzip}, so that caches never serve a compressed
+ * body to a client that did not ask for it. An {@code If-None-Match} header holding such
+ * an ETag is matched against the ETag of the uncompressed environment.
+ */
+public class EnvironmentCompressionFilter extends OncePerRequestFilter {
+
+	private static final String GZIP = "gzip";
+
+	private static final String GZIP_ETAG_SUFFIX = "-" + GZIP + "\"";
+
+	private final long minResponseSize;
+
+	private final Map<String, byte[]> compressedBodies;
+
+	private final AtomicLong hits = new AtomicLong();
+
+	private final AtomicLong misses = new AtomicLong();
+
+	public EnvironmentCompressionFilter(long minResponseSize, int maxSize) {
+		this.minResponseSize = minResponseSize;
+		this.compressedBodies = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, byte[]> eldest) {
+				return size() > maxSize;
+			}
+		};
+	}
+
+	public long getHitCount() {
+		return this.hits.get();
+	}
+
+	public long getMissCount() {
+		return this.misses.get();
+	}
+
+	@Override
+	protected boolean shouldNotFilter(HttpServletRequest request) {
+		return !HttpMethod.GET.matches(request.getMethod());
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+			throws ServletException, IOException {
+		boolean gzip = acceptsGzip(request);
+		HttpServletRequest environmentRequest = request;
+		boolean gzipValidator = gzip && hasGzipETag(request);
+		if (gzipValidator) {
+			environmentRequest = new GzipValidatorRequest(request);
+		}
+		EnvironmentResponse environmentResponse = new EnvironmentResponse(environmentRequest, response);
+		filterChain.doFilter(environmentRequest, environmentResponse);
+		byte[] body = environmentResponse.getBody();
+		if (!response.isCommitted() && isEnvironmentRequest(request)) {
+			if (!response.getHeaders(HttpHeaders.VARY).contains(HttpHeaders.ACCEPT_ENCODING)) {
+				response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+			}
+			if (gzipValidator && response.getStatus() == HttpServletResponse.SC_NOT_MODIFIED) {
+				// the client holds the compressed body
+				setGzipETag(response);
+			}
+		}
+		if (body == null) {
+			// not an environment, already written
+			return;
+		}
+		if (gzip && body.length >= this.minResponseSize && !response.containsHeader(HttpHeaders.CONTENT_ENCODING)) {
+			body = compress(response.getContentType(), body);
+			response.setHeader(HttpHeaders.CONTENT_ENCODING, GZIP);
+			setGzipETag(response);
+		}
+		response.setContentLength(body.length);
+		response.getOutputStream().write(body);
+	}
+
+	private static boolean hasGzipETag(HttpServletRequest request) {
+		Enumeration<String> values = request.getHeaders(HttpHeaders.IF_NONE_MATCH);
+		while (values != null && values.hasMoreElements()) {
+			if (values.nextElement().contains(GZIP_ETAG_SUFFIX)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static void setGzipETag(HttpServletResponse response) {
+		String etag = response.getHeader(HttpHeaders.ETAG);
+		if (etag != null && etag.endsWith("\"") && !etag.endsWith(GZIP_ETAG_SUFFIX)) {
+			response.setHeader(HttpHeaders.ETAG, etag.substring(0, etag.length() - 1) + GZIP_ETAG_SUFFIX);
+		}
+	}
+
+	private byte[] compress(String contentType, byte[] body) throws IOException {
+		String key = digest(contentType, body);
+		byte[] compressed;
+		synchronized (this.compressedBodies) {
+			compressed = this.compressedBodies.get(key);
+		}
+		if (compressed != null) {
+			this.hits.incrementAndGet();
+			return compressed;
+		}
+		this.misses.incrementAndGet();
+		ByteArrayOutputStream output = new ByteArrayOutputStream(body.length / 4);
+		try (GZIPOutputStream gzip = new GZIPOutputStream(output)) {
+			gzip.write(body);
+		}
+		compressed = output.toByteArray();
+		synchronized (this.compressedBodies) {
+			this.compressedBodies.put(key, compressed);
+		}
+		return compressed;
+	}
+
+	private static String digest(String contentType, byte[] body) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			if (contentType != null) {
+				digest.update(contentType.getBytes(StandardCharsets.UTF_8));
+			}
+			digest.update((byte) 0);
+			return HexFormat.of().formatHex(digest.digest(body));
+		}
+		catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 is not available", e);
+		}
+	}
+
+	/**
+	 * Whether the Accept-Encoding header of a request lists gzip, or any coding, with a
+	 * non zero quality.
+	 */
+	static boolean acceptsGzip(HttpServletRequest request) {
+		for (String value : StringUtils
+			.commaDelimitedListToStringArray(request.getHeader(HttpHeaders.ACCEPT_ENCODING))) {
+			String[] parts = value.split(";");
+			String coding = parts[0].trim();
+			if (!GZIP.equalsIgnoreCase(coding) && !"*".equals(coding)) {
+				continue;
+			}
+			boolean accepted = true;
+			for (int i = 1; i < parts.length; i++) {
+				String parameter = parts[i].trim();
+				if (parameter.startsWith("q=")) {
+					try {
+						accepted = Double.parseDouble(parameter.substring(2)) > 0;
+					}
+					catch (NumberFormatException e) {
+						accepted = false;
+					}
+				}
+			}
+			if (accepted) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static boolean isEnvironmentRequest(HttpServletRequest request) {
+		return request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE) instanceof HandlerMethod handler
+				&& EnvironmentController.class.isAssignableFrom(handler.getBeanType());
+	}
+
+	/**
+	 * Turns the ETags of compressed bodies in the {@code If-None-Match} header back into
+	 * the ETag of the environment, so that they match it.
+	 */
+	private static final class GzipValidatorRequest extends HttpServletRequestWrapper {
+
+		GzipValidatorRequest(HttpServletRequest request) {
+			super(request);
+		}
+
+		@Override
+		public String getHeader(String name) {
+			String value = super.getHeader(name);
+			return (value != null && HttpHeaders.IF_NONE_MATCH.equalsIgnoreCase(name)) ? identity(value) : value;
+		}
+
+		@Override
+		public Enumeration<String> getHeaders(String name) {
+			Enumeration<String> values = super.getHeaders(name);
+			if (values == null || !HttpHeaders.IF_NONE_MATCH.equalsIgnoreCase(name)) {
+				return values;
+			}
+			List<String> identities = Collections.list(values);
+			identities.replaceAll(GzipValidatorRequest::identity);
+			return Collections.enumeration(identities);
+		}
+
+		private static String identity(String value) {
+			return value.replace(GZIP_ETAG_SUFFIX, "\"");
+		}
+
+	}
+
+	/**
+	 * Keeps the body of a successful environment response in memory, and writes any other
+	 * response through. Whether a response is kept is decided when its length or body is
+	 * first written, once the handler of the request is known.
+	 */
+	private static final class EnvironmentResponse extends HttpServletResponseWrapper {
+
+		private final HttpServletRequest request;
+
+		private boolean decided;
+
+		private ByteArrayOutputStream buffer;
+
+		private ServletOutputStream outputStream;
+
+		private PrintWriter writer;
+
+		EnvironmentResponse(HttpServletRequest request, HttpServletResponse response) {
+			super(response);
+			this.request = request;
+		}
+
+		/**
+		 * @return the body of the environment or null if the response was written through
+		 */
+		byte[] getBody() {
+			if (this.writer != null) {
+				this.writer.flush();
+			}
+			return (this.buffer != null) ? this.buffer.toByteArray() : null;
+		}
+
+		private boolean isBuffering() {
+			if (!this.decided) {
+				this.decided = true;
+				if (getStatus() == HttpServletResponse.SC_OK && isEnvironmentRequest(this.request)) {
+					this.buffer = new ByteArrayOutputStream(1024);
+				}
+			}
+			return this.buffer != null;
+		}
+
+		@Override
+		public ServletOutputStream getOutputStream() throws IOException {
+			if (!isBuffering()) {
+				return super.getOutputStream();
+			}
+			if (this.outputStream == null) {
+				this.outputStream = new ServletOutputStream() {
+					@Override
+					public void write(int b) {
+						EnvironmentResponse.this.buffer.write(b);
+					}
+
+					@Override
+					public void write(byte[] b, int off, int len) {
+						EnvironmentResponse.this.buffer.write(b, off, len);
+					}
+
+					@Override
+					public boolean isReady() {
+						return true;
+					}
+
+					@Override
+					public void setWriteListener(WriteListener writeListener) {
+						throw new UnsupportedOperationException("Environment responses are written synchronously");
+					}
+				};
+			}
+			return this.outputStream;
+		}
+
+		@Override
+		public PrintWriter getWriter() throws IOException {
+			if (!isBuffering()) {
+				return super.getWriter();
+			}
+			if (this.writer == null) {
+				this.writer = new PrintWriter(new OutputStreamWriter(this.buffer, getCharacterEncoding()));
+			}
+			return this.writer;
+		}
+
+		@Override
+		public void setContentLength(int len) {
+			if (!isBuffering()) {
+				super.setContentLength(len);
+			}
+		}
+
+		@Override
+		public void setContentLengthLong(long len) {
+			if (!isBuffering()) {
+				super.setContentLengthLong(len);
+			}
+		}
+
+		@Override
+		public void setHeader(String name, String value) {
+			if (!HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name) || !isBuffering()) {
+				super.setHeader(name, value);
+			}
+		}
+
+		@Override
+		public void addHeader(String name, String value) {
+			if (!HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name) || !isBuffering()) {
+				super.addHeader(name, value);
+			}
+		}
+
+		@Override
+		public void setIntHeader(String name, int value) {
+			if (!HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name) || !isBuffering()) {
+				super.setIntHeader(name, value);
+			}
+		}
+
+		@Override
+		public void addIntHeader(String name, int value) {
+			if (!HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name) || !isBuffering()) {
+				super.addIntHeader(name, value);
+			}
+		}
+
+		@Override
+		public void flushBuffer() throws IOException {
+			if (!isBuffering()) {
+				super.flushBuffer();
+			}
+		}
+
+		@Override
+		public void resetBuffer() {
+			if (this.buffer != null) {
+				this.buffer.reset();
+			}
+			super.resetBuffer();
+		}
+
+		@Override
+		public void reset() {
+			if (this.buffer != null) {
+				this.buffer.reset();
+			}
+			super.reset();
+		}
+
+	}
+
+}
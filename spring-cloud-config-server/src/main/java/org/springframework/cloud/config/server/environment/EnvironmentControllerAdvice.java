@@ -0,0 +1,144 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.config.server.environment;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.Map;
+
+import org.springframework.cloud.config.environment.Environment;
+import org.springframework.cloud.config.environment.PropertySource;
+import org.springframework.cloud.config.environment.PropertyValueDescriptor;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Adds a strong ETag to the environments returned by the {@link EnvironmentController}
+ * and answers requests whose {@code If-None-Match} header matches it with 304 Not
+ * Modified, so that clients polling for changes do not download and parse an unchanged
+ * environment again. The ETag is a digest of the environment (name, profiles, label,
+ * version, state and every property source) and of the media type of the response, it
+ * is computed without serializing the body.
+ */
+@RestControllerAdvice(assignableTypes = EnvironmentController.class)
+public class EnvironmentControllerAdvice implements ResponseBodyAdvice<Environment> {
+
+	private static final byte SEPARATOR = 0;
+
+	@Override
+	public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+		return Environment.class.isAssignableFrom(returnType.getParameterType());
+	}
+
+	@Override
+	public Environment beforeBodyWrite(Environment body, MethodParameter returnType, MediaType selectedContentType,
+			Class<? extends HttpMessageConverter<?>> selectedConverterType, ServerHttpRequest request,
+			ServerHttpResponse response) {
+		if (body == null || !(request instanceof ServletServerHttpRequest servletRequest)
+				|| !(response instanceof ServletServerHttpResponse servletResponse)) {
+			return body;
+		}
+		ServletWebRequest webRequest = new ServletWebRequest(servletRequest.getServletRequest(),
+				servletResponse.getServletResponse());
+		if (webRequest.checkNotModified(etag(body, selectedContentType))) {
+			return null;
+		}
+		return body;
+	}
+
+	/**
+	 * Compute the ETag of an environment.
+	 * @param environment the environment
+	 * @param mediaType the media type of the response, may be null
+	 * @return a quoted strong ETag
+	 */
+	static String etag(Environment environment, MediaType mediaType) {
+		return "\"" + digest(environment, mediaType) + "\"";
+	}
+
+	/**
+	 * Compute the digest an ETag is made of.
+	 * @param environment the environment
+	 * @param mediaType the media type of the response, may be null
+	 * @return the hexadecimal SHA-256 digest of the environment and the media type
+	 */
+	static String digest(Environment environment, MediaType mediaType) {
+		MessageDigest digest = newDigest();
+		update(digest, mediaType);
+		update(digest, environment.getName());
+		if (environment.getProfiles() != null) {
+			for (String profile : environment.getProfiles()) {
+				update(digest, profile);
+			}
+		}
+		update(digest, environment.getLabel());
+		update(digest, environment.getVersion());
+		update(digest, environment.getState());
+		for (PropertySource source : environment.getPropertySources()) {
+			update(digest, source.getName());
+			update(digest, source.getSource());
+		}
+		return HexFormat.of().formatHex(digest.digest());
+	}
+
+	private static void update(MessageDigest digest, Object value) {
+		if (value instanceof PropertyValueDescriptor descriptor) {
+			update(digest, descriptor.getValue());
+			update(digest, descriptor.getOrigin());
+		}
+		else if (value instanceof Map<?, ?> map) {
+			digest.update((byte) '{');
+			for (Map.Entry<?, ?> entry : map.entrySet()) {
+				update(digest, entry.getKey());
+				update(digest, entry.getValue());
+			}
+			digest.update((byte) '}');
+		}
+		else if (value instanceof Collection<?> collection) {
+			digest.update((byte) '[');
+			for (Object element : collection) {
+				update(digest, element);
+			}
+			digest.update((byte) ']');
+		}
+		else if (value != null) {
+			digest.update(value.toString().getBytes(StandardCharsets.UTF_8));
+		}
+		digest.update(SEPARATOR);
+	}
+
+	private static MessageDigest newDigest() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		}
+		catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 is not available", e);
+		}
+	}
+
+}
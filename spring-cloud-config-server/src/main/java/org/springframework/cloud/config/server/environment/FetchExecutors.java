@@ -0,0 +1,108 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.config.server.environment;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+/**
+ * The executors the repositories fetch the parts of an environment on concurrently, and
+ * the fetching of these parts.
+ */
+final class FetchExecutors {
+
+	private FetchExecutors() {
+	}
+
+	/**
+	 * Create an executor running each task on a new thread, a virtual one on Java 21 and
+	 * later.
+	 * @param threadNamePrefix the prefix of the names of the threads
+	 * @param concurrencyLimit the maximum number of tasks run at the same time
+	 * @return the executor
+	 */
+	static SimpleAsyncTaskExecutor create(String threadNamePrefix, int concurrencyLimit) {
+		SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+		try {
+			executor.setVirtualThreads(true);
+		}
+		catch (UnsupportedOperationException e) {
+			// virtual threads need Java 21, stay on platform threads
+		}
+		executor.setConcurrencyLimit(concurrencyLimit);
+		return executor;
+	}
+
+	/**
+	 * Run tasks on an executor and wait for all of them, or run them one after the other
+	 * when there is no executor or a single task. The first task that fails cancels the
+	 * others.
+	 * @param executor the executor, may be null
+	 * @param tasks the tasks
+	 * @param description what the tasks do, for the messages of the exceptions, e.g.
+	 * "fetching parameters"
+	 * @param <T> the type of the results
+	 * @return the results, in the order of the tasks
+	 */
+	static <T> List<T> fetchAll(AsyncTaskExecutor executor, List<Callable<T>> tasks, String description) {
+		List<T> results = new ArrayList<>(tasks.size());
+		if (executor == null || tasks.size() < 2) {
+			try {
+				for (Callable<T> task : tasks) {
+					results.add(task.call());
+				}
+				return results;
+			}
+			catch (RuntimeException e) {
+				throw e;
+			}
+			catch (Exception e) {
+				throw new IllegalStateException("Error while " + description, e);
+			}
+		}
+		List<Future<T>> futures = new ArrayList<>(tasks.size());
+		try {
+			for (Callable<T> task : tasks) {
+				futures.add(executor.submit(task));
+			}
+			for (Future<T> future : futures) {
+				results.add(future.get());
+			}
+			return results;
+		}
+		catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			throw new IllegalStateException("Error while " + description, e.getCause());
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while " + description, e);
+		}
+		finally {
+			futures.forEach(future -> future.cancel(true));
+		}
+	}
+
+}
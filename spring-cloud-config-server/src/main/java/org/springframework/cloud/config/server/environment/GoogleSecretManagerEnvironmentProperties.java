@@ -16,6 +16,8 @@
 
 package org.springframework.cloud.config.server.environment;
 
+import java.time.Duration;
+
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.cloud.config.server.support.EnvironmentRepositoryProperties;
 
@@ -37,6 +39,23 @@ public class GoogleSecretManagerEnvironmentProperties implements EnvironmentRepo
 
 	private Integer version = 1;
 
+	/**
+	 * How long the list of the secrets of a project is used before listing them again.
+	 * When not set, the secrets are listed on every request.
+	 */
+	private Duration indexRefreshInterval;
+
+	/**
+	 * Maximum number of secrets accessed at the same time, across all requests. With 1
+	 * the secrets of a request are accessed one after the other.
+	 */
+	private int fetchConcurrency = 1;
+
+	/**
+	 * Caching of the values of the secrets.
+	 */
+	private CacheProperties cache = new CacheProperties();
+
 	/**
 	 * The metadata URL to get the project ID from.
 	 */
@@ -83,6 +102,30 @@ public class GoogleSecretManagerEnvironmentProperties implements EnvironmentRepo
 		this.version = version;
 	}
 
+	public Duration getIndexRefreshInterval() {
+		return indexRefreshInterval;
+	}
+
+	public void setIndexRefreshInterval(Duration indexRefreshInterval) {
+		this.indexRefreshInterval = indexRefreshInterval;
+	}
+
+	public int getFetchConcurrency() {
+		return fetchConcurrency;
+	}
+
+	public void setFetchConcurrency(int fetchConcurrency) {
+		this.fetchConcurrency = fetchConcurrency;
+	}
+
+	public CacheProperties getCache() {
+		return cache;
+	}
+
+	public void setCache(CacheProperties cache) {
+		this.cache = cache;
+	}
+
 	public String getServiceAccount() {
 		return serviceAccount;
 	}
@@ -91,4 +134,34 @@ public class GoogleSecretManagerEnvironmentProperties implements EnvironmentRepo
 		this.serviceAccount = serviceAccount;
 	}
 
+	public static class CacheProperties {
+
+		/**
+		 * Flag to keep the value of the latest enabled version of each secret in memory.
+		 */
+		private boolean enabled = false;
+
+		/**
+		 * How long the value of a secret is used before accessing it again.
+		 */
+		private Duration timeToLive = Duration.ofMinutes(1);
+
+		public boolean isEnabled() {
+			return enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public Duration getTimeToLive() {
+			return timeToLive;
+		}
+
+		public void setTimeToLive(Duration timeToLive) {
+			this.timeToLive = timeToLive;
+		}
+
+	}
+
 }
@@ -16,8 +16,17 @@
 
 package org.springframework.cloud.config.server.environment;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.google.cloud.secretmanager.v1.Secret;
 import jakarta.servlet.http.HttpServletRequest;
@@ -31,6 +40,7 @@ import org.springframework.cloud.config.server.environment.secretmanager.GoogleS
 import org.springframework.cloud.config.server.environment.secretmanager.GoogleSecretManagerAccessStrategyFactory;
 import org.springframework.cloud.config.server.environment.secretmanager.HttpHeaderGoogleConfigProvider;
 import org.springframework.core.Ordered;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.util.StringUtils;
 import org.springframework.web.client.RestTemplate;
 
@@ -52,14 +62,61 @@ public class GoogleSecretManagerEnvironmentRepository implements EnvironmentRepo
 
 	private final int order;
 
+	/**
+	 * How long the list of secrets of a project is used, null to list the secrets on
+	 * every request.
+	 */
+	private Duration indexRefreshInterval;
+
+	/**
+	 * How long the value of a secret is used, null to access it on every request.
+	 */
+	private Duration cacheTimeToLive;
+
+	private AsyncTaskExecutor executor;
+
+	/**
+	 * Secrets of each project, by project id header.
+	 */
+	private final Map<String, SecretIndex> indexes = new ConcurrentHashMap<>();
+
+	/**
+	 * Values of the latest enabled versions, by secret resource name.
+	 */
+	private final Map<String, CachedValue> values = new ConcurrentHashMap<>();
+
 	public GoogleSecretManagerEnvironmentRepository(ObjectProvider<HttpServletRequest> request, RestTemplate rest,
 			GoogleSecretManagerEnvironmentProperties properties) {
+		this(new HttpHeaderGoogleConfigProvider(request), rest, properties);
+	}
+
+	private GoogleSecretManagerEnvironmentRepository(GoogleConfigProvider configProvider, RestTemplate rest,
+			GoogleSecretManagerEnvironmentProperties properties) {
+		this(configProvider, GoogleSecretManagerAccessStrategyFactory.forVersion(rest, configProvider, properties),
+				properties);
+	}
+
+	GoogleSecretManagerEnvironmentRepository(GoogleConfigProvider configProvider,
+			GoogleSecretManagerAccessStrategy accessStrategy, GoogleSecretManagerEnvironmentProperties properties) {
 		this.applicationLabel = properties.getApplicationLabel();
 		this.profileLabel = properties.getProfileLabel();
-		this.configProvider = new HttpHeaderGoogleConfigProvider(request);
-		this.accessStrategy = GoogleSecretManagerAccessStrategyFactory.forVersion(rest, configProvider, properties);
+		this.configProvider = configProvider;
+		this.accessStrategy = accessStrategy;
 		this.tokenMandatory = properties.getTokenMandatory();
 		this.order = properties.getOrder();
+		this.indexRefreshInterval = properties.getIndexRefreshInterval();
+		if (properties.getCache().isEnabled()) {
+			this.cacheTimeToLive = properties.getCache().getTimeToLive();
+		}
+	}
+
+	/**
+	 * Access the secrets of a request concurrently on the given executor instead of one
+	 * after the other.
+	 * @param executor the executor, null to access the secrets one at a time
+	 */
+	public void setExecutor(AsyncTaskExecutor executor) {
+		this.executor = executor;
 	}
 
 	@Override
@@ -88,42 +145,146 @@ public class GoogleSecretManagerEnvironmentRepository implements EnvironmentRepo
 	}
 
 	private void addPropertySource(String application, String[] profiles, Environment result) {
+		String prefix = configProvider.getValue(HttpHeaderGoogleConfigProvider.PREFIX_HEADER, false);
+		Iterable<Secret> secrets = (this.indexRefreshInterval != null) ? null : accessStrategy.getSecrets();
+		// the secrets of every profile, accessed all at once
+		List<Map<String, Secret>> selected = new ArrayList<>();
+		List<Secret> all = new ArrayList<>();
 		for (String profileUnit : profiles) {
-			Map<?, ?> secrets = getSecrets(application, profileUnit);
-			if (!secrets.isEmpty()) {
-				result.add(new PropertySource("gsm:" + application + "-" + profileUnit, secrets));
+			Map<String, Secret> profileSecrets = (secrets != null)
+					? selectSecrets(secrets, application, profileUnit, prefix)
+					: selectIndexedSecrets(application, profileUnit, prefix);
+			selected.add(profileSecrets);
+			all.addAll(profileSecrets.values());
+		}
+		Map<Secret, String> values = getSecretValues(all);
+		for (int i = 0; i < profiles.length; i++) {
+			Map<String, String> properties = new HashMap<>();
+			selected.get(i).forEach((name, secret) -> properties.put(name, values.get(secret)));
+			if (!properties.isEmpty()) {
+				result.add(new PropertySource("gsm:" + application + "-" + profiles[i], properties));
 			}
 		}
 	}
 
 	/**
+	 * @param secrets the secrets of the project
 	 * @param application the application name
 	 * @param profile the profile name
-	 * @return the properties to add into the environment
+	 * @param prefix the prefix of the secrets to add to every profile, may be null
+	 * @return the secrets to add into the environment, by property name
 	 */
-	private Map<?, ?> getSecrets(String application, String profile) {
-		Map<String, String> result = new HashMap<>();
-		String prefix = configProvider.getValue(HttpHeaderGoogleConfigProvider.PREFIX_HEADER, false);
-		for (Secret secret : accessStrategy.getSecrets()) {
+	private Map<String, Secret> selectSecrets(Iterable<Secret> secrets, String application, String profile,
+			String prefix) {
+		Map<String, Secret> result = new LinkedHashMap<>();
+		for (Secret secret : secrets) {
 			if (secret.getLabelsOrDefault(applicationLabel, "application").equalsIgnoreCase(application)
 					&& secret.getLabelsOrDefault(profileLabel, "profile").equalsIgnoreCase(profile)) {
-				result.put(accessStrategy.getSecretName(secret),
-						accessStrategy.getSecretValue(secret, new GoogleSecretComparatorByVersion()));
+				result.put(accessStrategy.getSecretName(secret), secret);
 			}
 			else if (StringUtils.hasText(prefix) && accessStrategy.getSecretName(secret).startsWith(prefix)) {
 				String secretName = accessStrategy.getSecretName(secret);
 				if (secretName.startsWith(prefix)) {
 					secretName = secretName.replaceFirst(prefix, "");
 				}
-				result.put(secretName, accessStrategy.getSecretValue(secret, new GoogleSecretComparatorByVersion()));
+				result.put(secretName, secret);
 			}
 		}
 		return result;
 	}
 
+	private Map<String, Secret> selectIndexedSecrets(String application, String profile, String prefix) {
+		SecretIndex index = getIndex();
+		if (StringUtils.hasText(prefix)) {
+			// secrets matching the prefix are in every profile
+			return selectSecrets(index.secrets(), application, profile, prefix);
+		}
+		return selectSecrets(index.byLabels()
+			.getOrDefault(SecretIndex.key(application, profile), Collections.emptyList()), application, profile,
+				null);
+	}
+
+	private SecretIndex getIndex() {
+		String project = configProvider.getValue(HttpHeaderGoogleConfigProvider.PROJECT_ID_HEADER, false);
+		String key = (project != null) ? project : "";
+		SecretIndex index = this.indexes.get(key);
+		if (index == null || index.isOlderThan(this.indexRefreshInterval)) {
+			List<Secret> secrets = new ArrayList<>();
+			accessStrategy.getSecrets().forEach(secrets::add);
+			index = new SecretIndex(secrets, applicationLabel, profileLabel);
+			this.indexes.put(key, index);
+		}
+		return index;
+	}
+
+	private Map<Secret, String> getSecretValues(List<Secret> secrets) {
+		List<Secret> distinct = new ArrayList<>(new LinkedHashSet<>(secrets));
+		List<Callable<String>> tasks = new ArrayList<>(distinct.size());
+		for (Secret secret : distinct) {
+			tasks.add(() -> getSecretValue(secret));
+		}
+		List<String> values = FetchExecutors.fetchAll(this.executor, tasks, "accessing secrets");
+		Map<Secret, String> result = new HashMap<>();
+		for (int i = 0; i < distinct.size(); i++) {
+			result.put(distinct.get(i), values.get(i));
+		}
+		return result;
+	}
+
+	private String getSecretValue(Secret secret) {
+		if (this.cacheTimeToLive == null) {
+			return accessStrategy.getSecretValue(secret, new GoogleSecretComparatorByVersion());
+		}
+		CachedValue cached = this.values.get(secret.getName());
+		if (cached != null && !cached.isOlderThan(this.cacheTimeToLive)) {
+			return cached.value();
+		}
+		String value = accessStrategy.getSecretValue(secret, new GoogleSecretComparatorByVersion());
+		this.values.put(secret.getName(), new CachedValue(value, System.nanoTime()));
+		return value;
+	}
+
 	@Override
 	public int getOrder() {
 		return order;
 	}
 
+	/**
+	 * The secrets of a project, grouped by their application and profile labels.
+	 */
+	private record SecretIndex(List<Secret> secrets, Map<String, List<Secret>> byLabels, long created) {
+
+		SecretIndex(List<Secret> secrets, String applicationLabel, String profileLabel) {
+			this(secrets, group(secrets, applicationLabel, profileLabel), System.nanoTime());
+		}
+
+		private static Map<String, List<Secret>> group(List<Secret> secrets, String applicationLabel,
+				String profileLabel) {
+			Map<String, List<Secret>> byLabels = new HashMap<>();
+			for (Secret secret : secrets) {
+				String key = key(secret.getLabelsOrDefault(applicationLabel, "application"),
+						secret.getLabelsOrDefault(profileLabel, "profile"));
+				byLabels.computeIfAbsent(key, k -> new ArrayList<>()).add(secret);
+			}
+			return byLabels;
+		}
+
+		static String key(String application, String profile) {
+			return application.toLowerCase(Locale.ROOT) + "\n" + profile.toLowerCase(Locale.ROOT);
+		}
+
+		boolean isOlderThan(Duration duration) {
+			return System.nanoTime() - this.created >= duration.toNanos();
+		}
+
+	}
+
+	private record CachedValue(String value, long created) {
+
+		boolean isOlderThan(Duration duration) {
+			return System.nanoTime() - this.created >= duration.toNanos();
+		}
+
+	}
+
 }
@@ -36,7 +36,12 @@ public class GoogleSecretManagerEnvironmentRepositoryFactory implements
 	@Override
 	public GoogleSecretManagerEnvironmentRepository build(
 			GoogleSecretManagerEnvironmentProperties environmentProperties) throws Exception {
-		return new GoogleSecretManagerEnvironmentRepository(request, new RestTemplate(), environmentProperties);
+		GoogleSecretManagerEnvironmentRepository repository = new GoogleSecretManagerEnvironmentRepository(request,
+				new RestTemplate(), environmentProperties);
+		if (environmentProperties.getFetchConcurrency() > 1) {
+			repository.setExecutor(FetchExecutors.create("config-gsm-", environmentProperties.getFetchConcurrency()));
+		}
+		return repository;
 	}
 
 }
@@ -0,0 +1,450 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.config.server.environment;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.security.Principal;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.RequestDispatcher;
+import jakarta.servlet.ServletConnection;
+import jakarta.servlet.ServletContext;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+import jakarta.servlet.http.HttpUpgradeHandler;
+import jakarta.servlet.http.Part;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * A request that has nothing but a few headers, used to read an environment outside of
+ * an HTTP request with the headers the backends look up in the current request (e.g.
+ * the config token). It behaves like a bodiless GET request without parameters, cookies,
+ * session or authenticated user, and keeps the attributes set on it.
+ */
+class HeaderOnlyHttpServletRequest implements HttpServletRequest {
+
+	private final HttpHeaders headers = new HttpHeaders();
+
+	private final Map<String, Object> attributes = new ConcurrentHashMap<>();
+
+	HeaderOnlyHttpServletRequest(Map<String, String> headers) {
+		headers.forEach(this.headers::add);
+	}
+
+	HeaderOnlyHttpServletRequest(HttpHeaders headers) {
+		this.headers.addAll(headers);
+	}
+
+	/**
+	 * Copy the headers of the request bound to the current thread, for threads that may
+	 * outlive the request.
+	 * @return the attributes of a request with the same headers, or null if there is no
+	 * current servlet request
+	 */
+	static RequestAttributes copyOfCurrentRequest() {
+		if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+			return null;
+		}
+		HttpServletRequest request = attributes.getRequest();
+		HttpHeaders headers = new HttpHeaders();
+		for (String name : Collections.list(request.getHeaderNames())) {
+			headers.addAll(name, Collections.list(request.getHeaders(name)));
+		}
+		return new ServletRequestAttributes(new HeaderOnlyHttpServletRequest(headers));
+	}
+
+	@Override
+	public String getHeader(String name) {
+		return this.headers.getFirst(name);
+	}
+
+	@Override
+	public Enumeration<String> getHeaders(String name) {
+		return Collections.enumeration(this.headers.getOrEmpty(name));
+	}
+
+	@Override
+	public Enumeration<String> getHeaderNames() {
+		return Collections.enumeration(this.headers.keySet());
+	}
+
+	@Override
+	public long getDateHeader(String name) {
+		return this.headers.getFirstDate(name);
+	}
+
+	@Override
+	public int getIntHeader(String name) {
+		String value = getHeader(name);
+		return (value != null) ? Integer.parseInt(value) : -1;
+	}
+
+	@Override
+	public Object getAttribute(String name) {
+		return this.attributes.get(name);
+	}
+
+	@Override
+	public Enumeration<String> getAttributeNames() {
+		return Collections.enumeration(this.attributes.keySet());
+	}
+
+	@Override
+	public void setAttribute(String name, Object value) {
+		if (value == null) {
+			removeAttribute(name);
+		}
+		else {
+			this.attributes.put(name, value);
+		}
+	}
+
+	@Override
+	public void removeAttribute(String name) {
+		this.attributes.remove(name);
+	}
+
+	@Override
+	public String getMethod() {
+		return HttpMethod.GET.name();
+	}
+
+	@Override
+	public String getAuthType() {
+		return null;
+	}
+
+	@Override
+	public Cookie[] getCookies() {
+		return null;
+	}
+
+	@Override
+	public String getPathInfo() {
+		return null;
+	}
+
+	@Override
+	public String getPathTranslated() {
+		return null;
+	}
+
+	@Override
+	public String getContextPath() {
+		return "";
+	}
+
+	@Override
+	public String getQueryString() {
+		return null;
+	}
+
+	@Override
+	public String getRemoteUser() {
+		return null;
+	}
+
+	@Override
+	public boolean isUserInRole(String role) {
+		return false;
+	}
+
+	@Override
+	public Principal getUserPrincipal() {
+		return null;
+	}
+
+	@Override
+	public String getRequestedSessionId() {
+		return null;
+	}
+
+	@Override
+	public String getRequestURI() {
+		return "";
+	}
+
+	@Override
+	public StringBuffer getRequestURL() {
+		return new StringBuffer();
+	}
+
+	@Override
+	public String getServletPath() {
+		return "";
+	}
+
+	@Override
+	public HttpSession getSession(boolean create) {
+		if (create) {
+			throw new IllegalStateException("No session can be created outside of an HTTP request");
+		}
+		return null;
+	}
+
+	@Override
+	public HttpSession getSession() {
+		return getSession(true);
+	}
+
+	@Override
+	public String changeSessionId() {
+		throw new IllegalStateException("There is no session outside of an HTTP request");
+	}
+
+	@Override
+	public boolean isRequestedSessionIdValid() {
+		return false;
+	}
+
+	@Override
+	public boolean isRequestedSessionIdFromCookie() {
+		return false;
+	}
+
+	@Override
+	public boolean isRequestedSessionIdFromURL() {
+		return false;
+	}
+
+	@Override
+	public boolean authenticate(HttpServletResponse response) {
+		return false;
+	}
+
+	@Override
+	public void login(String username, String password) {
+		throw new UnsupportedOperationException("Cannot log in outside of an HTTP request");
+	}
+
+	@Override
+	public void logout() {
+	}
+
+	@Override
+	public Collection<Part> getParts() {
+		return Collections.emptyList();
+	}
+
+	@Override
+	public Part getPart(String name) {
+		return null;
+	}
+
+	@Override
+	public <T extends HttpUpgradeHandler> T upgrade(Class<T> handlerClass) {
+		throw new UnsupportedOperationException("Cannot upgrade outside of an HTTP request");
+	}
+
+	@Override
+	public String getCharacterEncoding() {
+		return null;
+	}
+
+	@Override
+	public void setCharacterEncoding(String encoding) {
+	}
+
+	@Override
+	public int getContentLength() {
+		return -1;
+	}
+
+	@Override
+	public long getContentLengthLong() {
+		return -1;
+	}
+
+	@Override
+	public String getContentType() {
+		return null;
+	}
+
+	@Override
+	public ServletInputStream getInputStream() throws IOException {
+		throw new IOException("There is no body outside of an HTTP request");
+	}
+
+	@Override
+	public BufferedReader getReader() throws IOException {
+		throw new IOException("There is no body outside of an HTTP request");
+	}
+
+	@Override
+	public String getParameter(String name) {
+		return null;
+	}
+
+	@Override
+	public Enumeration<String> getParameterNames() {
+		return Collections.emptyEnumeration();
+	}
+
+	@Override
+	public String[] getParameterValues(String name) {
+		return null;
+	}
+
+	@Override
+	public Map<String, String[]> getParameterMap() {
+		return Collections.emptyMap();
+	}
+
+	@Override
+	public String getProtocol() {
+		return "HTTP/1.1";
+	}
+
+	@Override
+	public String getScheme() {
+		return "http";
+	}
+
+	@Override
+	public String getServerName() {
+		return "localhost";
+	}
+
+	@Override
+	public int getServerPort() {
+		return 80;
+	}
+
+	@Override
+	public String getRemoteAddr() {
+		return null;
+	}
+
+	@Override
+	public String getRemoteHost() {
+		return null;
+	}
+
+	@Override
+	public int getRemotePort() {
+		return -1;
+	}
+
+	@Override
+	public String getLocalName() {
+		return null;
+	}
+
+	@Override
+	public String getLocalAddr() {
+		return null;
+	}
+
+	@Override
+	public int getLocalPort() {
+		return -1;
+	}
+
+	@Override
+	public Locale getLocale() {
+		return Locale.getDefault();
+	}
+
+	@Override
+	public Enumeration<Locale> getLocales() {
+		return Collections.enumeration(Collections.singletonList(getLocale()));
+	}
+
+	@Override
+	public boolean isSecure() {
+		return false;
+	}
+
+	@Override
+	public RequestDispatcher getRequestDispatcher(String path) {
+		return null;
+	}
+
+	@Override
+	public ServletContext getServletContext() {
+		return null;
+	}
+
+	@Override
+	public AsyncContext startAsync() {
+		throw new IllegalStateException("Asynchronous processing is not supported outside of an HTTP request");
+	}
+
+	@Override
+	public AsyncContext startAsync(ServletRequest servletRequest, ServletResponse servletResponse) {
+		return startAsync();
+	}
+
+	@Override
+	public boolean isAsyncStarted() {
+		return false;
+	}
+
+	@Override
+	public boolean isAsyncSupported() {
+		return false;
+	}
+
+	@Override
+	public AsyncContext getAsyncContext() {
+		throw new IllegalStateException("Asynchronous processing was not started");
+	}
+
+	@Override
+	public DispatcherType getDispatcherType() {
+		return DispatcherType.REQUEST;
+	}
+
+	@Override
+	public String getRequestId() {
+		return "";
+	}
+
+	@Override
+	public String getProtocolRequestId() {
+		return "";
+	}
+
+	@Override
+	public ServletConnection getServletConnection() {
+		return null;
+	}
+
+	@Override
+	public String toString() {
+		return "Environment check request";
+	}
+
+}
@@ -16,6 +16,7 @@
 
 package org.springframework.cloud.config.server.environment;
 
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -90,6 +91,15 @@ public class JGitEnvironmentProperties extends AbstractScmAccessorProperties
 	 */
 	private int refreshRate = 0;
 
+	/**
+	 * Flag to indicate that configuration files should be read straight from the object
+	 * database of the repository instead of checking out the requested label into the
+	 * working directory.
+	 */
+	private boolean readFromObjectDatabase = false;
+
+	private BackgroundRefreshProperties backgroundRefresh = new BackgroundRefreshProperties();
+
 	/**
 	 * Valid SSH private key. Must be set if ignoreLocalSshSettings is true and Git URI is
 	 * SSH format.
@@ -273,4 +283,66 @@ public class JGitEnvironmentProperties extends AbstractScmAccessorProperties
 		this.tryMasterBranch = tryMasterBranch;
 	}
 
+	public boolean isReadFromObjectDatabase() {
+		return this.readFromObjectDatabase;
+	}
+
+	public void setReadFromObjectDatabase(boolean readFromObjectDatabase) {
+		this.readFromObjectDatabase = readFromObjectDatabase;
+	}
+
+	public BackgroundRefreshProperties getBackgroundRefresh() {
+		return this.backgroundRefresh;
+	}
+
+	public void setBackgroundRefresh(BackgroundRefreshProperties backgroundRefresh) {
+		this.backgroundRefresh = backgroundRefresh;
+	}
+
+	public static class BackgroundRefreshProperties {
+
+		/**
+		 * Flag to fetch the repository on a schedule, and when the monitor endpoint is
+		 * notified of a change, instead of during requests. The refresh rate is then
+		 * ignored.
+		 */
+		private boolean enabled = false;
+
+		/**
+		 * Time between the end of a fetch and the start of the next one.
+		 */
+		private Duration interval = Duration.ofSeconds(30);
+
+		/**
+		 * How old the last successful fetch may be before requests fetch the repository
+		 * themselves, for instance when the remote cannot be reached in the background.
+		 */
+		private Duration maxStaleness = Duration.ofMinutes(5);
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public Duration getInterval() {
+			return this.interval;
+		}
+
+		public void setInterval(Duration interval) {
+			this.interval = interval;
+		}
+
+		public Duration getMaxStaleness() {
+			return this.maxStaleness;
+		}
+
+		public void setMaxStaleness(Duration maxStaleness) {
+			this.maxStaleness = maxStaleness;
+		}
+
+	}
+
 }
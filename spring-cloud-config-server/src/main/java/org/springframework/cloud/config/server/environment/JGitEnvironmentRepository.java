@@ -18,12 +18,21 @@ package org.springframework.cloud.config.server.environment;
 
 import java.io.File;
 import java.io.IOException;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import io.micrometer.observation.ObservationRegistry;
 import org.eclipse.jgit.api.CheckoutCommand;
@@ -46,8 +55,12 @@ import org.eclipse.jgit.api.errors.GitAPIException;
 import org.eclipse.jgit.api.errors.JGitInternalException;
 import org.eclipse.jgit.api.errors.RefNotFoundException;
 import org.eclipse.jgit.errors.NoRemoteRepositoryException;
+import org.eclipse.jgit.errors.RevisionSyntaxException;
 import org.eclipse.jgit.lib.BranchTrackingStatus;
+import org.eclipse.jgit.lib.ObjectId;
 import org.eclipse.jgit.lib.Ref;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.revwalk.RevWalk;
 import org.eclipse.jgit.transport.CredentialsProvider;
 import org.eclipse.jgit.transport.FetchResult;
 import org.eclipse.jgit.transport.ReceiveCommand;
@@ -55,10 +68,13 @@ import org.eclipse.jgit.transport.TagOpt;
 import org.eclipse.jgit.transport.TrackingRefUpdate;
 import org.eclipse.jgit.util.FileUtils;
 
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.cloud.config.server.support.GitCredentialsProviderFactory;
+import org.springframework.context.ApplicationListener;
 import org.springframework.core.env.ConfigurableEnvironment;
 import org.springframework.core.io.UrlResource;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.util.Assert;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.ObjectUtils;
@@ -79,7 +95,8 @@ import static org.eclipse.jgit.transport.ReceiveCommand.Type.DELETE;
  * @author ChaoDong Xi
  */
 public class JGitEnvironmentRepository extends AbstractScmEnvironmentRepository
-		implements EnvironmentRepository, SearchPathLocator, InitializingBean {
+		implements EnvironmentRepository, SearchPathLocator, InitializingBean, DisposableBean,
+		ApplicationListener<PropertyPathChangeEvent> {
 
 	/**
 	 * Error message for URI for git repo.
@@ -149,6 +166,69 @@ public class JGitEnvironmentRepository extends AbstractScmEnvironmentRepository
 
 	private boolean tryMasterBranch;
 
+	/**
+	 * Flag to indicate that configuration files should be read straight from the object
+	 * database of the repository instead of checking out the requested label into the
+	 * working directory.
+	 */
+	private boolean readFromObjectDatabase;
+
+	/**
+	 * Commits the labels were last resolved to when reading from the object database.
+	 */
+	private final Map<String, ResolvedLabel> resolvedLabels = new ConcurrentHashMap<>();
+
+	/**
+	 * Repository kept open to read from the object database, so that resources handed
+	 * out stay readable after the request that resolved them.
+	 */
+	private volatile Repository objectRepository;
+
+	/**
+	 * Label the working directory was last successfully refreshed to, or null if its
+	 * state is unknown.
+	 */
+	private volatile String currentLabel;
+
+	/**
+	 * Version (HEAD commit) of {@link #currentLabel}.
+	 */
+	private volatile String currentVersion;
+
+	/**
+	 * Time {@link #currentLabel} was refreshed.
+	 */
+	private volatile long currentRefreshTime;
+
+	/**
+	 * Time between background fetches, null if the repository is fetched during
+	 * requests.
+	 */
+	private Duration backgroundRefreshInterval;
+
+	/**
+	 * Age of the last successful fetch above which requests fetch the repository
+	 * themselves, when fetching in the background.
+	 */
+	private Duration maxStaleness;
+
+	/**
+	 * Time of the last successful fetch or clone, 0 if there was none.
+	 */
+	private volatile long lastFetch;
+
+	/**
+	 * Held while fetching, so that requests and the background refresh do not fetch at
+	 * the same time.
+	 */
+	private final ReentrantLock fetchLock = new ReentrantLock();
+
+	/**
+	 * The scheduled background fetches, null if the repository is fetched during
+	 * requests.
+	 */
+	private volatile ScheduledFuture<?> refreshTask;
+
 	private final ObservationRegistry observationRegistry;
 
 	public JGitEnvironmentRepository(ConfigurableEnvironment environment, JGitEnvironmentProperties properties,
@@ -163,6 +243,11 @@ public class JGitEnvironmentRepository extends AbstractScmEnvironmentRepository
 		this.skipSslValidation = properties.isSkipSslValidation();
 		this.gitFactory = new JGitFactory(properties.isCloneSubmodules());
 		this.tryMasterBranch = properties.isTryMasterBranch();
+		this.readFromObjectDatabase = properties.isReadFromObjectDatabase();
+		if (properties.getBackgroundRefresh().isEnabled()) {
+			setBackgroundRefresh(properties.getBackgroundRefresh().getInterval(),
+					properties.getBackgroundRefresh().getMaxStaleness());
+		}
 		this.observationRegistry = observationRegistry;
 	}
 
@@ -198,6 +283,37 @@ public class JGitEnvironmentRepository extends AbstractScmEnvironmentRepository
 		this.refreshRate = refreshRate;
 	}
 
+	/**
+	 * Fetch the repository in the background instead of during requests. Requests are
+	 * served from what was last fetched, unless the last successful fetch is older than
+	 * the maximum staleness. Takes effect in {@link #afterPropertiesSet()}.
+	 * @param interval time between the end of a fetch and the start of the next one,
+	 * null to fetch during requests according to the refresh rate
+	 * @param maxStaleness age of the last successful fetch above which requests fetch the
+	 * repository themselves
+	 */
+	public void setBackgroundRefresh(Duration interval, Duration maxStaleness) {
+		this.backgroundRefreshInterval = interval;
+		this.maxStaleness = maxStaleness;
+	}
+
+	public Duration getBackgroundRefreshInterval() {
+		return this.backgroundRefreshInterval;
+	}
+
+	public Duration getMaxStaleness() {
+		return this.maxStaleness;
+	}
+
+	/**
+	 * @return the time since the repository was last fetched successfully, null if it
+	 * was never fetched
+	 */
+	public Duration getStaleness() {
+		long lastFetch = this.lastFetch;
+		return lastFetch == 0 ? null : Duration.ofMillis(System.currentTimeMillis() - lastFetch);
+	}
+
 	public TransportConfigCallback getTransportConfigCallback() {
 		return this.transportConfigCallback;
 	}
@@ -254,35 +370,231 @@ public class JGitEnvironmentRepository extends AbstractScmEnvironmentRepository
 		this.skipSslValidation = skipSslValidation;
 	}
 
+	public boolean isReadFromObjectDatabase() {
+		return this.readFromObjectDatabase;
+	}
+
+	public void setReadFromObjectDatabase(boolean readFromObjectDatabase) {
+		this.readFromObjectDatabase = readFromObjectDatabase;
+	}
+
 	@Override
-	public synchronized Locations getLocations(String application, String profile, String label) {
+	public Locations getLocations(String application, String profile, String label) {
 		if (label == null) {
 			label = this.defaultLabel;
 		}
-		String version;
+		Lock writeLock = getLock().writeLock();
+		writeLock.lock();
 		try {
-			version = refresh(label);
-		}
-		catch (Exception e) {
-			if (this.defaultLabel.equals(label) && JGitEnvironmentProperties.MAIN_LABEL.equals(this.defaultLabel)
-					&& tryMasterBranch) {
-				logger.info("Could not refresh default label " + label, e);
-				logger.info("Will try to refresh master label instead.");
-				version = refresh(JGitEnvironmentProperties.MASTER_LABEL);
+			this.currentLabel = null;
+			String version;
+			try {
+				version = update(label);
 			}
-			else {
-				throw e;
+			catch (Exception e) {
+				if (this.defaultLabel.equals(label) && JGitEnvironmentProperties.MAIN_LABEL.equals(this.defaultLabel)
+						&& tryMasterBranch) {
+					logger.info("Could not refresh default label " + label, e);
+					logger.info("Will try to refresh master label instead.");
+					version = update(JGitEnvironmentProperties.MASTER_LABEL);
+				}
+				else {
+					throw e;
+				}
+			}
+			if (this.readFromObjectDatabase) {
+				this.resolvedLabels.put(label, new ResolvedLabel(version, System.currentTimeMillis()));
+				return getObjectLocations(application, profile, label, version);
+			}
+			this.currentVersion = version;
+			this.currentRefreshTime = System.currentTimeMillis();
+			this.currentLabel = label;
+			return new Locations(application, profile, label, version,
+					getSearchLocations(getWorkingDirectory(), application, profile, label));
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
+	private String update(String label) {
+		return this.readFromObjectDatabase ? resolve(label) : refresh(label);
+	}
+
+	@Override
+	protected Locations getCurrentLocations(String application, String profile, String label) {
+		if (label == null) {
+			label = this.defaultLabel;
+		}
+		if (label == null) {
+			return null;
+		}
+		if (this.readFromObjectDatabase) {
+			// every label can be served at the same time, each one is resolved on its own
+			ResolvedLabel resolved = this.resolvedLabels.get(label);
+			if (resolved == null || isRefreshDue(resolved.time())) {
+				return null;
 			}
+			return getObjectLocations(application, profile, label, resolved.commitId());
+		}
+		String version = this.currentVersion;
+		if (!label.equals(this.currentLabel) || version == null || isRefreshDue(this.currentRefreshTime)) {
+			return null;
 		}
 		return new Locations(application, profile, label, version,
 				getSearchLocations(getWorkingDirectory(), application, profile, label));
 	}
 
+	private boolean isRefreshDue(long refreshTime) {
+		if (this.backgroundRefreshInterval != null) {
+			// the current label and the resolved labels follow every background fetch
+			return isStale();
+		}
+		if (this.refreshRate < 0) {
+			return false;
+		}
+		long elapsed = System.currentTimeMillis() - refreshTime;
+		return this.refreshRate == 0 || elapsed >= (this.refreshRate * NB_MILLISECONDSIN_IN_SECONDS);
+	}
+
+	private Locations getObjectLocations(String application, String profile, String label, String commitId) {
+		JGitObjectResourceLoader resourceLoader = createObjectResourceLoader(commitId);
+		return new Locations(application, profile, label, commitId,
+				getSearchLocations(application, profile, label, resourceLoader::matchingDirectories), resourceLoader);
+	}
+
+	private JGitObjectResourceLoader createObjectResourceLoader(String commitId) {
+		Repository repository = this.objectRepository;
+		Assert.state(repository != null, "Repository has not been opened yet");
+		try (RevWalk walk = new RevWalk(repository)) {
+			return new JGitObjectResourceLoader(repository, walk.parseCommit(ObjectId.fromString(commitId)),
+					getWorkingDirectory());
+		}
+		catch (IOException e) {
+			throw new IllegalStateException("Cannot read commit " + commitId + " of " + getUri(), e);
+		}
+	}
+
+	private boolean isStale() {
+		return System.currentTimeMillis() - this.lastFetch >= this.maxStaleness.toMillis();
+	}
+
 	@Override
-	public synchronized void afterPropertiesSet() throws Exception {
+	public void afterPropertiesSet() throws Exception {
 		Assert.state(getUri() != null, MESSAGE);
 		if (this.cloneOnStart) {
-			initClonedRepository();
+			Lock writeLock = getLock().writeLock();
+			writeLock.lock();
+			try {
+				this.currentLabel = null;
+				this.resolvedLabels.clear();
+				initClonedRepository();
+			}
+			finally {
+				writeLock.unlock();
+			}
+		}
+		if (this.backgroundRefreshInterval != null && this.refreshTask == null) {
+			long interval = this.backgroundRefreshInterval.toMillis();
+			this.refreshTask = RefreshScheduler.INSTANCE.scheduleWithFixedDelay(this::backgroundRefresh, interval,
+					interval, TimeUnit.MILLISECONDS);
+		}
+	}
+
+	@Override
+	public void destroy() {
+		ScheduledFuture<?> refreshTask = this.refreshTask;
+		if (refreshTask != null) {
+			this.refreshTask = null;
+			// a fetch that is running completes, interrupting it could leave a lock file
+			refreshTask.cancel(false);
+		}
+	}
+
+	/**
+	 * @return whether the repository is fetched in the background until it is destroyed
+	 */
+	boolean isRefreshScheduled() {
+		return this.refreshTask != null;
+	}
+
+	/**
+	 * Fetch the repository right away when the monitor endpoint is notified of a change,
+	 * if it is fetched in the background.
+	 */
+	@Override
+	public void onApplicationEvent(PropertyPathChangeEvent event) {
+		if (this.refreshTask != null) {
+			try {
+				RefreshScheduler.INSTANCE.execute(this::backgroundRefresh);
+			}
+			catch (RuntimeException e) {
+				this.logger.debug("Could not schedule a refresh of " + getUri(), e);
+			}
+		}
+	}
+
+	/**
+	 * Fetch without holding the lock of the working directory, so that requests are
+	 * served meanwhile, then bring the current label and the resolved labels up to date.
+	 */
+	void backgroundRefresh() {
+		if (!new File(getWorkingDirectory(), ".git").exists()) {
+			// not cloned yet, the first request does it
+			return;
+		}
+		FetchResult fetchStatus;
+		if (!this.fetchLock.tryLock()) {
+			// a request is already fetching
+			return;
+		}
+		try (Git git = openGitRepository()) {
+			if (git.getRepository().getConfig().getString("remote", "origin", "url") == null) {
+				return;
+			}
+			fetchStatus = fetch(git, getDefaultLabel());
+			if (fetchStatus == null) {
+				return;
+			}
+		}
+		catch (Exception e) {
+			warn("Could not fetch " + getUri() + " in the background", e);
+			return;
+		}
+		finally {
+			this.fetchLock.unlock();
+		}
+		Lock writeLock = getLock().writeLock();
+		writeLock.lock();
+		String label = this.currentLabel;
+		this.currentLabel = null;
+		try (Git git = openGitRepository()) {
+			if (this.deleteUntrackedBranches) {
+				deleteUntrackedLocalBranches(fetchStatus.getTrackingRefUpdates(), git);
+			}
+			long now = System.currentTimeMillis();
+			for (String resolved : this.resolvedLabels.keySet()) {
+				try {
+					this.resolvedLabels.put(resolved,
+							new ResolvedLabel(resolveCommit(git.getRepository(), resolved).getName(), now));
+				}
+				catch (NoSuchLabelException e) {
+					this.resolvedLabels.remove(resolved);
+				}
+			}
+			if (label != null) {
+				checkout(git, label);
+				tryMerge(git, label);
+				this.currentVersion = git.getRepository().findRef("HEAD").getObjectId().getName();
+				this.currentRefreshTime = now;
+				this.currentLabel = label;
+			}
+		}
+		catch (Exception e) {
+			warn("Could not update " + getUri() + " after fetching it in the background", e);
+		}
+		finally {
+			writeLock.unlock();
 		}
 	}
 
@@ -335,6 +647,67 @@ public class JGitEnvironmentRepository extends AbstractScmEnvironmentRepository
 		}
 	}
 
+	/**
+	 * Fetch (if due) and resolve the label to a commit without touching the working
+	 * directory.
+	 * @param label label to resolve
+	 * @return commit id
+	 */
+	public String resolve(String label) {
+		Git git = null;
+		try {
+			git = createGitClient();
+			if (shouldPull(git)) {
+				FetchResult fetchStatus = fetch(git, label);
+				if (this.deleteUntrackedBranches && fetchStatus != null) {
+					deleteUntrackedLocalBranches(fetchStatus.getTrackingRefUpdates(), git);
+				}
+			}
+			if (this.objectRepository == null) {
+				this.objectRepository = openGitRepository().getRepository();
+			}
+			return resolveCommit(git.getRepository(), label).getName();
+		}
+		catch (NoSuchLabelException e) {
+			throw e;
+		}
+		catch (NoRemoteRepositoryException e) {
+			throw new NoSuchRepositoryException("No such repository: " + getUri(), e);
+		}
+		catch (GitAPIException e) {
+			throw new NoSuchRepositoryException("Cannot clone or fetch repository: " + getUri(), e);
+		}
+		catch (Exception e) {
+			throw new IllegalStateException("Cannot load environment", e);
+		}
+		finally {
+			try {
+				if (git != null) {
+					git.close();
+				}
+			}
+			catch (Exception e) {
+				this.logger.warn("Could not close git repository", e);
+			}
+		}
+	}
+
+	private ObjectId resolveCommit(Repository repository, String label) throws IOException {
+		// prefer the remote branch, that is where a checkout would be merged from
+		for (String candidate : new String[] { LOCAL_BRANCH_REF_PREFIX + label, label }) {
+			try {
+				ObjectId commit = repository.resolve(candidate + "^{commit}");
+				if (commit != null) {
+					return commit;
+				}
+			}
+			catch (RevisionSyntaxException e) {
+				// not a valid revision, try the next candidate
+			}
+		}
+		throw new NoSuchLabelException("No such label: " + label);
+	}
+
 	private void tryMerge(Git git, String label) {
 		try {
 			if (isBranch(git, label)) {
@@ -472,7 +845,12 @@ public class JGitEnvironmentRepository extends AbstractScmEnvironmentRepository
 	protected boolean shouldPull(Git git) throws GitAPIException {
 		boolean shouldPull;
 
-		if (this.refreshRate < 0 || (this.refreshRate > 0
+		if (this.backgroundRefreshInterval != null) {
+			if (!isStale()) {
+				return false;
+			}
+		}
+		else if (this.refreshRate < 0 || (this.refreshRate > 0
 				&& System.currentTimeMillis() - this.lastRefresh < (this.refreshRate * NB_MILLISECONDSIN_IN_SECONDS))) {
 			return false;
 		}
@@ -549,8 +927,10 @@ public class JGitEnvironmentRepository extends AbstractScmEnvironmentRepository
 		}
 
 		configureCommand(fetch);
+		this.fetchLock.lock();
 		try {
 			FetchResult result = fetch.call();
+			this.lastFetch = System.currentTimeMillis();
 			if (result.getTrackingRefUpdates() != null && result.getTrackingRefUpdates().size() > 0) {
 				this.logger.info("Fetched for remote " + label + " and found " + result.getTrackingRefUpdates().size()
 						+ " updates");
@@ -563,6 +943,9 @@ public class JGitEnvironmentRepository extends AbstractScmEnvironmentRepository
 			warn(message, ex);
 			return null;
 		}
+		finally {
+			this.fetchLock.unlock();
+		}
 	}
 
 	private MergeResult merge(Git git, String label) {
@@ -658,7 +1041,9 @@ public class JGitEnvironmentRepository extends AbstractScmEnvironmentRepository
 			.setDirectory(getBasedir());
 		configureCommand(clone);
 		try {
-			return clone.call();
+			Git git = clone.call();
+			this.lastFetch = System.currentTimeMillis();
+			return git;
 		}
 		catch (GitAPIException e) {
 			this.logger.warn("Error occured cloning to base directory.", e);
@@ -668,6 +1053,7 @@ public class JGitEnvironmentRepository extends AbstractScmEnvironmentRepository
 	}
 
 	private void deleteBaseDirIfExists() {
+		closeObjectRepository();
 		if (getBasedir().exists()) {
 			for (File file : getBasedir().listFiles()) {
 				try {
@@ -680,6 +1066,15 @@ public class JGitEnvironmentRepository extends AbstractScmEnvironmentRepository
 		}
 	}
 
+	private void closeObjectRepository() {
+		Repository repository = this.objectRepository;
+		if (repository != null) {
+			this.objectRepository = null;
+			this.resolvedLabels.clear();
+			repository.close();
+		}
+	}
+
 	private void configureCommand(TransportCommand<?, ?> command) {
 		command.setTimeout(this.timeout);
 		if (this.transportConfigCallback != null) {
@@ -755,6 +1150,28 @@ public class JGitEnvironmentRepository extends AbstractScmEnvironmentRepository
 		this.lastRefresh = lastRefresh;
 	}
 
+	private record ResolvedLabel(String commitId, long time) {
+	}
+
+	/**
+	 * Runs the background fetches of every repository on one daemon thread, which does
+	 * not keep the JVM alive. The fetches of the repositories run one after the other.
+	 */
+	private static final class RefreshScheduler {
+
+		private static final ScheduledExecutorService INSTANCE = create();
+
+		private static ScheduledExecutorService create() {
+			CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("config-git-refresh-");
+			threadFactory.setDaemon(true);
+			ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, threadFactory);
+			// forget the fetches of destroyed repositories right away
+			scheduler.setRemoveOnCancelPolicy(true);
+			return scheduler;
+		}
+
+	}
+
 	/**
 	 * Wraps the static method calls to {@link org.eclipse.jgit.api.Git} and
 	 * {@link org.eclipse.jgit.api.CloneCommand} allowing for easier unit testing.
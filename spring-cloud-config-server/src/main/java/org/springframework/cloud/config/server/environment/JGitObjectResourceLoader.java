@@ -0,0 +1,272 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.config.server.environment;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.FileMode;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.jgit.treewalk.TreeWalk;
+
+import org.springframework.core.io.AbstractResource;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.ResourceUtils;
+import org.springframework.util.StringUtils;
+
+/**
+ * A {@link ResourceLoader} that reads the files below the working directory of a git
+ * repository from one commit in its object database, so that a label can be served
+ * without checking it out. Resources describe themselves like the file they stand for,
+ * which keeps property source names identical to a checked out working directory.
+ * Locations outside the working directory are resolved as usual.
+ */
+class JGitObjectResourceLoader extends DefaultResourceLoader {
+
+	private final Repository repository;
+
+	private final RevCommit commit;
+
+	private final File workingDirectory;
+
+	private final String workingDirectoryPath;
+
+	private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+	JGitObjectResourceLoader(Repository repository, RevCommit commit, File workingDirectory) {
+		this.repository = repository;
+		this.commit = commit;
+		this.workingDirectory = workingDirectory.getAbsoluteFile();
+		this.workingDirectoryPath = StringUtils.cleanPath(this.workingDirectory.getPath());
+		addProtocolResolver(this::resolve);
+	}
+
+	String getCommitId() {
+		return this.commit.getName();
+	}
+
+	/**
+	 * Directories of the commit matching a search path.
+	 * @param searchPath search path relative to the working directory, may be an Ant
+	 * style pattern
+	 * @return the URIs of the matching directories
+	 */
+	List<String> matchingDirectories(String searchPath) {
+		String pattern = StringUtils.trimTrailingCharacter(
+				StringUtils.trimLeadingCharacter(StringUtils.cleanPath(searchPath), '/'), '/');
+		List<String> output = new ArrayList<>();
+		if (!this.pathMatcher.isPattern(pattern)) {
+			if (find(pattern).directory) {
+				output.add(directoryUri(pattern));
+			}
+			return output;
+		}
+		try (TreeWalk walk = new TreeWalk(this.repository)) {
+			walk.addTree(this.commit.getTree());
+			while (walk.next()) {
+				if (walk.isSubtree()) {
+					String path = walk.getPathString();
+					if (this.pathMatcher.match(pattern, path)) {
+						output.add(directoryUri(path));
+					}
+					if (this.pathMatcher.matchStart(pattern, path)) {
+						walk.enterSubtree();
+					}
+				}
+			}
+		}
+		catch (IOException e) {
+			throw new IllegalStateException("Cannot read tree of commit " + getCommitId(), e);
+		}
+		return output;
+	}
+
+	private Resource resolve(String location, ResourceLoader resourceLoader) {
+		if (!location.startsWith(ResourceUtils.FILE_URL_PREFIX)) {
+			return null;
+		}
+		String path;
+		try {
+			path = StringUtils.cleanPath(ResourceUtils.getFile(location).getAbsolutePath());
+		}
+		catch (FileNotFoundException e) {
+			return null;
+		}
+		if (path.equals(this.workingDirectoryPath)) {
+			return find("");
+		}
+		if (!path.startsWith(this.workingDirectoryPath + "/")) {
+			return null;
+		}
+		return find(path.substring(this.workingDirectoryPath.length() + 1));
+	}
+
+	private ObjectResource find(String path) {
+		File file = path.isEmpty() ? this.workingDirectory : new File(this.workingDirectory, path);
+		if (path.isEmpty()) {
+			return new ObjectResource(this, file, null, true);
+		}
+		try (TreeWalk walk = TreeWalk.forPath(this.repository, path, this.commit.getTree())) {
+			if (walk == null) {
+				return new ObjectResource(this, file, null, false);
+			}
+			FileMode mode = walk.getFileMode(0);
+			if (FileMode.TREE.equals(mode)) {
+				return new ObjectResource(this, file, null, true);
+			}
+			if (FileMode.REGULAR_FILE.equals(mode) || FileMode.EXECUTABLE_FILE.equals(mode)) {
+				return new ObjectResource(this, file, walk.getObjectId(0), false);
+			}
+			// symbolic links and submodules are not followed
+			return new ObjectResource(this, file, null, false);
+		}
+		catch (IOException e) {
+			throw new IllegalStateException("Cannot read " + path + " from commit " + getCommitId(), e);
+		}
+	}
+
+	private String directoryUri(String path) {
+		File file = path.isEmpty() ? this.workingDirectory : new File(this.workingDirectory, path);
+		String uri = file.toURI().toString();
+		return uri.endsWith("/") ? uri : uri + "/";
+	}
+
+	/**
+	 * A file or directory of the commit.
+	 */
+	static final class ObjectResource extends AbstractResource {
+
+		private final JGitObjectResourceLoader loader;
+
+		private final File file;
+
+		private final ObjectId blobId;
+
+		private final boolean directory;
+
+		ObjectResource(JGitObjectResourceLoader loader, File file, ObjectId blobId, boolean directory) {
+			this.loader = loader;
+			this.file = file;
+			this.blobId = blobId;
+			this.directory = directory;
+		}
+
+		ObjectId getBlobId() {
+			return this.blobId;
+		}
+
+		@Override
+		public boolean exists() {
+			return this.blobId != null || this.directory;
+		}
+
+		@Override
+		public boolean isReadable() {
+			return this.blobId != null;
+		}
+
+		@Override
+		public InputStream getInputStream() throws IOException {
+			if (this.blobId == null) {
+				throw new FileNotFoundException(getDescription() + " cannot be opened because it does not exist");
+			}
+			return this.loader.repository.open(this.blobId, Constants.OBJ_BLOB).openStream();
+		}
+
+		@Override
+		public long contentLength() throws IOException {
+			if (this.blobId == null) {
+				throw new FileNotFoundException(getDescription() + " cannot be resolved because it does not exist");
+			}
+			return this.loader.repository.open(this.blobId, Constants.OBJ_BLOB).getSize();
+		}
+
+		@Override
+		public long lastModified() {
+			return this.loader.commit.getCommitTime() * 1000L;
+		}
+
+		@Override
+		public URL getURL() throws IOException {
+			try {
+				return getURI().toURL();
+			}
+			catch (MalformedURLException e) {
+				throw new IOException("Cannot convert " + this.file + " to a URL", e);
+			}
+		}
+
+		@Override
+		public URI getURI() {
+			return URI.create(this.directory ? this.loader.directoryUri(relativePath()) : this.file.toURI().toString());
+		}
+
+		@Override
+		public Resource createRelative(String relativePath) throws IOException {
+			return this.loader.getResource(StringUtils.applyRelativePath(getURI().toString(), relativePath));
+		}
+
+		@Override
+		public String getFilename() {
+			return this.file.getName();
+		}
+
+		@Override
+		public String getDescription() {
+			return "file [" + this.file.getAbsolutePath() + "]";
+		}
+
+		private String relativePath() {
+			String path = StringUtils.cleanPath(this.file.getAbsolutePath());
+			return path.equals(this.loader.workingDirectoryPath) ? ""
+					: path.substring(this.loader.workingDirectoryPath.length() + 1);
+		}
+
+		@Override
+		public boolean equals(Object other) {
+			if (this == other) {
+				return true;
+			}
+			if (!(other instanceof ObjectResource that)) {
+				return false;
+			}
+			return this.file.equals(that.file) && Objects.equals(this.blobId, that.blobId)
+					&& this.directory == that.directory;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(this.file, this.blobId);
+		}
+
+	}
+
+}
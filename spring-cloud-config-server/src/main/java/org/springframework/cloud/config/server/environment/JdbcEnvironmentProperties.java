@@ -32,6 +32,10 @@ public class JdbcEnvironmentProperties implements EnvironmentRepositoryPropertie
 	private static final String DEFAULT_SQL_WITHOUT_PROFILE = "SELECT \"KEY\", \"VALUE\" from PROPERTIES"
 			+ " where APPLICATION=? and PROFILE is null and LABEL=?";
 
+	private static final String DEFAULT_BATCH_SQL = "SELECT APPLICATION, PROFILE, LABEL, \"KEY\", \"VALUE\""
+			+ " from PROPERTIES where APPLICATION in (:applications) and LABEL in (:labels)"
+			+ " and (PROFILE in (:profiles) or PROFILE is null)";
+
 	/**
 	 * Flag to indicate that JDBC environment repository configuration is enabled.
 	 */
@@ -45,6 +49,22 @@ public class JdbcEnvironmentProperties implements EnvironmentRepositoryPropertie
 	/** SQL used to query database for keys and values when profile is null. */
 	private String sqlWithoutProfile = DEFAULT_SQL_WITHOUT_PROFILE;
 
+	/**
+	 * Flag to fetch all the property sources of a request with a single query
+	 * ({@link #batchSql}) instead of one query per application, profile and label.
+	 * Ignored when the properties are read by a custom PropertiesResultSetExtractor.
+	 */
+	private boolean batch = false;
+
+	/**
+	 * SQL used to query database for keys and values of all the applications, profiles
+	 * and labels of a request at once when batch is enabled. It takes the named
+	 * parameters "applications", "profiles" and "labels" and must return the
+	 * application, profile, label, key and value columns in this order, with a null
+	 * profile for the properties without profile.
+	 */
+	private String batchSql = DEFAULT_BATCH_SQL;
+
 	/**
 	 * Flag to determine how to handle query exceptions.
 	 */
@@ -85,6 +105,22 @@ public class JdbcEnvironmentProperties implements EnvironmentRepositoryPropertie
 		this.sqlWithoutProfile = sqlWithoutProfile;
 	}
 
+	public boolean isBatch() {
+		return this.batch;
+	}
+
+	public void setBatch(boolean batch) {
+		this.batch = batch;
+	}
+
+	public String getBatchSql() {
+		return this.batchSql;
+	}
+
+	public void setBatchSql(String batchSql) {
+		this.batchSql = batchSql;
+	}
+
 	public boolean isFailOnError() {
 		return failOnError;
 	}
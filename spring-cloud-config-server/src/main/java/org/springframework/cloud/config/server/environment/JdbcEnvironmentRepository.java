@@ -21,6 +21,7 @@ import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -36,6 +37,8 @@ import org.springframework.core.Ordered;
 import org.springframework.dao.DataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.util.StringUtils;
 
 /**
@@ -57,6 +60,8 @@ public class JdbcEnvironmentRepository implements EnvironmentRepository, Ordered
 
 	private final JdbcTemplate jdbc;
 
+	private final NamedParameterJdbcTemplate namedParameterJdbc;
+
 	private final PropertiesResultSetExtractor extractor;
 
 	private int order;
@@ -65,6 +70,10 @@ public class JdbcEnvironmentRepository implements EnvironmentRepository, Ordered
 
 	private String sqlWithoutProfile;
 
+	private boolean batch;
+
+	private String batchSql;
+
 	private boolean failOnError;
 
 	private boolean configIncomplete;
@@ -79,11 +88,14 @@ public class JdbcEnvironmentRepository implements EnvironmentRepository, Ordered
 	public JdbcEnvironmentRepository(JdbcTemplate jdbc, JdbcEnvironmentProperties properties,
 			PropertiesResultSetExtractor extractor) {
 		this.jdbc = jdbc;
+		this.namedParameterJdbc = new NamedParameterJdbcTemplate(jdbc);
 		this.order = properties.getOrder();
 		this.sql = properties.getSql();
 		this.sqlWithoutProfile = properties.getSqlWithoutProfile();
+		this.batchSql = properties.getBatchSql();
 		this.failOnError = properties.isFailOnError();
 		this.extractor = extractor;
+		setBatch(properties.isBatch());
 		this.configIncomplete = properties.isConfigIncomplete();
 		this.defaultLabel = properties.getDefaultLabel();
 	}
@@ -127,27 +139,62 @@ public class JdbcEnvironmentRepository implements EnvironmentRepository, Ordered
 		else {
 			labels = Collections.singletonList(label);
 		}
+		Map<Key, Map<String, Object>> sources = this.batch ? findAll(applications, envs, labels) : null;
 		for (String l : labels) {
 			for (String env : envs) {
 				for (String app : applications) {
-					addPropertySource(environment, app, env, l);
+					addPropertySource(environment, sources, app, env, l);
 				}
 			}
 			// add properties without profile, equivalent to foo.yml, application.yml
 			if (!configIncomplete) {
 				for (String app : applications) {
-					addPropertySource(environment, app, null, l);
+					addPropertySource(environment, sources, app, null, l);
 				}
 			}
 		}
 		return environment;
 	}
 
-	private void addPropertySource(Environment environment, String application, String profile, String label) {
+	/**
+	 * Fetch the properties of all the applications, profiles and labels at once.
+	 */
+	private Map<Key, Map<String, Object>> findAll(List<String> applications, List<String> profiles,
+			List<String> labels) {
+		MapSqlParameterSource parameters = new MapSqlParameterSource().addValue("applications", applications)
+			.addValue("profiles", profiles)
+			.addValue("labels", labels);
+		try {
+			return this.namedParameterJdbc.query(this.batchSql, parameters, rs -> {
+				Map<Key, Map<String, Object>> sources = new HashMap<>();
+				while (rs.next()) {
+					Key key = new Key(rs.getString(1), rs.getString(2), rs.getString(3));
+					sources.computeIfAbsent(key, k -> new LinkedHashMap<>()).put(rs.getString(4), rs.getString(5));
+				}
+				return sources;
+			});
+		}
+		catch (DataAccessException e) {
+			if (!failOnError) {
+				if (logger.isDebugEnabled()) {
+					logger.debug("Failed to retrieve configuration from JDBC Repository", e);
+				}
+				return Collections.emptyMap();
+			}
+			throw e;
+		}
+	}
+
+	private void addPropertySource(Environment environment, Map<Key, Map<String, Object>> sources,
+			String application, String profile, String label) {
 		try {
 			Map<String, Object> source;
 			String name;
-			if (profile != null) {
+			if (sources != null) {
+				source = sources.get(new Key(application, profile, label));
+				name = (profile != null) ? application + "-" + profile : application;
+			}
+			else if (profile != null) {
 				source = this.jdbc.query(this.sql, this.extractor, application, profile, label);
 				name = application + "-" + profile;
 			}
@@ -180,6 +227,20 @@ public class JdbcEnvironmentRepository implements EnvironmentRepository, Ordered
 		this.order = order;
 	}
 
+	public boolean isBatch() {
+		return this.batch;
+	}
+
+	public void setBatch(boolean batch) {
+		if (batch && this.extractor != null && this.extractor.getClass() != PropertiesResultSetExtractor.class) {
+			// the batch query reads the rows itself, a custom extractor would be ignored
+			logger.warn("Ignoring batch mode of the JDBC repository, the properties are read by a custom "
+					+ this.extractor.getClass().getName());
+			batch = false;
+		}
+		this.batch = batch;
+	}
+
 	public boolean isFailOnError() {
 		return failOnError;
 	}
@@ -201,4 +262,7 @@ public class JdbcEnvironmentRepository implements EnvironmentRepository, Ordered
 
 	}
 
+	private record Key(String application, String profile, String label) {
+	}
+
 }
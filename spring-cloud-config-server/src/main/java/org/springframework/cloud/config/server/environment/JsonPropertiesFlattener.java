@@ -0,0 +1,121 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.config.server.environment;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Properties;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import org.springframework.beans.factory.config.YamlPropertiesFactoryBean;
+import org.springframework.core.CollectionFactory;
+import org.springframework.util.StringUtils;
+
+/**
+ * Flattens a JSON tree into properties, with the same keys and values a
+ * {@link YamlPropertiesFactoryBean} reading the JSON as YAML produces: nested objects are
+ * joined with dots, array elements are indexed with brackets, empty arrays and nulls
+ * become empty strings and empty objects are left out. Integral numbers keep the
+ * narrowest of {@link Integer}, {@link Long} and {@link java.math.BigInteger}, other
+ * numbers become {@link Double}. Unlike YAML 1.1, a number in exponent notation is read
+ * as a number rather than a string.
+ */
+final class JsonPropertiesFlattener {
+
+	/**
+	 * Key of a document that is not an object, as used by {@link YamlPropertiesFactoryBean}.
+	 */
+	private static final String DOCUMENT = "document";
+
+	private JsonPropertiesFlattener() {
+	}
+
+	/**
+	 * @param data the JSON tree, may be null
+	 * @return the flattened properties, empty if there is no data
+	 */
+	static Properties flatten(JsonNode data) {
+		Properties properties = CollectionFactory.createStringAdaptingProperties();
+		if (data == null || data.isNull() || data.isMissingNode()) {
+			return properties;
+		}
+		if (data.isObject()) {
+			flattenObject(properties, data, null);
+		}
+		else {
+			flatten(properties, DOCUMENT, data);
+		}
+		return properties;
+	}
+
+	private static void flattenObject(Properties properties, JsonNode object, String path) {
+		Iterator<Map.Entry<String, JsonNode>> fields = object.fields();
+		while (fields.hasNext()) {
+			Map.Entry<String, JsonNode> field = fields.next();
+			flatten(properties, key(path, field.getKey()), field.getValue());
+		}
+	}
+
+	private static void flatten(Properties properties, String key, JsonNode value) {
+		if (value.isObject()) {
+			flattenObject(properties, value, key);
+		}
+		else if (value.isArray()) {
+			if (value.isEmpty()) {
+				properties.put(key, "");
+			}
+			for (int i = 0; i < value.size(); i++) {
+				flatten(properties, key(key, "[" + i + "]"), value.get(i));
+			}
+		}
+		else {
+			properties.put(key, scalar(value));
+		}
+	}
+
+	private static String key(String path, String key) {
+		if (!StringUtils.hasText(path)) {
+			return key;
+		}
+		return key.startsWith("[") ? path + key : path + '.' + key;
+	}
+
+	private static Object scalar(JsonNode value) {
+		if (value.isTextual()) {
+			return value.textValue();
+		}
+		if (value.isBoolean()) {
+			return value.booleanValue();
+		}
+		if (value.isIntegralNumber()) {
+			// same types as the YAML constructor
+			if (value.canConvertToInt()) {
+				return value.intValue();
+			}
+			return value.canConvertToLong() ? (Object) value.longValue() : value.bigIntegerValue();
+		}
+		if (value.isNumber()) {
+			return value.doubleValue();
+		}
+		if (value.isNull() || value.isMissingNode()) {
+			return "";
+		}
+		return value.asText();
+	}
+
+}
@@ -48,6 +48,18 @@ public class MongoDbEnvironmentProperties implements EnvironmentRepositoryProper
 	 */
 	private boolean failOnError = true;
 
+	/**
+	 * Flag to fetch the documents of all the applications and profiles of a request with
+	 * a single query instead of one query per application and profile.
+	 */
+	private boolean batch = false;
+
+	/**
+	 * Flag to create a compound index on application, profile and label in the
+	 * collection if it does not exist yet.
+	 */
+	private boolean createIndex = false;
+
 	/**
 	 * Default label to use if none is specified.
 	 */
@@ -86,6 +98,22 @@ public class MongoDbEnvironmentProperties implements EnvironmentRepositoryProper
 		this.failOnError = failOnError;
 	}
 
+	public boolean isBatch() {
+		return batch;
+	}
+
+	public void setBatch(boolean batch) {
+		this.batch = batch;
+	}
+
+	public boolean isCreateIndex() {
+		return createIndex;
+	}
+
+	public void setCreateIndex(boolean createIndex) {
+		this.createIndex = createIndex;
+	}
+
 	public String getDefaultLabel() {
 		return defaultLabel;
 	}
@@ -16,8 +16,10 @@
 
 package org.springframework.cloud.config.server.environment;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -30,7 +32,9 @@ import org.springframework.cloud.config.environment.Environment;
 import org.springframework.cloud.config.environment.PropertySource;
 import org.springframework.core.Ordered;
 import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.util.StringUtils;
@@ -46,6 +50,8 @@ public class MongoDbEnvironmentRepository implements EnvironmentRepository, Orde
 
 	private final MongoDbEnvironmentProperties properties;
 
+	private volatile boolean indexChecked;
+
 	public MongoDbEnvironmentRepository(MongoTemplate mongoTemplate, MongoDbEnvironmentProperties properties) {
 		this.mongoTemplate = mongoTemplate;
 		this.properties = properties;
@@ -72,32 +78,93 @@ public class MongoDbEnvironmentRepository implements EnvironmentRepository, Orde
 		Collections.reverse(applications);
 		Collections.reverse(profiles);
 
+		if (this.properties.isCreateIndex() && !this.indexChecked) {
+			createIndex();
+		}
+		Map<List<String>, List<Map>> documents = this.properties.isBatch() ? findAll(applications, profiles, label)
+				: null;
+
 		// Add property sources for each combination of application and profile
 		for (String env : profiles) {
 			for (String app : applications) {
-				addPropertySource(environment, app, env, label);
+				addPropertySource(environment, documents, app, env, label);
 			}
 		}
 		// add properties without profile, equivalent to foo.yml, application.yml
 		for (String app : applications) {
-			addPropertySource(environment, app, null, label);
+			addPropertySource(environment, documents, app, null, label);
 		}
 		return environment;
 	}
 
-	private void addPropertySource(Environment environment, String application, String profile, String label) {
+	/**
+	 * Fetch the documents of all the applications and profiles at once, grouped by
+	 * application and profile.
+	 */
+	private Map<List<String>, List<Map>> findAll(List<String> applications, List<String> profiles, String label) {
+		List<String> profilesOrNone = new ArrayList<>(profiles);
+		profilesOrNone.add(null);
+		Query query = new Query(Criteria.where("application")
+			.in(applications)
+			.and("label")
+			.is(label)
+			.and("profile")
+			.in(profilesOrNone));
+		Map<List<String>, List<Map>> documents = new HashMap<>();
 		try {
-			Criteria criteria = Criteria.where("application").is(application).and("label").is(label);
-			if (profile != null) {
-				criteria = criteria.and("profile").is(profile);
+			for (Map propertyMap : this.mongoTemplate.find(query, Map.class, this.properties.getCollection())) {
+				List<String> key = Arrays.asList((String) propertyMap.get("application"),
+						(String) propertyMap.get("profile"));
+				documents.computeIfAbsent(key, k -> new ArrayList<>()).add(propertyMap);
+			}
+		}
+		catch (DataAccessException | MongoException e) {
+			if (!this.properties.isFailOnError()) {
+				if (logger.isDebugEnabled()) {
+					logger.debug("Failed to retrieve configuration from MongoDB", e);
+				}
 			}
 			else {
-				// Handling properties without profile by explicitly looking for them
-				criteria = criteria.andOperator(Criteria.where("profile").is(null));
+				throw e;
+			}
+		}
+		return documents;
+	}
+
+	private void createIndex() {
+		// only try once, a missing index does not prevent the queries from working
+		this.indexChecked = true;
+		try {
+			this.mongoTemplate.indexOps(this.properties.getCollection())
+				.ensureIndex(new Index().on("application", Sort.Direction.ASC)
+					.on("profile", Sort.Direction.ASC)
+					.on("label", Sort.Direction.ASC));
+		}
+		catch (DataAccessException | MongoException e) {
+			logger.warn("Failed to create index on collection " + this.properties.getCollection(), e);
+		}
+	}
+
+	private void addPropertySource(Environment environment, Map<List<String>, List<Map>> documents,
+			String application, String profile, String label) {
+		try {
+			List<Map> propertyMaps;
+			if (documents != null) {
+				propertyMaps = documents.getOrDefault(Arrays.asList(application, profile), Collections.emptyList());
 			}
+			else {
+				Criteria criteria = Criteria.where("application").is(application).and("label").is(label);
+				if (profile != null) {
+					criteria = criteria.and("profile").is(profile);
+				}
+				else {
+					// Handling properties without profile by explicitly looking for them
+					criteria = criteria.andOperator(Criteria.where("profile").is(null));
+				}
 
-			Query query = new Query(criteria);
-			List<Map> propertyMaps = this.mongoTemplate.find(query, Map.class, this.properties.getCollection());
+				Query query = new Query(criteria);
+				propertyMaps = this.mongoTemplate.find(query, Map.class, this.properties.getCollection());
+			}
 
 			for (Map propertyMap : propertyMaps) {
 				String propertySourceName = (profile != null) ? application + "-" + profile : application;
@@ -23,6 +23,8 @@ import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 import io.micrometer.observation.ObservationRegistry;
 
@@ -54,7 +56,7 @@ public class MultipleJGitEnvironmentRepository extends JGitEnvironmentRepository
 	 */
 	private Map<String, PatternMatchingJGitEnvironmentRepository> repos = new LinkedHashMap<>();
 
-	private Map<String, JGitEnvironmentRepository> placeholders = new LinkedHashMap<>();
+	private Map<String, JGitEnvironmentRepository> placeholders = new ConcurrentHashMap<>();
 
 	private final ObservationRegistry observationRegistry;
 
@@ -88,6 +90,9 @@ public class MultipleJGitEnvironmentRepository extends JGitEnvironmentRepository
 			if (getRefreshRate() != 0 && repo.getRefreshRate() == 0) {
 				repo.setRefreshRate(getRefreshRate());
 			}
+			if (getBackgroundRefreshInterval() != null && repo.getBackgroundRefreshInterval() == null) {
+				repo.setBackgroundRefresh(getBackgroundRefreshInterval(), getMaxStaleness());
+			}
 			String user = repo.getUsername();
 			String passphrase = repo.getPassphrase();
 			if (user == null) {
@@ -100,6 +105,12 @@ public class MultipleJGitEnvironmentRepository extends JGitEnvironmentRepository
 			if (isSkipSslValidation()) {
 				repo.setSkipSslValidation(true);
 			}
+			if (isReadFromObjectDatabase()) {
+				repo.setReadFromObjectDatabase(true);
+			}
+			if (isLightweightLoader()) {
+				repo.setLightweightLoader(true);
+			}
 			repo.afterPropertiesSet();
 		}
 		if (!getBasedir().exists() && !getBasedir().mkdirs()) {
@@ -111,6 +122,37 @@ public class MultipleJGitEnvironmentRepository extends JGitEnvironmentRepository
 		}
 	}
 
+	@Override
+	public void destroy() {
+		super.destroy();
+		for (PatternMatchingJGitEnvironmentRepository repo : this.repos.values()) {
+			repo.destroy();
+		}
+		// the repositories of the placeholders are not beans, nothing else destroys them
+		for (JGitEnvironmentRepository repo : this.placeholders.values()) {
+			repo.destroy();
+		}
+	}
+
+	@Override
+	public void onApplicationEvent(PropertyPathChangeEvent event) {
+		super.onApplicationEvent(event);
+		for (PatternMatchingJGitEnvironmentRepository repo : this.repos.values()) {
+			repo.onApplicationEvent(event);
+		}
+	}
+
+	@Override
+	public void setParsedDocumentCache(ParsedDocumentCache parsedDocumentCache) {
+		super.setParsedDocumentCache(parsedDocumentCache);
+		for (PatternMatchingJGitEnvironmentRepository repo : this.repos.values()) {
+			repo.setParsedDocumentCache(parsedDocumentCache);
+		}
+		for (JGitEnvironmentRepository repo : this.placeholders.values()) {
+			repo.setParsedDocumentCache(parsedDocumentCache);
+		}
+	}
+
 	public Map<String, PatternMatchingJGitEnvironmentRepository> getRepos() {
 		return this.repos;
 	}
@@ -121,13 +163,33 @@ public class MultipleJGitEnvironmentRepository extends JGitEnvironmentRepository
 
 	@Override
 	public Locations getLocations(String application, String profile, String label) {
+		JGitEnvironmentRepository candidate = getLocator(application, profile, label);
+		if (candidate == this) {
+			return super.getLocations(application, profile, label);
+		}
+		return candidate.getLocations(application, profile, label);
+	}
+
+	@Override
+	public <T> T readLocations(String application, String profile, String label, Function<Locations, T> reader) {
+		JGitEnvironmentRepository candidate = getLocator(application, profile, label);
+		if (candidate == this) {
+			return super.readLocations(application, profile, label, reader);
+		}
+		return candidate.readLocations(application, profile, label, reader);
+	}
+
+	/**
+	 * @return the repository the locations of a request are looked up in
+	 */
+	private JGitEnvironmentRepository getLocator(String application, String profile, String label) {
 		for (PatternMatchingJGitEnvironmentRepository repository : this.repos.values()) {
 			if (repository.matches(application, profile, label)) {
 				for (JGitEnvironmentRepository candidate : getRepositories(repository, application, profile, label)) {
 					try {
 						Environment source = candidate.findOne(application, profile, label, false);
 						if (source != null) {
-							return candidate.getLocations(application, profile, label);
+							return candidate;
 						}
 					}
 					catch (Exception e) {
@@ -140,11 +202,7 @@ public class MultipleJGitEnvironmentRepository extends JGitEnvironmentRepository
 				}
 			}
 		}
-		JGitEnvironmentRepository candidate = getRepository(this, application, profile, label);
-		if (candidate == this) {
-			return super.getLocations(application, profile, label);
-		}
-		return candidate.getLocations(application, profile, label);
+		return getRepository(this, application, profile, label);
 	}
 
 	@Override
@@ -190,6 +248,13 @@ public class MultipleJGitEnvironmentRepository extends JGitEnvironmentRepository
 		}
 	}
 
+	@Override
+	protected Locations getCurrentLocations(String application, String profile, String label) {
+		// getLocations() may route the request to one of the other repositories, so only
+		// the plain single repository case can skip it
+		return this.repos.isEmpty() ? super.getCurrentLocations(application, profile, label) : null;
+	}
+
 	private Environment findOneFromCandidate(JGitEnvironmentRepository candidate, String application, String profile,
 			String label, boolean includeOrigin) {
 		if (candidate == this) {
@@ -230,10 +295,7 @@ public class MultipleJGitEnvironmentRepository extends JGitEnvironmentRepository
 		if (label != null) {
 			key = key.replace("{label}", label);
 		}
-		if (!this.placeholders.containsKey(key)) {
-			this.placeholders.put(key, getRepository(repository, key));
-		}
-		return this.placeholders.get(key);
+		return this.placeholders.computeIfAbsent(key, uri -> getRepository(repository, uri));
 	}
 
 	private JGitEnvironmentRepository getRepository(JGitEnvironmentRepository source, String uri) {
@@ -48,6 +48,13 @@ public class NativeEnvironmentProperties implements EnvironmentRepositoryPropert
 	 */
 	private String version;
 
+	/**
+	 * Flag to load configuration files without running the full Spring Boot config data
+	 * processing for each request. Requests that use features only Spring Boot supports
+	 * (e.g. imports or profile groups) still go through Spring Boot.
+	 */
+	private boolean lightweightLoader = false;
+
 	private int order = DEFAULT_ORDER;
 
 	public Boolean getFailOnError() {
@@ -90,6 +97,14 @@ public class NativeEnvironmentProperties implements EnvironmentRepositoryPropert
 		this.version = version;
 	}
 
+	public boolean isLightweightLoader() {
+		return this.lightweightLoader;
+	}
+
+	public void setLightweightLoader(boolean lightweightLoader) {
+		this.lightweightLoader = lightweightLoader;
+	}
+
 	public int getOrder() {
 		return this.order;
 	}
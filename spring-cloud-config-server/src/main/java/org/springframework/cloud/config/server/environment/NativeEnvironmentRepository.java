@@ -44,6 +44,7 @@ import org.springframework.core.env.ConfigurableEnvironment;
 import org.springframework.core.env.MapPropertySource;
 import org.springframework.core.env.StandardEnvironment;
 import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.ResourceLoader;
 import org.springframework.util.StringUtils;
 
 /**
@@ -91,6 +92,24 @@ public class NativeEnvironmentRepository implements EnvironmentRepository, Searc
 
 	private ConfigurableEnvironment environment;
 
+	/**
+	 * Resource loader used to read the search locations, a plain
+	 * {@link DefaultResourceLoader} if not set.
+	 */
+	private ResourceLoader resourceLoader;
+
+	/**
+	 * Cache of parsed configuration files used by the {@link ConfigFileEnvironmentLoader},
+	 * files are parsed on every request if not set.
+	 */
+	private ParsedDocumentCache parsedDocumentCache;
+
+	/**
+	 * Flag to load the configuration files with a {@link ConfigFileEnvironmentLoader}
+	 * instead of the full Spring Boot config data support.
+	 */
+	private boolean lightweightLoader;
+
 	private int order;
 
 	private final ObservationRegistry observationRegistry;
@@ -105,6 +124,7 @@ public class NativeEnvironmentRepository implements EnvironmentRepository, Searc
 		this.observationRegistry = observationRegistry;
 		setSearchLocations(properties.getSearchLocations());
 		this.version = properties.getVersion();
+		this.lightweightLoader = properties.isLightweightLoader();
 	}
 
 	public boolean isFailOnError() {
@@ -140,20 +160,34 @@ public class NativeEnvironmentRepository implements EnvironmentRepository, Searc
 	public Environment findOne(String config, String profile, String label, boolean includeOrigin) {
 
 		try {
-			ConfigurableEnvironment environment = getEnvironment(config, profile, label);
-			DefaultResourceLoader resourceLoader = new DefaultResourceLoader();
+			ResourceLoader resourceLoader = (this.resourceLoader != null) ? this.resourceLoader
+					: new DefaultResourceLoader();
 			Map<org.springframework.core.env.PropertySource<?>, PropertySourceConfigData> propertySourceToConfigData = new HashMap<>();
-			ConfigDataEnvironmentPostProcessor.applyTo(environment, resourceLoader, null,
-					StringUtils.commaDelimitedListToSet(profile), new ConfigDataEnvironmentUpdateListener() {
-						@Override
-						public void onPropertySourceAdded(org.springframework.core.env.PropertySource<?> propertySource,
-								ConfigDataLocation location, ConfigDataResource resource) {
-							propertySourceToConfigData.put(propertySource,
-									new PropertySourceConfigData(location, resource));
-						}
-					});
+			ConfigurableEnvironment environment = null;
+			if (this.lightweightLoader) {
+				environment = ConfigFileEnvironmentLoader.get()
+					.withParsedDocumentCache(this.parsedDocumentCache)
+					.load(resourceLoader, getLocations(config, profile, label).getLocations(),
+							StringUtils.commaDelimitedListToStringArray(getConfigName(config)), profile);
+				if (environment == null) {
+					logger.debug("Falling back to Spring Boot to load config=" + config + " profile=" + profile);
+				}
+			}
+			if (environment == null) {
+				environment = getEnvironment(config, profile, label);
+				ConfigDataEnvironmentPostProcessor.applyTo(environment, resourceLoader, null,
+						StringUtils.commaDelimitedListToSet(profile), new ConfigDataEnvironmentUpdateListener() {
+							@Override
+							public void onPropertySourceAdded(
+									org.springframework.core.env.PropertySource<?> propertySource,
+									ConfigDataLocation location, ConfigDataResource resource) {
+								propertySourceToConfigData.put(propertySource,
+										new PropertySourceConfigData(location, resource));
+							}
+						});
+				environment.getPropertySources().remove("config-data-setup");
+			}
 
-			environment.getPropertySources().remove("config-data-setup");
 			return clean(ObservationEnvironmentRepositoryWrapper
 				.wrap(this.observationRegistry, new PassthruEnvironmentRepository(environment))
 				.findOne(config, profile, label, includeOrigin), propertySourceToConfigData);
@@ -235,11 +269,7 @@ public class NativeEnvironmentRepository implements EnvironmentRepository, Searc
 		ConfigurableEnvironment environment = new StandardEnvironment();
 		Map<String, Object> map = new HashMap<>();
 		map.put("spring.profiles.active", profile);
-		String config = application;
-		if (!config.equals("application")) {
-			config = "application," + config;
-		}
-		map.put("spring.config.name", config);
+		map.put("spring.config.name", getConfigName(application));
 		// map.put("encrypt.failOnError=" + this.failOnError);
 		map.put("spring.config.location",
 				StringUtils.arrayToDelimitedString(getLocations(application, profile, label).getLocations(), ";"));
@@ -249,6 +279,14 @@ public class NativeEnvironmentRepository implements EnvironmentRepository, Searc
 		return environment;
 	}
 
+	private String getConfigName(String application) {
+		String config = application;
+		if (!config.equals("application")) {
+			config = "application," + config;
+		}
+		return config;
+	}
+
 	protected Environment clean(Environment env) {
 		return clean(env, Collections.emptyMap());
 	}
@@ -392,6 +430,30 @@ public class NativeEnvironmentRepository implements EnvironmentRepository, Searc
 		this.version = version;
 	}
 
+	public ResourceLoader getResourceLoader() {
+		return this.resourceLoader;
+	}
+
+	public void setResourceLoader(ResourceLoader resourceLoader) {
+		this.resourceLoader = resourceLoader;
+	}
+
+	public ParsedDocumentCache getParsedDocumentCache() {
+		return this.parsedDocumentCache;
+	}
+
+	public void setParsedDocumentCache(ParsedDocumentCache parsedDocumentCache) {
+		this.parsedDocumentCache = parsedDocumentCache;
+	}
+
+	public boolean isLightweightLoader() {
+		return this.lightweightLoader;
+	}
+
+	public void setLightweightLoader(boolean lightweightLoader) {
+		this.lightweightLoader = lightweightLoader;
+	}
+
 	private boolean isDirectory(String location) {
 		return !location.contains("{") && !location.endsWith(".properties") && !location.endsWith(".yml")
 				&& !location.endsWith(".yaml");
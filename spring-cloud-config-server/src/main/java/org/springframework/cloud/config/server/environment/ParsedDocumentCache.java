@@ -0,0 +1,165 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.config.server.environment;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.boot.origin.OriginTrackedResource;
+import org.springframework.core.env.PropertySource;
+import org.springframework.core.io.Resource;
+import org.springframework.util.Assert;
+
+/**
+ * Bounded store of the property sources parsed from configuration files, keyed by the
+ * content of the file: the blob id for files read from a git object database and a
+ * SHA-256 digest of the content for files on disk. Passed by a
+ * {@link NativeEnvironmentRepository} to the {@link ConfigFileEnvironmentLoader} it loads
+ * the files of a request with, so that only files that changed are parsed again.
+ */
+public class ParsedDocumentCache {
+
+	private final Map<Key, Entry> entries;
+
+	private final AtomicLong hits = new AtomicLong();
+
+	private final AtomicLong misses = new AtomicLong();
+
+	private final AtomicLong savedParseNanos = new AtomicLong();
+
+	public ParsedDocumentCache(int maxSize) {
+		Assert.isTrue(maxSize > 0, "maxSize must be greater than 0");
+		this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+				return size() > maxSize;
+			}
+		};
+	}
+
+	/**
+	 * Return the cached property sources of a resource, or parse and cache them.
+	 * @param name the name of the property sources
+	 * @param resource the resource
+	 * @param parser the parser to call on a miss
+	 * @return the property sources
+	 * @throws IOException if the resource cannot be parsed
+	 */
+	List<PropertySource<?>> load(String name, Resource resource, Parser parser) throws IOException {
+		String fingerprint = fingerprint(resource);
+		if (fingerprint == null) {
+			return parser.parse();
+		}
+		Key key = new Key(name, fingerprint);
+		Entry entry;
+		synchronized (this.entries) {
+			entry = this.entries.get(key);
+		}
+		if (entry != null) {
+			this.hits.incrementAndGet();
+			this.savedParseNanos.addAndGet(entry.parseNanos());
+			return entry.propertySources();
+		}
+		this.misses.incrementAndGet();
+		long start = System.nanoTime();
+		List<PropertySource<?>> propertySources = parser.parse();
+		entry = new Entry(List.copyOf(propertySources), System.nanoTime() - start);
+		synchronized (this.entries) {
+			this.entries.put(key, entry);
+		}
+		return entry.propertySources();
+	}
+
+	public void clear() {
+		synchronized (this.entries) {
+			this.entries.clear();
+		}
+	}
+
+	public int size() {
+		synchronized (this.entries) {
+			return this.entries.size();
+		}
+	}
+
+	public long getHitCount() {
+		return this.hits.get();
+	}
+
+	public long getMissCount() {
+		return this.misses.get();
+	}
+
+	/**
+	 * @return the time spent parsing the documents that were served from the cache
+	 * instead, in seconds
+	 */
+	public double getSavedParseTime() {
+		return this.savedParseNanos.get() / 1_000_000_000d;
+	}
+
+	private static String fingerprint(Resource resource) throws IOException {
+		if (resource instanceof OriginTrackedResource originTrackedResource) {
+			resource = originTrackedResource.getResource();
+		}
+		if (resource instanceof JGitObjectResourceLoader.ObjectResource objectResource) {
+			return (objectResource.getBlobId() != null) ? "blob:" + objectResource.getBlobId().name() : null;
+		}
+		if (resource.isFile()) {
+			// the modification time of a working copy file says nothing about its content
+			// (checkouts set it to the time of the checkout), so the content is hashed
+			return "sha256:" + digest(resource.getFile());
+		}
+		// e.g. classpath resources inside a jar, not worth tracking
+		return null;
+	}
+
+	private static String digest(File file) throws IOException {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			return HexFormat.of().formatHex(digest.digest(Files.readAllBytes(file.toPath())));
+		}
+		catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 is not available", e);
+		}
+	}
+
+	/**
+	 * Parses a resource into property sources.
+	 */
+	@FunctionalInterface
+	interface Parser {
+
+		List<PropertySource<?>> parse() throws IOException;
+
+	}
+
+	private record Key(String name, String fingerprint) {
+	}
+
+	private record Entry(List<PropertySource<?>> propertySources, long parseNanos) {
+	}
+
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.config.server.environment;
+
+import java.util.Set;
+
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * Published when the configuration at some paths of a backend changed, for example by
+ * the monitor endpoint when it receives a webhook, so that environment repositories can
+ * drop what they cached for these paths.
+ */
+public class PropertyPathChangeEvent extends ApplicationEvent {
+
+	private final Set<String> paths;
+
+	/**
+	 * @param source the object publishing the event
+	 * @param paths the changed paths, as sent by the backend
+	 */
+	public PropertyPathChangeEvent(Object source, Set<String> paths) {
+		super(source);
+		this.paths = paths;
+	}
+
+	public Set<String> getPaths() {
+		return this.paths;
+	}
+
+}
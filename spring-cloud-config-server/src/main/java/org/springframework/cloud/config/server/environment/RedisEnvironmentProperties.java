@@ -16,6 +16,8 @@
 
 package org.springframework.cloud.config.server.environment;
 
+import java.time.Duration;
+
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.cloud.config.server.support.EnvironmentRepositoryProperties;
 
@@ -27,6 +29,11 @@ public class RedisEnvironmentProperties implements EnvironmentRepositoryProperti
 
 	private int order = DEFAULT_ORDER;
 
+	/**
+	 * Caching of the hashes read from Redis.
+	 */
+	private CacheProperties cache = new CacheProperties();
+
 	public int getOrder() {
 		return this.order;
 	}
@@ -36,4 +43,44 @@ public class RedisEnvironmentProperties implements EnvironmentRepositoryProperti
 		this.order = order;
 	}
 
+	public CacheProperties getCache() {
+		return this.cache;
+	}
+
+	public void setCache(CacheProperties cache) {
+		this.cache = cache;
+	}
+
+	public static class CacheProperties {
+
+		/**
+		 * Flag to keep the hashes read from Redis in memory until Redis publishes a
+		 * keyspace notification for them. Needs notify-keyspace-events to include K and h
+		 * on the Redis server.
+		 */
+		private boolean enabled = false;
+
+		/**
+		 * How long a hash is kept at most, in case a keyspace notification is missed.
+		 */
+		private Duration timeToLive = Duration.ofMinutes(5);
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public Duration getTimeToLive() {
+			return this.timeToLive;
+		}
+
+		public void setTimeToLive(Duration timeToLive) {
+			this.timeToLive = timeToLive;
+		}
+
+	}
+
 }
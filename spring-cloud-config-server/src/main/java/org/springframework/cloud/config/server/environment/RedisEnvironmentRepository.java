@@ -19,12 +19,17 @@ package org.springframework.cloud.config.server.environment;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.cloud.config.environment.Environment;
 import org.springframework.cloud.config.environment.PropertySource;
+import org.springframework.context.SmartLifecycle;
 import org.springframework.core.Ordered;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.util.StringUtils;
 
@@ -32,7 +37,8 @@ import org.springframework.util.StringUtils;
  * @author Piotr Mińkowski
  * @author KNV Srinivas
  */
-public class RedisEnvironmentRepository implements EnvironmentRepository, Ordered {
+public class RedisEnvironmentRepository implements EnvironmentRepository, Ordered, SmartLifecycle,
+		DisposableBean {
 
 	private final StringRedisTemplate redis;
 
@@ -40,10 +46,14 @@ public class RedisEnvironmentRepository implements EnvironmentRepository, Ordere
 
 	private final int order;
 
+	private final RedisHashCache cache;
+
 	public RedisEnvironmentRepository(StringRedisTemplate redis, RedisEnvironmentProperties properties) {
 		this.redis = redis;
 		this.properties = properties;
 		this.order = properties.getOrder();
+		this.cache = properties.getCache().isEnabled()
+				? new RedisHashCache(redis.getConnectionFactory(), properties.getCache().getTimeToLive()) : null;
 	}
 
 	@Override
@@ -51,13 +61,50 @@ public class RedisEnvironmentRepository implements EnvironmentRepository, Ordere
 		String[] profiles = StringUtils.commaDelimitedListToStringArray(profile);
 		Environment environment = new Environment(application, profiles, label, null, null);
 		final List<String> keys = addKeys(application, Arrays.asList(profiles));
-		keys.forEach(it -> {
-			Map<?, ?> m = redis.opsForHash().entries(it);
-			environment.add(new PropertySource("redis:" + it, m));
-		});
+		Map<String, Map<?, ?>> hashes = entries(keys);
+		keys.forEach(it -> environment.add(new PropertySource("redis:" + it, hashes.get(it))));
 		return environment;
 	}
 
+	/**
+	 * Read the hashes that are not cached with a single pipelined round-trip.
+	 */
+	private Map<String, Map<?, ?>> entries(List<String> keys) {
+		Map<String, Map<?, ?>> hashes = new HashMap<>();
+		List<String> missing = new ArrayList<>();
+		for (String key : keys) {
+			Map<?, ?> hash = (this.cache != null) ? this.cache.get(key) : null;
+			if (hash != null) {
+				hashes.put(key, hash);
+			}
+			else {
+				missing.add(key);
+			}
+		}
+		if (missing.isEmpty()) {
+			return hashes;
+		}
+		long version = (this.cache != null) ? this.cache.version() : -1;
+		List<Object> results = this.redis.executePipelined((RedisCallback<Object>) connection -> {
+			hGetAll(connection, missing);
+			return null;
+		});
+		for (int i = 0; i < missing.size(); i++) {
+			Map<?, ?> hash = (Map<?, ?>) results.get(i);
+			hashes.put(missing.get(i), hash);
+			if (this.cache != null) {
+				this.cache.put(missing.get(i), hash, version);
+			}
+		}
+		return hashes;
+	}
+
+	private void hGetAll(RedisConnection connection, List<String> keys) {
+		for (String key : keys) {
+			connection.hashCommands().hGetAll(this.redis.getStringSerializer().serialize(key));
+		}
+	}
+
 	private List<String> addKeys(String application, List<String> profiles) {
 		List<String> keys = new ArrayList<>();
 		keys.add(application);
@@ -73,4 +120,33 @@ public class RedisEnvironmentRepository implements EnvironmentRepository, Ordere
 		return order;
 	}
 
+	/**
+	 * Subscribes the hash cache to the keyspace notifications, if it is enabled.
+	 */
+	@Override
+	public void start() {
+		if (this.cache != null) {
+			this.cache.start();
+		}
+	}
+
+	@Override
+	public void stop() {
+		if (this.cache != null) {
+			this.cache.stop();
+		}
+	}
+
+	@Override
+	public boolean isRunning() {
+		return this.cache != null && this.cache.isRunning();
+	}
+
+	@Override
+	public void destroy() {
+		if (this.cache != null) {
+			this.cache.destroy();
+		}
+	}
+
 }
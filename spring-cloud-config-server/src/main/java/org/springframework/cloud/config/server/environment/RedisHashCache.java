@@ -0,0 +1,197 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.config.server.environment;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.jedis.JedisConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.listener.PatternTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Hashes read by the {@link RedisEnvironmentRepository}, evicted when Redis publishes a
+ * keyspace notification for their key. Keyspace notifications are disabled by default
+ * in Redis ({@code notify-keyspace-events} has to include {@code K} and {@code h}), and
+ * they are not delivered while the subscription is down, so every hash also expires after
+ * a fixed time. Only the notifications of the database the hashes are read from are
+ * listened to, when the connection factory tells which one it is. Nothing is cached
+ * until the listener is started with the repository.
+ */
+class RedisHashCache {
+
+	private static final Log logger = LogFactory.getLog(RedisHashCache.class);
+
+	private static final String KEYSPACE_PREFIX = "__keyspace@";
+
+	private static final String KEYSPACE_SEPARATOR = "__:";
+
+	private static final boolean LETTUCE_PRESENT = ClassUtils.isPresent("io.lettuce.core.RedisClient",
+			RedisHashCache.class.getClassLoader());
+
+	private static final boolean JEDIS_PRESENT = ClassUtils.isPresent("redis.clients.jedis.Jedis",
+			RedisHashCache.class.getClassLoader());
+
+	private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+	/**
+	 * Incremented on every eviction, so that a hash read before a change is not cached
+	 * after the notification of the change.
+	 */
+	private final AtomicLong evictions = new AtomicLong();
+
+	private final RedisConnectionFactory connectionFactory;
+
+	private final Duration timeToLive;
+
+	private volatile RedisMessageListenerContainer container;
+
+	RedisHashCache(RedisConnectionFactory connectionFactory, Duration timeToLive) {
+		this.connectionFactory = connectionFactory;
+		this.timeToLive = timeToLive;
+	}
+
+	/**
+	 * @param key the key of the hash
+	 * @return the entries of the hash or null if it is not cached
+	 */
+	Map<?, ?> get(String key) {
+		Entry entry = this.entries.get(key);
+		if (entry == null) {
+			return null;
+		}
+		if (entry.expires() - System.nanoTime() <= 0) {
+			this.entries.remove(key, entry);
+			return null;
+		}
+		return entry.hash();
+	}
+
+	/**
+	 * Call before reading hashes from Redis.
+	 * @return the version to pass to {@link #put}, negative if nothing can be cached
+	 */
+	long version() {
+		return isRunning() ? this.evictions.get() : -1;
+	}
+
+	/**
+	 * @param key the key of the hash
+	 * @param hash the entries of the hash
+	 * @param version the {@link #version()} before the hash was read
+	 */
+	void put(String key, Map<?, ?> hash, long version) {
+		if (version < 0) {
+			return;
+		}
+		this.entries.put(key, new Entry(hash, System.nanoTime() + this.timeToLive.toNanos()));
+		if (this.evictions.get() != version) {
+			// the hash might have changed while it was read
+			this.entries.remove(key);
+		}
+	}
+
+	void evict(String key) {
+		this.evictions.incrementAndGet();
+		this.entries.remove(key);
+	}
+
+	void clear() {
+		this.entries.clear();
+	}
+
+	/**
+	 * Listen to the keyspace notifications, hashes are cached from then on.
+	 */
+	synchronized void start() {
+		if (this.container == null) {
+			RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+			container.setConnectionFactory(this.connectionFactory);
+			container.addMessageListener((message, pattern) -> {
+				String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+				int separator = channel.indexOf(KEYSPACE_SEPARATOR);
+				if (separator >= 0) {
+					evict(channel.substring(separator + KEYSPACE_SEPARATOR.length()));
+				}
+			}, new PatternTopic(KEYSPACE_PREFIX + database() + KEYSPACE_SEPARATOR + "*"));
+			container.afterPropertiesSet();
+			this.container = container;
+		}
+		try {
+			this.container.start();
+		}
+		catch (RuntimeException e) {
+			logger.warn("Failed to listen to Redis keyspace notifications, hashes will not be cached", e);
+		}
+	}
+
+	/**
+	 * Stop listening to the keyspace notifications, and forget the hashes that could
+	 * change unnoticed.
+	 */
+	synchronized void stop() {
+		if (this.container != null) {
+			this.container.stop();
+		}
+		clear();
+	}
+
+	boolean isRunning() {
+		RedisMessageListenerContainer container = this.container;
+		return container != null && container.isRunning();
+	}
+
+	synchronized void destroy() {
+		if (this.container != null) {
+			try {
+				this.container.destroy();
+			}
+			catch (Exception e) {
+				logger.debug("Failed to stop the keyspace notification listener", e);
+			}
+			this.container = null;
+		}
+		clear();
+	}
+
+	/**
+	 * @return the index of the database the hashes are read from, or a pattern matching
+	 * every database if the connection factory does not tell
+	 */
+	private String database() {
+		if (LETTUCE_PRESENT && this.connectionFactory instanceof LettuceConnectionFactory lettuce) {
+			return String.valueOf(lettuce.getDatabase());
+		}
+		if (JEDIS_PRESENT && this.connectionFactory instanceof JedisConnectionFactory jedis) {
+			return String.valueOf(jedis.getDatabase());
+		}
+		return "*";
+	}
+
+	private record Entry(Map<?, ?> hash, long expires) {
+	}
+
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.config.server.environment;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Parsed S3 config files, with the ETag and version of the object they were parsed from.
+ * Holds the least recently used files up to a maximum number. An entry without
+ * properties records that the object does not exist.
+ */
+class S3ConfigFileCache {
+
+	private final Map<String, Entry> entries;
+
+	S3ConfigFileCache(int maxSize) {
+		this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+				return size() > maxSize;
+			}
+		};
+	}
+
+	/**
+	 * @param key the key of the object
+	 * @return the file last parsed from the object or null
+	 */
+	synchronized Entry get(String key) {
+		return this.entries.get(key);
+	}
+
+	synchronized void put(String key, Entry entry) {
+		this.entries.put(key, entry);
+	}
+
+	synchronized void remove(String key) {
+		this.entries.remove(key);
+	}
+
+	/**
+	 * A parsed config file.
+	 *
+	 * @param etag the ETag of the object
+	 * @param version the version id of the object, may be null
+	 * @param properties the properties of the file, copy them before changing them, null
+	 * if the object does not exist
+	 * @param validated when the object was last checked, as returned by
+	 * {@link System#nanoTime()}
+	 */
+	record Entry(String etag, String version, Properties properties, long validated) {
+
+		Entry validatedNow() {
+			return new Entry(this.etag, this.version, this.properties, System.nanoTime());
+		}
+
+	}
+
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.config.server.environment;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.S3Object;
+
+/**
+ * The keys of the objects of an S3 bucket and their ETags, listed again when they are
+ * older than the refresh interval. Lets the {@link AwsS3EnvironmentRepository} know which
+ * config file exists for a prefix without trying every extension, and whether an object
+ * changed since it was last downloaded.
+ * <p>
+ * The objects are listed one directory at a time, the directory of the keys asked for
+ * (the label, and the application with the directory layout), so that the listing does
+ * not cover the whole bucket. A directory is listed by a single request at a time, the
+ * other requests are served the previous listing meanwhile, and a listing that fails
+ * keeps the previous one until the next refresh interval.
+ */
+class S3ObjectIndex {
+
+	private static final Log LOG = LogFactory.getLog(S3ObjectIndex.class);
+
+	private static final String DELIMITER = "/";
+
+	/**
+	 * Maximum number of listed directories, the least recently used is dropped.
+	 */
+	private static final int MAX_DIRECTORIES = 256;
+
+	private final S3Client s3Client;
+
+	private final String bucketName;
+
+	private final long refreshIntervalNanos;
+
+	private final Map<String, Directory> directories = new LinkedHashMap<>(16, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, Directory> eldest) {
+			return size() > MAX_DIRECTORIES;
+		}
+	};
+
+	S3ObjectIndex(S3Client s3Client, String bucketName, Duration refreshInterval) {
+		this.s3Client = s3Client;
+		this.bucketName = bucketName;
+		this.refreshIntervalNanos = refreshInterval.toNanos();
+	}
+
+	/**
+	 * @param key the key of an object
+	 * @return the ETag of the object or null if the bucket has no such object
+	 */
+	String getETag(String key) {
+		return etags(key.substring(0, key.lastIndexOf(DELIMITER) + 1)).get(key);
+	}
+
+	private Map<String, String> etags(String prefix) {
+		Directory directory;
+		synchronized (this.directories) {
+			directory = this.directories.computeIfAbsent(prefix, Directory::new);
+		}
+		Map<String, String> etags = directory.etags;
+		if (etags == null) {
+			// nothing to serve until the directory is listed once
+			synchronized (directory) {
+				if (directory.etags == null) {
+					list(directory);
+				}
+				return directory.etags;
+			}
+		}
+		if (System.nanoTime() - directory.refreshed >= this.refreshIntervalNanos
+				&& directory.refreshing.compareAndSet(false, true)) {
+			try {
+				list(directory);
+			}
+			catch (RuntimeException e) {
+				// tried again once the refresh interval is elapsed
+				directory.refreshed = System.nanoTime();
+				LOG.warn("Could not list the objects of bucket " + this.bucketName + " with prefix '" + prefix
+						+ "', using the previous listing. Error: " + e.getMessage());
+			}
+			finally {
+				directory.refreshing.set(false);
+			}
+			return directory.etags;
+		}
+		return etags;
+	}
+
+	private void list(Directory directory) {
+		if (LOG.isDebugEnabled()) {
+			LOG.debug("Listing the objects of bucket " + this.bucketName + " with prefix '" + directory.prefix + "'");
+		}
+		Map<String, String> etags = new HashMap<>();
+		for (S3Object object : this.s3Client
+			.listObjectsV2Paginator(ListObjectsV2Request.builder()
+				.bucket(this.bucketName)
+				.prefix(directory.prefix)
+				.delimiter(DELIMITER)
+				.build())
+			.contents()) {
+			etags.put(object.key(), object.eTag());
+		}
+		directory.etags = Collections.unmodifiableMap(etags);
+		directory.refreshed = System.nanoTime();
+	}
+
+	/**
+	 * The objects listed under a prefix.
+	 */
+	private static final class Directory {
+
+		private final String prefix;
+
+		private final AtomicBoolean refreshing = new AtomicBoolean();
+
+		private volatile Map<String, String> etags;
+
+		private volatile long refreshed;
+
+		Directory(String prefix) {
+			this.prefix = prefix;
+		}
+
+	}
+
+}
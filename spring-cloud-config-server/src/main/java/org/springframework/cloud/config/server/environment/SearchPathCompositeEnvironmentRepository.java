@@ -19,9 +19,15 @@ package org.springframework.cloud.config.server.environment;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
 
 import io.micrometer.observation.ObservationRegistry;
 
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.util.StringUtils;
+
 /**
  * A {@link CompositeEnvironmentRepository} which implements {@link SearchPathLocator}.
  *
@@ -44,15 +50,12 @@ public class SearchPathCompositeEnvironmentRepository extends CompositeEnvironme
 
 	@Override
 	public Locations getLocations(String application, String profile, String label) {
-		List<String> locations = new ArrayList<>();
+		Found found = new Found();
 		for (EnvironmentRepository repo : this.environmentRepositories) {
 			try {
-				if (repo instanceof SearchPathLocator searchPathLocator) {
-					addForSearchPathLocators(application, profile, label, locations, searchPathLocator);
-				}
-				else if (repo instanceof ObservationEnvironmentRepositoryWrapper wrapper
-						&& wrapper.getDelegate() instanceof SearchPathLocator searchPathLocator) {
-					addForSearchPathLocators(application, profile, label, locations, searchPathLocator);
+				SearchPathLocator searchPathLocator = searchPathLocator(repo);
+				if (searchPathLocator != null) {
+					found.add(searchPathLocator.getLocations(application, profile, label));
 				}
 			}
 			catch (RepositoryException ex) {
@@ -64,12 +67,123 @@ public class SearchPathCompositeEnvironmentRepository extends CompositeEnvironme
 				}
 			}
 		}
-		return new Locations(application, profile, label, null, locations.toArray(new String[locations.size()]));
+		return found.toLocations(application, profile, label);
+	}
+
+	/**
+	 * Reads the locations of every repository while none of them can change. The
+	 * repositories are entered one inside the other, always in the same order.
+	 */
+	@Override
+	public <T> T readLocations(String application, String profile, String label, Function<Locations, T> reader) {
+		return readLocations(0, new Found(), application, profile, label, reader);
+	}
+
+	private <T> T readLocations(int index, Found found, String application, String profile, String label,
+			Function<Locations, T> reader) {
+		if (index == this.environmentRepositories.size()) {
+			return reader.apply(found.toLocations(application, profile, label));
+		}
+		EnvironmentRepository repo = this.environmentRepositories.get(index);
+		SearchPathLocator searchPathLocator = searchPathLocator(repo);
+		if (searchPathLocator == null) {
+			return readLocations(index + 1, found, application, profile, label, reader);
+		}
+		AtomicBoolean located = new AtomicBoolean();
+		try {
+			return searchPathLocator.readLocations(application, profile, label, delegateLocations -> {
+				located.set(true);
+				found.add(delegateLocations);
+				return readLocations(index + 1, found, application, profile, label, reader);
+			});
+		}
+		catch (RepositoryException ex) {
+			// only a failure of this repository can be skipped, not one of the next ones
+			if (failOnError || located.get()) {
+				throw ex;
+			}
+			log.info("Error finding locations for " + repo, ex);
+			return readLocations(index + 1, found, application, profile, label, reader);
+		}
+	}
+
+	/**
+	 * The composite only has a version if every repository reports one, otherwise a
+	 * change in a repository without a version could not be told from the others.
+	 */
+	@Override
+	public String getCurrentVersion(String application, String profile, String label) {
+		List<String> versions = new ArrayList<>();
+		for (EnvironmentRepository repo : this.environmentRepositories) {
+			SearchPathLocator searchPathLocator = searchPathLocator(repo);
+			if (searchPathLocator == null) {
+				return null;
+			}
+			String version = searchPathLocator.getCurrentVersion(application, profile, label);
+			if (!StringUtils.hasText(version)) {
+				return null;
+			}
+			versions.add(version);
+		}
+		return versions.isEmpty() ? null : StringUtils.collectionToCommaDelimitedString(versions);
 	}
 
-	private void addForSearchPathLocators(String application, String profile, String label, List<String> locations,
-			SearchPathLocator searchPathLocator) {
-		locations.addAll(Arrays.asList(searchPathLocator.getLocations(application, profile, label).getLocations()));
+	private SearchPathLocator searchPathLocator(EnvironmentRepository repo) {
+		if (repo instanceof SearchPathLocator searchPathLocator) {
+			return searchPathLocator;
+		}
+		if (repo instanceof ObservationEnvironmentRepositoryWrapper wrapper
+				&& wrapper.getDelegate() instanceof SearchPathLocator searchPathLocator) {
+			return searchPathLocator;
+		}
+		return null;
+	}
+
+	private ResourceLoader combine(List<ResourceLoader> resourceLoaders) {
+		if (resourceLoaders.isEmpty()) {
+			return null;
+		}
+		if (resourceLoaders.size() == 1) {
+			return resourceLoaders.get(0);
+		}
+		// each delegate only resolves its own locations, everything else falls through
+		DefaultResourceLoader combined = new DefaultResourceLoader();
+		for (ResourceLoader resourceLoader : resourceLoaders) {
+			if (resourceLoader instanceof DefaultResourceLoader defaultResourceLoader) {
+				defaultResourceLoader.getProtocolResolvers().forEach(combined::addProtocolResolver);
+			}
+		}
+		return combined;
+	}
+
+	/**
+	 * The locations found in the repositories so far.
+	 */
+	private final class Found {
+
+		private final List<String> locations = new ArrayList<>();
+
+		private final List<String> versions = new ArrayList<>();
+
+		private final List<ResourceLoader> resourceLoaders = new ArrayList<>();
+
+		void add(Locations delegateLocations) {
+			this.locations.addAll(Arrays.asList(delegateLocations.getLocations()));
+			if (StringUtils.hasText(delegateLocations.getVersion())) {
+				this.versions.add(delegateLocations.getVersion());
+			}
+			if (delegateLocations.getResourceLoader() != null) {
+				this.resourceLoaders.add(delegateLocations.getResourceLoader());
+			}
+		}
+
+		Locations toLocations(String application, String profile, String label) {
+			String version = this.versions.isEmpty() ? null
+					: StringUtils.collectionToCommaDelimitedString(this.versions);
+			return new Locations(application, profile, label, version, this.locations.toArray(new String[0]),
+					combine(this.resourceLoaders));
+		}
+
 	}
 
 }
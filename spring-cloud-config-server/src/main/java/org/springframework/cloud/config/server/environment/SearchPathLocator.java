@@ -18,6 +18,9 @@ package org.springframework.cloud.config.server.environment;
 
 import java.util.Arrays;
 import java.util.Objects;
+import java.util.function.Function;
+
+import org.springframework.core.io.ResourceLoader;
 
 /**
  * Strategy for locating a search path for resource (e.g. in the file system or
@@ -30,6 +33,35 @@ public interface SearchPathLocator {
 
 	Locations getLocations(String application, String profile, String label);
 
+	/**
+	 * Return the version the backend currently resolves for a request without updating
+	 * it first (e.g. without fetching a remote repository), so that it can be looked up
+	 * before every request. The default resolves the locations of the request.
+	 * @param application the application name
+	 * @param profile the profiles
+	 * @param label the label
+	 * @return the version, or null if it is not known until the backend has been updated
+	 */
+	default String getCurrentVersion(String application, String profile, String label) {
+		return getLocations(application, profile, label).getVersion();
+	}
+
+	/**
+	 * Resolve the locations of a request and read them while they cannot change, e.g.
+	 * while no other request checks out another label in the same working copy. Files
+	 * found in the locations must not be read after the reader returned. The default
+	 * resolves the locations and passes them to the reader right away.
+	 * @param application the application name
+	 * @param profile the profiles
+	 * @param label the label
+	 * @param reader reads what it needs from the locations
+	 * @param <T> the type of what is read
+	 * @return the result of the reader
+	 */
+	default <T> T readLocations(String application, String profile, String label, Function<Locations, T> reader) {
+		return reader.apply(getLocations(application, profile, label));
+	}
+
 	/**
 	 * Locations POJO.
 	 */
@@ -45,12 +77,20 @@ public interface SearchPathLocator {
 
 		private final String version;
 
+		private final ResourceLoader resourceLoader;
+
 		public Locations(String application, String profile, String label, String version, String[] locations) {
+			this(application, profile, label, version, locations, null);
+		}
+
+		public Locations(String application, String profile, String label, String version, String[] locations,
+				ResourceLoader resourceLoader) {
 			this.application = application;
 			this.profile = profile;
 			this.label = label;
 			this.locations = locations;
 			this.version = version;
+			this.resourceLoader = resourceLoader;
 		}
 
 		public String[] getLocations() {
@@ -73,6 +113,14 @@ public interface SearchPathLocator {
 			return this.label;
 		}
 
+		/**
+		 * @return the resource loader the locations have to be read with, or null if they
+		 * can be read with any resource loader (e.g. because they are plain files)
+		 */
+		public ResourceLoader getResourceLoader() {
+			return this.resourceLoader;
+		}
+
 		@Override
 		public String toString() {
 			return "Locations [application=" + this.application + ", profile=" + this.profile + ", label=" + this.label
@@ -27,9 +27,24 @@ public class SvnKitEnvironmentProperties extends AbstractScmAccessorProperties {
 
 	private static final String DEFAULT_LABEL = "trunk";
 
+	/**
+	 * Time (in seconds) between updates of the working copy. With 0 the working copy is
+	 * checked on every request, with a negative value it is never updated once checked
+	 * out.
+	 */
+	private int refreshRate = 0;
+
 	public SvnKitEnvironmentProperties() {
 		super();
 		setDefaultLabel(DEFAULT_LABEL);
 	}
 
+	public int getRefreshRate() {
+		return this.refreshRate;
+	}
+
+	public void setRefreshRate(int refreshRate) {
+		this.refreshRate = refreshRate;
+	}
+
 }
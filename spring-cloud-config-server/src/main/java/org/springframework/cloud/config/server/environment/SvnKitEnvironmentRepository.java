@@ -18,17 +18,22 @@ package org.springframework.cloud.config.server.environment;
 
 import java.io.File;
 import java.net.URI;
+import java.util.concurrent.locks.Lock;
 
 import io.micrometer.observation.ObservationRegistry;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.tmatesoft.svn.core.SVNDepth;
 import org.tmatesoft.svn.core.SVNException;
 import org.tmatesoft.svn.core.SVNURL;
 import org.tmatesoft.svn.core.internal.wc.DefaultSVNAuthenticationManager;
-import org.tmatesoft.svn.core.wc.SVNClientManager;
-import org.tmatesoft.svn.core.wc.SVNStatus;
+import org.tmatesoft.svn.core.wc.SVNRevision;
 import org.tmatesoft.svn.core.wc2.SvnCheckout;
+import org.tmatesoft.svn.core.wc2.SvnGetInfo;
+import org.tmatesoft.svn.core.wc2.SvnGetStatus;
+import org.tmatesoft.svn.core.wc2.SvnInfo;
 import org.tmatesoft.svn.core.wc2.SvnOperationFactory;
+import org.tmatesoft.svn.core.wc2.SvnStatus;
 import org.tmatesoft.svn.core.wc2.SvnTarget;
 import org.tmatesoft.svn.core.wc2.SvnUpdate;
 
@@ -55,10 +60,28 @@ public class SvnKitEnvironmentRepository extends AbstractScmEnvironmentRepositor
 	 */
 	private String defaultLabel;
 
+	/**
+	 * Time (in seconds) between updates of the working copy.
+	 */
+	private int refreshRate;
+
+	/**
+	 * The version of the working copy, null until it was checked out or updated.
+	 */
+	private volatile String currentVersion;
+
+	/**
+	 * The revision the working copy was updated to, -1 if unknown.
+	 */
+	private volatile long currentRevision = -1;
+
+	private volatile long lastRefresh;
+
 	public SvnKitEnvironmentRepository(ConfigurableEnvironment environment, SvnKitEnvironmentProperties properties,
 			ObservationRegistry observationRegistry) {
 		super(environment, properties, observationRegistry);
 		this.defaultLabel = properties.getDefaultLabel();
+		this.refreshRate = properties.getRefreshRate();
 	}
 
 	public String getDefaultLabel() {
@@ -69,8 +92,29 @@ public class SvnKitEnvironmentRepository extends AbstractScmEnvironmentRepositor
 		this.defaultLabel = defaultLabel;
 	}
 
+	public int getRefreshRate() {
+		return this.refreshRate;
+	}
+
+	public void setRefreshRate(int refreshRate) {
+		this.refreshRate = refreshRate;
+	}
+
+	@Override
+	protected Locations getCurrentLocations(String application, String profile, String label) {
+		if (label == null) {
+			label = this.defaultLabel;
+		}
+		// the working copy holds every label, it is read as is until a refresh is due
+		String version = this.currentVersion;
+		if (version == null || isRefreshDue()) {
+			return null;
+		}
+		return new Locations(application, profile, label, version, getPaths(application, profile, label));
+	}
+
 	@Override
-	public synchronized Locations getLocations(String application, String profile, String label) {
+	public Locations getLocations(String application, String profile, String label) {
 		if (label == null) {
 			label = this.defaultLabel;
 		}
@@ -79,13 +123,17 @@ public class SvnKitEnvironmentRepository extends AbstractScmEnvironmentRepositor
 			svnOperationFactory.setAuthenticationManager(
 					new DefaultSVNAuthenticationManager(null, false, getUsername(), getPassword()));
 		}
+		Lock writeLock = getLock().writeLock();
+		writeLock.lock();
 		try {
-			String version;
-			if (new File(getWorkingDirectory(), ".svn").exists()) {
-				version = update(svnOperationFactory, label);
-			}
-			else {
-				version = checkout(svnOperationFactory);
+			String version = this.currentVersion;
+			if (version == null || isRefreshDue()) {
+				if (new File(getWorkingDirectory(), ".svn").exists()) {
+					version = update(svnOperationFactory, label);
+				}
+				else {
+					version = checkout(svnOperationFactory);
+				}
 			}
 			return new Locations(application, profile, label, version, getPaths(application, profile, label));
 		}
@@ -93,6 +141,7 @@ public class SvnKitEnvironmentRepository extends AbstractScmEnvironmentRepositor
 			throw new IllegalStateException("Cannot checkout repository", e);
 		}
 		finally {
+			writeLock.unlock();
 			svnOperationFactory.dispose();
 		}
 	}
@@ -123,24 +172,20 @@ public class SvnKitEnvironmentRepository extends AbstractScmEnvironmentRepositor
 		if (id == null) {
 			return null;
 		}
-		return id.toString();
+		return refreshed(id);
 	}
 
 	private String update(SvnOperationFactory svnOperationFactory, String label) throws SVNException {
-		logger.debug("Repo already checked out - updating instead.");
-
 		try {
+			if (!isChanged(svnOperationFactory)) {
+				logger.debug("Repo not changed since revision " + this.currentRevision + " - skipping update.");
+				return refreshed(this.currentRevision);
+			}
+			logger.debug("Repo already checked out - updating instead.");
 			final SvnUpdate update = svnOperationFactory.createUpdate();
 			update.setSingleTarget(SvnTarget.fromFile(getWorkingDirectory()));
 			long[] ids = update.run();
-			StringBuilder version = new StringBuilder();
-			for (long id : ids) {
-				if (version.length() > 0) {
-					version.append(",");
-				}
-				version.append(id);
-			}
-			return version.toString();
+			return refreshed(ids[0]);
 		}
 		catch (Exception e) {
 			String message = "Could not update remote for " + label + " (current local="
@@ -153,10 +198,46 @@ public class SvnKitEnvironmentRepository extends AbstractScmEnvironmentRepositor
 			}
 		}
 
-		final SVNStatus status = SVNClientManager.newInstance()
-			.getStatusClient()
-			.doStatus(getWorkingDirectory(), false);
-		return status != null ? status.getRevision().toString() : null;
+		if (this.currentVersion != null) {
+			return this.currentVersion;
+		}
+		final SvnGetStatus getStatus = svnOperationFactory.createGetStatus();
+		getStatus.setSingleTarget(SvnTarget.fromFile(getWorkingDirectory()));
+		getStatus.setDepth(SVNDepth.EMPTY);
+		getStatus.setReportAll(true);
+		final SvnStatus status = getStatus.run();
+		return status != null ? String.valueOf(status.getRevision()) : null;
+	}
+
+	/**
+	 * Ask the repository for the last revision that changed the configured uri, which is
+	 * much cheaper than an update that finds nothing to do.
+	 * @return whether the working copy may be older than the repository
+	 */
+	private boolean isChanged(SvnOperationFactory svnOperationFactory) throws SVNException {
+		long revision = this.currentRevision;
+		if (revision < 0) {
+			return true;
+		}
+		final SvnGetInfo getInfo = svnOperationFactory.createGetInfo();
+		getInfo.setSingleTarget(SvnTarget.fromURL(SVNURL.parseURIEncoded(getUri()), SVNRevision.HEAD));
+		getInfo.setDepth(SVNDepth.EMPTY);
+		final SvnInfo info = getInfo.run();
+		return info == null || info.getLastChangedRevision() > revision;
+	}
+
+	private String refreshed(long revision) {
+		this.currentRevision = revision;
+		this.currentVersion = String.valueOf(revision);
+		this.lastRefresh = System.currentTimeMillis();
+		return this.currentVersion;
+	}
+
+	private boolean isRefreshDue() {
+		if (this.refreshRate < 0) {
+			return false;
+		}
+		return this.refreshRate == 0 || System.currentTimeMillis() - this.lastRefresh >= this.refreshRate * 1000L;
 	}
 
 	@Override
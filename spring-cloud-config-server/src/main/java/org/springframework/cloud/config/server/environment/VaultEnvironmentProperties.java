@@ -131,6 +131,14 @@ public class VaultEnvironmentProperties implements HttpEnvironmentRepositoryProp
 
 	private AuthenticationMethod authentication;
 
+	/**
+	 * Maximum number of keys read at the same time, across all requests. With 1 the keys
+	 * of a request are read one after the other.
+	 */
+	private int fetchConcurrency = 1;
+
+	private CacheProperties cache = new CacheProperties();
+
 	public String getHost() {
 		return this.host;
 	}
@@ -307,6 +315,53 @@ public class VaultEnvironmentProperties implements HttpEnvironmentRepositoryProp
 		this.pathToKey = pathToKey;
 	}
 
+	public int getFetchConcurrency() {
+		return this.fetchConcurrency;
+	}
+
+	public void setFetchConcurrency(int fetchConcurrency) {
+		this.fetchConcurrency = fetchConcurrency;
+	}
+
+	public CacheProperties getCache() {
+		return this.cache;
+	}
+
+	public void setCache(CacheProperties cache) {
+		this.cache = cache;
+	}
+
+	public static class CacheProperties {
+
+		/**
+		 * Flag to keep the data read from each key in memory, per config token.
+		 */
+		private boolean enabled = false;
+
+		/**
+		 * How long the data of a key is used before reading it again. Secrets with a
+		 * shorter lease are read again when their lease expires.
+		 */
+		private Duration timeToLive = Duration.ofMinutes(1);
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public Duration getTimeToLive() {
+			return this.timeToLive;
+		}
+
+		public void setTimeToLive(Duration timeToLive) {
+			this.timeToLive = timeToLive;
+		}
+
+	}
+
 	public enum AuthenticationMethod {
 
 		/**
@@ -16,6 +16,8 @@
 
 package org.springframework.cloud.config.server.environment;
 
+import java.time.Duration;
+
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
@@ -98,13 +100,29 @@ public class VaultEnvironmentRepository extends AbstractVaultEnvironmentReposito
 
 	@Override
 	protected String read(String key) {
+		return this.accessStrategy.getData(getHeaders(), this.backend, key);
+	}
+
+	@Override
+	protected VaultSecret readSecret(String key) {
+		if (this.accessStrategy instanceof VaultKvAccessStrategySupport support) {
+			VaultKvAccessStrategy.VaultResponse body = support.getResponse(getHeaders(), this.backend, key);
+			if (body == null) {
+				return null;
+			}
+			return new VaultSecret(support.extractDataNodeFromBody(body),
+					Duration.ofSeconds(body.getLeaseDuration()));
+		}
+		return super.readSecret(key);
+	}
+
+	private HttpHeaders getHeaders() {
 		HttpHeaders headers = new HttpHeaders();
 		headers.add(VAULT_TOKEN, getToken());
 		if (StringUtils.hasText(this.namespace)) {
 			headers.add(VAULT_NAMESPACE, this.namespace);
 		}
-
-		return this.accessStrategy.getData(headers, this.backend, key);
+		return headers;
 	}
 
 	private String getToken() {
@@ -70,8 +70,8 @@ public final class VaultKvAccessStrategyFactory {
 		}
 
 		@Override
-		public String extractDataFromBody(VaultResponse body) {
-			return body.getData() == null ? null : body.getData().toString();
+		JsonNode extractDataNodeFromBody(VaultResponse body) {
+			return (JsonNode) body.getData();
 		}
 
 	}
@@ -99,9 +99,8 @@ public final class VaultKvAccessStrategyFactory {
 		}
 
 		@Override
-		public String extractDataFromBody(VaultResponse body) {
-			JsonNode nestedDataNode = body.getData() == null ? null : ((JsonNode) body.getData()).get("data");
-			return nestedDataNode == null ? null : nestedDataNode.toString();
+		JsonNode extractDataNodeFromBody(VaultResponse body) {
+			return body.getData() == null ? null : ((JsonNode) body.getData()).get("data");
 		}
 
 	}
@@ -16,6 +16,8 @@
 
 package org.springframework.cloud.config.server.environment;
 
+import com.fasterxml.jackson.databind.JsonNode;
+
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
@@ -49,13 +51,24 @@ abstract class VaultKvAccessStrategySupport implements VaultKvAccessStrategy {
 	 */
 	abstract String getPath();
 
+	/**
+	 * Extract the data from the
+	 * {@link org.springframework.cloud.config.server.environment.VaultKvAccessStrategy.VaultResponse}.
+	 * @param body vault response
+	 * @return the data or {@literal null}
+	 */
+	abstract JsonNode extractDataNodeFromBody(VaultResponse body);
+
 	/**
 	 * Extract the raw JSON from the
 	 * {@link org.springframework.cloud.config.server.environment.VaultKvAccessStrategy.VaultResponse}.
 	 * @param body vault response
 	 * @return raw JSON
 	 */
-	abstract String extractDataFromBody(VaultResponse body);
+	String extractDataFromBody(VaultResponse body) {
+		JsonNode data = extractDataNodeFromBody(body);
+		return data == null ? null : data.toString();
+	}
 
 	/**
 	 * @param headers must not be {@literal null}.
@@ -65,6 +78,28 @@ abstract class VaultKvAccessStrategySupport implements VaultKvAccessStrategy {
 	 */
 	@Override
 	public String getData(HttpHeaders headers, String backend, String key) {
+		JsonNode data = getDataNode(headers, backend, key);
+		return data == null ? null : data.toString();
+	}
+
+	/**
+	 * @param headers must not be {@literal null}.
+	 * @param backend secret backend mount path, must not be {@literal null}.
+	 * @param key key within the key-value secret backend, must not be {@literal null}.
+	 * @return the data as a JSON tree or {@literal null} if the key was not found.
+	 */
+	JsonNode getDataNode(HttpHeaders headers, String backend, String key) {
+		VaultResponse body = getResponse(headers, backend, key);
+		return body == null ? null : extractDataNodeFromBody(body);
+	}
+
+	/**
+	 * @param headers must not be {@literal null}.
+	 * @param backend secret backend mount path, must not be {@literal null}.
+	 * @param key key within the key-value secret backend, must not be {@literal null}.
+	 * @return the response body or {@literal null} if the key was not found.
+	 */
+	VaultResponse getResponse(HttpHeaders headers, String backend, String key) {
 		try {
 
 			String urlTemplate = String.format("%s/v1/%s/%s", this.baseUrl, backend, getPath());
@@ -73,7 +108,7 @@ abstract class VaultKvAccessStrategySupport implements VaultKvAccessStrategy {
 					new HttpEntity<>(headers), VaultResponse.class, key);
 			HttpStatusCode status = response.getStatusCode();
 			if (status == HttpStatus.OK) {
-				return extractDataFromBody(response.getBody());
+				return response.getBody();
 			}
 		}
 		catch (HttpStatusCodeException e) {
@@ -16,6 +16,8 @@
 
 package org.springframework.cloud.config.server.environment.vault;
 
+import java.time.Duration;
+
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.http.HttpServletRequest;
@@ -51,6 +53,16 @@ public class SpringVaultEnvironmentRepository extends AbstractVaultEnvironmentRe
 		this.objectMapper = new ObjectMapper();
 	}
 
+	@Override
+	protected VaultSecret readSecret(String key) {
+		VaultResponse response = this.keyValueTemplate.get(this.path + key);
+		if (response == null) {
+			return null;
+		}
+		return new VaultSecret(objectMapper.valueToTree(response.getData()),
+				Duration.ofSeconds(response.getLeaseDuration()));
+	}
+
 	protected String read(String key) {
 		VaultResponse response = this.keyValueTemplate.get(this.path + key);
 		if (response != null) {
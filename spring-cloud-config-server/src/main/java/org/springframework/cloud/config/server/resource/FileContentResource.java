@@ -0,0 +1,84 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.config.server.resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URL;
+
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+import org.springframework.util.StreamUtils;
+
+/**
+ * The content of a file read into memory, which stays the same when the file changes
+ * afterwards. It describes itself like the file it was read from.
+ */
+final class FileContentResource extends ByteArrayResource {
+
+	private final String filename;
+
+	private final long lastModified;
+
+	private final URL url;
+
+	private final URI uri;
+
+	private final String description;
+
+	FileContentResource(Resource file) throws IOException {
+		super(read(file));
+		this.filename = file.getFilename();
+		this.lastModified = file.lastModified();
+		this.url = file.getURL();
+		this.uri = file.getURI();
+		this.description = file.getDescription();
+	}
+
+	private static byte[] read(Resource file) throws IOException {
+		try (InputStream stream = file.getInputStream()) {
+			return StreamUtils.copyToByteArray(stream);
+		}
+	}
+
+	@Override
+	public String getFilename() {
+		return this.filename;
+	}
+
+	@Override
+	public long lastModified() {
+		return this.lastModified;
+	}
+
+	@Override
+	public URL getURL() {
+		return this.url;
+	}
+
+	@Override
+	public URI getURI() {
+		return this.uri;
+	}
+
+	@Override
+	public String getDescription() {
+		return this.description;
+	}
+
+}
@@ -26,6 +26,7 @@ import java.util.Set;
 
 import org.springframework.cloud.config.server.config.ConfigServerProperties;
 import org.springframework.cloud.config.server.environment.SearchPathLocator;
+import org.springframework.cloud.config.server.environment.SearchPathLocator.Locations;
 import org.springframework.cloud.config.server.support.PathUtils;
 import org.springframework.context.ResourceLoaderAware;
 import org.springframework.core.io.Resource;
@@ -64,35 +65,63 @@ public class GenericResourceRepository implements ResourceRepository, ResourceLo
 	public synchronized Resource findOne(String application, String profile, String label, String path) {
 
 		if (StringUtils.hasText(path)) {
-			String[] locations = this.service.getLocations(application, profile, label).getLocations();
-			if (!ObjectUtils.isEmpty(properties) && properties.isReverseLocationOrder()) {
-				Collections.reverse(Arrays.asList(locations));
+			// a working copy may be updated by another request once the locations are left
+			Resource found = this.service.readLocations(application, profile, label,
+					resolved -> detach(findOne(resolved, profile, path)));
+			if (found != null) {
+				return found;
 			}
-			ArrayList<Resource> locationResources = new ArrayList<>();
-			for (String location : locations) {
-				if (!PathUtils.isInvalidEncodedLocation(location)) {
-					locationResources.add(this.resourceLoader.getResource(location.replaceFirst("optional:", "")));
-				}
+		}
+		throw new NoSuchResourceException("Not found: " + path);
+	}
+
+	private Resource findOne(Locations resolved, String profile, String path) {
+		String[] locations = resolved.getLocations();
+		// the locator may serve its locations from somewhere other than the file system
+		ResourceLoader resourceLoader = (resolved.getResourceLoader() != null) ? resolved.getResourceLoader()
+				: this.resourceLoader;
+		if (!ObjectUtils.isEmpty(properties) && properties.isReverseLocationOrder()) {
+			Collections.reverse(Arrays.asList(locations));
+		}
+		ArrayList<Resource> locationResources = new ArrayList<>();
+		for (String location : locations) {
+			if (!PathUtils.isInvalidEncodedLocation(location)) {
+				locationResources.add(resourceLoader.getResource(location.replaceFirst("optional:", "")));
 			}
+		}
 
-			try {
-				for (Resource location : locationResources) {
-					for (String local : getProfilePaths(profile, path)) {
-						if (!PathUtils.isInvalidPath(local) && !PathUtils.isInvalidEncodedPath(local)) {
-							Resource file = location.createRelative(local);
-							if (file.exists() && file.isReadable()
-									&& PathUtils.checkResource(file, location, locationResources)) {
-								return file;
-							}
+		try {
+			for (Resource location : locationResources) {
+				for (String local : getProfilePaths(profile, path)) {
+					if (!PathUtils.isInvalidPath(local) && !PathUtils.isInvalidEncodedPath(local)) {
+						Resource file = location.createRelative(local);
+						if (file.exists() && file.isReadable()
+								&& PathUtils.checkResource(file, location, locationResources)) {
+							return file;
 						}
 					}
 				}
 			}
-			catch (IOException e) {
-				throw new NoSuchResourceException("Error : " + path + ". (" + e.getMessage() + ")");
-			}
 		}
-		throw new NoSuchResourceException("Not found: " + path);
+		catch (IOException e) {
+			throw new NoSuchResourceException("Error : " + path + ". (" + e.getMessage() + ")");
+		}
+		return null;
+	}
+
+	/**
+	 * Read a file into memory, it could change as soon as the locations are left.
+	 */
+	private Resource detach(Resource resource) {
+		if (resource == null || !resource.isFile()) {
+			return resource;
+		}
+		try {
+			return new FileContentResource(resource);
+		}
+		catch (IOException e) {
+			throw new NoSuchResourceException("Error : " + resource.getFilename() + ". (" + e.getMessage() + ")");
+		}
 	}
 
 	private Collection<String> getProfilePaths(String profiles, String path) {
@@ -25,6 +25,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.function.Function;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -214,6 +215,21 @@ public abstract class AbstractScmAccessor implements ResourceLoaderAware {
 	}
 
 	protected String[] getSearchLocations(File dir, String application, String profile, String label) {
+		return getSearchLocations(application, profile, label, value -> matchingDirectories(dir, value));
+	}
+
+	/**
+	 * Expand the search paths for the given request and resolve them with a custom
+	 * matcher, for working copies that are not (or not completely) on disk.
+	 * @param application the application name
+	 * @param profile the profiles
+	 * @param label the label
+	 * @param directoryMatcher returns the URIs of the directories matching a search path
+	 * relative to the root of the working copy (always ending with "/")
+	 * @return the search locations
+	 */
+	protected String[] getSearchLocations(String application, String profile, String label,
+			Function<String, List<String>> directoryMatcher) {
 		String[] locations = this.searchPaths;
 		if (locations == null || locations.length == 0) {
 			locations = AbstractScmAccessorProperties.DEFAULT_LOCATIONS;
@@ -246,7 +262,7 @@ public abstract class AbstractScmAccessor implements ResourceLoaderAware {
 					if (!value.endsWith("/")) {
 						value = value + "/";
 					}
-					output.addAll(matchingDirectories(dir, value));
+					output.addAll(directoryMatcher.apply(value));
 				}
 			}
 		}
@@ -66,6 +66,13 @@ public class AbstractScmAccessorProperties implements EnvironmentRepositoryPrope
 	/** The default label to be used with the remote repository. */
 	private String defaultLabel;
 
+	/**
+	 * Flag to load configuration files without running the full Spring Boot config data
+	 * processing for each request. Requests that use features only Spring Boot supports
+	 * (e.g. imports or profile groups) still go through Spring Boot.
+	 */
+	private boolean lightweightLoader = false;
+
 	public String getUri() {
 		return this.uri;
 	}
@@ -139,4 +146,12 @@ public class AbstractScmAccessorProperties implements EnvironmentRepositoryPrope
 		this.defaultLabel = defaultLabel;
 	}
 
+	public boolean isLightweightLoader() {
+		return this.lightweightLoader;
+	}
+
+	public void setLightweightLoader(boolean lightweightLoader) {
+		this.lightweightLoader = lightweightLoader;
+	}
+
 }
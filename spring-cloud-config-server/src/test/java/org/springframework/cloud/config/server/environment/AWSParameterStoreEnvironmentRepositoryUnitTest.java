@@ -17,6 +17,7 @@
 package org.springframework.cloud.config.server.environment;
 
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Base64;
@@ -40,11 +41,15 @@ import software.amazon.awssdk.services.ssm.model.ParameterType;
 import org.springframework.cloud.config.environment.Environment;
 import org.springframework.cloud.config.environment.PropertySource;
 import org.springframework.cloud.config.server.config.ConfigServerProperties;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.util.StringUtils;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.cloud.config.server.environment.AwsParameterStoreEnvironmentProperties.DEFAULT_PATH_SEPARATOR;
 import static wiremock.org.apache.commons.lang3.RandomStringUtils.randomAlphabetic;
@@ -107,6 +112,59 @@ public class AWSParameterStoreEnvironmentRepositoryUnitTest {
 		assertThat(result).usingRecursiveComparison().withStrictTypeChecking().isEqualTo(expected);
 	}
 
+	@Test
+	public void testFindOneWithConcurrentPathFetch() {
+		String application = "foo";
+		String profile = "dev";
+
+		environmentProperties.setMaxResults(1);
+
+		Environment expected = new Environment(application, new String[] { profile }, null, null, null);
+		expected.addAll(Arrays.asList(
+				new PropertySource("aws:ssm:parameter:/config/foo-dev/", Map.of("foo.dev", "true")),
+				new PropertySource("aws:ssm:parameter:/config/application-default/", SHARED_DEFAULT_PROPERTIES),
+				new PropertySource("aws:ssm:parameter:/config/application/", SHARED_PROPERTIES)));
+
+		setupAwsSsmClientMocks(expected, false, true);
+		repository.setExecutor(new SimpleAsyncTaskExecutor());
+
+		Environment result = repository.findOne(application, profile, null);
+
+		assertThat(result).usingRecursiveComparison().isEqualTo(expected);
+	}
+
+	@Test
+	public void testFindOneWithCachedPaths() {
+		String application = configServerProperties.getDefaultApplicationName();
+		String profile = configServerProperties.getDefaultProfile();
+		String[] profiles = StringUtils.commaDelimitedListToStringArray(profile);
+
+		Environment expected = new Environment(application, profiles, null, null, null);
+		expected.addAll(Arrays.asList(
+				new PropertySource("aws:ssm:parameter:/config/application-default/", SHARED_DEFAULT_PROPERTIES),
+				new PropertySource("aws:ssm:parameter:/config/application/", SHARED_PROPERTIES)));
+
+		setupAwsSsmClientMocks(expected, false, false);
+		repository.setCacheTimeToLive(Duration.ofMinutes(5));
+
+		Environment first = repository.findOne(application, profile, null);
+		Environment second = repository.findOne(application, profile, null);
+
+		assertThat(first).usingRecursiveComparison().isEqualTo(expected);
+		assertThat(second).usingRecursiveComparison().isEqualTo(expected);
+		verify(ssmClient, times(2)).getParametersByPath(any(GetParametersByPathRequest.class));
+
+		repository.onApplicationEvent(new PropertyPathChangeEvent(this, Set.of("application-default")));
+		repository.findOne(application, profile, null);
+
+		verify(ssmClient, times(3)).getParametersByPath(any(GetParametersByPathRequest.class));
+
+		repository.evict("/config/application/logging/level/root");
+		repository.findOne(application, profile, null);
+
+		verify(ssmClient, times(4)).getParametersByPath(any(GetParametersByPathRequest.class));
+	}
+
 	private void setupAwsSsmClientMocks(Environment environment, boolean withSlashesForPropertyName,
 			boolean paginatedResponse) {
 		for (PropertySource ps : environment.getPropertySources()) {
@@ -16,6 +16,7 @@
 
 package org.springframework.cloud.config.server.environment;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Properties;
@@ -43,6 +44,7 @@ import software.amazon.awssdk.services.s3.model.VersioningConfiguration;
 import org.springframework.cloud.config.environment.Environment;
 import org.springframework.cloud.config.environment.PropertySource;
 import org.springframework.cloud.config.server.config.ConfigServerProperties;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.testcontainers.containers.localstack.LocalStackContainer.Service.S3;
@@ -411,6 +413,66 @@ public class AwsS3EnvironmentRepositoryTests {
 
 	}
 
+	@Test
+	public void findWithIndex() {
+		AwsS3EnvironmentRepository repository = new AwsS3EnvironmentRepository(s3Client, "bucket1", false, server);
+		repository.setIndexRefreshInterval(Duration.ofMinutes(1));
+		repository.setExecutor(new SimpleAsyncTaskExecutor());
+		putFiles("foo-profile1.json", jsonContent);
+		putFiles("bar-profile1.yaml", yamlContent);
+		String versionId = putFiles("application.yml", yamlContent);
+
+		Environment env = repository.findOne("foo,bar", "profile1", null);
+		assertThat(env.getPropertySources()).extracting(PropertySource::getName)
+			.containsExactly("s3:bar-profile1", "s3:foo-profile1", "s3:application");
+		assertExpectedEnvironment(env, "foo,bar", null, versionId, 3, "profile1");
+	}
+
+	@Test
+	public void indexedFileDownloadedAgainWhenChanged() {
+		AwsS3EnvironmentRepository repository = new AwsS3EnvironmentRepository(s3Client, "bucket1", false, server);
+		repository.setIndexRefreshInterval(Duration.ZERO);
+		putFiles("foo-bar.properties", "a=1");
+		assertThat(repository.findOne("foo", "bar", null).getPropertySources().get(0).getSource().get("a"))
+			.isEqualTo("1");
+		assertThat(repository.findOne("foo", "bar", null).getPropertySources().get(0).getSource().get("a"))
+			.isEqualTo("1");
+
+		String versionId = putFiles("foo-bar.properties", "a=2");
+		Environment env = repository.findOne("foo", "bar", null);
+		assertThat(env.getPropertySources().get(0).getSource().get("a")).isEqualTo("2");
+		assertThat(env.getVersion()).isEqualTo(versionId);
+	}
+
+	@Test
+	public void cachedFileDownloadedAgainWhenChanged() {
+		AwsS3EnvironmentRepository repository = new AwsS3EnvironmentRepository(s3Client, "bucket1", false, server);
+		repository.setCacheTimeToLive(Duration.ZERO);
+		putFiles("foo-bar.yml", "a: 1");
+		assertThat(repository.findOne("foo", "bar", null).getPropertySources().get(0).getSource().get("a"))
+			.isEqualTo(1);
+		assertThat(repository.findOne("foo", "bar", null).getPropertySources().get(0).getSource().get("a"))
+			.isEqualTo(1);
+
+		String versionId = putFiles("foo-bar.yml", "a: 2");
+		Environment env = repository.findOne("foo", "bar", null);
+		assertThat(env.getPropertySources().get(0).getSource().get("a")).isEqualTo(2);
+		assertThat(env.getVersion()).isEqualTo(versionId);
+	}
+
+	@Test
+	public void cachedFileNotCheckedWithinTimeToLive() {
+		AwsS3EnvironmentRepository repository = new AwsS3EnvironmentRepository(s3Client, "bucket1", false, server);
+		repository.setCacheTimeToLive(Duration.ofMinutes(1));
+		putFiles("foo-bar.yml", "a: 1");
+		assertThat(repository.findOne("foo", "bar", null).getPropertySources().get(0).getSource().get("a"))
+			.isEqualTo(1);
+
+		putFiles("foo-bar.yml", "a: 2");
+		assertThat(repository.findOne("foo", "bar", null).getPropertySources().get(0).getSource().get("a"))
+			.isEqualTo(1);
+	}
+
 	@Test
 	public void factoryCustomizable() {
 		AwsS3EnvironmentRepositoryFactory factory = new AwsS3EnvironmentRepositoryFactory(new ConfigServerProperties());
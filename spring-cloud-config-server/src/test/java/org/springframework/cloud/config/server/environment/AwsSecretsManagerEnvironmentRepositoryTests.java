@@ -2806,6 +2806,32 @@ public class AwsSecretsManagerEnvironmentRepositoryTests {
 		assertThat(resultEnv).usingRecursiveComparison().withStrictTypeChecking().isEqualTo(expectedEnv);
 	}
 
+	@Test
+	public void testFindOneWithBatch() {
+		AwsSecretsManagerEnvironmentProperties batchProperties = new AwsSecretsManagerEnvironmentProperties();
+		batchProperties.setBatch(true);
+		AwsSecretsManagerEnvironmentRepository batchRepository = new AwsSecretsManagerEnvironmentRepository(smClient,
+				configServerProperties, batchProperties);
+		String application = "foo";
+		String profiles = "prod,east";
+
+		Environment expectedEnv = new Environment(application, StringUtils.commaDelimitedListToStringArray(profiles),
+				null, null, null);
+		expectedEnv.addAll(Arrays.asList(
+				new PropertySource("aws:secrets:/secret/foo-east/", getFooEastProperties()),
+				new PropertySource("aws:secrets:/secret/foo-prod/", getFooProdProperties()),
+				new PropertySource("aws:secrets:/secret/foo/", getFooProperties()),
+				new PropertySource("aws:secrets:/secret/application/", getApplicationProperties())));
+		putSecrets(expectedEnv);
+
+		Environment resultEnv = batchRepository.findOne(application, profiles, null);
+
+		assertThat(resultEnv).usingRecursiveComparison().withStrictTypeChecking().isEqualTo(expectedEnv);
+		assertThat(batchRepository.findOne(application, profiles, null)).usingRecursiveComparison()
+			.withStrictTypeChecking()
+			.isEqualTo(expectedEnv);
+	}
+
 	@Test
 	public void factoryCustomizableWithRegion() {
 		AwsSecretsManagerEnvironmentRepositoryFactory factory = new AwsSecretsManagerEnvironmentRepositoryFactory(
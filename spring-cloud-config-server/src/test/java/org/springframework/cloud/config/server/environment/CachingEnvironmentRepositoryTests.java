@@ -0,0 +1,259 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.config.server.environment;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.cloud.config.environment.Environment;
+import org.springframework.cloud.config.environment.PropertySource;
+import org.springframework.cloud.config.environment.PropertyValueDescriptor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class CachingEnvironmentRepositoryTests {
+
+	private final EnvironmentRepository delegate = mock(EnvironmentRepository.class);
+
+	private final SearchPathLocator locator = mock(SearchPathLocator.class);
+
+	private EnvironmentCache cache;
+
+	private CachingEnvironmentRepository repository;
+
+	@BeforeEach
+	public void init() {
+		this.cache = new EnvironmentCache(10, Duration.ofMinutes(5));
+		this.repository = new CachingEnvironmentRepository(this.delegate, this.cache);
+		this.repository.setVersionLocator(this.locator);
+		when(this.delegate.findOne(any(), any(), any(), anyBoolean()))
+			.thenAnswer(invocation -> environment(invocation.getArgument(0), "v1"));
+		when(this.locator.getCurrentVersion(any(), any(), any())).thenReturn("v1");
+	}
+
+	@Test
+	public void repeatedRequestIsServedFromCache() {
+		Environment first = this.repository.findOne("foo", "default", "main", false);
+		Environment second = this.repository.findOne("foo", "default", "main", false);
+
+		assertThat(second.getVersion()).isEqualTo("v1");
+		assertThat(second.getPropertySources()).isEqualTo(first.getPropertySources());
+		assertThat(second).isNotSameAs(first);
+		verify(this.delegate, times(1)).findOne("foo", "default", "main", false);
+		assertThat(this.cache.getHitCount()).isEqualTo(1);
+		assertThat(this.cache.getMissCount()).isEqualTo(1);
+	}
+
+	@Test
+	public void includeOriginIsPartOfTheKey() {
+		this.repository.findOne("foo", "default", "main", false);
+		this.repository.findOne("foo", "default", "main", true);
+
+		verify(this.delegate, times(1)).findOne("foo", "default", "main", false);
+		verify(this.delegate, times(1)).findOne("foo", "default", "main", true);
+	}
+
+	@Test
+	public void versionChangeDropsEntry() {
+		this.repository.findOne("foo", "default", "main", false);
+		when(this.locator.getCurrentVersion(any(), any(), any())).thenReturn("v2");
+		this.repository.findOne("foo", "default", "main", false);
+
+		verify(this.delegate, times(2)).findOne("foo", "default", "main", false);
+		assertThat(this.cache.size()).isEqualTo(1);
+	}
+
+	@Test
+	public void differentTokensDoNotShareEntries() {
+		ConfigTokenProvider tokenProvider = mock(ConfigTokenProvider.class);
+		this.repository.setTokenProvider(tokenProvider);
+		when(tokenProvider.getToken()).thenReturn("one");
+		this.repository.findOne("foo", "default", "main", false);
+		when(tokenProvider.getToken()).thenReturn("two");
+		this.repository.findOne("foo", "default", "main", false);
+
+		verify(this.delegate, times(2)).findOne("foo", "default", "main", false);
+	}
+
+	@Test
+	public void versionLookupFailureBypassesCache() {
+		when(this.locator.getCurrentVersion(any(), any(), any())).thenThrow(new NoSuchLabelException("no"));
+		this.repository.findOne("foo", "default", "main", false);
+		this.repository.findOne("foo", "default", "main", false);
+
+		verify(this.delegate, times(2)).findOne("foo", "default", "main", false);
+		assertThat(this.cache.size()).isZero();
+	}
+
+	@Test
+	public void unversionedBackendBypassesCache() {
+		when(this.locator.getCurrentVersion(any(), any(), any())).thenReturn(null);
+		this.repository.findOne("foo", "default", "main", false);
+		this.repository.findOne("foo", "default", "main", false);
+
+		verify(this.delegate, times(2)).findOne("foo", "default", "main", false);
+		assertThat(this.cache.size()).isZero();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void cachedEntryCannotBeChangedByCallers() {
+		Environment first = this.repository.findOne("foo", "default", "main", false);
+		Map<Object, Object> source = (Map<Object, Object>) first.getPropertySources().get(0).getSource();
+		source.put("a", "changed");
+		((PropertyValueDescriptor) source.get("c")).setOrigin("changed");
+		Environment second = this.repository.findOne("foo", "default", "main", false);
+
+		Map<?, ?> cached = second.getPropertySources().get(0).getSource();
+		assertThat(cached.get("a")).isEqualTo("b");
+		assertThat(((PropertyValueDescriptor) cached.get("c")).getOrigin()).isEqualTo("origin");
+	}
+
+	@Test
+	public void compositeWithUnversionedRepositoryBypassesCache() {
+		LocatingRepository versioned = mock(LocatingRepository.class);
+		when(versioned.getCurrentVersion(any(), any(), any())).thenReturn("v1");
+		SearchPathCompositeEnvironmentRepository composite = new SearchPathCompositeEnvironmentRepository(
+				Arrays.asList(versioned, mock(EnvironmentRepository.class)), ObservationRegistry.NOOP, false);
+		this.repository.setVersionLocator(composite);
+		this.repository.findOne("foo", "default", "main", false);
+		this.repository.findOne("foo", "default", "main", false);
+
+		verify(this.delegate, times(2)).findOne("foo", "default", "main", false);
+		assertThat(this.cache.size()).isZero();
+	}
+
+	@Test
+	public void compositeOfVersionedRepositoriesIsCached() {
+		LocatingRepository first = mock(LocatingRepository.class);
+		when(first.getCurrentVersion(any(), any(), any())).thenReturn("v1");
+		LocatingRepository second = mock(LocatingRepository.class);
+		when(second.getCurrentVersion(any(), any(), any())).thenReturn("r7");
+		SearchPathCompositeEnvironmentRepository composite = new SearchPathCompositeEnvironmentRepository(
+				Arrays.asList(first, second), ObservationRegistry.NOOP, false);
+		this.repository.setVersionLocator(composite);
+		this.repository.findOne("foo", "default", "main", false);
+		when(second.getCurrentVersion(any(), any(), any())).thenReturn("r8");
+		this.repository.findOne("foo", "default", "main", false);
+		this.repository.findOne("foo", "default", "main", false);
+
+		verify(this.delegate, times(2)).findOne("foo", "default", "main", false);
+		assertThat(this.cache.getHitCount()).isEqualTo(1);
+	}
+
+	@Test
+	public void backendWithoutVersionLocatorBypassesCache() {
+		this.repository = new CachingEnvironmentRepository(this.delegate, this.cache);
+		this.repository.findOne("foo", "default", "main", false);
+		this.repository.findOne("foo", "default", "main", false);
+
+		verify(this.delegate, times(2)).findOne("foo", "default", "main", false);
+		assertThat(this.cache.size()).isZero();
+	}
+
+	@Test
+	public void evictByApplication() {
+		this.repository.findOne("foo", "default", "main", false);
+		this.repository.findOne("bar", "default", "main", false);
+		this.cache.evict("foo");
+
+		assertThat(this.cache.size()).isEqualTo(1);
+		this.cache.evict("*");
+		assertThat(this.cache.size()).isZero();
+	}
+
+	@Test
+	public void entriesExpire() {
+		MutableClock clock = new MutableClock();
+		this.cache = new EnvironmentCache(10, Duration.ofSeconds(30), clock);
+		this.repository = new CachingEnvironmentRepository(this.delegate, this.cache);
+		this.repository.setVersionLocator(this.locator);
+		this.repository.findOne("foo", "default", "main", false);
+		clock.advance(Duration.ofSeconds(31));
+		this.repository.findOne("foo", "default", "main", false);
+
+		verify(this.delegate, times(2)).findOne("foo", "default", "main", false);
+	}
+
+	@Test
+	public void sizeIsBounded() {
+		this.cache = new EnvironmentCache(2, Duration.ZERO);
+		this.repository = new CachingEnvironmentRepository(this.delegate, this.cache);
+		this.repository.setVersionLocator(this.locator);
+		this.repository.findOne("one", "default", "main", false);
+		this.repository.findOne("two", "default", "main", false);
+		this.repository.findOne("three", "default", "main", false);
+
+		assertThat(this.cache.size()).isEqualTo(2);
+		assertThat(this.cache.getEvictionCount()).isEqualTo(1);
+	}
+
+	private static Environment environment(String name, String version) {
+		Environment environment = new Environment(name, new String[] { "default" }, "main", version, null);
+		Map<String, Object> source = new LinkedHashMap<>();
+		source.put("a", "b");
+		source.put("c", new PropertyValueDescriptor("d", "origin"));
+		environment.add(new PropertySource("p1", source));
+		return environment;
+	}
+
+	interface LocatingRepository extends EnvironmentRepository, SearchPathLocator {
+
+	}
+
+	private static final class MutableClock extends Clock {
+
+		private Instant now = Instant.now();
+
+		@Override
+		public ZoneOffset getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+
+		@Override
+		public Instant instant() {
+			return this.now;
+		}
+
+		void advance(Duration duration) {
+			this.now = this.now.plus(duration);
+		}
+
+	}
+
+}
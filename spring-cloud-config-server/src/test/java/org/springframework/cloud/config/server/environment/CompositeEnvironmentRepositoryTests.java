@@ -16,11 +16,16 @@
 
 package org.springframework.cloud.config.server.environment;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
 
 import io.micrometer.observation.ObservationRegistry;
+import jakarta.servlet.http.HttpServletRequest;
 import org.junit.jupiter.api.Test;
 
 import org.springframework.cloud.config.environment.Environment;
@@ -33,6 +38,11 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
 import org.springframework.core.Ordered;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatExceptionOfType;
@@ -208,6 +218,119 @@ public class CompositeEnvironmentRepositoryTests {
 			.isThrownBy(() -> compositeRepo.getLocations("app", "dev", "label"));
 	}
 
+	@Test
+	public void testParallelOrder() {
+		List<EnvironmentRepository> repos = new ArrayList<EnvironmentRepository>();
+		repos.add(new TestSlowEnvironmentRepository(3, environment("p1"), 0));
+		repos.add(new TestSlowEnvironmentRepository(2, environment("p2"), 200));
+		repos.add(new TestSlowEnvironmentRepository(1, environment("p3"), 100));
+		CompositeEnvironmentRepository compositeRepo = new CompositeEnvironmentRepository(repos,
+				ObservationRegistry.NOOP, true);
+		compositeRepo.setExecutor(new SimpleAsyncTaskExecutor());
+		Environment env = compositeRepo.findOne("app", "dev", "label", false);
+		assertThat(env.getPropertySources()).extracting(PropertySource::getName).containsExactly("p3", "p2", "p1");
+	}
+
+	@Test
+	public void testParallelSlowRepositorySkipped() {
+		List<EnvironmentRepository> repos = new ArrayList<EnvironmentRepository>();
+		repos.add(new TestSlowEnvironmentRepository(2, environment("p1"), 0));
+		repos.add(new TestSlowEnvironmentRepository(1, environment("p2"), 10000));
+		CompositeEnvironmentRepository compositeRepo = new CompositeEnvironmentRepository(repos,
+				ObservationRegistry.NOOP, false);
+		compositeRepo.setExecutor(new SimpleAsyncTaskExecutor());
+		compositeRepo.setTimeout(Duration.ofMillis(200));
+		Environment env = compositeRepo.findOne("app", "dev", "label", false);
+		assertThat(env.getPropertySources()).extracting(PropertySource::getName).containsExactly("p1");
+	}
+
+	@Test
+	public void testParallelSlowRepositoryFailsWithFailOnError() {
+		List<EnvironmentRepository> repos = new ArrayList<EnvironmentRepository>();
+		repos.add(new TestSlowEnvironmentRepository(2, environment("p1"), 0));
+		repos.add(new TestSlowEnvironmentRepository(1, environment("p2"), 10000));
+		CompositeEnvironmentRepository compositeRepo = new CompositeEnvironmentRepository(repos,
+				ObservationRegistry.NOOP, true);
+		compositeRepo.setExecutor(new SimpleAsyncTaskExecutor());
+		compositeRepo.setTimeout(Duration.ofMillis(200));
+		assertThatExceptionOfType(EnvironmentException.class)
+			.isThrownBy(() -> compositeRepo.findOne("app", "dev", "label", false));
+	}
+
+	@Test
+	public void testParallelTimeoutStartsWithEachRepository() {
+		List<EnvironmentRepository> repos = new ArrayList<EnvironmentRepository>();
+		repos.add(new TestSlowEnvironmentRepository(2, environment("p1"), 300));
+		repos.add(new TestSlowEnvironmentRepository(1, environment("p2"), 300));
+		CompositeEnvironmentRepository compositeRepo = new CompositeEnvironmentRepository(repos,
+				ObservationRegistry.NOOP, true);
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			// the second repository waits for the first one before it starts
+			compositeRepo.setExecutor(new TaskExecutorAdapter(executor));
+			compositeRepo.setTimeout(Duration.ofMillis(500));
+			Environment env = compositeRepo.findOne("app", "dev", "label", false);
+			assertThat(env.getPropertySources()).extracting(PropertySource::getName).containsExactly("p2", "p1");
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testParallelRepositoriesSeeCopyOfRequestHeaders() {
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.addHeader("X-Config-Token", "token");
+		AtomicReference<HttpServletRequest> seen = new AtomicReference<>();
+		List<EnvironmentRepository> repos = new ArrayList<EnvironmentRepository>();
+		repos.add(new TestOrderedEnvironmentRepository(2, environment("p1"), null));
+		repos.add(new TestOrderedEnvironmentRepository(1, environment("p2"), null) {
+			@Override
+			public Environment findOne(String application, String profile, String label, boolean includeOrigin) {
+				seen.set(((ServletRequestAttributes) RequestContextHolder.getRequestAttributes()).getRequest());
+				return super.findOne(application, profile, label, includeOrigin);
+			}
+		});
+		CompositeEnvironmentRepository compositeRepo = new CompositeEnvironmentRepository(repos,
+				ObservationRegistry.NOOP, true);
+		compositeRepo.setExecutor(new SimpleAsyncTaskExecutor());
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+		try {
+			compositeRepo.findOne("app", "dev", "label", false);
+		}
+		finally {
+			RequestContextHolder.resetRequestAttributes();
+		}
+		assertThat(seen.get()).isNotSameAs(request);
+		assertThat(seen.get().getHeader("X-Config-Token")).isEqualTo("token");
+	}
+
+	@Test
+	public void testParallelFailingRepository() {
+		List<EnvironmentRepository> repos = new ArrayList<EnvironmentRepository>();
+		repos.add(new TestOrderedEnvironmentRepository(2, environment("p1"), null));
+		repos.add(new TestFailingEnvironmentRepository(1, environment("p2"), null));
+		CompositeEnvironmentRepository skipping = new CompositeEnvironmentRepository(repos, ObservationRegistry.NOOP,
+				false);
+		skipping.setExecutor(new SimpleAsyncTaskExecutor());
+		assertThat(skipping.findOne("app", "dev", "label", false).getPropertySources())
+			.extracting(PropertySource::getName)
+			.containsExactly("p1");
+		CompositeEnvironmentRepository failing = new CompositeEnvironmentRepository(repos, ObservationRegistry.NOOP,
+				true);
+		failing.setExecutor(new SimpleAsyncTaskExecutor());
+		assertThatExceptionOfType(IllegalArgumentException.class)
+			.isThrownBy(() -> failing.findOne("app", "dev", "label", false));
+	}
+
+	private static Environment environment(String propertySource) {
+		PropertySource source = mock(PropertySource.class);
+		doReturn(propertySource).when(source).getName();
+		Environment environment = new Environment("app", "dev");
+		environment.add(source);
+		return environment;
+	}
+
 	private static class TestOrderedEnvironmentRepository implements EnvironmentRepository, SearchPathLocator, Ordered {
 
 		private Environment env;
@@ -262,6 +385,29 @@ public class CompositeEnvironmentRepositoryTests {
 
 	}
 
+	private static class TestSlowEnvironmentRepository extends TestOrderedEnvironmentRepository {
+
+		private final long delay;
+
+		TestSlowEnvironmentRepository(int order, Environment env, long delay) {
+			super(order, env, null);
+			this.delay = delay;
+		}
+
+		@Override
+		public Environment findOne(String application, String profile, String label, boolean includeOrigin) {
+			try {
+				Thread.sleep(this.delay);
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException(e);
+			}
+			return super.findOne(application, profile, label, includeOrigin);
+		}
+
+	}
+
 	private static class TestFailingLocationRepository extends TestOrderedEnvironmentRepository {
 
 		TestFailingLocationRepository(int order, Environment env, Locations locations) {
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.config.server.environment;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.cloud.config.environment.Environment;
+import org.springframework.cloud.config.environment.PropertySource;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ConfigFileEnvironmentLoaderTests {
+
+	@TempDir
+	Path directory;
+
+	private String[] locations;
+
+	@BeforeEach
+	public void init() throws IOException {
+		Files.createDirectories(this.directory.resolve("config"));
+		this.locations = new String[] { "optional:" + this.directory.toUri(),
+				this.directory.resolve("config").toUri().toString() };
+		write("application.yml", """
+				shared: application
+				---
+				spring.config.activate.on-profile: dev
+				shared: application-dev-document
+				---
+				spring.config.activate.on-profile: "!dev"
+				shared: application-not-dev-document
+				""");
+		write("application-dev.properties", "shared=application-dev");
+		write("foo.properties", "shared=foo-properties\nfoo=properties");
+		write("foo.yml", "shared: foo-yml\nbar: yml");
+		write("foo-dev.yml", "shared: foo-dev");
+		write("foo-prod.yml", "shared: foo-prod");
+		write("config/foo.yml", "shared: config-foo");
+	}
+
+	@Test
+	public void sameAsSpringBootWithoutProfile() {
+		Environment environment = assertSameAsSpringBoot("foo", null);
+		assertThat(environment.getPropertySources().get(0).getSource().get("shared")).isEqualTo("config-foo");
+	}
+
+	@Test
+	public void sameAsSpringBootWithDefaultProfile() {
+		assertSameAsSpringBoot("foo", "default");
+	}
+
+	@Test
+	public void sameAsSpringBootWithProfile() {
+		Environment environment = assertSameAsSpringBoot("foo", "dev");
+		assertThat(environment.getPropertySources().get(0).getSource().get("shared")).isEqualTo("foo-dev");
+	}
+
+	@Test
+	public void sameAsSpringBootWithSeveralProfiles() {
+		assertSameAsSpringBoot("foo", "dev,prod");
+		assertSameAsSpringBoot("foo", "prod,dev");
+	}
+
+	@Test
+	public void sameAsSpringBootForApplication() {
+		assertSameAsSpringBoot("application", "dev");
+	}
+
+	@Test
+	public void sameAsSpringBootForSeveralApplications() {
+		assertSameAsSpringBoot("foo,bar", "dev");
+	}
+
+	@Test
+	public void sameAsSpringBootOnTheClasspath() {
+		this.locations = new String[] { "classpath:/test/", "classpath:/test/dev/" };
+		assertSameAsSpringBoot("foo", "development");
+	}
+
+	@Test
+	public void fallsBackToSpringBootForImports() throws IOException {
+		write("foo-dev.yml", "spring.config.import: optional:file:" + this.directory.resolve("extra.yml"));
+		write("extra.yml", "extra: imported");
+
+		assertThat(new ConfigFileEnvironmentLoader(getClass().getClassLoader()).load(new DefaultResourceLoader(),
+				this.locations, new String[] { "application", "foo" }, "dev"))
+			.isNull();
+		Environment environment = assertSameAsSpringBoot("foo", "dev");
+		assertThat(environment.getPropertySources()).anySatisfy(
+				propertySource -> assertThat(propertySource.getSource().get("extra")).isEqualTo("imported"));
+	}
+
+	@Test
+	public void fallsBackToSpringBootForConfigDataSystemProperties() throws IOException {
+		write("foo.yml", "foo: bar");
+		System.setProperty("spring.config.additional-location", "optional:file:./missing/");
+		try {
+			assertThat(new ConfigFileEnvironmentLoader(getClass().getClassLoader()).load(new DefaultResourceLoader(),
+					this.locations, new String[] { "application", "foo" }, "dev"))
+				.isNull();
+		}
+		finally {
+			System.clearProperty("spring.config.additional-location");
+		}
+		assertThat(new ConfigFileEnvironmentLoader(getClass().getClassLoader()).load(new DefaultResourceLoader(),
+				this.locations, new String[] { "application", "foo" }, "dev"))
+			.isNotNull();
+	}
+
+	@Test
+	public void fallsBackToSpringBootForProfileGroups() throws IOException {
+		write("application.yml", "spring.profiles.group.dev: prod");
+
+		Environment environment = assertSameAsSpringBoot("foo", "dev");
+		assertThat(environment.getPropertySources()).extracting(PropertySource::getName)
+			.anySatisfy(name -> assertThat(name).endsWith("foo-prod.yml"));
+	}
+
+	private Environment assertSameAsSpringBoot(String application, String profile) {
+		Environment expected = repository(false).findOne(application, profile, null);
+		Environment actual = repository(true).findOne(application, profile, null);
+		assertThat(actual.getPropertySources()).isNotEmpty();
+		assertThat(actual.getPropertySources()).extracting(PropertySource::getName)
+			.containsExactlyElementsOf(expected.getPropertySources().stream().map(PropertySource::getName).toList());
+		for (int i = 0; i < expected.getPropertySources().size(); i++) {
+			assertThat(actual.getPropertySources().get(i).getSource())
+				.isEqualTo(expected.getPropertySources().get(i).getSource());
+		}
+		assertThat(actual.getProfiles()).isEqualTo(expected.getProfiles());
+		return actual;
+	}
+
+	private NativeEnvironmentRepository repository(boolean lightweightLoader) {
+		NativeEnvironmentRepository repository = new NativeEnvironmentRepository(new StandardEnvironment(),
+				new NativeEnvironmentProperties(), ObservationRegistry.NOOP);
+		repository.setSearchLocations(this.locations.clone());
+		repository.setDefaultLabel(null);
+		repository.setLightweightLoader(lightweightLoader);
+		return repository;
+	}
+
+	private void write(String name, String content) throws IOException {
+		Files.writeString(this.directory.resolve(name), content);
+	}
+
+}
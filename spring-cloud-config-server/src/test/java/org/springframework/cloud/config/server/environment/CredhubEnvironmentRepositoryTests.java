@@ -16,7 +16,10 @@
 
 package org.springframework.cloud.config.server.environment;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
@@ -34,6 +37,8 @@ import org.springframework.credhub.support.SimpleCredentialName;
 import org.springframework.credhub.support.json.JsonCredential;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -325,6 +330,71 @@ public class CredhubEnvironmentRepositoryTests {
 		assertThat(environment.getPropertySources().get(0).getSource()).isEqualTo(Map.of("k1", "v1"));
 	}
 
+	@Test
+	public void shouldLookUpPathsConcurrently() {
+		stubCredentials("/myApp/prod/myLabel", credential("c1", "k1", "v1"));
+		stubCredentials("/myApp/cloud/myLabel", credential("c2", "k2", "v2"));
+		stubCredentials("/application/cloud/myLabel", credential("c3", "k3", "v3"));
+		stubCredentials("/application/default/myLabel");
+
+		var credhubOperations = Mockito.mock(CredHubOperations.class);
+		when(credhubOperations.credentials()).thenReturn(this.credhubCredentialOperations);
+		var properties = new CredhubEnvironmentProperties();
+		properties.setFetchConcurrency(4);
+		var repository = new CredhubEnvironmentRepositoryFactory(credhubOperations).build(properties);
+
+		Environment environment = repository.findOne("myApp", "prod,cloud", "myLabel");
+
+		assertThat(environment.getPropertySources()).extracting("name")
+			.containsExactly("credhub-myApp-cloud-myLabel", "credhub-application-cloud-myLabel",
+					"credhub-myApp-prod-myLabel");
+		assertThat(environment.getPropertySources().get(1).getSource()).isEqualTo(Map.of("k3", "v3"));
+	}
+
+	@Test
+	public void shouldCacheCredentialsOfPath() {
+		stubCredentials("/myApp/default/master", credential("c1", "k1", "v1"));
+		this.credhubEnvironmentRepository.setCacheTimeToLive(Duration.ofMinutes(1));
+
+		this.credhubEnvironmentRepository.findOne("myApp", null, null);
+		Environment environment = this.credhubEnvironmentRepository.findOne("myApp", null, null);
+
+		assertThat(environment.getPropertySources().get(0).getSource()).isEqualTo(Map.of("k1", "v1"));
+		verify(this.credhubCredentialOperations, times(1)).findByPath("/myApp/default/master");
+		verify(this.credhubCredentialOperations, times(1)).getByName(new SimpleCredentialName("c1"),
+				JsonCredential.class);
+	}
+
+	@Test
+	public void shouldReadOnlyChangedCredentialsWhenCacheExpired() {
+		CredentialDetails<JsonCredential> unchanged = credential("c1", "k1", "v1");
+		CredentialDetails<JsonCredential> changed = credential("c2", "k2", "v2");
+		when(this.credhubCredentialOperations.getByName(unchanged.getName(), JsonCredential.class))
+			.thenReturn(unchanged);
+		when(this.credhubCredentialOperations.getByName(changed.getName(), JsonCredential.class)).thenReturn(changed,
+				credential("c2", "k2", "v2-new"));
+		Instant created = Instant.parse("2025-01-01T00:00:00Z");
+		when(this.credhubCredentialOperations.findByPath("/myApp/default/master")).thenReturn(
+				List.of(summary(unchanged, created), summary(changed, created)),
+				List.of(summary(unchanged, created), summary(changed, created.plusSeconds(60))));
+		this.credhubEnvironmentRepository.setCacheTimeToLive(Duration.ofNanos(1));
+
+		this.credhubEnvironmentRepository.findOne("myApp", null, null);
+		Environment environment = this.credhubEnvironmentRepository.findOne("myApp", null, null);
+
+		assertThat(environment.getPropertySources().get(0).getSource())
+			.isEqualTo(Map.of("k1", "v1", "k2", "v2-new"));
+		verify(this.credhubCredentialOperations, times(1)).getByName(unchanged.getName(), JsonCredential.class);
+		verify(this.credhubCredentialOperations, times(2)).getByName(changed.getName(), JsonCredential.class);
+	}
+
+	private CredentialSummary summary(CredentialDetails<JsonCredential> details, Instant versionCreatedAt) {
+		CredentialSummary summary = Mockito.mock(CredentialSummary.class);
+		when(summary.getName()).thenReturn(details.getName());
+		when(summary.getVersionCreatedAt()).thenReturn(versionCreatedAt);
+		return summary;
+	}
+
 	@SafeVarargs
 	private void stubCredentials(String path, CredentialDetails<JsonCredential>... details) {
 		when(this.credhubCredentialOperations.findByPath(path)).thenReturn(
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.config.server.environment;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.config.client.ConfigClientProperties;
+import org.springframework.cloud.config.environment.Environment;
+import org.springframework.cloud.config.environment.PropertySource;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+class EnvironmentChangeNotifierTests {
+
+	private final EnvironmentRepository repository = mock(EnvironmentRepository.class);
+
+	private final EnvironmentChangeNotifier notifier = new EnvironmentChangeNotifier(this.repository,
+			Duration.ofSeconds(30), Duration.ofMinutes(30));
+
+	private final MockMvc mvc = MockMvcBuilders.standaloneSetup(new EnvironmentChangeController(this.notifier))
+		.build();
+
+	@AfterEach
+	void destroy() {
+		this.notifier.destroy();
+	}
+
+	@Test
+	public void subscriptionStartsWithCurrentEnvironment() throws Exception {
+		Environment environment = environment("v1", "bar");
+		when(this.repository.findOne("foo", "default", "main", false)).thenReturn(environment);
+
+		MockHttpServletResponse response = subscribe("/changes/foo/default/main", null);
+
+		assertThat(response.getContentAsString())
+			.contains("id:" + EnvironmentControllerAdvice.digest(environment, null))
+			.contains("event:" + EnvironmentChangeNotifier.EVENT_NAME)
+			.contains("\"version\":\"v1\"");
+		assertThat(this.notifier.getSubscriberCount()).isEqualTo(1);
+	}
+
+	@Test
+	public void resumedSubscriptionIsOnlySentChanges() throws Exception {
+		Environment environment = environment("v1", "bar");
+		when(this.repository.findOne("foo", "default", null, false)).thenReturn(environment);
+
+		MockHttpServletResponse response = subscribe("/changes/foo/default",
+				EnvironmentControllerAdvice.digest(environment, null));
+		assertThat(response.getContentAsString()).isEmpty();
+
+		this.notifier.check();
+		assertThat(response.getContentAsString()).isEqualTo(":\n\n");
+
+		Environment changed = environment("v2", "baz");
+		when(this.repository.findOne("foo", "default", null, false)).thenReturn(changed);
+		this.notifier.check();
+		assertThat(response.getContentAsString())
+			.contains("id:" + EnvironmentControllerAdvice.digest(changed, null))
+			.contains("\"version\":\"v2\"");
+	}
+
+	@Test
+	public void environmentIsCheckedOnceForAllSubscribers() throws Exception {
+		when(this.repository.findOne("foo", "default", "main", false)).thenReturn(environment("v1", "bar"));
+
+		subscribe("/changes/foo/default/main", null);
+		subscribe("/changes/foo/default/main", null);
+		this.notifier.check();
+
+		assertThat(this.notifier.getSubscriberCount()).isEqualTo(2);
+		verify(this.repository, times(2)).findOne("foo", "default", "main", false);
+	}
+
+	@Test
+	public void environmentIsCheckedWithTheTokenOfItsSubscribers() throws Exception {
+		@SuppressWarnings("unchecked")
+		ObjectProvider<HttpServletRequest> requestProvider = mock(ObjectProvider.class);
+		when(requestProvider.getIfAvailable())
+			.thenAnswer(invocation -> ((ServletRequestAttributes) RequestContextHolder.currentRequestAttributes())
+				.getRequest());
+		ConfigTokenProvider tokenProvider = new HttpRequestConfigTokenProvider(requestProvider);
+		List<String> tokens = new CopyOnWriteArrayList<>();
+		List<String> methods = new CopyOnWriteArrayList<>();
+		EnvironmentRepository repository = (application, profile, label) -> {
+			String token = tokenProvider.getToken();
+			tokens.add(token);
+			// backends may read more of the request than its headers
+			methods.add(requestProvider.getIfAvailable().getMethod());
+			return environment("v1", "secret of " + token);
+		};
+		EnvironmentChangeNotifier notifier = new EnvironmentChangeNotifier(repository, Duration.ofSeconds(30),
+				Duration.ofMinutes(30));
+		MockMvc mvc = MockMvcBuilders.standaloneSetup(new EnvironmentChangeController(notifier)).build();
+		try {
+			MockHttpServletResponse first = subscribe(mvc, "/changes/foo/default/main", null, "a");
+			MockHttpServletResponse second = subscribe(mvc, "/changes/foo/default/main", null, "b");
+
+			// checked on a thread without a request, as the scheduler does
+			notifier.check();
+
+			assertThat(tokens).containsExactlyInAnyOrder("a", "b", "a", "b");
+			assertThat(methods).containsOnly("GET");
+			assertThat(first.getContentAsString())
+				.startsWith("id:" + EnvironmentControllerAdvice.digest(environment("v1", "secret of a"), null))
+				.endsWith(":\n\n")
+				.doesNotContain(EnvironmentControllerAdvice.digest(environment("v1", "secret of b"), null));
+			assertThat(second.getContentAsString())
+				.startsWith("id:" + EnvironmentControllerAdvice.digest(environment("v1", "secret of b"), null))
+				.endsWith(":\n\n");
+			assertThat(notifier.getSubscriberCount()).isEqualTo(2);
+		}
+		finally {
+			notifier.destroy();
+		}
+	}
+
+	private MockHttpServletResponse subscribe(String path, String lastEventId) throws Exception {
+		return subscribe(this.mvc, path, lastEventId, null);
+	}
+
+	private static MockHttpServletResponse subscribe(MockMvc mvc, String path, String lastEventId, String token)
+			throws Exception {
+		MockHttpServletRequestBuilder builder = get(path).accept(MediaType.TEXT_EVENT_STREAM);
+		if (lastEventId != null) {
+			builder.header(EnvironmentChangeController.LAST_EVENT_ID, lastEventId);
+		}
+		if (token != null) {
+			builder.header(ConfigClientProperties.TOKEN_HEADER, token);
+		}
+		return mvc.perform(builder).andExpect(request().asyncStarted()).andReturn().getResponse();
+	}
+
+	private static Environment environment(String version, String value) {
+		Environment environment = new Environment("foo", new String[] { "default" }, "main", version, null);
+		environment.add(new PropertySource("foo.yml", Collections.singletonMap("foo", value)));
+		return environment;
+	}
+
+}
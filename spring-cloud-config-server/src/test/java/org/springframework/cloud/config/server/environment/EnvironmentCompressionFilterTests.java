@@ -0,0 +1,187 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.config.server.environment;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class EnvironmentCompressionFilterTests {
+
+	private static final String BODY = "{\"name\":\"foo\",\"value\":\"" + "bar".repeat(1000) + "\"}";
+
+	private final EnvironmentCompressionFilter filter = new EnvironmentCompressionFilter(1024, 10);
+
+	@Test
+	public void environmentIsCompressed() throws Exception {
+		MockHttpServletResponse response = filter(gzipRequest(), environmentChain(BODY));
+
+		assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+		assertThat(response.getHeaders(HttpHeaders.VARY)).contains(HttpHeaders.ACCEPT_ENCODING);
+		assertThat(response.getContentLength()).isEqualTo(response.getContentAsByteArray().length);
+		assertThat(gunzip(response.getContentAsByteArray())).isEqualTo(BODY);
+		assertThat(this.filter.getMissCount()).isEqualTo(1);
+	}
+
+	@Test
+	public void unchangedEnvironmentIsCompressedOnce() throws Exception {
+		MockHttpServletResponse first = filter(gzipRequest(), environmentChain(BODY));
+		MockHttpServletResponse second = filter(gzipRequest(), environmentChain(BODY));
+
+		assertThat(second.getContentAsByteArray()).isEqualTo(first.getContentAsByteArray());
+		assertThat(this.filter.getMissCount()).isEqualTo(1);
+		assertThat(this.filter.getHitCount()).isEqualTo(1);
+
+		filter(gzipRequest(), environmentChain(BODY.replace("foo", "baz")));
+		assertThat(this.filter.getMissCount()).isEqualTo(2);
+	}
+
+	@Test
+	public void smallEnvironmentIsNotCompressed() throws Exception {
+		MockHttpServletResponse response = filter(gzipRequest(), environmentChain("{\"name\":\"foo\"}"));
+
+		assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+		assertThat(response.getContentAsString()).isEqualTo("{\"name\":\"foo\"}");
+		assertThat(response.getContentLength()).isEqualTo(14);
+	}
+
+	@Test
+	public void environmentIsNotCompressedWithoutAcceptEncoding() throws Exception {
+		MockHttpServletResponse response = filter(new MockHttpServletRequest("GET", "/foo/default"),
+				environmentChain(BODY));
+
+		assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+		assertThat(response.getHeaders(HttpHeaders.VARY)).contains(HttpHeaders.ACCEPT_ENCODING);
+		assertThat(response.getContentAsString()).isEqualTo(BODY);
+	}
+
+	@Test
+	public void compressedEnvironmentHasItsOwnETag() throws Exception {
+		MockHttpServletResponse compressed = filter(gzipRequest(), environmentChain(BODY));
+		MockHttpServletResponse identity = filter(new MockHttpServletRequest("GET", "/foo/default"),
+				environmentChain(BODY));
+
+		assertThat(compressed.getHeader(HttpHeaders.ETAG)).isEqualTo("\"abc-gzip\"");
+		assertThat(identity.getHeader(HttpHeaders.ETAG)).isEqualTo("\"abc\"");
+	}
+
+	@Test
+	public void compressedETagMatchesEnvironment() throws Exception {
+		MockHttpServletRequest request = gzipRequest();
+		request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"abc-gzip\"");
+
+		MockHttpServletResponse response = filter(request, (chainRequest, chainResponse) -> {
+			setEnvironmentHandler(chainRequest);
+			assertThat(((HttpServletRequest) chainRequest).getHeader(HttpHeaders.IF_NONE_MATCH))
+				.isEqualTo("\"abc\"");
+			HttpServletResponse httpResponse = (HttpServletResponse) chainResponse;
+			httpResponse.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+			httpResponse.setHeader(HttpHeaders.ETAG, "\"abc\"");
+		});
+
+		assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_NOT_MODIFIED);
+		assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo("\"abc-gzip\"");
+		assertThat(response.getHeaders(HttpHeaders.VARY)).contains(HttpHeaders.ACCEPT_ENCODING);
+	}
+
+	@Test
+	public void otherResponsesAreWrittenThrough() throws Exception {
+		MockHttpServletResponse response = filter(gzipRequest(), (request, servletResponse) -> {
+			servletResponse.getWriter().write(BODY);
+			servletResponse.flushBuffer();
+		});
+
+		assertThat(response.isCommitted()).isTrue();
+		assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+		assertThat(response.getContentAsString()).isEqualTo(BODY);
+		assertThat(this.filter.getMissCount()).isZero();
+	}
+
+	@Test
+	public void acceptEncodingIsParsed() {
+		assertThat(acceptsGzip("gzip")).isTrue();
+		assertThat(acceptsGzip("deflate, GZIP;q=0.5")).isTrue();
+		assertThat(acceptsGzip("*")).isTrue();
+		assertThat(acceptsGzip("gzip;q=0")).isFalse();
+		assertThat(acceptsGzip("deflate, br")).isFalse();
+		assertThat(acceptsGzip(null)).isFalse();
+	}
+
+	private MockHttpServletResponse filter(MockHttpServletRequest request, FilterChain chain) throws Exception {
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		this.filter.doFilter(request, response, chain);
+		return response;
+	}
+
+	private static MockHttpServletRequest gzipRequest() {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/foo/default");
+		request.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate");
+		return request;
+	}
+
+	private static FilterChain environmentChain(String body) {
+		return (request, response) -> {
+			setEnvironmentHandler(request);
+			((HttpServletResponse) response).setHeader(HttpHeaders.ETAG, "\"abc\"");
+			byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+			response.setContentLength(bytes.length);
+			response.getOutputStream().write(bytes);
+		};
+	}
+
+	private static void setEnvironmentHandler(ServletRequest request) {
+		try {
+			request.setAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE,
+					new HandlerMethod(mock(EnvironmentController.class),
+							EnvironmentController.class.getMethod("defaultLabel", String.class, String.class)));
+		}
+		catch (NoSuchMethodException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static boolean acceptsGzip(String acceptEncoding) {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/foo/default");
+		if (acceptEncoding != null) {
+			request.addHeader(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+		}
+		return EnvironmentCompressionFilter.acceptsGzip(request);
+	}
+
+	private static String gunzip(byte[] body) throws IOException {
+		try (GZIPInputStream input = new GZIPInputStream(new ByteArrayInputStream(body))) {
+			return new String(input.readAllBytes(), StandardCharsets.UTF_8);
+		}
+	}
+
+}
@@ -34,6 +34,7 @@ import org.yaml.snakeyaml.Yaml;
 
 import org.springframework.cloud.config.environment.Environment;
 import org.springframework.cloud.config.environment.PropertySource;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
@@ -46,6 +47,7 @@ import org.springframework.web.util.pattern.PathPatternParser;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.entry;
+import static org.hamcrest.Matchers.not;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
@@ -573,6 +575,45 @@ class EnvironmentControllerTests {
 				.andExpect(MockMvcResultMatchers.status().isOk());
 		}
 
+		@Test
+		public void environmentHasEtag() throws Exception {
+			when(EnvironmentControllerTests.this.repository.findOne("foo", "bar", "other", false))
+				.thenReturn(EnvironmentControllerTests.this.environment);
+			this.mvc.perform(MockMvcRequestBuilders.get("/foo/bar/other"))
+				.andExpect(MockMvcResultMatchers.status().isOk())
+				.andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, EnvironmentControllerAdvice
+					.etag(EnvironmentControllerTests.this.environment, MediaType.APPLICATION_JSON)));
+		}
+
+		@Test
+		public void notModifiedForMatchingEtag() throws Exception {
+			when(EnvironmentControllerTests.this.repository.findOne("foo", "bar", "other", false))
+				.thenReturn(EnvironmentControllerTests.this.environment);
+			String etag = this.mvc.perform(MockMvcRequestBuilders.get("/foo/bar/other"))
+				.andReturn()
+				.getResponse()
+				.getHeader(HttpHeaders.ETAG);
+			this.mvc.perform(MockMvcRequestBuilders.get("/foo/bar/other").header(HttpHeaders.IF_NONE_MATCH, etag))
+				.andExpect(MockMvcResultMatchers.status().isNotModified())
+				.andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, etag))
+				.andExpect(MockMvcResultMatchers.content().string(""));
+		}
+
+		@Test
+		public void changedEnvironmentIsSentAgain() throws Exception {
+			when(EnvironmentControllerTests.this.repository.findOne("foo", "bar", "other", false))
+				.thenReturn(EnvironmentControllerTests.this.environment);
+			String etag = this.mvc.perform(MockMvcRequestBuilders.get("/foo/bar/other"))
+				.andReturn()
+				.getResponse()
+				.getHeader(HttpHeaders.ETAG);
+			EnvironmentControllerTests.this.environment
+				.add(new PropertySource("one", Collections.singletonMap("a", "b")));
+			this.mvc.perform(MockMvcRequestBuilders.get("/foo/bar/other").header(HttpHeaders.IF_NONE_MATCH, etag))
+				.andExpect(MockMvcResultMatchers.status().isOk())
+				.andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, not(etag)));
+		}
+
 		@Test
 		public void environmentMissing() throws Exception {
 			when(EnvironmentControllerTests.this.repository.findOne("foo1", "notfound", null, false))
@@ -676,7 +717,8 @@ class EnvironmentControllerTests {
 		@BeforeEach
 		public void initMockMvc() {
 			StandaloneMockMvcBuilder builder = MockMvcBuilders
-				.standaloneSetup(EnvironmentControllerTests.this.controller);
+				.standaloneSetup(EnvironmentControllerTests.this.controller)
+				.setControllerAdvice(new EnvironmentControllerAdvice());
 			builder.setPatternParser(new PathPatternParser());
 			this.mvc = builder.build();
 		}
@@ -688,7 +730,9 @@ class EnvironmentControllerTests {
 
 		@BeforeEach
 		public void initMockMvc() {
-			this.mvc = MockMvcBuilders.standaloneSetup(EnvironmentControllerTests.this.controller).build();
+			this.mvc = MockMvcBuilders.standaloneSetup(EnvironmentControllerTests.this.controller)
+				.setControllerAdvice(new EnvironmentControllerAdvice())
+				.build();
 		}
 
 	}
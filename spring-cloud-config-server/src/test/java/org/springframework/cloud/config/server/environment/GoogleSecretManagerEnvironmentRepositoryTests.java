@@ -17,6 +17,7 @@
 package org.springframework.cloud.config.server.environment;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -34,17 +35,26 @@ import org.mockito.ArgumentMatcher;
 import org.mockito.ArgumentMatchers;
 import org.mockito.Mockito;
 
+import org.springframework.cloud.config.environment.Environment;
+import org.springframework.cloud.config.environment.PropertySource;
 import org.springframework.cloud.config.server.environment.secretmanager.GoogleConfigProvider;
 import org.springframework.cloud.config.server.environment.secretmanager.GoogleSecretComparatorByVersion;
+import org.springframework.cloud.config.server.environment.secretmanager.GoogleSecretManagerAccessStrategy;
 import org.springframework.cloud.config.server.environment.secretmanager.GoogleSecretManagerAccessStrategyFactory;
 import org.springframework.cloud.config.server.environment.secretmanager.GoogleSecretManagerV1AccessStrategy;
 import org.springframework.cloud.config.server.environment.secretmanager.HttpHeaderGoogleConfigProvider;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.web.client.RestTemplate;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatExceptionOfType;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class GoogleSecretManagerEnvironmentRepositoryTests {
@@ -141,4 +151,46 @@ public class GoogleSecretManagerEnvironmentRepositoryTests {
 			.isEqualTo("test-value");
 	}
 
+	@Test
+	public void testIndexedAndCachedSecrets() {
+		GoogleConfigProvider provider = mock(HttpHeaderGoogleConfigProvider.class);
+		GoogleSecretManagerAccessStrategy strategy = mock(GoogleSecretManagerAccessStrategy.class);
+		Secret foo = secret("foo", "myapp", "default");
+		Secret bar = secret("bar", "myapp", "dev");
+		Secret other = secret("other", "otherapp", "dev");
+		when(strategy.getSecrets()).thenReturn(List.of(foo, bar, other));
+		when(strategy.getSecretName(any(Secret.class)))
+			.thenAnswer(invocation -> invocation.getArgument(0, Secret.class).getName().replaceFirst(".*/", ""));
+		when(strategy.getSecretValue(any(Secret.class), any()))
+			.thenAnswer(invocation -> invocation.getArgument(0, Secret.class).getName() + "-value");
+		GoogleSecretManagerEnvironmentProperties properties = new GoogleSecretManagerEnvironmentProperties();
+		properties.setTokenMandatory(false);
+		properties.setIndexRefreshInterval(Duration.ofMinutes(1));
+		properties.getCache().setEnabled(true);
+		GoogleSecretManagerEnvironmentRepository repository = new GoogleSecretManagerEnvironmentRepository(provider,
+				strategy, properties);
+		repository.setExecutor(new SimpleAsyncTaskExecutor());
+
+		for (int i = 0; i < 2; i++) {
+			Environment environment = repository.findOne("myapp", "dev", null);
+			assertThat(environment.getPropertySources()).extracting(PropertySource::getName)
+				.containsExactly("gsm:myapp-default", "gsm:myapp-dev");
+			assertThat(environment.getPropertySources().get(0).getSource())
+				.containsExactly(entry("foo", "projects/test-project/secrets/foo-value"));
+			assertThat(environment.getPropertySources().get(1).getSource())
+				.containsExactly(entry("bar", "projects/test-project/secrets/bar-value"));
+		}
+		verify(strategy, times(1)).getSecrets();
+		verify(strategy, times(1)).getSecretValue(eq(bar), any());
+		verify(strategy, never()).getSecretValue(eq(other), any());
+	}
+
+	private static Secret secret(String name, String application, String profile) {
+		return Secret.newBuilder()
+			.setName("projects/test-project/secrets/" + name)
+			.putLabels("application", application)
+			.putLabels("profile", profile)
+			.build();
+	}
+
 }
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.config.server.environment;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.observation.ObservationRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import org.springframework.cloud.config.environment.Environment;
+import org.springframework.cloud.config.server.test.ConfigServerTestUtils;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.util.FileSystemUtils;
+
+/**
+ * Measures the throughput of {@link JGitEnvironmentRepository#findOne} on 1, 2, 4 and 8
+ * threads reading the same label. With a refresh rate of 0 every request refreshes the
+ * working copy under the write lock, with a positive one the requests inside the refresh
+ * window share the read lock. Not run with the tests, start {@link #main(String[])} from
+ * the test classpath of this module instead.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JGitEnvironmentRepositoryBenchmark {
+
+	private static final int[] THREADS = { 1, 2, 4, 8 };
+
+	@Param({ "0", "60" })
+	public int refreshRate;
+
+	private Path basedir;
+
+	private JGitEnvironmentRepository repository;
+
+	public static void main(String[] args) throws RunnerException {
+		for (int threads : THREADS) {
+			new Runner(new OptionsBuilder().include(JGitEnvironmentRepositoryBenchmark.class.getSimpleName())
+				.threads(threads)
+				.build()).run();
+		}
+	}
+
+	@Setup(Level.Trial)
+	public void setup() throws IOException {
+		this.basedir = Files.createTempDirectory("config-benchmark");
+		this.repository = new JGitEnvironmentRepository(new StandardEnvironment(), new JGitEnvironmentProperties(),
+				ObservationRegistry.NOOP);
+		this.repository.setUri(ConfigServerTestUtils.prepareLocalRepo());
+		this.repository.setBasedir(this.basedir.toFile());
+		this.repository.setRefreshRate(this.refreshRate);
+		// clone before measuring
+		this.repository.findOne("bar", "staging", "master");
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws IOException {
+		FileSystemUtils.deleteRecursively(this.basedir);
+	}
+
+	@Benchmark
+	public Environment findOne() {
+		return this.repository.findOne("bar", "staging", "master");
+	}
+
+}
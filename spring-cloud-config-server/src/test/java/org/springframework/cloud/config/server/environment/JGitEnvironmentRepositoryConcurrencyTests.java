@@ -20,11 +20,15 @@ import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import io.micrometer.observation.ObservationRegistry;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.eclipse.jgit.api.CheckoutCommand;
@@ -60,6 +64,7 @@ import org.springframework.cloud.config.server.test.ConfigServerTestUtils;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
+import org.springframework.core.env.StandardEnvironment;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -123,6 +128,76 @@ public class JGitEnvironmentRepositoryConcurrencyTests {
 		assertThat(environment.getLabel()).isEqualTo("master");
 	}
 
+	@Test
+	public void readsOfRefreshedLabelRunInParallel() throws Exception {
+		String uri = ConfigServerTestUtils.prepareLocalRepo();
+		int parallelism = 4;
+		CyclicBarrier barrier = new CyclicBarrier(parallelism);
+		JGitEnvironmentRepository repository = new JGitEnvironmentRepository(new StandardEnvironment(),
+				new JGitEnvironmentProperties(), ObservationRegistry.NOOP) {
+			@Override
+			protected Locations getCurrentLocations(String application, String profile, String label) {
+				Locations locations = super.getCurrentLocations(application, profile, label);
+				if (locations != null) {
+					// only passes if every reader holds the lock at the same time
+					try {
+						barrier.await(10, TimeUnit.SECONDS);
+					}
+					catch (Exception e) {
+						throw new IllegalStateException(e);
+					}
+				}
+				return locations;
+			}
+		};
+		repository.setUri(uri);
+		repository.setRefreshRate(60);
+		repository.findOne("bar", "staging", "master");
+
+		ExecutorService threads = Executors.newFixedThreadPool(parallelism);
+		List<Future<Environment>> tasks = new ArrayList<>();
+		for (int i = 0; i < parallelism; i++) {
+			tasks.add(threads.submit(() -> repository.findOne("bar", "staging", "master")));
+		}
+		for (Future<Environment> future : tasks) {
+			Environment environment = future.get(30, TimeUnit.SECONDS);
+			assertThat(environment.getPropertySources()).hasSize(2);
+		}
+		threads.shutdown();
+	}
+
+	@Test
+	public void refreshWaitsForReaderOfLocations() throws Exception {
+		String uri = ConfigServerTestUtils.prepareLocalRepo();
+		JGitEnvironmentRepository repository = new JGitEnvironmentRepository(new StandardEnvironment(),
+				new JGitEnvironmentProperties(), ObservationRegistry.NOOP);
+		repository.setUri(uri);
+		CountDownLatch reading = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+
+		ExecutorService threads = Executors.newFixedThreadPool(2);
+		Future<String> reader = threads.submit(() -> repository.readLocations("bar", "staging", "master", locations -> {
+			reading.countDown();
+			try {
+				release.await(10, TimeUnit.SECONDS);
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return locations.getVersion();
+		}));
+		assertThat(reading.await(30, TimeUnit.SECONDS)).isTrue();
+		// the default refresh rate updates the working copy on every request
+		Future<Environment> refresh = threads.submit(() -> repository.findOne("bar", "staging", "master"));
+		Thread.sleep(200);
+		assertThat(refresh.isDone()).isFalse();
+
+		release.countDown();
+		assertThat(reader.get(30, TimeUnit.SECONDS)).isNotNull();
+		assertThat(refresh.get(30, TimeUnit.SECONDS).getPropertySources()).hasSize(2);
+		threads.shutdown();
+	}
+
 	/**
 	 * Simulates following actions in parallel: - Client tries to obtain configuration
 	 * with specified label - Spring Refresh Context Event occurs.
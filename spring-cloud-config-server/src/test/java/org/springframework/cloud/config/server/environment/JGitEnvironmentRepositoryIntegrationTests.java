@@ -25,6 +25,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardOpenOption;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
 
@@ -560,6 +561,38 @@ public class JGitEnvironmentRepositoryIntegrationTests {
 		assertThat("bar").isEqualTo(fooProperty);
 	}
 
+	@Test
+	public void testBackgroundRefresh() throws Exception {
+		JGitConfigServerTestData testData = JGitConfigServerTestData
+			.prepareClonedGitRepository(TestConfiguration.class);
+		JGitEnvironmentRepository repository = testData.getRepository();
+		repository.setBackgroundRefresh(Duration.ofHours(1), Duration.ofHours(1));
+		String startingRemoteVersion = getCommitID(testData.getServerGit().getGit(), "master");
+
+		// nothing was fetched yet, so the first request fetches
+		Environment environment = repository.findOne("bar", "staging", "master");
+		assertThat(environment.getVersion()).isEqualTo(startingRemoteVersion);
+		assertThat(repository.getStaleness()).isNotNull();
+
+		// update the remote repo
+		FileOutputStream out = new FileOutputStream(
+				new File(testData.getServerGit().getGitWorkingDirectory(), "bar.properties"));
+		StreamUtils.copy("foo: barBackground", Charset.defaultCharset(), out);
+		testData.getServerGit().getGit().add().addFilepattern("bar.properties").call();
+		testData.getServerGit().getGit().commit().setMessage("Updated for background refresh").call();
+		String updatedRemoteVersion = getCommitID(testData.getServerGit().getGit(), "master");
+
+		// requests are served from the last fetch until the background refresh runs
+		environment = repository.findOne("bar", "staging", "master");
+		assertThat(environment.getVersion()).isEqualTo(startingRemoteVersion);
+
+		repository.backgroundRefresh();
+
+		environment = repository.findOne("bar", "staging", "master");
+		assertThat(environment.getVersion()).isEqualTo(updatedRemoteVersion);
+		assertThat(ConfigServerTestUtils.getProperty(environment, "bar.properties", "foo")).isEqualTo("barBackground");
+	}
+
 	@Test
 	public void testUnknownLabelWithRemote() throws Exception {
 		assertThatExceptionOfType(NoSuchLabelException.class).isThrownBy(() -> {
@@ -74,11 +74,14 @@ import org.junit.rules.ExpectedException;
 import org.mockito.Mockito;
 
 import org.springframework.cloud.config.environment.Environment;
+import org.springframework.cloud.config.server.resource.GenericResourceRepository;
 import org.springframework.cloud.config.server.support.AwsCodeCommitCredentialProvider;
 import org.springframework.cloud.config.server.support.GitSkipSslValidationCredentialsProvider;
 import org.springframework.cloud.config.server.support.PassphraseCredentialsProvider;
 import org.springframework.cloud.config.server.test.ConfigServerTestUtils;
 import org.springframework.core.env.StandardEnvironment;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.Resource;
 
 import static junit.framework.TestCase.assertTrue;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -217,6 +220,47 @@ public class JGitEnvironmentRepositoryTests {
 		assertThat(environment.getPropertySources()).hasSize(6);
 	}
 
+	@Test
+	public void readFromObjectDatabase() throws Exception {
+		this.repository.setReadFromObjectDatabase(true);
+		File workingDirectory = new File(this.repository.getUri().substring("file:".length()));
+		String branch;
+		try (Git git = Git.open(workingDirectory)) {
+			branch = git.getRepository().getBranch();
+		}
+		Environment environment = this.repository.findOne("bar", "staging", "master,foo,raw");
+		assertThat(environment.getPropertySources()).hasSize(6);
+		assertThat(environment.getPropertySources().get(0).getName())
+			.isEqualTo(this.repository.getUri() + "/bar.properties");
+		try (Git git = Git.open(workingDirectory)) {
+			assertThat(git.getRepository().getBranch()).isEqualTo(branch);
+			assertThat(environment.getVersion()).startsWith(git.getRepository().resolve("raw^{commit}").getName());
+		}
+	}
+
+	@Test
+	public void readFromObjectDatabaseWithSearchPaths() throws IOException {
+		String uri = ConfigServerTestUtils.prepareLocalRepo("another-config-repo");
+		this.repository.setUri(uri);
+		this.repository.setReadFromObjectDatabase(true);
+		this.repository.setSearchPaths(new String[] { "{application}" });
+		Environment environment = this.repository.findOne("sub", "staging", "master");
+		assertThat(environment.getPropertySources()).hasSize(1);
+		assertThat(environment.getPropertySources().get(0).getName())
+			.isEqualTo(this.repository.getUri() + "/sub/application.yml");
+		assertVersion(environment);
+	}
+
+	@Test
+	public void readFromObjectDatabaseServesPlainText() throws IOException {
+		this.repository.setReadFromObjectDatabase(true);
+		GenericResourceRepository resources = new GenericResourceRepository(this.repository);
+		resources.setResourceLoader(new DefaultResourceLoader());
+		Resource resource = resources.findOne("bar", "staging", "raw", "bar.properties");
+		assertThat(resource).isInstanceOf(JGitObjectResourceLoader.ObjectResource.class);
+		assertThat(resource.contentLength()).isPositive();
+	}
+
 	@Test
 	public void basedirExists() throws Exception {
 		assertThat(this.basedir.mkdirs()).isTrue();
@@ -16,6 +16,10 @@
 
 package org.springframework.cloud.config.server.environment;
 
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Map;
+
 import javax.sql.DataSource;
 
 import org.junit.jupiter.api.Test;
@@ -26,6 +30,7 @@ import org.springframework.boot.autoconfigure.sql.init.SqlInitializationAutoConf
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.cloud.config.environment.Environment;
+import org.springframework.cloud.config.environment.PropertySource;
 import org.springframework.cloud.config.server.environment.JdbcEnvironmentRepositoryTests.ApplicationConfiguration;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.dao.DataAccessException;
@@ -245,6 +250,80 @@ public class JdbcEnvironmentRepositoryTests {
 		assertThat(env.getPropertySources().get(2).getSource().get("e.f.g")).isEqualTo("application-default");
 	}
 
+	@Test
+	public void batchSameAsOneQueryPerPropertySource() {
+		JdbcEnvironmentProperties properties = new JdbcEnvironmentProperties();
+		JdbcEnvironmentRepository repository = new JdbcEnvironmentRepository(new JdbcTemplate(this.dataSource),
+				properties, new JdbcEnvironmentRepository.PropertiesResultSetExtractor());
+		properties.setBatch(true);
+		JdbcEnvironmentRepository batchRepository = new JdbcEnvironmentRepository(new JdbcTemplate(this.dataSource),
+				properties, new JdbcEnvironmentRepository.PropertiesResultSetExtractor());
+		assertSameEnvironment(batchRepository.findOne("foo", "bar", ""), repository.findOne("foo", "bar", ""));
+		assertSameEnvironment(batchRepository.findOne("foo", "", ""), repository.findOne("foo", "", ""));
+		assertSameEnvironment(batchRepository.findOne("foo", "default,bar", ""),
+				repository.findOne("foo", "default,bar", ""));
+		assertSameEnvironment(batchRepository.findOne("application", "default", "main,master"),
+				repository.findOne("application", "default", "main,master"));
+		assertSameEnvironment(batchRepository.findOne("baz", "bar", ""), repository.findOne("baz", "bar", ""));
+	}
+
+	@Test
+	public void testBatchCustomSql() {
+		JdbcEnvironmentProperties properties = new JdbcEnvironmentProperties();
+		properties.setBatch(true);
+		properties.setBatchSql("SELECT APPLICATION, PROFILE, LABEL, MY_KEY, MY_VALUE from MY_PROPERTIES"
+				+ " where APPLICATION in (:applications) and LABEL in (:labels)");
+		Environment env = new JdbcEnvironmentRepository(new JdbcTemplate(this.dataSource), properties,
+				new JdbcEnvironmentRepository.PropertiesResultSetExtractor())
+			.findOne("foo", "bar", "");
+		assertThat(env.getPropertySources()).extracting(PropertySource::getName)
+			.containsExactly("foo-bar", "application-bar", "foo", "application");
+		assertThat(env.getPropertySources().get(2).getSource().get("a.b.c")).isEqualTo("foo-null");
+	}
+
+	@Test
+	public void batchIsTurnedOffByCustomExtractor() {
+		JdbcEnvironmentProperties properties = new JdbcEnvironmentProperties();
+		properties.setBatch(true);
+		JdbcEnvironmentRepository repository = new JdbcEnvironmentRepository(new JdbcTemplate(this.dataSource),
+				properties, new JdbcEnvironmentRepository.PropertiesResultSetExtractor() {
+					@Override
+					public Map<String, Object> extractData(ResultSet rs) throws SQLException, DataAccessException {
+						Map<String, Object> map = super.extractData(rs);
+						map.replaceAll((key, value) -> "custom-" + value);
+						return map;
+					}
+				});
+		Environment env = repository.findOne("foo", "bar", "");
+		assertThat(repository.isBatch()).isFalse();
+		assertThat(env.getPropertySources().get(0).getSource().get("a.b.c")).isEqualTo("custom-foo-bar");
+	}
+
+	@Test
+	public void testBatchNotFailOnError() {
+		JdbcEnvironmentProperties properties = new JdbcEnvironmentProperties();
+		properties.setBatch(true);
+		properties.setBatchSql("SELECT SHOULD_FAIL from TABLE_NOTEXIST where APPLICATION in (:applications)");
+		properties.setFailOnError(false);
+		Environment env = new JdbcEnvironmentRepository(new JdbcTemplate(this.dataSource), properties,
+				new JdbcEnvironmentRepository.PropertiesResultSetExtractor())
+			.findOne("foo", "bar", "");
+		assertThat(env.getPropertySources()).isEmpty();
+		properties.setFailOnError(true);
+		JdbcEnvironmentRepository repository = new JdbcEnvironmentRepository(new JdbcTemplate(this.dataSource),
+				properties, new JdbcEnvironmentRepository.PropertiesResultSetExtractor());
+		assertThatThrownBy(() -> repository.findOne("foo", "bar", "")).isInstanceOf(DataAccessException.class);
+	}
+
+	private static void assertSameEnvironment(Environment actual, Environment expected) {
+		assertThat(actual.getPropertySources()).extracting(PropertySource::getName)
+			.containsExactlyElementsOf(expected.getPropertySources().stream().map(PropertySource::getName).toList());
+		for (int i = 0; i < expected.getPropertySources().size(); i++) {
+			assertThat(actual.getPropertySources().get(i).getSource())
+				.isEqualTo(expected.getPropertySources().get(i).getSource());
+		}
+	}
+
 	@ImportAutoConfiguration(SqlInitializationAutoConfiguration.class)
 	@Configuration(proxyBeanMethods = false)
 	protected static class ApplicationConfiguration {
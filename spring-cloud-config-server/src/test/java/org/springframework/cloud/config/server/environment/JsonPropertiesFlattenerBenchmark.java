@@ -0,0 +1,95 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.config.server.environment;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import org.springframework.beans.factory.config.YamlPropertiesFactoryBean;
+import org.springframework.core.io.ByteArrayResource;
+
+/**
+ * Compares parsing the data of a Vault secret as YAML, as the Vault repositories used
+ * to, with flattening the JSON tree they already have with the
+ * {@link JsonPropertiesFlattener}. Not run with the tests, start {@link #main(String[])}
+ * from the test classpath instead.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonPropertiesFlattenerBenchmark {
+
+	@Param({ "10", "1000" })
+	public int keys;
+
+	private JsonNode data;
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(JsonPropertiesFlattenerBenchmark.class.getSimpleName()).build()).run();
+	}
+
+	@Setup(Level.Trial)
+	public void setup() {
+		ObjectNode data = new ObjectMapper().createObjectNode();
+		for (int i = 0; i < this.keys; i++) {
+			ObjectNode group = data.putObject("group" + i);
+			group.put("url", "https://example.com/" + i);
+			group.put("timeout", i);
+			group.put("enabled", i % 2 == 0);
+			ArrayNode hosts = group.putArray("hosts");
+			hosts.add("host-a-" + i).add("host-b-" + i);
+		}
+		this.data = data;
+	}
+
+	@Benchmark
+	public Properties yaml() {
+		YamlPropertiesFactoryBean yaml = new YamlPropertiesFactoryBean();
+		yaml.setResources(new ByteArrayResource(this.data.toString().getBytes(StandardCharsets.UTF_8)));
+		return yaml.getObject();
+	}
+
+	@Benchmark
+	public Properties flatten() {
+		return JsonPropertiesFlattener.flatten(this.data);
+	}
+
+}
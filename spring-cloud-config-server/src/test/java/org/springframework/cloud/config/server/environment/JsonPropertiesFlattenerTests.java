@@ -0,0 +1,78 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.config.server.environment;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Properties;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.config.YamlPropertiesFactoryBean;
+import org.springframework.core.io.ByteArrayResource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class JsonPropertiesFlattenerTests {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	@Test
+	public void sameAsYaml() throws Exception {
+		assertSameAsYaml("""
+				{
+				  "spring.datasource.url": "jdbc:h2:mem:test",
+				  "server": { "port": 8080, "ssl": { "enabled": true } },
+				  "limits": { "small": -12, "large": 12345678901, "huge": 123456789012345678901234567890 },
+				  "ratio": 0.75,
+				  "negative": -1.5,
+				  "empty": "",
+				  "none": null,
+				  "emptyList": [],
+				  "emptyObject": {},
+				  "list": [ "a", 1, false, null ],
+				  "nested": [ [ "x", "y" ], { "name": "z", "tags": [ "t" ] } ],
+				  "map": { "[key.with.dots]": "value", "key[0]": "indexed" },
+				  "text": "multi\\nline \\"quoted\\" üñíçødé"
+				}
+				""");
+	}
+
+	@Test
+	public void sameAsYamlWhenNotAnObject() throws Exception {
+		assertSameAsYaml("[ { \"a\": 1 }, \"b\" ]");
+		assertSameAsYaml("\"value\"");
+	}
+
+	@Test
+	public void emptyWhenNoData() throws Exception {
+		assertThat(JsonPropertiesFlattener.flatten(null)).isEmpty();
+		assertThat(JsonPropertiesFlattener.flatten(this.objectMapper.readTree("null"))).isEmpty();
+		assertThat(JsonPropertiesFlattener.flatten(this.objectMapper.readTree("{}"))).isEmpty();
+	}
+
+	private void assertSameAsYaml(String json) throws Exception {
+		YamlPropertiesFactoryBean yaml = new YamlPropertiesFactoryBean();
+		yaml.setResources(new ByteArrayResource(json.getBytes(StandardCharsets.UTF_8)));
+		Properties expected = yaml.getObject();
+
+		Properties properties = JsonPropertiesFlattener.flatten(this.objectMapper.readTree(json));
+
+		assertThat(properties).isEqualTo(expected);
+	}
+
+}
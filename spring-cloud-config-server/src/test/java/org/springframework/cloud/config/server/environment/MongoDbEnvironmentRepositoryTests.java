@@ -38,8 +38,10 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
 import org.springframework.cloud.config.environment.Environment;
+import org.springframework.cloud.config.environment.PropertySource;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexField;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.ActiveProfiles;
@@ -168,6 +170,37 @@ public class MongoDbEnvironmentRepositoryTests {
 		assertThat(env.getPropertySources().get(1).getSource().get("a_b_c")).isEqualTo("application-bar");
 	}
 
+	@Test
+	public void batchSameAsOneQueryPerPropertySource() {
+		MongoDbEnvironmentProperties properties = new MongoDbEnvironmentProperties();
+		MongoDbEnvironmentRepository repository = new MongoDbEnvironmentRepository(mongoTemplate, properties);
+		MongoDbEnvironmentProperties batchProperties = new MongoDbEnvironmentProperties();
+		batchProperties.setBatch(true);
+		MongoDbEnvironmentRepository batchRepository = new MongoDbEnvironmentRepository(mongoTemplate,
+				batchProperties);
+		for (String profile : new String[] { "bar", "", "default,bar", "not_exist" }) {
+			Environment expected = repository.findOne("foo", profile, "");
+			Environment actual = batchRepository.findOne("foo", profile, "");
+			assertThat(actual.getPropertySources()).extracting(PropertySource::getName)
+				.containsExactlyElementsOf(
+						expected.getPropertySources().stream().map(PropertySource::getName).toList());
+			for (int i = 0; i < expected.getPropertySources().size(); i++) {
+				assertThat(actual.getPropertySources().get(i).getSource())
+					.isEqualTo(expected.getPropertySources().get(i).getSource());
+			}
+		}
+	}
+
+	@Test
+	public void testCreateIndex() {
+		MongoDbEnvironmentProperties properties = new MongoDbEnvironmentProperties();
+		properties.setCreateIndex(true);
+		new MongoDbEnvironmentRepository(mongoTemplate, properties).findOne("foo", "bar", "");
+		assertThat(mongoTemplate.indexOps("properties").getIndexInfo())
+			.anySatisfy(index -> assertThat(index.getIndexFields()).extracting(IndexField::getKey)
+				.containsExactly("application", "profile", "label"));
+	}
+
 	@Test
 	public void testFailOnError() {
 		MongoTemplate failingMongoTemplate = Mockito.spy(mongoTemplate);
@@ -20,6 +20,7 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -88,6 +89,19 @@ public class MultipleJGitEnvironmentRepositoryTests {
 		return repo;
 	}
 
+	@Test
+	public void destroyStopsBackgroundRefreshOfEveryRepository() throws Exception {
+		this.repository.setBackgroundRefresh(Duration.ofHours(1), Duration.ofHours(1));
+		this.repository.afterPropertiesSet();
+		PatternMatchingJGitEnvironmentRepository test1 = this.repository.getRepos().get("test1");
+		assertThat(this.repository.isRefreshScheduled()).isTrue();
+		assertThat(test1.isRefreshScheduled()).isTrue();
+
+		this.repository.destroy();
+		assertThat(this.repository.isRefreshScheduled()).isFalse();
+		assertThat(test1.isRefreshScheduled()).isFalse();
+	}
+
 	@Test
 	public void defaultRepo() {
 		Environment environment = this.repository.findOne("bar", "staging", "master");
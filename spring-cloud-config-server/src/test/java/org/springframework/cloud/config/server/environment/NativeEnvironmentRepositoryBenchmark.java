@@ -0,0 +1,114 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.config.server.environment;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.observation.ObservationRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import org.springframework.cloud.config.environment.Environment;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.util.FileSystemUtils;
+
+/**
+ * Compares loading an environment through the Spring Boot config data support with the
+ * {@link ConfigFileEnvironmentLoader}, on a repository of a few hundred files. Not run
+ * with the tests, start {@link #main(String[])} from the test classpath instead.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NativeEnvironmentRepositoryBenchmark {
+
+	private static final int APPLICATIONS = 100;
+
+	private static final String[] PROFILES = { "dev", "prod" };
+
+	@Param({ "false", "true" })
+	public boolean lightweightLoader;
+
+	private Path directory;
+
+	private NativeEnvironmentRepository repository;
+
+	private int next;
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(NativeEnvironmentRepositoryBenchmark.class.getSimpleName()).build())
+			.run();
+	}
+
+	@Setup(Level.Trial)
+	public void setup() throws IOException {
+		this.directory = Files.createTempDirectory("config-benchmark");
+		Files.writeString(this.directory.resolve("application.yml"), document("application", 20));
+		for (int i = 0; i < APPLICATIONS; i++) {
+			Files.writeString(this.directory.resolve("app" + i + ".yml"), document("app" + i, 20));
+			for (String profile : PROFILES) {
+				Files.writeString(this.directory.resolve("app" + i + "-" + profile + ".properties"),
+						document("app" + i + "." + profile, 10).replace(": ", "="));
+			}
+		}
+		this.repository = new NativeEnvironmentRepository(new StandardEnvironment(), new NativeEnvironmentProperties(),
+				ObservationRegistry.NOOP);
+		this.repository.setSearchLocations(this.directory.toUri().toString());
+		this.repository.setDefaultLabel(null);
+		this.repository.setLightweightLoader(this.lightweightLoader);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws IOException {
+		FileSystemUtils.deleteRecursively(this.directory);
+	}
+
+	@Benchmark
+	public Environment findOne() {
+		int application = this.next++ % APPLICATIONS;
+		return this.repository.findOne("app" + application, PROFILES[application % PROFILES.length], null);
+	}
+
+	private static String document(String prefix, int properties) {
+		StringBuilder builder = new StringBuilder();
+		for (int i = 0; i < properties; i++) {
+			builder.append(prefix).append(".property").append(i).append(": value").append(i).append('\n');
+		}
+		return builder.toString();
+	}
+
+}
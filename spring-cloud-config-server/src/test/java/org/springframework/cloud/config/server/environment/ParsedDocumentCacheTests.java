@@ -0,0 +1,122 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.config.server.environment;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.cloud.config.environment.Environment;
+import org.springframework.cloud.config.environment.PropertySource;
+import org.springframework.core.env.StandardEnvironment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ParsedDocumentCacheTests {
+
+	@TempDir
+	Path directory;
+
+	private final ParsedDocumentCache cache = new ParsedDocumentCache(10);
+
+	private NativeEnvironmentRepository repository;
+
+	@BeforeEach
+	public void init() {
+		this.repository = new NativeEnvironmentRepository(new StandardEnvironment(), new NativeEnvironmentProperties(),
+				ObservationRegistry.NOOP);
+		this.repository.setSearchLocations(this.directory.toUri().toString());
+		this.repository.setDefaultLabel(null);
+		this.repository.setLightweightLoader(true);
+		this.repository.setParsedDocumentCache(this.cache);
+	}
+
+	@Test
+	public void unchangedFilesAreParsedOnce() throws IOException {
+		write("foo.properties", "a=b", 1000);
+		write("application.yml", "c: d", 1000);
+
+		Environment first = this.repository.findOne("foo", "default", null);
+		Environment second = this.repository.findOne("foo", "default", null);
+
+		assertThat(second.getPropertySources()).hasSize(2);
+		assertThat(second.getPropertySources().get(0).getSource().get("a")).isEqualTo("b");
+		assertThat(second.getPropertySources()).extracting("name")
+			.containsExactlyElementsOf(first.getPropertySources().stream().map(PropertySource::getName).toList());
+		assertThat(this.cache.getMissCount()).isEqualTo(2);
+		assertThat(this.cache.getHitCount()).isEqualTo(2);
+		assertThat(this.cache.getSavedParseTime()).isPositive();
+	}
+
+	@Test
+	public void changedFileIsParsedAgain() throws IOException {
+		write("foo.properties", "a=b", 1000);
+		write("application.yml", "c: d", 1000);
+		this.repository.findOne("foo", "default", null);
+
+		write("foo.properties", "a=changed", 2000);
+		Environment environment = this.repository.findOne("foo", "default", null);
+
+		assertThat(environment.getPropertySources().get(0).getSource().get("a")).isEqualTo("changed");
+		assertThat(this.cache.getMissCount()).isEqualTo(3);
+		assertThat(this.cache.getHitCount()).isEqualTo(1);
+	}
+
+	@Test
+	public void changeKeepingModificationTimeAndSizeIsParsedAgain() throws IOException {
+		write("foo.properties", "a=b", 1000);
+		this.repository.findOne("foo", "default", null);
+
+		write("foo.properties", "a=c", 1000);
+		Environment environment = this.repository.findOne("foo", "default", null);
+
+		assertThat(environment.getPropertySources().get(0).getSource().get("a")).isEqualTo("c");
+		assertThat(this.cache.getHitCount()).isZero();
+	}
+
+	@Test
+	public void touchedFileIsServedFromCache() throws IOException {
+		write("foo.properties", "a=b", 1000);
+		this.repository.findOne("foo", "default", null);
+
+		write("foo.properties", "a=b", 2000);
+		this.repository.findOne("foo", "default", null);
+
+		assertThat(this.cache.getHitCount()).isEqualTo(1);
+	}
+
+	@Test
+	public void notUsedWhenNotSet() throws IOException {
+		write("foo.properties", "a=b", 1000);
+		this.repository.setParsedDocumentCache(null);
+		this.repository.findOne("foo", "default", null);
+
+		assertThat(this.cache.size()).isZero();
+	}
+
+	private void write(String name, String content, long lastModified) throws IOException {
+		File file = Files.writeString(this.directory.resolve(name), content).toFile();
+		assertThat(file.setLastModified(lastModified)).isTrue();
+	}
+
+}
@@ -25,7 +25,9 @@ import org.testcontainers.junit.jupiter.Testcontainers;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.cloud.config.environment.Environment;
+import org.springframework.cloud.config.environment.PropertySource;
 import org.springframework.data.redis.core.BoundHashOperations;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.ActiveProfiles;
@@ -66,4 +68,47 @@ public class RedisEnvironmentRepositoryIntegrationTests {
 		assertThat(env.getPropertySources().get(0).getSource().get("tag")).isEqualTo("myapp");
 	}
 
+	@Test
+	public void severalProfiles() {
+		redis.boundHashOps("foo").put("name", "foo");
+		redis.boundHashOps("foo-bar").put("name", "foo-bar");
+		redis.boundHashOps("foo-baz").put("name", "foo-baz");
+
+		Environment env = new RedisEnvironmentRepository(redis, new RedisEnvironmentProperties()).findOne("foo",
+				"bar,baz", "");
+		assertThat(env.getPropertySources()).extracting(PropertySource::getName)
+			.containsExactly("redis:foo-baz", "redis:foo-bar", "redis:foo");
+		assertThat(env.getPropertySources()).extracting(source -> source.getSource().get("name"))
+			.containsExactly("foo-baz", "foo-bar", "foo");
+	}
+
+	@Test
+	public void cachedHashEvictedWhenChanged() throws InterruptedException {
+		redis.execute((RedisCallback<Object>) connection -> {
+			connection.serverCommands().setConfig("notify-keyspace-events", "Kh");
+			return null;
+		});
+		redis.boundHashOps("foo-bar").put("tag", "myapp");
+		RedisEnvironmentProperties properties = new RedisEnvironmentProperties();
+		properties.getCache().setEnabled(true);
+		RedisEnvironmentRepository repository = new RedisEnvironmentRepository(redis, properties);
+		repository.start();
+		try {
+			assertThat(repository.isRunning()).isTrue();
+			assertThat(repository.findOne("foo", "bar", "").getPropertySources().get(0).getSource().get("tag"))
+				.isEqualTo("myapp");
+
+			redis.boundHashOps("foo-bar").put("tag", "changed");
+			Object tag = null;
+			for (int i = 0; i < 50 && !"changed".equals(tag); i++) {
+				Thread.sleep(100);
+				tag = repository.findOne("foo", "bar", "").getPropertySources().get(0).getSource().get("tag");
+			}
+			assertThat(tag).isEqualTo("changed");
+		}
+		finally {
+			repository.destroy();
+		}
+	}
+
 }
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2013-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.config.server.environment;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.S3Object;
+import software.amazon.awssdk.services.s3.paginators.ListObjectsV2Iterable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class S3ObjectIndexTests {
+
+	private final S3Client s3Client = mock(S3Client.class);
+
+	@BeforeEach
+	void paginate() {
+		when(this.s3Client.listObjectsV2Paginator(any(ListObjectsV2Request.class)))
+			.thenAnswer(invocation -> new ListObjectsV2Iterable(this.s3Client, invocation.getArgument(0)));
+	}
+
+	@Test
+	public void listsTheDirectoryOfTheKey() {
+		when(this.s3Client.listObjectsV2(any(ListObjectsV2Request.class)))
+			.thenReturn(listing("main/foo/application.yml", "1"));
+		S3ObjectIndex index = new S3ObjectIndex(this.s3Client, "bucket", Duration.ofMinutes(1));
+
+		assertThat(index.getETag("main/foo/application.yml")).isEqualTo("1");
+		assertThat(index.getETag("main/foo/application-dev.yml")).isNull();
+
+		ArgumentCaptor<ListObjectsV2Request> request = ArgumentCaptor.forClass(ListObjectsV2Request.class);
+		verify(this.s3Client, times(1)).listObjectsV2(request.capture());
+		assertThat(request.getValue().prefix()).isEqualTo("main/foo/");
+		assertThat(request.getValue().delimiter()).isEqualTo("/");
+	}
+
+	@Test
+	public void previousListingIsServedWhenListingFails() {
+		when(this.s3Client.listObjectsV2(any(ListObjectsV2Request.class))).thenReturn(listing("foo.yml", "1"))
+			.thenThrow(S3Exception.builder().message("unavailable").build())
+			.thenReturn(listing("foo.yml", "2"));
+		S3ObjectIndex index = new S3ObjectIndex(this.s3Client, "bucket", Duration.ZERO);
+
+		assertThat(index.getETag("foo.yml")).isEqualTo("1");
+		assertThat(index.getETag("foo.yml")).isEqualTo("1");
+		assertThat(index.getETag("foo.yml")).isEqualTo("2");
+	}
+
+	private static ListObjectsV2Response listing(String key, String etag) {
+		return ListObjectsV2Response.builder()
+			.contents(S3Object.builder().key(key).eTag(etag).build())
+			.isTruncated(false)
+			.build();
+	}
+
+}
@@ -140,6 +140,30 @@ public class SVNKitEnvironmentRepositoryTests {
 		this.vanilla();
 	}
 
+	@Test
+	public void unchangedRepoIsReadWithoutUpdate() {
+		Environment first = this.findOne();
+		assertThat(this.repository.getCurrentLocations("bar", "staging", "trunk")).isNull();
+
+		Environment environment = this.findOne();
+		assertThat(environment.getVersion()).isEqualTo(first.getVersion());
+		assertThat(environment.getPropertySources()).hasSize(2);
+	}
+
+	@Test
+	public void refreshRateReadsCurrentWorkingCopy() {
+		this.repository.setRefreshRate(60);
+		Environment first = this.findOne();
+
+		SearchPathLocator.Locations locations = this.repository.getCurrentLocations("bar", "staging",
+				"branches/demobranch");
+		assertThat(locations).isNotNull();
+		assertThat(locations.getVersion()).isEqualTo(first.getVersion());
+		Environment environment = this.repository.findOne("bar", "staging", "branches/demobranch");
+		assertThat(environment.getPropertySources()).hasSize(1);
+		assertThat(environment.getVersion()).isEqualTo(first.getVersion());
+	}
+
 	private Environment findOne() {
 		return this.repository.findOne("bar", "staging", "trunk");
 	}
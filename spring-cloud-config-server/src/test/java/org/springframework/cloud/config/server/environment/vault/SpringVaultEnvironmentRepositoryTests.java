@@ -30,7 +30,10 @@ import org.springframework.vault.support.VaultResponse;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.cloud.config.client.ConfigClientProperties.TOKEN_HEADER;
 
 /**
  * @author Spencer Gibb
@@ -334,6 +337,66 @@ public class SpringVaultEnvironmentRepositoryTests {
 		assertThat(e.getPropertySources().get(1).getSource()).isEqualTo(Map.of("def-foo", "def-bar"));
 	}
 
+	@Test
+	public void findOneWithConcurrentReads() {
+		when(keyValueTemplate.get("myapp,dev")).thenReturn(withVaultResponse("foo", "dev"));
+		when(keyValueTemplate.get("myapp")).thenReturn(withVaultResponse("foo", "bar"));
+		when(keyValueTemplate.get("application,dev")).thenReturn(withVaultResponse("def-foo", "dev"));
+		when(keyValueTemplate.get("application")).thenReturn(withVaultResponse("def-foo", "def-bar"));
+
+		var properties = new VaultEnvironmentProperties();
+		properties.setFetchConcurrency(4);
+
+		var e = springVaultEnvironmentRepository(properties).findOne("myapp", "dev", null);
+
+		assertThat(e.getPropertySources()).extracting("name")
+			.containsExactly("vault:myapp,dev", "vault:application,dev", "vault:myapp", "vault:application");
+		assertThat(e.getPropertySources().get(0).getSource()).isEqualTo(Map.of("foo", "dev"));
+		assertThat(e.getPropertySources().get(3).getSource()).isEqualTo(Map.of("def-foo", "def-bar"));
+	}
+
+	@Test
+	public void findOneWithCachedKeys() {
+		when(keyValueTemplate.get("myapp")).thenReturn(withVaultResponse("foo", "bar"));
+
+		var properties = new VaultEnvironmentProperties();
+		properties.getCache().setEnabled(true);
+		var repository = new SpringVaultEnvironmentRepository(mockHttpRequest("token-a", "token-a", "token-b"),
+				new EnvironmentWatch.Default(), properties, keyValueTemplate);
+
+		repository.findOne("myapp", null, null);
+		var e = repository.findOne("myapp", null, null);
+		// the keys are cached per config token
+		repository.findOne("myapp", null, null);
+
+		assertThat(e.getPropertySources()).hasSize(1);
+		assertThat(e.getPropertySources().get(0).getSource()).isEqualTo(Map.of("foo", "bar"));
+		verify(keyValueTemplate, times(2)).get("myapp");
+		verify(keyValueTemplate, times(2)).get("application");
+		assertThat(repository.getCacheHitCount()).isEqualTo(2);
+		assertThat(repository.getCacheMissCount()).isEqualTo(4);
+		assertThat(repository.getReadCount()).isEqualTo(4);
+	}
+
+	@Test
+	public void findOneWithExpiredLease() throws InterruptedException {
+		when(keyValueTemplate.get("myapp")).thenReturn(withVaultResponse("foo", "bar"));
+		VaultResponse leased = withVaultResponse("def-foo", "def-bar");
+		leased.setLeaseDuration(1);
+		when(keyValueTemplate.get("application")).thenReturn(leased);
+
+		var properties = new VaultEnvironmentProperties();
+		properties.getCache().setEnabled(true);
+		var repository = springVaultEnvironmentRepository(properties);
+
+		repository.findOne("myapp", null, null);
+		Thread.sleep(1100);
+		repository.findOne("myapp", null, null);
+
+		verify(keyValueTemplate, times(1)).get("myapp");
+		verify(keyValueTemplate, times(2)).get("application");
+	}
+
 	private SpringVaultEnvironmentRepository springVaultEnvironmentRepository(VaultEnvironmentProperties properties) {
 		return new SpringVaultEnvironmentRepository(mockHttpRequest(), new EnvironmentWatch.Default(), properties,
 				keyValueTemplate);
@@ -352,4 +415,13 @@ public class SpringVaultEnvironmentRepositoryTests {
 		return objectProvider;
 	}
 
+	@SuppressWarnings("unchecked")
+	private ObjectProvider<HttpServletRequest> mockHttpRequest(String token, String... tokens) {
+		HttpServletRequest request = mock(HttpServletRequest.class);
+		when(request.getHeader(TOKEN_HEADER)).thenReturn(token, tokens);
+		ObjectProvider<HttpServletRequest> objectProvider = mock(ObjectProvider.class);
+		when(objectProvider.getIfAvailable()).thenReturn(request);
+		return objectProvider;
+	}
+
 }
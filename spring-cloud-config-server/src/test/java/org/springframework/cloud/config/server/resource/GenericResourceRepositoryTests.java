@@ -17,7 +17,11 @@
 package org.springframework.cloud.config.server.resource;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 
 import io.micrometer.observation.ObservationRegistry;
 import org.assertj.core.api.Assertions;
@@ -25,6 +29,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import software.amazon.awssdk.services.s3.S3Client;
 
 import org.springframework.boot.WebApplicationType;
@@ -39,6 +44,7 @@ import org.springframework.cloud.config.server.environment.NativeEnvironmentRepo
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.ResourceLoader;
+import org.springframework.util.StreamUtils;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.fail;
@@ -94,6 +100,19 @@ public class GenericResourceRepositoryTests {
 		assertThat(this.repository.findOne("blah", "local", "master", "foo.txt")).isNotNull();
 	}
 
+	@Test
+	public void locatedFileDoesNotChangeAfterwards(@TempDir Path directory) throws IOException {
+		Path file = directory.resolve("foo.txt");
+		Files.writeString(file, "before");
+		this.nativeRepository.setSearchLocations(directory.toUri().toString());
+		Resource resource = this.repository.findOne("blah", "default", "master", "foo.txt");
+		Files.writeString(file, "after");
+		assertThat(resource.getFilename()).isEqualTo("foo.txt");
+		try (InputStream stream = resource.getInputStream()) {
+			assertThat(StreamUtils.copyToString(stream, StandardCharsets.UTF_8)).isEqualTo("before");
+		}
+	}
+
 	@Test
 	public void locateMissingResource() {
 		Assertions